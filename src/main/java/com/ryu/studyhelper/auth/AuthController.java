@@ -24,8 +24,9 @@ public class AuthController {
      */
 
     @PostMapping("/refresh")
-    public ResponseEntity<ApiResponse<AccessToken>> refresh(HttpServletRequest request) {
-        AccessToken accessToken = authService.refresh(request);
+    public ResponseEntity<ApiResponse<AccessToken>> refresh(HttpServletRequest request,
+                                                            HttpServletResponse response) {
+        AccessToken accessToken = authService.refresh(request, response);
         return ResponseEntity.ok(ApiResponse.createSuccess(accessToken, CustomResponseStatus.SUCCESS));
     }
 
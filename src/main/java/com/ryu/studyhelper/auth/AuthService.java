@@ -1,6 +1,7 @@
 package com.ryu.studyhelper.auth;
 
 import com.ryu.studyhelper.auth.dto.AccessToken;
+import com.ryu.studyhelper.auth.dto.TokenResponse;
 import com.ryu.studyhelper.auth.token.RefreshCookieManager;
 import com.ryu.studyhelper.auth.token.RefreshTokenService;
 import com.ryu.studyhelper.config.security.jwt.JwtUtil;
@@ -21,26 +22,34 @@ public class AuthService {
     private final JwtUtil jwtUtil;
     private final MemberService memberService;
 
-    public AccessToken refresh(HttpServletRequest request) {
+    public AccessToken refresh(HttpServletRequest request, HttpServletResponse response) {
         String refreshToken = refreshCookieManager.read(request)
                 .orElseThrow(() -> new CustomException(CustomResponseStatus.REFRESH_TOKEN_NOT_FOUND));
 
-        String newAccessToken = refreshTokenService.refreshAccessToken(refreshToken);
+        // Refresh Token 회전 — 새 토큰은 쿠키로 교체
+        TokenResponse tokens = refreshTokenService.rotateRefreshToken(refreshToken);
+        refreshCookieManager.write(response, tokens.getRefreshToken());
         long expiresIn = jwtUtil.getAccessTokenValidMs() / 1000;
 
         // 마지막 접속 시간 업데이트
         Long memberId = jwtUtil.getIdFromToken(refreshToken);
         memberService.updateLastLoginAt(memberId);
 
-        return new AccessToken(newAccessToken, expiresIn);
+        return new AccessToken(tokens.getAccessToken(), expiresIn);
     }
 
 
     public void logout(String accessToken, HttpServletResponse response) {
         jwtUtil.validateTokenOrThrow(accessToken);
         Long userId = jwtUtil.getIdFromToken(accessToken);
-
-        refreshTokenService.deleteRefreshToken(userId);
+        String deviceId = jwtUtil.getDeviceIdFromToken(accessToken);
+
+        // 현재 기기만 로그아웃 (기기 ID 도입 전 발급된 토큰이면 전체 기기)
+        if (deviceId != null) {
+            refreshTokenService.deleteRefreshToken(userId, deviceId);
+        } else {
+            refreshTokenService.deleteAllRefreshTokens(userId);
+        }
         refreshCookieManager.clear(response);
     }
 }
\ No newline at end of file
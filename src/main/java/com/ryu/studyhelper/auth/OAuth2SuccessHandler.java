@@ -42,15 +42,16 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
         PrincipalDetails principalDetails = (PrincipalDetails) authentication.getPrincipal();
         Member member = principalDetails.getMember();
 
-        // 1. JWT 토큰 생성
+        // 1. JWT 토큰 생성 (로그인마다 새 기기 ID 발급)
+        String refreshToken = jwtUtil.createRefreshToken(member.getId());
+
         String accessToken = jwtUtil.createAccessToken(
                 member.getId(),
-                member.getRole().name()
+                member.getRole().name(),
+                jwtUtil.getDeviceIdFromToken(refreshToken)
         );
 
-        String refreshToken = jwtUtil.createRefreshToken(member.getId());
-
-        // 2. Refresh Token을 Redis에 저장
+        // 2. Refresh Token을 Redis에 저장 (기기 수 상한 초과 시 오래된 기기 제거)
         refreshTokenService.saveRefreshToken(member.getId(), refreshToken);
 
         // 3. Refresh Token을 HttpOnly 쿠키에 저장
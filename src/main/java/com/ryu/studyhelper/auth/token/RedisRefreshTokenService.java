@@ -1,5 +1,6 @@
 package com.ryu.studyhelper.auth.token;
 
+import com.ryu.studyhelper.auth.dto.TokenResponse;
 import com.ryu.studyhelper.common.enums.CustomResponseStatus;
 import com.ryu.studyhelper.common.exception.CustomException;
 import com.ryu.studyhelper.config.security.jwt.JwtUtil;
@@ -8,10 +9,35 @@ import com.ryu.studyhelper.member.domain.Member;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
-import java.time.Duration;
-
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 기기별 Refresh Token 저장소 (Redis)
+ * 로그인마다 기기 ID를 발급하고(토큰 클레임), 회원당 최대 MAX_DEVICES개 기기까지 유지한다.
+ * 상한을 넘으면 가장 오래 사용하지 않은 기기의 토큰부터 삭제한다 (LRU).
+ *
+ * 키 구조 (TTL = Refresh Token 유효기간, 저장·회전 시 갱신)
+ * - refresh_token:{id}:devices  HASH  {deviceId} → 현재 토큰 SHA-256,
+ *                                     {deviceId}:prev / :rotated → 직전 회전 정보 (동시 회전 허용용)
+ * - refresh_token:{id}:seen     ZSET  deviceId → 마지막 사용 시각 (LRU 제거용)
+ * - refresh_token:{id}:next:{deviceId}  STRING 직전 회전에서 발급한 토큰 원문 (TTL = GRACE_MS)
+ *                                     동시 갱신 응답에만 쓰므로 허용 시간이 지나면 Redis에 원문이 남지 않는다
+ * - refresh_token:{id}          STRING 기기 ID 도입 전 단일 토큰 — 첫 갱신 때 기기 토큰으로 옮긴다
+ *
+ * 회전·재사용 감지는 Lua 스크립트 하나로 처리해 갱신 한 번이 Redis 왕복 한 번이다.
+ * 여러 탭이 같은 쿠키로 동시에 갱신하면 먼저 회전한 요청의 새 토큰을 GRACE_MS 동안 그대로 돌려준다.
+ * 그 밖에 이미 회전된 토큰이 다시 오면 탈취로 보고 해당 기기의 토큰을 폐기한다.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -20,39 +46,110 @@ public class RedisRefreshTokenService implements RefreshTokenService {
     private final StringRedisTemplate redisTemplate;
     private final JwtUtil jwtUtil;
     private final MemberRepository memberRepository;
+    private final Clock clock;
 
     private static final String REFRESH_TOKEN_PREFIX = "refresh_token:";
+    static final int MAX_DEVICES = 5;
+    static final long GRACE_MS = 10_000L;
+    private static final long TTL_SECONDS = JwtUtil.REFRESH_TOKEN_VALID_MS / 1000;
+
+    /**
+     * 기기 토큰 저장 + LRU 제거
+     * 제거된 기기의 next는 현재 토큰이 없어 다시 읽히지 않고 GRACE_MS 안에 만료된다.
+     * KEYS[1] = devices, KEYS[2] = seen, KEYS[3] = 저장 기기의 next
+     * ARGV[1] = deviceId, ARGV[2] = 토큰 digest, ARGV[3] = 현재 시각(ms), ARGV[4] = 최대 기기 수, ARGV[5] = TTL(초)
+     * 반환: 제거된 기기 수
+     */
+    private static final String SAVE_SCRIPT = """
+            local device = ARGV[1]
+            redis.call('HSET', KEYS[1], device, ARGV[2])
+            redis.call('HDEL', KEYS[1], device .. ':prev', device .. ':rotated')
+            redis.call('DEL', KEYS[3])
+            redis.call('ZADD', KEYS[2], ARGV[3], device)
+            local evicted = 0
+            while redis.call('ZCARD', KEYS[2]) > tonumber(ARGV[4]) do
+                local oldest = redis.call('ZPOPMIN', KEYS[2])[1]
+                redis.call('HDEL', KEYS[1], oldest, oldest .. ':prev', oldest .. ':rotated')
+                evicted = evicted + 1
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[5])
+            redis.call('EXPIRE', KEYS[2], ARGV[5])
+            return evicted
+            """;
+
+    /**
+     * 회전 + 재사용 감지
+     * KEYS[1] = devices, KEYS[2] = seen, KEYS[3] = next
+     * ARGV[1] = deviceId, ARGV[2] = 제시된 토큰 digest, ARGV[3] = 새 토큰 digest, ARGV[4] = 새 토큰,
+     * ARGV[5] = 현재 시각(ms), ARGV[6] = 동시 회전 허용 시간(ms), ARGV[7] = TTL(초)
+     * 반환: {ROTATED, 새 토큰} | {CONCURRENT, 직전에 발급된 토큰} | {REUSED} | {NOT_FOUND}
+     */
+    private static final String ROTATE_SCRIPT = """
+            local device = ARGV[1]
+            local current = redis.call('HGET', KEYS[1], device)
+            if not current then
+                return {'NOT_FOUND'}
+            end
+            if current == ARGV[2] then
+                redis.call('HSET', KEYS[1], device, ARGV[3], device .. ':prev', ARGV[2],
+                        device .. ':rotated', ARGV[5])
+                redis.call('SET', KEYS[3], ARGV[4], 'PX', ARGV[6])
+                redis.call('ZADD', KEYS[2], ARGV[5], device)
+                redis.call('EXPIRE', KEYS[1], ARGV[7])
+                redis.call('EXPIRE', KEYS[2], ARGV[7])
+                return {'ROTATED', ARGV[4]}
+            end
+            local rotated = tonumber(redis.call('HGET', KEYS[1], device .. ':rotated') or '0')
+            if redis.call('HGET', KEYS[1], device .. ':prev') == ARGV[2]
+                    and tonumber(ARGV[5]) - rotated <= tonumber(ARGV[6]) then
+                local issued = redis.call('GET', KEYS[3])
+                if issued then
+                    return {'CONCURRENT', issued}
+                end
+            end
+            redis.call('HDEL', KEYS[1], device, device .. ':prev', device .. ':rotated')
+            redis.call('DEL', KEYS[3])
+            redis.call('ZREM', KEYS[2], device)
+            return {'REUSED'}
+            """;
 
     @Override
     public void saveRefreshToken(Long id, String refreshToken) {
-        String key = REFRESH_TOKEN_PREFIX + id;
-        long ttlInSeconds = JwtUtil.REFRESH_TOKEN_VALID_MS / 1000;
-
-        redisTemplate.opsForValue().set(key, refreshToken, Duration.ofSeconds(ttlInSeconds));
-        log.debug("Refresh token saved for user: {}", id);
-    }
-
-    @Override
-    public String getRefreshToken(Long id) {
-        String key = REFRESH_TOKEN_PREFIX + id;
-        return redisTemplate.opsForValue().get(key);
+        String deviceId = jwtUtil.getDeviceIdFromToken(refreshToken);
+
+        Long evicted = redisTemplate.execute(
+                RedisScript.of(SAVE_SCRIPT, Long.class),
+                List.of(devicesKey(id), seenKey(id), nextKey(id, deviceId)),
+                deviceId,
+                digest(refreshToken),
+                String.valueOf(clock.millis()),
+                String.valueOf(MAX_DEVICES),
+                String.valueOf(TTL_SECONDS));
+
+        log.debug("Refresh token saved for user: {}, device: {}, evicted devices: {}", id, deviceId, evicted);
     }
 
     @Override
-    public void deleteRefreshToken(Long id) {
-        String key = REFRESH_TOKEN_PREFIX + id;
-        redisTemplate.delete(key);
-        log.debug("Refresh token deleted for user: {}", id);
+    public void deleteRefreshToken(Long id, String deviceId) {
+        redisTemplate.opsForHash().delete(devicesKey(id), deviceId, deviceId + ":prev", deviceId + ":rotated");
+        redisTemplate.opsForZSet().remove(seenKey(id), deviceId);
+        redisTemplate.delete(nextKey(id, deviceId));
+        log.debug("Refresh token deleted for user: {}, device: {}", id, deviceId);
     }
 
     @Override
-    public boolean existsRefreshToken(Long id) {
-        String key = REFRESH_TOKEN_PREFIX + id;
-        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+    public void deleteAllRefreshTokens(Long id) {
+        List<String> keys = new ArrayList<>(List.of(devicesKey(id), seenKey(id), legacyKey(id)));
+        Set<String> deviceIds = redisTemplate.opsForZSet().range(seenKey(id), 0, -1);
+        if (deviceIds != null) {
+            deviceIds.forEach(deviceId -> keys.add(nextKey(id, deviceId)));
+        }
+        redisTemplate.delete(keys);
+        log.debug("All refresh tokens deleted for user: {}", id);
     }
 
     @Override
-    public String refreshAccessToken(String refreshToken) throws RefreshTokenException {
+    public TokenResponse rotateRefreshToken(String refreshToken) throws RefreshTokenException {
         // 1. Refresh Token 검증
         jwtUtil.validateTokenOrThrow(refreshToken);
 
@@ -61,34 +158,98 @@ public class RedisRefreshTokenService implements RefreshTokenService {
             throw new CustomException(CustomResponseStatus.REFRESH_TOKEN_NOT_FOUND);
         }
 
-        // 2. 토큰에서 id 추출
+        // 2. 토큰에서 id, 기기 ID 추출
         Long id = jwtUtil.getIdFromToken(refreshToken);
+        String deviceId = jwtUtil.getDeviceIdFromToken(refreshToken);
 
-        //TODO: 다중기기 로그인 구현
-
-        // 3. Redis에서 저장된 Refresh Token과 비교
-        validateRefreshToken(id, refreshToken);
+        // 3. 저장된 토큰과 비교 후 회전 (기기 ID 도입 전 토큰은 기기 토큰으로 이전)
+        String newRefreshToken = deviceId != null
+                ? rotate(id, deviceId, refreshToken)
+                : migrateLegacy(id, refreshToken);
 
         // 4. 사용자 정보 조회
         Member member = memberRepository.findById(id)
                 .orElseThrow(() -> new RefreshTokenException("User not found: " + id));
 
         // 5. 새로운 Access Token 생성
-        return jwtUtil.createAccessToken(member.getId(), member.getRole().name());
+        String newAccessToken = jwtUtil.createAccessToken(
+                member.getId(), member.getRole().name(), jwtUtil.getDeviceIdFromToken(newRefreshToken));
+        return new TokenResponse(newAccessToken, newRefreshToken);
     }
 
-    @Override
-    public void validateRefreshToken(Long id, String refreshToken) throws RefreshTokenException {
-        String storedToken = getRefreshToken(id);
-        
+    private String rotate(Long id, String deviceId, String refreshToken) {
+        String candidate = jwtUtil.createRefreshToken(id, deviceId);
+
+        @SuppressWarnings("unchecked")
+        List<String> result = (List<String>) redisTemplate.execute(
+                RedisScript.of(ROTATE_SCRIPT, List.class),
+                List.of(devicesKey(id), seenKey(id), nextKey(id, deviceId)),
+                deviceId,
+                digest(refreshToken),
+                digest(candidate),
+                candidate,
+                String.valueOf(clock.millis()),
+                String.valueOf(GRACE_MS),
+                String.valueOf(TTL_SECONDS));
+
+        String outcome = result != null && !result.isEmpty() ? result.get(0) : "NOT_FOUND";
+        return switch (outcome) {
+            case "ROTATED" -> result.get(1);
+            case "CONCURRENT" -> {
+                log.debug("Concurrent refresh for user: {}, device: {} — reusing rotated token", id, deviceId);
+                yield result.get(1);
+            }
+            case "REUSED" -> {
+                log.warn("Refresh token reuse detected for user: {}, device: {} — device revoked", id, deviceId);
+                throw new CustomException(CustomResponseStatus.REFRESH_TOKEN_REUSE_DETECTED);
+            }
+            default -> throw new CustomException(CustomResponseStatus.REFRESH_TOKEN_NOT_FOUND);
+        };
+    }
+
+    /**
+     * 기기 ID 도입 전 단일 토큰 이전 — 저장된 토큰과 일치하면 새 기기 토큰을 발급
+     */
+    private String migrateLegacy(Long id, String refreshToken) {
+        String storedToken = redisTemplate.opsForValue().getAndDelete(legacyKey(id));
         if (storedToken == null) {
             throw new CustomException(CustomResponseStatus.REFRESH_TOKEN_NOT_FOUND);
         }
-        
         if (!storedToken.equals(refreshToken)) {
-            // 토큰 재사용 의심 - 저장된 토큰 삭제
-            deleteRefreshToken(id);
+            // 토큰 재사용 의심 - 저장된 토큰은 이미 삭제됨
             throw new CustomException(CustomResponseStatus.REFRESH_TOKEN_REUSE_DETECTED);
         }
+
+        String newRefreshToken = jwtUtil.createRefreshToken(id);
+        saveRefreshToken(id, newRefreshToken);
+        return newRefreshToken;
+    }
+
+    private String devicesKey(Long id) {
+        return REFRESH_TOKEN_PREFIX + id + ":devices";
+    }
+
+    private String seenKey(Long id) {
+        return REFRESH_TOKEN_PREFIX + id + ":seen";
+    }
+
+    private String nextKey(Long id, String deviceId) {
+        return REFRESH_TOKEN_PREFIX + id + ":next:" + deviceId;
+    }
+
+    private String legacyKey(Long id) {
+        return REFRESH_TOKEN_PREFIX + id;
+    }
+
+    /**
+     * 토큰 원문 대신 SHA-256 digest로 비교·저장
+     */
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 미지원", e);
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,47 +1,36 @@
 package com.ryu.studyhelper.auth.token;
 
+import com.ryu.studyhelper.auth.dto.TokenResponse;
+
 public interface RefreshTokenService {
-    
+
     /**
-     * Refresh Token을 저장합니다.
+     * Refresh Token을 저장합니다. (기기 ID는 토큰 클레임에서 추출)
+     * 기기 수가 상한을 넘으면 가장 오래 사용하지 않은 기기의 토큰을 삭제합니다.
      * @param id 사용자 ID
      * @param refreshToken Refresh Token
      */
     void saveRefreshToken(Long id, String refreshToken);
-    
-    /**
-     * Refresh Token을 조회합니다.
-     * @param id 사용자 ID
-     * @return Refresh Token (없으면 null)
-     */
-    String getRefreshToken(Long id);
-    
+
     /**
-     * Refresh Token을 삭제합니다.
+     * 해당 기기의 Refresh Token을 삭제합니다.
      * @param id 사용자 ID
+     * @param deviceId 기기 ID
      */
-    void deleteRefreshToken(Long id);
-    
+    void deleteRefreshToken(Long id, String deviceId);
+
     /**
-     * Refresh Token의 존재 여부를 확인합니다.
+     * 모든 기기의 Refresh Token을 삭제합니다.
      * @param id 사용자 ID
-     * @return 존재 여부
      */
-    boolean existsRefreshToken(Long id);
-    
+    void deleteAllRefreshTokens(Long id);
+
     /**
-     * Refresh Token을 검증하고 새로운 Access Token을 발급합니다.
+     * Refresh Token을 검증하고 새로운 Access Token과 Refresh Token을 발급합니다. (회전)
+     * 이미 회전된 토큰이 다시 오면 재사용으로 보고 해당 기기의 토큰을 폐기합니다.
      * @param refreshToken Refresh Token
-     * @return 새로운 Access Token
+     * @return 새로운 Access Token과 Refresh Token
      * @throws RefreshTokenException 토큰이 유효하지 않은 경우
      */
-    String refreshAccessToken(String refreshToken) throws RefreshTokenException;
-    
-    /**
-     * 저장된 Refresh Token과 요청으로 온 Refresh Token이 일치하는지 검증합니다.
-     * @param id 사용자 ID
-     * @param refreshToken 검증할 Refresh Token
-     * @throws RefreshTokenException 토큰이 일치하지 않거나 유효하지 않은 경우
-     */
-    void validateRefreshToken(Long id, String refreshToken) throws RefreshTokenException;
-}
\ No newline at end of file
+    TokenResponse rotateRefreshToken(String refreshToken) throws RefreshTokenException;
+}
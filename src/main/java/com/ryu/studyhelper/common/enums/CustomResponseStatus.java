@@ -10,6 +10,7 @@ public enum CustomResponseStatus {
      * 1000: 요청 성공
      */
     SUCCESS(HttpStatus.OK.value(), "1000", "요청에 성공하였습니다."),
+    ACCEPTED(HttpStatus.ACCEPTED.value(), "1001", "요청이 접수되었습니다. 처리 결과는 작업 상태로 확인해주세요."),
 
     /***
      * 2000: UNAUTHORIZED
@@ -66,6 +67,7 @@ public enum CustomResponseStatus {
     TEAM_JOIN_NOT_FOUND(HttpStatus.NOT_FOUND.value(), "4016", "해당 요청을 찾을 수 없습니다."),
     NOTIFICATION_NOT_FOUND(HttpStatus.NOT_FOUND.value(), "4017", "해당 알림을 찾을 수 없습니다."),
     SQUAD_NOT_FOUND(HttpStatus.NOT_FOUND.value(), "4018", "해당 스쿼드를 찾을 수 없습니다."),
+    VERIFICATION_JOB_NOT_FOUND(HttpStatus.NOT_FOUND.value(), "4019", "해당 인증 작업을 찾을 수 없습니다."),
     //    MAP_VALUE_NOT_EXIST(HttpStatus.NOT_FOUND.value(), "4005", "채팅이 존재하지 않습니다. 채팅을 새롭게 시작해주세요."),
     //    EVALUATION_SERVER_NOT_ANSWER(HttpStatus.NOT_FOUND.value(), "4006", "평가서버가 응답하지 않습니다."),
     //    CS_CHAT_NOT_FOUND(HttpStatus.NOT_FOUND.value(), "4007", "해당 CS 채팅이 존재하지 않습니다."),
@@ -88,6 +90,7 @@ public enum CustomResponseStatus {
     TEAM_JOIN_EXPIRED(HttpStatus.BAD_REQUEST.value(), "5011", "만료된 요청입니다."),
     CANNOT_INVITE_SELF(HttpStatus.BAD_REQUEST.value(), "5012", "자기 자신을 초대할 수 없습니다."),
     INVALID_EMAIL(HttpStatus.BAD_REQUEST.value(), "5013", "유효하지 않은 이메일입니다."),
+    INVALID_RANKING_PAGE(HttpStatus.BAD_REQUEST.value(), "5014", "랭킹 페이지는 0 이상, 페이지 크기는 1~100 사이여야 합니다."),
 
     /***
      * 6000: Server_Error
@@ -96,7 +99,8 @@ public enum CustomResponseStatus {
     ASYNC_COMPLETION_ERROR(HttpStatus.INTERNAL_SERVER_ERROR.value(), "6001", "비동기 작업에서 오류가 발생하였습니다."),
     SOLVED_AC_API_ERROR(HttpStatus.BAD_GATEWAY.value(), "6002", "solved.ac API 호출에 실패했습니다."),
     NO_VERIFIED_HANDLE(HttpStatus.BAD_REQUEST.value(), "6003", "팀에 인증된 핸들이 없어 추천을 생성할 수 없습니다."),
-    SOLVED_AC_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE.value(), "6004", "solved.ac 서비스가 일시적으로 불안정합니다. 잠시 후 다시 시도해주세요.");
+    SOLVED_AC_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE.value(), "6004", "solved.ac 서비스가 일시적으로 불안정합니다. 잠시 후 다시 시도해주세요."),
+    VERIFICATION_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE.value(), "6005", "인증 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
 
 
     private final int httpStatusCode;
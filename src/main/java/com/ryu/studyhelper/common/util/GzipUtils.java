@@ -0,0 +1,43 @@
+package com.ryu.studyhelper.common.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 문자열 gzip 압축/해제 유틸리티 (UTF-8)
+ */
+public final class GzipUtils {
+
+    private GzipUtils() {
+        // 유틸리티 클래스 인스턴스화 방지
+    }
+
+    public static byte[] compress(String text) {
+        if (text == null) {
+            throw new IllegalArgumentException("text는 null일 수 없습니다");
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, text.length() / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(text.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    public static String decompress(byte[] compressed) {
+        if (compressed == null) {
+            throw new IllegalArgumentException("compressed는 null일 수 없습니다");
+        }
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
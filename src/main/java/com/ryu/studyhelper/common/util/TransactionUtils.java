@@ -0,0 +1,31 @@
+package com.ryu.studyhelper.common.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 이후 실행 유틸리티
+ * 캐시 무효화처럼 커밋 전에 실행하면 커밋 전 데이터로 다시 채워질 수 있는 작업에 사용한다.
+ */
+public final class TransactionUtils {
+
+    private TransactionUtils() {
+        // 유틸리티 클래스 인스턴스화 방지
+    }
+
+    /**
+     * 활성 트랜잭션이 있으면 커밋 이후에, 없으면 즉시 실행
+     */
+    public static void runAfterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+            return;
+        }
+        task.run();
+    }
+}
@@ -0,0 +1,44 @@
+package com.ryu.studyhelper.config.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 다른 인스턴스에서 발행한 principal 캐시 무효화 구독
+ * PrincipalDetailsService.evict가 발행한 회원 ID를 받아 이 인스턴스의 로컬 캐시에서 제거한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "auth.principal-cache.broadcast.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class PrincipalCacheEvictionConfig {
+
+    @Bean
+    public MessageListener principalEvictionListener(PrincipalDetailsCache principalDetailsCache) {
+        return (message, pattern) -> {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            try {
+                principalDetailsCache.evict(Long.parseLong(body));
+            } catch (NumberFormatException e) {
+                log.warn("잘못된 principal 캐시 무효화 메시지: {}", body);
+            }
+        };
+    }
+
+    @Bean
+    public RedisMessageListenerContainer principalEvictionListenerContainer(
+            RedisConnectionFactory redisConnectionFactory, MessageListener principalEvictionListener) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(principalEvictionListener,
+                new ChannelTopic(PrincipalDetailsService.EVICT_CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,63 @@
+package com.ryu.studyhelper.config.security;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * JWT 인증 principal 로컬 캐시 (회원 ID → PrincipalDetails)
+ * 인증 요청마다 회원을 조회하지 않도록 인스턴스 메모리에 보관한다.
+ *
+ * - 크기 제한: 최근 사용 순(LRU)으로 최대 MAX_SIZE개까지만 보관
+ * - 만료: 적재 후 TTL이 지나면 다시 조회 — 무효화 메시지를 놓친 인스턴스도 최대 TTL 안에 반영된다
+ * - 무효화: 탈퇴·권한/인증 상태 변경 시 PrincipalDetailsService.evict로 즉시 제거,
+ *   다른 인스턴스는 Redis pub/sub 메시지를 받아 제거한다 (PrincipalCacheEvictionConfig)
+ */
+@Component
+@RequiredArgsConstructor
+public class PrincipalDetailsCache {
+
+    static final int MAX_SIZE = 10_000;
+    static final Duration TTL = Duration.ofMinutes(5);
+
+    private final Clock clock;
+
+    private final Map<Long, Entry> entries = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+            return size() > MAX_SIZE;
+        }
+    };
+
+    public synchronized Optional<PrincipalDetails> get(Long memberId) {
+        Entry entry = entries.get(memberId);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.expiresAt() <= clock.millis()) {
+            entries.remove(memberId);
+            return Optional.empty();
+        }
+        return Optional.of(entry.principal());
+    }
+
+    public synchronized void put(Long memberId, PrincipalDetails principal) {
+        entries.put(memberId, new Entry(principal, clock.millis() + TTL.toMillis()));
+    }
+
+    public synchronized void evict(Long memberId) {
+        entries.remove(memberId);
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private record Entry(PrincipalDetails principal, long expiresAt) {
+    }
+}
@@ -1,7 +1,10 @@
 package com.ryu.studyhelper.config.security;
 
+import com.ryu.studyhelper.common.util.TransactionUtils;
 import com.ryu.studyhelper.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -9,8 +12,15 @@ import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class PrincipalDetailsService implements UserDetailsService {
+
+    /** 캐시 무효화 브로드캐스트 채널 — 메시지 본문은 회원 ID */
+    static final String EVICT_CHANNEL = "auth:principal:evict";
+
     private final MemberRepository memberRepository;
+    private final PrincipalDetailsCache principalDetailsCache;
+    private final RedisTemplate<String, String> redisTemplate;
 
     @Override
     public UserDetails loadUserByUsername(String id) throws UsernameNotFoundException {
@@ -19,4 +29,35 @@ public class PrincipalDetailsService implements UserDetailsService {
                 .map(PrincipalDetails::new)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with id: " + id));
     }
+
+    /**
+     * JWT 클레임(회원 ID, 권한)으로 principal 조회 — 캐시 우선
+     * 캐시된 권한과 토큰의 권한이 다르면 다른 인스턴스에서 권한이 바뀐 것으로 보고 다시 조회한다.
+     * 탈퇴한 회원은 조회되지 않으므로 UsernameNotFoundException으로 거부된다.
+     */
+    public PrincipalDetails loadByMemberId(Long memberId, String role) {
+        return principalDetailsCache.get(memberId)
+                .filter(principal -> principal.getMember().getRole().name().equals(role))
+                .orElseGet(() -> {
+                    PrincipalDetails principal = (PrincipalDetails) loadUserByUsername(String.valueOf(memberId));
+                    principalDetailsCache.put(memberId, principal);
+                    return principal;
+                });
+    }
+
+    /**
+     * 캐시된 principal 제거 (커밋 이후) — 탈퇴, 권한·인증 상태·이메일 변경 시 호출
+     * 로컬 캐시를 지운 뒤 Redis로 회원 ID를 발행해 다른 인스턴스의 캐시도 지운다 (PrincipalCacheEvictionConfig).
+     * 발행에 실패하면 다른 인스턴스에는 캐시 TTL만큼 늦게 반영된다.
+     */
+    public void evict(Long memberId) {
+        TransactionUtils.runAfterCommit(() -> {
+            principalDetailsCache.evict(memberId);
+            try {
+                redisTemplate.convertAndSend(EVICT_CHANNEL, String.valueOf(memberId));
+            } catch (Exception e) {
+                log.warn("principal 캐시 무효화 발행 실패 — 다른 인스턴스는 TTL 만료 후 반영됩니다 (memberId={})", memberId, e);
+            }
+        });
+    }
 }
@@ -6,6 +6,7 @@ import com.ryu.studyhelper.config.security.jwt.JwtAccessDeniedHandler;
 import com.ryu.studyhelper.config.security.jwt.JwtAuthenticationEntryPoint;
 import com.ryu.studyhelper.config.security.jwt.JwtAuthenticationFilter;
 import com.ryu.studyhelper.config.security.jwt.JwtUtil;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -41,6 +42,10 @@ public class SecurityConfig {
 
         // 요청 권한 설정
         http.authorizeHttpRequests(auth -> auth
+                // 비동기(SSE 완료)·오류 디스패치 — 최초 REQUEST 디스패치에서 이미 인가를 통과했다.
+                // JwtAuthenticationFilter(OncePerRequestFilter)는 재디스패치에서 건너뛰므로 여기서 인증을 다시 요구하면 거부된다.
+                .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
+
                 // 정적 리소스
                 .requestMatchers("/favicon.ico", "/error").permitAll()
 //                .requestMatchers("/css/**", "/js/**", "/images/**", "/assets/**", "/html/**").permitAll()
@@ -63,9 +68,11 @@ public class SecurityConfig {
                 .requestMatchers("/api/v2/teams/public").permitAll()
                 .requestMatchers("/api/v2/teams/{teamId:\\d+}").permitAll()
                 .requestMatchers("/api/v2/teams/{teamId:\\d+}/activity").permitAll()
+                .requestMatchers("/api/v2/teams/{teamId:\\d+}/activity/changes").permitAll()
                 .requestMatchers("/api/v2/teams/{teamId:\\d+}/leaderboard").permitAll()
 
-                // 랭킹 API (비로그인 허용)
+                // 랭킹 API (비로그인 허용, 내 순위 제외)
+                .requestMatchers("/api/solve/ranking/global/me").authenticated()
                 .requestMatchers("/api/solve/ranking/**").permitAll()
 
                 // Swagger 테스트용 - 모든 API 개방
@@ -3,6 +3,7 @@ package com.ryu.studyhelper.config.security.jwt;
 import com.ryu.studyhelper.config.security.PrincipalDetailsService;
 import com.ryu.studyhelper.common.enums.CustomResponseStatus;
 import com.ryu.studyhelper.common.exception.CustomException;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -38,14 +39,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
             // 2. 토큰 유효성 검증
             if (token != null) {
-                //jwt 검증
-                jwtUtil.validateTokenOrThrow(token);
+                //jwt 검증 + 클레임 추출 (한 번만 파싱)
+                Claims claims = jwtUtil.validateAndGetClaims(token);
 
                 // 3. 토큰에서 사용자 정보 추출
-                Long id = jwtUtil.getIdFromToken(token);
+                Long id = Long.parseLong(claims.getSubject());
+                String role = claims.get("role", String.class);
 
-                // 4. 사용자 상세 정보 로드
-                UserDetails userDetails = principalDetailsService.loadUserByUsername(String.valueOf(id));
+                // 4. 사용자 상세 정보 로드 (로컬 캐시 우선, 없을 때만 DB 조회)
+                UserDetails userDetails = principalDetailsService.loadByMemberId(id, role);
 
                 // 5. 인증 객체 생성 및 SecurityContext에 저장
                 UsernamePasswordAuthenticationToken authentication =
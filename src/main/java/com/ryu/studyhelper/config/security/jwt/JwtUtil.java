@@ -11,6 +11,8 @@ import org.springframework.stereotype.Component;
 
 import java.security.Key;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
 
 @Component
 @Slf4j
@@ -23,23 +25,40 @@ public class JwtUtil {
 //    public static final long REFRESH_TOKEN_VALID_MS = 1000L * 60; // 1분 테스트
     public static final long EMAIL_VERIFICATION_TOKEN_VALID_MS = 1000L * 60 * 5; // 5분
 
+    /** 액세스 토큰 타입 */
+    public static final String TOKEN_TYPE_ACCESS = "ACCESS";
+
     /** 이메일 인증 토큰 타입 */
     public static final String TOKEN_TYPE_EMAIL_VERIFICATION = "EMAIL_VERIFICATION";
 
     private final Key secretKey;
+    private final JwtParser jwtParser;
+    private final VerifiedTokenCache verifiedTokenCache;
 
-    public JwtUtil(@Value("${jwt.secret}") String secret) {
+    public JwtUtil(@Value("${jwt.secret}") String secret, VerifiedTokenCache verifiedTokenCache) {
         byte[] keyBytes = Decoders.BASE64.decode(secret);
         this.secretKey = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(secretKey).build(); // 불변·스레드 안전 — 요청마다 생성하지 않음
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
     /**
      * Access Token 생성
      */
     public String createAccessToken(Long id, String role) {
+        return createAccessToken(id, role, null);
+    }
+
+    /**
+     * Access Token 생성 (기기 ID 포함 — 로그아웃 시 해당 기기의 Refresh Token만 삭제)
+     */
+    public String createAccessToken(Long id, String role, String deviceId) {
         Claims claims = Jwts.claims().setSubject(String.valueOf(id));
         claims.put("role", role);
-        claims.put("tokenType", "ACCESS");
+        claims.put("tokenType", TOKEN_TYPE_ACCESS);
+        if (deviceId != null) {
+            claims.put("deviceId", deviceId);
+        }
 
         Date now = new Date();
         Date validity = new Date(now.getTime() + ACCESS_TOKEN_VALID_MS);
@@ -53,17 +72,27 @@ public class JwtUtil {
     }
 
     /**
-     * Refresh Token 생성
+     * Refresh Token 생성 (로그인 — 새 기기 ID 발급)
      */
     public String createRefreshToken(Long id) {
+        return createRefreshToken(id, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Refresh Token 생성 (회전 — 같은 기기 ID 유지)
+     * 같은 초에 회전해도 토큰이 달라지도록 jti를 넣는다.
+     */
+    public String createRefreshToken(Long id, String deviceId) {
         Claims claims = Jwts.claims().setSubject(String.valueOf(id));
         claims.put("tokenType", "REFRESH");
+        claims.put("deviceId", deviceId);
 
         Date now = new Date();
         Date validity = new Date(now.getTime() + REFRESH_TOKEN_VALID_MS);
 
         return Jwts.builder()
                 .setClaims(claims)
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(now)
                 .setExpiration(validity)
                 .signWith(secretKey, SignatureAlgorithm.HS512)
@@ -106,6 +135,13 @@ public class JwtUtil {
         return Long.parseLong(parseClaims(token).getSubject());
     }
 
+    /**
+     * 토큰에서 기기 ID 추출 (기기 ID 도입 전 발급된 토큰은 null)
+     */
+    public String getDeviceIdFromToken(String token) {
+        return parseClaims(token).get("deviceId", String.class);
+    }
+
     /**
      * 토큰에서 권한 추출
      */
@@ -117,11 +153,20 @@ public class JwtUtil {
      * 토큰 유효성 검증
      */
     public void validateTokenOrThrow(String token) {
+        validateAndGetClaims(token);
+    }
+
+    /**
+     * 토큰 유효성 검증 후 Claims 반환
+     * 이미 검증한 액세스 토큰은 만료 전까지 캐시된 Claims를 재사용한다 (서명 검증·파싱 생략).
+     */
+    public Claims validateAndGetClaims(String token) {
+        return verifiedTokenCache.getOrVerify(token, this::verify);
+    }
+
+    private Claims verify(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token);
+            return jwtParser.parseClaimsJws(token).getBody();
         } catch (SecurityException | MalformedJwtException e) {
             throw new CustomException(CustomResponseStatus.BAD_JWT);
         } catch (ExpiredJwtException e) {
@@ -146,15 +191,15 @@ public class JwtUtil {
     }
 
     /**
-     * 토큰에서 Claims 추출
+     * 토큰에서 Claims 추출 (검증된 토큰이면 캐시 재사용)
      */
     private Claims parseClaims(String token) {
+        Optional<Claims> verified = verifiedTokenCache.find(token);
+        if (verified.isPresent()) {
+            return verified.get();
+        }
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            return jwtParser.parseClaimsJws(token).getBody();
         } catch (ExpiredJwtException e) {
             return e.getClaims();
         }
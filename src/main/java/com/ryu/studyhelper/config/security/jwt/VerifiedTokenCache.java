@@ -0,0 +1,102 @@
+package com.ryu.studyhelper.config.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 서명 검증을 통과한 토큰의 Claims 캐시 (토큰 SHA-256 digest → Claims)
+ * 같은 액세스 토큰은 만료(1시간)까지 매 요청 다시 오므로, 한 번 HS512 검증·파싱한 결과를 만료 시각까지 재사용한다.
+ *
+ * - 키는 토큰 원문이 아닌 digest — 메모리에 토큰을 그대로 남기지 않는다
+ * - 액세스 토큰만 저장한다 — 리프레시·이메일 인증 토큰은 요청마다 반복되지 않고 수명이 길어 캐시 이득 없이 자리만 차지한다
+ * - 검증에 실패한 토큰(만료·위조)은 저장하지 않고 매번 다시 검증한다
+ * - 최근 사용 순(LRU)으로 최대 MAX_SIZE개까지만 보관
+ * 반환된 Claims는 여러 요청이 공유하므로 읽기 전용으로만 사용한다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    static final int MAX_SIZE = 10_000;
+
+    private final Clock clock;
+    private final Map<ByteBuffer, Claims> entries;
+
+    @Autowired
+    public VerifiedTokenCache(Clock clock) {
+        this(clock, MAX_SIZE);
+    }
+
+    VerifiedTokenCache(Clock clock, int maxSize) {
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ByteBuffer, Claims> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 Claims 반환, 없거나 만료됐으면 verifier로 검증 후 저장 (액세스 토큰만)
+     * verifier가 던진 예외는 그대로 전파된다.
+     */
+    public Claims getOrVerify(String token, Function<String, Claims> verifier) {
+        ByteBuffer key = digest(token);
+        return find(key).orElseGet(() -> {
+            Claims claims = verifier.apply(token);
+            if (claims.getExpiration() != null && isAccessToken(claims)) {
+                synchronized (this) {
+                    entries.put(key, claims);
+                }
+            }
+            return claims;
+        });
+    }
+
+    /**
+     * 캐시된(검증 완료·미만료) Claims 조회
+     */
+    public Optional<Claims> find(String token) {
+        return find(digest(token));
+    }
+
+    private synchronized Optional<Claims> find(ByteBuffer key) {
+        Claims claims = entries.get(key);
+        if (claims == null) {
+            return Optional.empty();
+        }
+        if (claims.getExpiration().getTime() <= clock.millis()) {
+            entries.remove(key);
+            return Optional.empty();
+        }
+        return Optional.of(claims);
+    }
+
+    private static boolean isAccessToken(Claims claims) {
+        return JwtUtil.TOKEN_TYPE_ACCESS.equals(claims.get("tokenType", String.class));
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private static ByteBuffer digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return ByteBuffer.wrap(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 미지원", e);
+        }
+    }
+}
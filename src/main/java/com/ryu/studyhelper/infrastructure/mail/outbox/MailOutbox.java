@@ -0,0 +1,111 @@
+package com.ryu.studyhelper.infrastructure.mail.outbox;
+
+import com.ryu.studyhelper.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발송 대기 메일 (트랜잭셔널 아웃박스)
+ * 요청 트랜잭션 안에서 행만 커밋하고, 실제 발송은 MailOutboxWorker가 비동기로 처리한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "mail_outbox",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_mail_outbox_type_reference",
+                columnNames = {"type", "reference_id"}
+        ),
+        indexes = @Index(name = "idx_mail_outbox_status_next_attempt", columnList = "status, next_attempt_at"))
+public class MailOutbox extends BaseEntity {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", length = 32, nullable = false)
+    private MailOutboxType type;
+
+    @Column(name = "reference_id", nullable = false)
+    private Long referenceId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 16, nullable = false)
+    private MailOutboxStatus status;
+
+    @Column(name = "attempt_count", nullable = false)
+    private int attemptCount;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    /**
+     * PROCESSING 점유 시각 — 워커가 죽어 오래 남은 행은 다른 워커가 회수한다
+     */
+    @Column(name = "locked_at")
+    private LocalDateTime lockedAt;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    public static MailOutbox create(MailOutboxType type, Long referenceId, LocalDateTime availableAt) {
+        return MailOutbox.builder()
+                .type(type)
+                .referenceId(referenceId)
+                .status(MailOutboxStatus.PENDING)
+                .attemptCount(0)
+                .nextAttemptAt(availableAt)
+                .build();
+    }
+
+    public void markSent(LocalDateTime sentAt) {
+        this.status = MailOutboxStatus.SENT;
+        this.sentAt = sentAt;
+        this.lockedAt = null;
+        this.lastError = null;
+    }
+
+    public void scheduleRetry(String error, LocalDateTime nextAttemptAt) {
+        this.status = MailOutboxStatus.PENDING;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lockedAt = null;
+        this.lastError = truncate(error);
+    }
+
+    public void markDead(String error) {
+        this.status = MailOutboxStatus.DEAD;
+        this.lockedAt = null;
+        this.lastError = truncate(error);
+    }
+
+    /**
+     * DEAD 행을 다시 발송 대상으로 되돌림 (시도 횟수 초기화)
+     */
+    public void requeue(LocalDateTime availableAt) {
+        this.status = MailOutboxStatus.PENDING;
+        this.attemptCount = 0;
+        this.nextAttemptAt = availableAt;
+        this.lockedAt = null;
+    }
+
+    public boolean isDead() {
+        return this.status == MailOutboxStatus.DEAD;
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,25 @@
+package com.ryu.studyhelper.infrastructure.mail.outbox;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 아웃박스 유형별 발송 처리기
+ * 각 도메인이 reference_id 로 대상을 조회해 메일을 만들고 보낸다.
+ */
+public interface MailOutboxHandler {
+
+    MailOutboxType type();
+
+    /**
+     * 대상들을 발송하고 실패한 reference_id → 실패 사유를 반환 (전부 성공이면 빈 Map)
+     * 예외를 던지면 전달된 대상 전체를 실패로 간주한다.
+     */
+    Map<Long, String> handle(List<Long> referenceIds);
+
+    /**
+     * 최대 시도 횟수를 넘겨 DEAD 처리될 때 호출
+     */
+    default void onDeadLetter(Long referenceId, String lastError) {
+    }
+}
@@ -0,0 +1,54 @@
+package com.ryu.studyhelper.infrastructure.mail.outbox;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+
+    List<MailOutbox> findByTypeAndReferenceIdIn(MailOutboxType type, Collection<Long> referenceIds);
+
+    /**
+     * 처리 대상 후보 조회
+     * - 발송 시각이 도래한 PENDING
+     * - 점유 후 staleBefore 이전부터 PROCESSING으로 남은 행 (워커 비정상 종료)
+     */
+    @Query("SELECT o.id FROM MailOutbox o " +
+            "WHERE (o.status = com.ryu.studyhelper.infrastructure.mail.outbox.MailOutboxStatus.PENDING " +
+            "       AND o.nextAttemptAt <= :now) " +
+            "OR (o.status = com.ryu.studyhelper.infrastructure.mail.outbox.MailOutboxStatus.PROCESSING " +
+            "    AND o.lockedAt < :staleBefore) " +
+            "ORDER BY o.nextAttemptAt")
+    List<Long> findClaimableIds(@Param("now") LocalDateTime now,
+                                @Param("staleBefore") LocalDateTime staleBefore,
+                                Pageable pageable);
+
+    /**
+     * 점유 CAS — 후보 조회와 동일한 조건을 다시 검사하며 PROCESSING으로 전이
+     * 반환값이 1이면 선점 성공, 0이면 다른 워커가 먼저 점유한 것
+     * (stale 회수 경합 시 먼저 갱신한 쪽의 locked_at이 staleBefore 이후가 되어 뒤따르는 UPDATE는 0건)
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE MailOutbox o " +
+            "SET o.status = com.ryu.studyhelper.infrastructure.mail.outbox.MailOutboxStatus.PROCESSING, " +
+            "o.lockedAt = :now, " +
+            "o.attemptCount = o.attemptCount + 1 " +
+            "WHERE o.id = :id " +
+            "AND ((o.status = com.ryu.studyhelper.infrastructure.mail.outbox.MailOutboxStatus.PENDING " +
+            "      AND o.nextAttemptAt <= :now) " +
+            "  OR (o.status = com.ryu.studyhelper.infrastructure.mail.outbox.MailOutboxStatus.PROCESSING " +
+            "      AND o.lockedAt < :staleBefore))")
+    int claim(@Param("id") Long id,
+              @Param("now") LocalDateTime now,
+              @Param("staleBefore") LocalDateTime staleBefore);
+}
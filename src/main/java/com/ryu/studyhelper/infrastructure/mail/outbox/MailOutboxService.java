@@ -0,0 +1,67 @@
+package com.ryu.studyhelper.infrastructure.mail.outbox;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 메일 아웃박스 적재
+ * 호출자 트랜잭션에 참여하므로 도메인 데이터와 아웃박스 행이 함께 커밋/롤백된다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MailOutboxService {
+
+    private final Clock clock;
+    private final MailOutboxRepository mailOutboxRepository;
+
+    /**
+     * 대상별 아웃박스 행 적재
+     * - 행이 없으면 신규 생성
+     * - DEAD 행은 시도 횟수를 초기화해 다시 대기열에 넣음
+     * - PENDING/PROCESSING/SENT 행은 그대로 둔다 (중복 발송 방지)
+     *
+     * @return 새로 대기열에 들어간 건수
+     */
+    @Transactional
+    public int enqueue(MailOutboxType type, Collection<Long> referenceIds) {
+        if (referenceIds.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now(clock);
+
+        Map<Long, MailOutbox> existing = mailOutboxRepository.findByTypeAndReferenceIdIn(type, referenceIds)
+                .stream()
+                .collect(Collectors.toMap(MailOutbox::getReferenceId, Function.identity()));
+
+        int enqueued = 0;
+        for (Long referenceId : referenceIds) {
+            MailOutbox outbox = existing.get(referenceId);
+            if (outbox == null) {
+                mailOutboxRepository.save(MailOutbox.create(type, referenceId, now));
+                enqueued++;
+            } else if (outbox.isDead()) {
+                outbox.requeue(now);
+                enqueued++;
+            }
+        }
+
+        log.debug("메일 아웃박스 적재 — 유형: {}, 요청: {}건, 적재: {}건", type, referenceIds.size(), enqueued);
+        return enqueued;
+    }
+
+    @Transactional
+    public int enqueue(MailOutboxType type, Long referenceId) {
+        return enqueue(type, List.of(referenceId));
+    }
+}
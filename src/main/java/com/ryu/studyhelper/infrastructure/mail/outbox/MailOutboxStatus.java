@@ -0,0 +1,14 @@
+package com.ryu.studyhelper.infrastructure.mail.outbox;
+
+/**
+ * 메일 아웃박스 처리 상태
+ * PENDING → PROCESSING → SENT
+ *                      → PENDING (재시도 대기, next_attempt_at 이후)
+ *                      → DEAD    (최대 시도 초과)
+ */
+public enum MailOutboxStatus {
+    PENDING,
+    PROCESSING,
+    SENT,
+    DEAD
+}
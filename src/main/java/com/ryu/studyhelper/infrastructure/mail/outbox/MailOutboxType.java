@@ -0,0 +1,9 @@
+package com.ryu.studyhelper.infrastructure.mail.outbox;
+
+/**
+ * 메일 아웃박스 유형 — reference_id 가 가리키는 대상
+ */
+public enum MailOutboxType {
+    RECOMMENDATION,   // member_recommendation.id
+    TEAM_INVITATION   // team_join.id
+}
@@ -0,0 +1,176 @@
+package com.ryu.studyhelper.infrastructure.mail.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 메일 아웃박스 워커
+ * 주기적으로 발송 대상 행을 CAS로 점유해 유형별 MailOutboxHandler에 넘기고 결과를 기록한다.
+ *
+ * - 실패 시 지수 백오프 (base × 2^(시도-1), 최대 max-backoff)
+ * - max-attempts 초과 시 DEAD (dead letter) 처리
+ * - 점유 후 lease 이상 PROCESSING으로 남은 행은 다른 워커가 회수 (인스턴스 비정상 종료 대비)
+ * 여러 인스턴스가 동시에 돌아도 claim CAS로 한 행은 한 워커만 처리한다.
+ */
+@Component
+@ConditionalOnProperty(name = "mail.outbox.worker.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class MailOutboxWorker {
+
+    private final Clock clock;
+    private final MailOutboxRepository mailOutboxRepository;
+    private final Map<MailOutboxType, MailOutboxHandler> handlers;
+
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration baseBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+
+    public MailOutboxWorker(Clock clock,
+                            MailOutboxRepository mailOutboxRepository,
+                            List<MailOutboxHandler> handlers,
+                            @Value("${mail.outbox.batch-size:50}") int batchSize,
+                            @Value("${mail.outbox.max-attempts:5}") int maxAttempts,
+                            @Value("${mail.outbox.base-backoff:30s}") Duration baseBackoff,
+                            @Value("${mail.outbox.max-backoff:30m}") Duration maxBackoff,
+                            @Value("${mail.outbox.lease:10m}") Duration lease) {
+        this.clock = clock;
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.handlers = new EnumMap<>(MailOutboxType.class);
+        handlers.forEach(handler -> this.handlers.put(handler.type(), handler));
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoff = baseBackoff;
+        this.maxBackoff = maxBackoff;
+        this.lease = lease;
+    }
+
+    @Scheduled(fixedDelayString = "${mail.outbox.poll-interval-ms:5000}")
+    public void poll() {
+        try {
+            int processed;
+            do {
+                processed = drainOnce();
+            } while (processed == batchSize);
+        } catch (Exception e) {
+            log.error("메일 아웃박스 처리 중 오류", e);
+        }
+    }
+
+    /**
+     * 한 묶음 점유 → 발송 → 결과 기록
+     *
+     * @return 점유한 행 수
+     */
+    int drainOnce() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime staleBefore = now.minus(lease);
+
+        List<Long> candidateIds = mailOutboxRepository.findClaimableIds(now, staleBefore, PageRequest.of(0, batchSize));
+        if (candidateIds.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> claimedIds = new ArrayList<>(candidateIds.size());
+        for (Long id : candidateIds) {
+            if (mailOutboxRepository.claim(id, now, staleBefore) == 1) {
+                claimedIds.add(id);
+            }
+        }
+        if (claimedIds.isEmpty()) {
+            return 0;
+        }
+
+        Map<MailOutboxType, List<MailOutbox>> byType = mailOutboxRepository.findAllById(claimedIds).stream()
+                .collect(Collectors.groupingBy(MailOutbox::getType, () -> new EnumMap<>(MailOutboxType.class),
+                        Collectors.toList()));
+
+        for (Map.Entry<MailOutboxType, List<MailOutbox>> entry : byType.entrySet()) {
+            process(entry.getKey(), entry.getValue());
+        }
+        return claimedIds.size();
+    }
+
+    private void process(MailOutboxType type, List<MailOutbox> rows) {
+        Map<Long, String> failures = invokeHandler(type, rows);
+        LocalDateTime now = LocalDateTime.now(clock);
+
+        int sent = 0;
+        int retry = 0;
+        int dead = 0;
+        for (MailOutbox row : rows) {
+            String error = failures.get(row.getReferenceId());
+            if (error == null) {
+                row.markSent(now);
+                sent++;
+            } else if (row.getAttemptCount() >= maxAttempts) {
+                row.markDead(error);
+                dead++;
+                log.error("메일 아웃박스 DEAD — 유형: {}, 대상 ID: {}, 시도: {}회, 사유: {}",
+                        type, row.getReferenceId(), row.getAttemptCount(), error);
+                notifyDeadLetter(type, row, error);
+            } else {
+                row.scheduleRetry(error, now.plus(backoff(row.getAttemptCount())));
+                retry++;
+            }
+        }
+        mailOutboxRepository.saveAll(rows);
+
+        log.info("메일 아웃박스 처리 — 유형: {}, 성공: {}건, 재시도 예정: {}건, DEAD: {}건", type, sent, retry, dead);
+    }
+
+    private Map<Long, String> invokeHandler(MailOutboxType type, List<MailOutbox> rows) {
+        List<Long> referenceIds = rows.stream().map(MailOutbox::getReferenceId).toList();
+
+        MailOutboxHandler handler = handlers.get(type);
+        if (handler == null) {
+            return failAll(referenceIds, "처리기 없음: " + type);
+        }
+        try {
+            return handler.handle(referenceIds);
+        } catch (Exception e) {
+            log.error("메일 아웃박스 처리기 실패 — 유형: {}, {}건", type, referenceIds.size(), e);
+            return failAll(referenceIds, e.getClass().getSimpleName() + ": " + e.getMessage());
+        }
+    }
+
+    private void notifyDeadLetter(MailOutboxType type, MailOutbox row, String error) {
+        MailOutboxHandler handler = handlers.get(type);
+        if (handler == null) {
+            return;
+        }
+        try {
+            handler.onDeadLetter(row.getReferenceId(), error);
+        } catch (Exception e) {
+            log.warn("DEAD 후처리 실패 — 유형: {}, 대상 ID: {}", type, row.getReferenceId(), e);
+        }
+    }
+
+    /**
+     * n번째 시도 실패 후 대기 시간: base × 2^(n-1), 최대 maxBackoff
+     */
+    Duration backoff(int attemptCount) {
+        int exponent = Math.min(Math.max(attemptCount - 1, 0), 20);
+        Duration delay = baseBackoff.multipliedBy(1L << exponent);
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private static Map<Long, String> failAll(List<Long> referenceIds, String error) {
+        return referenceIds.stream().distinct().collect(Collectors.toMap(Function.identity(), id -> error));
+    }
+}
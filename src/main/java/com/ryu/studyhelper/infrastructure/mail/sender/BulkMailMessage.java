@@ -0,0 +1,29 @@
+package com.ryu.studyhelper.infrastructure.mail.sender;
+
+import java.util.List;
+
+/**
+ * 같은 제목/본문을 여러 수신자에게 보내는 대량 발송 DTO
+ */
+public record BulkMailMessage(
+        List<String> recipients,
+        String subject,
+        String html,
+        List<InlineAttachment> inlineAttachments
+) {
+    public BulkMailMessage {
+        recipients = List.copyOf(recipients);
+        inlineAttachments = inlineAttachments != null ? List.copyOf(inlineAttachments) : List.of();
+    }
+
+    public boolean hasInlineAttachments() {
+        return !inlineAttachments.isEmpty();
+    }
+
+    /**
+     * 단건 발송 fallback용 개별 메시지
+     */
+    public MailMessage toSingle(String to) {
+        return new MailMessage(to, subject, html, inlineAttachments);
+    }
+}
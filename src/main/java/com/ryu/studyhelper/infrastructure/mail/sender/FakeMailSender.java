@@ -18,9 +18,10 @@ public class FakeMailSender implements MailSender {
 
     @Override
     public void send(MailMessage message) {
-        log.debug("[FAKE] 메일 발송 시작 ({}ms 지연 시뮬레이션)\n  to     : {}\n  subject: {}\n  body   : {}자",
+        log.debug("[FAKE] 메일 발송 시작 ({}ms 지연 시뮬레이션)\n  to     : {}\n  subject: {}\n  body   : {}자\n  inline : {}개\n  size   : {}bytes",
                 DELAY_MS, message.to(), message.subject(),
-                message.html() != null ? message.html().length() : 0);
+                message.html() != null ? message.html().length() : 0,
+                message.inlineAttachments().size(), message.approximateSizeInBytes());
         try {
             Thread.sleep(DELAY_MS);
         } catch (InterruptedException e) {
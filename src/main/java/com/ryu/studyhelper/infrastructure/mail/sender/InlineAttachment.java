@@ -0,0 +1,10 @@
+package com.ryu.studyhelper.infrastructure.mail.sender;
+
+/**
+ * 본문에서 cid:{contentId}로 참조하는 인라인 첨부 (로고 등)
+ */
+public record InlineAttachment(
+        String contentId,
+        String contentType,
+        byte[] data
+) {}
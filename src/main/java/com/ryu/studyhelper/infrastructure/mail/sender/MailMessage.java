@@ -1,10 +1,42 @@
 package com.ryu.studyhelper.infrastructure.mail.sender;
 
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
 /**
  * 메일 발송용 공통 DTO
  */
 public record MailMessage(
         String to,
         String subject,
-        String html
-) {}
\ No newline at end of file
+        String html,
+        List<InlineAttachment> inlineAttachments
+) {
+    public MailMessage(String to, String subject, String html) {
+        this(to, subject, html, List.of());
+    }
+
+    public MailMessage {
+        inlineAttachments = inlineAttachments != null ? List.copyOf(inlineAttachments) : List.of();
+    }
+
+    public boolean hasInlineAttachments() {
+        return !inlineAttachments.isEmpty();
+    }
+
+    /**
+     * 발송 페이로드 근사치 (바이트)
+     * 제목/본문 UTF-8 크기 + 첨부의 base64 인코딩 크기. MIME 헤더는 제외.
+     */
+    public long approximateSizeInBytes() {
+        long size = utf8Length(subject) + utf8Length(html);
+        for (InlineAttachment attachment : inlineAttachments) {
+            size += (attachment.data().length + 2L) / 3 * 4;
+        }
+        return size;
+    }
+
+    private static long utf8Length(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8).length : 0;
+    }
+}
@@ -0,0 +1,18 @@
+package com.ryu.studyhelper.infrastructure.mail.sender;
+
+/**
+ * 수신자별 발송 결과 (대량 발송 응답 매핑용)
+ */
+public record MailSendResult(
+        String to,
+        boolean success,
+        String error
+) {
+    public static MailSendResult success(String to) {
+        return new MailSendResult(to, true, null);
+    }
+
+    public static MailSendResult failure(String to, String error) {
+        return new MailSendResult(to, false, error);
+    }
+}
@@ -1,8 +1,36 @@
 package com.ryu.studyhelper.infrastructure.mail.sender;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * 메일 발송 인터페이스 (도메인 무관)
  */
 public interface MailSender {
     void send(MailMessage message);
-}
\ No newline at end of file
+
+    /**
+     * 대량 발송을 한 번의 외부 호출로 처리할 수 있는지 여부
+     * false면 호출자는 {@link #send(MailMessage)}를 수신자별로 호출한다.
+     */
+    default boolean supportsBulk() {
+        return false;
+    }
+
+    /**
+     * 같은 제목/본문을 여러 수신자에게 발송
+     * 수신자별 결과를 입력 순서대로 반환한다. 기본 구현은 단건 발송 반복.
+     */
+    default List<MailSendResult> sendBulk(BulkMailMessage message) {
+        List<MailSendResult> results = new ArrayList<>(message.recipients().size());
+        for (String to : message.recipients()) {
+            try {
+                send(message.toSingle(to));
+                results.add(MailSendResult.success(to));
+            } catch (Exception e) {
+                results.add(MailSendResult.failure(to, e.getMessage()));
+            }
+        }
+        return results;
+    }
+}
@@ -1,16 +1,37 @@
 package com.ryu.studyhelper.infrastructure.mail.sender;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.services.ses.SesClient;
 import software.amazon.awssdk.services.ses.model.*;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
 
 /**
  * AWS SES 기반 메일 발송 구현체
+ *
+ * 대량 발송(aws.ses.bulk.enabled=true): 제목/본문을 그대로 치환하는 범용 템플릿
+ * ({{subject}}, {{{html}}})을 기동 시 등록해 두고 SendBulkTemplatedEmail로 최대 50명씩 묶어 보낸다.
+ * 템플릿 준비 실패·인라인 첨부 포함·묶음 호출 실패 시에는 단건 발송으로 대체한다.
  */
 @Component
 @Profile("prod")
@@ -18,21 +39,135 @@ import java.nio.charset.StandardCharsets;
 public class SesMailSender implements MailSender {
 
     private static final String SENDER_NAME = "CodeMate";
+    private static final int MAX_BULK_DESTINATIONS = 50; // SES SendBulkTemplatedEmail 최대 수신자 수
 
     private final SesClient sesClient;
+    private final ObjectMapper objectMapper;
 
-@Value("${aws.ses.from-email}")
+    @Value("${aws.ses.from-email}")
     private String fromEmail;
 
     @Value("${aws.ses.configuration-set:#{null}}")
     private String configurationSetName;
 
-    public SesMailSender(SesClient sesClient) {
+    @Value("${aws.ses.bulk.enabled:false}")
+    private boolean bulkEnabled;
+
+    @Value("${aws.ses.bulk.template-name:codemate-generic-html}")
+    private String bulkTemplateName;
+
+    private volatile boolean bulkTemplateReady;
+
+    public SesMailSender(SesClient sesClient, ObjectMapper objectMapper) {
         this.sesClient = sesClient;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 대량 발송용 범용 템플릿이 없으면 생성
+     */
+    @PostConstruct
+    void prepareBulkTemplate() {
+        if (!bulkEnabled) {
+            return;
+        }
+        try {
+            sesClient.getTemplate(GetTemplateRequest.builder().templateName(bulkTemplateName).build());
+            bulkTemplateReady = true;
+        } catch (TemplateDoesNotExistException e) {
+            try {
+                sesClient.createTemplate(CreateTemplateRequest.builder()
+                        .template(Template.builder()
+                                .templateName(bulkTemplateName)
+                                .subjectPart("{{subject}}")
+                                .htmlPart("{{{html}}}")
+                                .build())
+                        .build());
+                bulkTemplateReady = true;
+                log.info("SES 대량 발송 템플릿 생성: {}", bulkTemplateName);
+            } catch (SesException createFailure) {
+                log.warn("SES 대량 발송 템플릿 생성 실패 — 단건 발송으로 동작합니다: {}", createFailure.getMessage());
+            }
+        } catch (SesException e) {
+            log.warn("SES 대량 발송 템플릿 확인 실패 — 단건 발송으로 동작합니다: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean supportsBulk() {
+        return bulkEnabled && bulkTemplateReady;
+    }
+
+    @Override
+    public List<MailSendResult> sendBulk(BulkMailMessage message) {
+        // 템플릿 발송은 인라인 첨부를 실을 수 없다
+        if (!supportsBulk() || message.hasInlineAttachments()) {
+            return MailSender.super.sendBulk(message);
+        }
+
+        List<String> recipients = message.recipients();
+        List<MailSendResult> results = new ArrayList<>(recipients.size());
+        for (int from = 0; from < recipients.size(); from += MAX_BULK_DESTINATIONS) {
+            List<String> chunk = recipients.subList(from, Math.min(from + MAX_BULK_DESTINATIONS, recipients.size()));
+            results.addAll(sendBulkChunk(message, chunk));
+        }
+        return results;
+    }
+
+    private List<MailSendResult> sendBulkChunk(BulkMailMessage message, List<String> chunk) {
+        try {
+            SendBulkTemplatedEmailRequest.Builder requestBuilder = SendBulkTemplatedEmailRequest.builder()
+                    .source(SENDER_NAME + " <" + fromEmail + ">")
+                    .template(bulkTemplateName)
+                    .defaultTemplateData(toTemplateData(message))
+                    .destinations(chunk.stream()
+                            .map(to -> BulkEmailDestination.builder()
+                                    .destination(Destination.builder().toAddresses(to).build())
+                                    .replacementTemplateData("{}")
+                                    .build())
+                            .toList());
+
+            if (configurationSetName != null && !configurationSetName.isBlank()) {
+                requestBuilder.configurationSetName(configurationSetName);
+            }
+
+            List<BulkEmailDestinationStatus> statuses =
+                    sesClient.sendBulkTemplatedEmail(requestBuilder.build()).status();
+
+            // 응답 status는 destinations와 같은 순서
+            List<MailSendResult> results = new ArrayList<>(chunk.size());
+            for (int i = 0; i < chunk.size(); i++) {
+                String to = chunk.get(i);
+                BulkEmailDestinationStatus status = i < statuses.size() ? statuses.get(i) : null;
+                if (status != null && status.status() == BulkEmailStatus.SUCCESS) {
+                    results.add(MailSendResult.success(to));
+                } else {
+                    String error = status != null ? status.statusAsString() + ": " + status.error() : "응답 누락";
+                    log.error("이메일 전송 실패 ({}): {}", to, error);
+                    results.add(MailSendResult.failure(to, error));
+                }
+            }
+            log.debug("이메일 대량 발송 완료: {}명", chunk.size());
+            return results;
+        } catch (SesException | JsonProcessingException e) {
+            log.warn("이메일 대량 발송 실패 — 단건 발송으로 대체 ({}명): {}", chunk.size(), e.getMessage());
+            return MailSender.super.sendBulk(new BulkMailMessage(chunk, message.subject(), message.html(), List.of()));
+        }
+    }
+
+    private String toTemplateData(BulkMailMessage message) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(Map.of(
+                "subject", message.subject(),
+                "html", message.html()
+        ));
     }
 
     @Override
     public void send(MailMessage message) {
+        if (message.hasInlineAttachments()) {
+            sendRaw(message);
+            return;
+        }
         try {
             SendEmailRequest.Builder requestBuilder = SendEmailRequest.builder()
                     .source(SENDER_NAME + " <" + fromEmail + ">")
@@ -56,6 +191,52 @@ public class SesMailSender implements MailSender {
         }
     }
 
+    /**
+     * 인라인 첨부(cid 로고 등)가 있으면 SendEmail로는 표현할 수 없어 MIME을 직접 만들어 SendRawEmail로 보낸다.
+     */
+    private void sendRaw(MailMessage message) {
+        try {
+            SendRawEmailRequest.Builder requestBuilder = SendRawEmailRequest.builder()
+                    .rawMessage(RawMessage.builder()
+                            .data(SdkBytes.fromByteArray(toMimeBytes(message)))
+                            .build());
+
+            if (configurationSetName != null && !configurationSetName.isBlank()) {
+                requestBuilder.configurationSetName(configurationSetName);
+            }
+
+            sesClient.sendRawEmail(requestBuilder.build());
+            log.debug("이메일 발송 완료 (raw): {}", message.to());
+        } catch (SesException e) {
+            log.error("이메일 전송 실패 ({}): {}", message.to(), e.getMessage());
+            throw new RuntimeException("이메일 전송 실패: " + e.getMessage(), e);
+        } catch (MessagingException | IOException e) {
+            log.error("MIME 메시지 생성 실패 ({}): {}", message.to(), e.getMessage());
+            throw new RuntimeException("MIME 메시지 생성 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private byte[] toMimeBytes(MailMessage message) throws MessagingException, IOException {
+        MimeMessage mimeMessage = new MimeMessage(Session.getInstance(new Properties()));
+        MimeMessageHelper helper = new MimeMessageHelper(
+                mimeMessage, MimeMessageHelper.MULTIPART_MODE_RELATED, StandardCharsets.UTF_8.name());
+        helper.setFrom(senderAddress());
+        helper.setTo(message.to());
+        helper.setSubject(message.subject());
+        helper.setText(message.html(), true);
+        for (InlineAttachment attachment : message.inlineAttachments()) {
+            helper.addInline(attachment.contentId(), new ByteArrayResource(attachment.data()), attachment.contentType());
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        mimeMessage.writeTo(out);
+        return out.toByteArray();
+    }
+
+    private InternetAddress senderAddress() throws UnsupportedEncodingException {
+        return new InternetAddress(fromEmail, SENDER_NAME, StandardCharsets.UTF_8.name());
+    }
+
     private Content createContent(String data) {
         return Content.builder()
                 .data(data)
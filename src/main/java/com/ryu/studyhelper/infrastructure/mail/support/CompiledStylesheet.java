@@ -0,0 +1,165 @@
+package com.ryu.studyhelper.infrastructure.mail.support;
+
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+/**
+ * 한 번 파싱해 재사용하는 이메일용 스타일시트
+ *
+ * 지원 셀렉터:
+ * - 클래스 셀렉터: .card, .card.highlight
+ * - 클래스 간 자손 셀렉터: .problem-card .tier-badge
+ * - 콤마 그룹: .a, .b
+ * 태그/속성/의사 셀렉터는 인라인 대상에서 제외 (기존 CssInliner 동작과 동일)
+ *
+ * 규칙은 대상(가장 오른쪽) 클래스로 색인해 DOM 1회 순회로 적용하며,
+ * 한 요소에 여러 규칙이 매칭되면 스타일시트 선언 순서대로 이어 붙인다.
+ */
+final class CompiledStylesheet {
+
+    private static final Pattern COMMENT = Pattern.compile("/\\*.*?\\*/", Pattern.DOTALL);
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Map<String, List<Rule>> rulesBySubjectClass;
+    private final int ruleCount;
+
+    private CompiledStylesheet(Map<String, List<Rule>> rulesBySubjectClass, int ruleCount) {
+        this.rulesBySubjectClass = rulesBySubjectClass;
+        this.ruleCount = ruleCount;
+    }
+
+    static CompiledStylesheet compile(String css) {
+        Map<String, List<Rule>> index = new HashMap<>();
+        int order = 0;
+
+        String stripped = COMMENT.matcher(css).replaceAll("");
+        for (String block : stripped.split("}")) {
+            String[] parts = block.split("\\{", 2);
+            if (parts.length != 2) continue;
+
+            String declarations = WHITESPACE.matcher(parts[1].trim()).replaceAll(" ");
+            if (declarations.isEmpty()) continue;
+
+            for (String selector : parts[0].split(",")) {
+                List<String[]> compounds = parseSelector(selector.trim());
+                if (compounds == null) continue;
+
+                Rule rule = new Rule(order++, compounds, declarations);
+                index.computeIfAbsent(rule.subject()[0], k -> new ArrayList<>()).add(rule);
+            }
+        }
+        return new CompiledStylesheet(index, order);
+    }
+
+    /**
+     * ".a .b.c" → [[a], [b, c]]
+     * 클래스로만 이루어진 compound가 아니면 null (인라인 대상 아님)
+     */
+    private static List<String[]> parseSelector(String selector) {
+        if (selector.isEmpty()) return null;
+
+        List<String[]> compounds = new ArrayList<>();
+        for (String token : WHITESPACE.split(selector)) {
+            if (!token.startsWith(".") || token.length() < 2) return null;
+            String[] classNames = token.substring(1).split("\\.");
+            for (String className : classNames) {
+                if (className.isEmpty() || !isPlainIdentifier(className)) return null;
+            }
+            compounds.add(classNames);
+        }
+        return compounds;
+    }
+
+    private static boolean isPlainIdentifier(String name) {
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (!(Character.isLetterOrDigit(c) || c == '-' || c == '_')) return false;
+        }
+        return true;
+    }
+
+    int ruleCount() {
+        return ruleCount;
+    }
+
+    /**
+     * 문서 전체를 한 번 순회하며 매칭된 규칙을 style 속성에 인라인
+     */
+    void applyTo(Document doc) {
+        if (rulesBySubjectClass.isEmpty()) return;
+
+        for (Element element : doc.getAllElements()) {
+            String classAttr = element.className();
+            if (classAttr.isEmpty()) continue;
+
+            Set<String> classNames = element.classNames();
+            List<Rule> matched = null;
+            for (String className : classNames) {
+                List<Rule> candidates = rulesBySubjectClass.get(className);
+                if (candidates == null) continue;
+                for (Rule rule : candidates) {
+                    if (rule.matches(element, classNames)) {
+                        if (matched == null) matched = new ArrayList<>();
+                        matched.add(rule);
+                    }
+                }
+            }
+            if (matched == null) continue;
+
+            element.attr("style", buildStyle(element.attr("style"), matched));
+        }
+    }
+
+    private static String buildStyle(String existingStyle, List<Rule> matched) {
+        // 같은 규칙이 여러 클래스로 후보에 오를 수 있어 order 기준 중복 제거 + 선언 순 정렬
+        TreeSet<Rule> ordered = new TreeSet<>((a, b) -> Integer.compare(a.order(), b.order()));
+        ordered.addAll(matched);
+
+        StringBuilder sb = new StringBuilder(existingStyle);
+        for (Rule rule : ordered) {
+            if (!sb.isEmpty()) sb.append(' ');
+            sb.append(rule.declarations());
+        }
+        return sb.toString();
+    }
+
+    /**
+     * @param compounds 왼쪽(조상) → 오른쪽(대상) 순서의 클래스 compound 목록
+     */
+    private record Rule(int order, List<String[]> compounds, String declarations) {
+
+        String[] subject() {
+            return compounds.get(compounds.size() - 1);
+        }
+
+        boolean matches(Element element, Set<String> elementClasses) {
+            if (!containsAll(elementClasses, subject())) return false;
+
+            // 자손 결합자만 지원하므로 오른쪽부터 조상을 탐욕적으로 매칭해도 정확하다
+            Element ancestor = element.parent();
+            for (int i = compounds.size() - 2; i >= 0; i--) {
+                String[] required = compounds.get(i);
+                while (ancestor != null && !containsAll(ancestor.classNames(), required)) {
+                    ancestor = ancestor.parent();
+                }
+                if (ancestor == null) return false;
+                ancestor = ancestor.parent();
+            }
+            return true;
+        }
+
+        private static boolean containsAll(Set<String> classNames, String[] required) {
+            if (required.length == 1) return classNames.contains(required[0]);
+            return classNames.containsAll(Arrays.asList(required));
+        }
+    }
+}
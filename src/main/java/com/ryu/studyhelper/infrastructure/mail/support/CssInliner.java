@@ -3,26 +3,30 @@ package com.ryu.studyhelper.infrastructure.mail.support;
 import lombok.extern.slf4j.Slf4j;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Element;
-import org.jsoup.select.Elements;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StreamUtils;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * CSS를 HTML에 인라인으로 변환하는 유틸
  * 이메일 클라이언트(특히 Gmail)는 외부 CSS를 지원하지 않으므로
  * 모든 스타일을 인라인으로 변환해야 함
+ *
+ * CSS 파일은 경로별로 최초 1회만 읽어 {@link CompiledStylesheet}로 컴파일한 뒤 캐시한다.
+ * 클래스패스 리소스라 런타임에 바뀌지 않으므로 무효화는 없다.
  */
 @Component
 @Slf4j
 public class CssInliner {
 
+    private final Map<String, CompiledStylesheet> stylesheetCache = new ConcurrentHashMap<>();
+
     /**
      * HTML과 CSS 파일 경로를 받아서 CSS를 인라인으로 적용한 HTML 반환
      *
@@ -32,10 +36,9 @@ public class CssInliner {
      */
     public String inline(String html, String cssPath) {
         try {
-            String css = loadCssFile(cssPath);
+            CompiledStylesheet stylesheet = getStylesheet(cssPath);
             Document doc = Jsoup.parse(html);
-            Map<String, String> cssRules = parseCss(css);
-            applyCssRules(doc, cssRules);
+            stylesheet.applyTo(doc);
             return doc.html();
         } catch (Exception e) {
             log.error("CSS 인라인 변환 실패: {}", e.getMessage(), e);
@@ -43,6 +46,18 @@ public class CssInliner {
         }
     }
 
+    private CompiledStylesheet getStylesheet(String cssPath) {
+        return stylesheetCache.computeIfAbsent(cssPath, path -> {
+            try {
+                CompiledStylesheet compiled = CompiledStylesheet.compile(loadCssFile(path));
+                log.info("CSS 컴파일 완료: {} (규칙 {}개)", path, compiled.ruleCount());
+                return compiled;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
     private String loadCssFile(String cssPath) throws IOException {
         ClassPathResource resource = new ClassPathResource(cssPath);
         if (!resource.exists()) {
@@ -52,42 +67,4 @@ public class CssInliner {
             return StreamUtils.copyToString(stream, StandardCharsets.UTF_8);
         }
     }
-
-    private Map<String, String> parseCss(String css) {
-        Map<String, String> rules = new HashMap<>();
-        css = css.replaceAll("/\\*.*?\\*/", "");
-
-        String[] blocks = css.split("}");
-        for (String block : blocks) {
-            if (!block.contains("{")) continue;
-
-            String[] parts = block.split("\\{", 2);
-            if (parts.length != 2) continue;
-
-            String selector = parts[0].trim();
-            String properties = parts[1].trim();
-
-            if (selector.startsWith(".")) {
-                String className = selector.substring(1).trim();
-                rules.put(className, properties);
-            }
-        }
-        return rules;
-    }
-
-    private void applyCssRules(Document doc, Map<String, String> cssRules) {
-        for (Map.Entry<String, String> entry : cssRules.entrySet()) {
-            String className = entry.getKey();
-            String properties = entry.getValue();
-
-            Elements elements = doc.getElementsByClass(className);
-            for (Element element : elements) {
-                String existingStyle = element.attr("style");
-                String newStyle = existingStyle.isEmpty()
-                        ? properties
-                        : existingStyle + " " + properties;
-                element.attr("style", newStyle);
-            }
-        }
-    }
-}
\ No newline at end of file
+}
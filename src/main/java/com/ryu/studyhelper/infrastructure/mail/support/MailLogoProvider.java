@@ -0,0 +1,99 @@
+package com.ryu.studyhelper.infrastructure.mail.support;
+
+import com.ryu.studyhelper.infrastructure.mail.sender.InlineAttachment;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 메일 로고 이미지 제공
+ * 메일마다 classpath 로드 + base64 인코딩을 반복하지 않도록 기동 시 1회만 준비한다.
+ *
+ * mail.logo.mode
+ * - none  : 로고 미사용 (기본값)
+ * - inline: base64 data URI를 본문에 직접 삽입 (메일마다 이미지 크기만큼 페이로드 증가)
+ * - url   : mail.logo.url 의 호스팅 이미지 참조
+ * - cid   : 인라인 첨부로 전송하고 본문에서 cid:로 참조
+ */
+@Component
+@Slf4j
+public class MailLogoProvider {
+
+    private static final String LOGO_PATH = "static/images/logo.png";
+    private static final String LOGO_CONTENT_TYPE = "image/png";
+    private static final String LOGO_CONTENT_ID = "codemate-logo";
+
+    public enum Mode { NONE, INLINE, URL, CID }
+
+    @Getter
+    private final Mode mode;
+    private final String hostedUrl;
+
+    private String logoSrc;
+    private List<InlineAttachment> inlineAttachments = List.of();
+
+    public MailLogoProvider(@Value("${mail.logo.mode:none}") String mode,
+                            @Value("${mail.logo.url:}") String hostedUrl) {
+        this.mode = Mode.valueOf(mode.trim().toUpperCase());
+        this.hostedUrl = hostedUrl;
+    }
+
+    @PostConstruct
+    void init() {
+        try {
+            switch (mode) {
+                case NONE -> logoSrc = null;
+                case URL -> {
+                    if (hostedUrl == null || hostedUrl.isBlank()) {
+                        throw new IllegalStateException("mail.logo.mode=url 인데 mail.logo.url 이 비어 있습니다");
+                    }
+                    logoSrc = hostedUrl;
+                }
+                case INLINE -> {
+                    byte[] bytes = loadLogo();
+                    logoSrc = "data:" + LOGO_CONTENT_TYPE + ";base64," + Base64.getEncoder().encodeToString(bytes);
+                    log.warn("메일 로고 inline 모드 — 메일마다 약 {}KB가 본문에 포함됩니다", logoSrc.length() / 1024);
+                }
+                case CID -> {
+                    byte[] bytes = loadLogo();
+                    logoSrc = "cid:" + LOGO_CONTENT_ID;
+                    inlineAttachments = List.of(new InlineAttachment(LOGO_CONTENT_ID, LOGO_CONTENT_TYPE, bytes));
+                }
+            }
+        } catch (IOException e) {
+            log.warn("로고 이미지 로드 실패 — 로고 없이 발송합니다", e);
+            logoSrc = null;
+            inlineAttachments = List.of();
+        }
+        log.info("메일 로고 모드: {}", mode);
+    }
+
+    /**
+     * 템플릿 img src 값 (로고 미사용이면 null)
+     */
+    public String logoSrc() {
+        return logoSrc;
+    }
+
+    /**
+     * cid 모드일 때 메일에 함께 실어야 할 첨부 (그 외 모드는 빈 목록)
+     */
+    public List<InlineAttachment> inlineAttachments() {
+        return inlineAttachments;
+    }
+
+    private byte[] loadLogo() throws IOException {
+        ClassPathResource resource = new ClassPathResource(LOGO_PATH);
+        try (var stream = resource.getInputStream()) {
+            return StreamUtils.copyToByteArray(stream);
+        }
+    }
+}
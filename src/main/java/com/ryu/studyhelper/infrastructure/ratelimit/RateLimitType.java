@@ -13,7 +13,14 @@ public enum RateLimitType {
      * - solved.ac는 256/15분 제한이 있음
      * - 안전하게 분당 10회로 제한 (15분에 150회 = 256회보다 안전)
      */
-    SOLVED_AC(10, 60, "rate_limit:solvedac:");
+    SOLVED_AC(10, 60, "rate_limit:solvedac:"),
+
+    /**
+     * solved.ac API - 풀이 자동 감지 배치
+     * - 서버 전체가 하나의 키를 공유하는 예산 (15분에 60회)
+     * - 사용자 인증 요청 몫을 남기도록 256/15분 제한의 1/4 이내로 사용
+     */
+    SOLVED_AC_DETECTION(60, 900, "rate_limit:solvedac:detection:");
 
     private final int maxRequests;      // 최대 요청 횟수
     private final long windowSeconds;   // 시간 윈도우 (초)
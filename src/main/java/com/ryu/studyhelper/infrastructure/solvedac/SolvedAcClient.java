@@ -14,8 +14,11 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.StringJoiner;
+import java.util.stream.Collectors;
 
 @Component
 @Slf4j
@@ -24,6 +27,7 @@ public class SolvedAcClient {
     private static final int MIN_LEVEL = 1;
     private static final int MAX_LEVEL = 30;
     private static final int MIN_SOLVED_COUNT = 1000;
+    public static final int MAX_PROBLEMS_PER_SEARCH = 50; // 문제 검색 API 한 페이지 크기
 
     private final SolvedAcHttpClient solvedAcHttpClient;
 
@@ -138,4 +142,37 @@ public class SolvedAcClient {
             throw new CustomException(CustomResponseStatus.SOLVED_AC_API_ERROR);
         }
     }
+
+    /**
+     * 특정 사용자가 주어진 문제 중 푼 문제 ID 조회 (문제 ID를 OR로 묶은 검색 1회)
+     * 검색 결과 한 페이지(50개)를 넘지 않도록 호출 측에서 문제 수를 MAX_PROBLEMS_PER_SEARCH 이하로 나눠 호출한다.
+     */
+    public Set<Long> findSolvedProblemIds(String handle, Collection<Long> problemIds) {
+        if (problemIds.isEmpty()) {
+            return Set.of();
+        }
+        if (problemIds.size() > MAX_PROBLEMS_PER_SEARCH) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 문제 수를 초과했습니다: " + problemIds.size());
+        }
+
+        try {
+            StringJoiner ids = new StringJoiner("|", "(", ")");
+            problemIds.forEach(id -> ids.add("id:" + id));
+            ProblemSearchResponse response = solvedAcHttpClient.searchProblems("s@" + handle + "+" + ids, "id", "asc");
+            if (response.items() == null) {
+                return Set.of();
+            }
+
+            return response.items().stream()
+                    .map(ProblemInfo::problemId)
+                    .filter(problemIds::contains)
+                    .collect(Collectors.toSet());
+        } catch (CallNotPermittedException e) {
+            log.warn("solved.ac 서킷브레이커 OPEN — 요청 차단됨");
+            throw new CustomException(CustomResponseStatus.SOLVED_AC_UNAVAILABLE);
+        } catch (Exception e) {
+            log.error("Failed to find solved problems of user {} in {}", handle, problemIds, e);
+            throw new CustomException(CustomResponseStatus.SOLVED_AC_API_ERROR);
+        }
+    }
 }
\ No newline at end of file
@@ -2,10 +2,12 @@ package com.ryu.studyhelper.member;
 
 import com.ryu.studyhelper.common.enums.CustomResponseStatus;
 import com.ryu.studyhelper.common.exception.CustomException;
+import com.ryu.studyhelper.config.security.PrincipalDetailsService;
 import com.ryu.studyhelper.infrastructure.discord.DiscordMessage;
 import com.ryu.studyhelper.infrastructure.discord.DiscordNotifier;
 import com.ryu.studyhelper.infrastructure.solvedac.SolvedAcClient;
 import com.ryu.studyhelper.infrastructure.mail.sender.MailSender;
+import com.ryu.studyhelper.member.login.LastLoginBuffer;
 import com.ryu.studyhelper.member.mail.EmailChangeMailBuilder;
 import com.ryu.studyhelper.member.mail.EmailVerificationClaim;
 import com.ryu.studyhelper.member.mail.EmailVerificationTokenProvider;
@@ -13,11 +15,14 @@ import com.ryu.studyhelper.member.domain.Member;
 import com.ryu.studyhelper.member.dto.response.MemberSearchResponse;
 import com.ryu.studyhelper.member.dto.response.MyProfileResponse;
 import com.ryu.studyhelper.member.repository.MemberRepository;
+import com.ryu.studyhelper.solve.ranking.GlobalRankingStore;
 import com.ryu.studyhelper.solve.service.SolveService;
+import com.ryu.studyhelper.team.activity.TeamActivityVersion;
 import com.ryu.studyhelper.team.repository.TeamMemberRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Clock;
@@ -38,6 +43,10 @@ public class MemberService {
     private final EmailChangeMailBuilder emailChangeMailBuilder;
     private final EmailVerificationTokenProvider emailVerificationTokenProvider;
     private final DiscordNotifier discordNotifier;
+    private final TeamActivityVersion teamActivityVersion;
+    private final GlobalRankingStore globalRankingStore;
+    private final PrincipalDetailsService principalDetailsService;
+    private final LastLoginBuffer lastLoginBuffer;
     private final Clock clock;
 
     @Transactional(readOnly = true)
@@ -79,6 +88,8 @@ public class MemberService {
         // 2. 회원 엔티티에 핸들 저장 (중복 허용, isVerified는 false 유지)
         Member member = getById(memberId);
         member.changeHandle(handle);
+        teamActivityVersion.bumpForMember(memberId); // 소속 팀 활동 스냅샷의 핸들 갱신
+        globalRankingStore.changeHandle(memberId, handle); // 전체 랭킹 표시 핸들 갱신
 
         try {
             discordNotifier.sendEvent(DiscordMessage.event("핸들 등록",
@@ -142,21 +153,20 @@ public class MemberService {
         // 3. 회원 정보 업데이트
         Member member = getById(claim.memberId());
         member.changeEmail(claim.newEmail());
+        principalDetailsService.evict(member.getId()); // 캐시된 principal의 이메일 갱신
 
         return claim.newEmail();
     }
 
     /**
      * 마지막 접속 시간 업데이트
+     * 요청 중에는 버퍼에만 기록하고 DB 반영은 LastLoginBuffer가 주기적으로 일괄 처리한다.
+     * (트랜잭션·커넥션 불필요)
      * @param memberId 회원 ID
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void updateLastLoginAt(Long memberId) {
-        try {
-            Member member = getById(memberId);
-            member.updateLastLoginAt(LocalDateTime.now(clock));
-        } catch (Exception e) {
-            log.warn("마지막 접속 시간 업데이트 실패: memberId={}", memberId, e);
-        }
+        lastLoginBuffer.record(memberId, LocalDateTime.now(clock));
     }
 
     /**
@@ -177,6 +187,8 @@ public class MemberService {
         // 민감정보 마스킹 + 소프트 딜리트
         member.withdraw();
         memberRepository.save(member);
+        globalRankingStore.remove(memberId);
+        principalDetailsService.evict(memberId); // 탈퇴 후 기존 토큰으로 인증되지 않도록 캐시 제거
     }
 
 }
@@ -70,10 +70,6 @@ public class Member extends BaseEntity {
         this.email = email;
     }
 
-    public void updateLastLoginAt(LocalDateTime loginTime) {
-        this.lastLoginAt = loginTime;
-    }
-
     /**
      * 회원 탈퇴 처리
      * 민감정보를 마스킹하고 소프트 딜리트 수행
@@ -0,0 +1,100 @@
+package com.ryu.studyhelper.member.login;
+
+import com.ryu.studyhelper.member.repository.MemberRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 마지막 접속 시간 write-behind 버퍼
+ * 로그인·토큰 갱신 요청은 메모리에 (회원 ID → 접속 시각)만 기록하고 DB에 쓰지 않는다.
+ * 주기적으로 모아서 분 단위로 묶은 벌크 UPDATE로 반영해 회원 행 쓰기 경합과 요청 중 커넥션 점유를 없앤다.
+ *
+ * - 같은 회원의 여러 접속은 가장 늦은 시각 하나로 합쳐진다
+ * - 접속 시각은 분 단위로 저장된다 (한 번의 flush가 UPDATE 1~2개로 끝나도록)
+ * - 이미 더 늦은 시각이 저장돼 있으면 덮어쓰지 않는다 (여러 인스턴스가 따로 flush해도 역행하지 않음)
+ * - 반영에 실패하면 버퍼에 되돌려 다음 주기에 재시도하고, 종료 시(@PreDestroy) 남은 기록을 모두 반영한다
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LastLoginBuffer {
+
+    static final int UPDATE_CHUNK_SIZE = 1_000;
+
+    private final MemberRepository memberRepository;
+    private final Clock clock;
+
+    private final ConcurrentHashMap<Long, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 접속 시각 기록 (DB 접근 없음)
+     */
+    public void record(Long memberId, LocalDateTime loginAt) {
+        pending.merge(memberId, loginAt, (a, b) -> a.isAfter(b) ? a : b);
+    }
+
+    @Scheduled(fixedDelayString = "${member.last-login.flush-interval-ms:60000}")
+    public void flush() {
+        Map<Long, LocalDateTime> drained = drain();
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        Map<LocalDateTime, List<Long>> idsByMinute = drained.entrySet().stream()
+                .collect(Collectors.groupingBy(e -> e.getValue().truncatedTo(ChronoUnit.MINUTES),
+                        Collectors.mapping(Map.Entry::getKey, Collectors.toList())));
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        int updated = 0;
+        for (Map.Entry<LocalDateTime, List<Long>> entry : idsByMinute.entrySet()) {
+            List<Long> ids = entry.getValue();
+            for (int from = 0; from < ids.size(); from += UPDATE_CHUNK_SIZE) {
+                List<Long> chunk = ids.subList(from, Math.min(from + UPDATE_CHUNK_SIZE, ids.size()));
+                try {
+                    updated += memberRepository.updateLastLoginAt(chunk, entry.getKey(), now);
+                } catch (Exception e) {
+                    log.warn("마지막 접속 시간 반영 실패 — 다음 주기에 재시도 ({}명)", chunk.size(), e);
+                    chunk.forEach(id -> record(id, drained.get(id)));
+                }
+            }
+        }
+        log.debug("마지막 접속 시간 반영: 기록 {}명, 갱신 {}행", drained.size(), updated);
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        log.info("종료 전 마지막 접속 시간 반영: {}명", pending.size());
+        flush();
+    }
+
+    int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * 키별로 꺼내며 제거 — 꺼내는 동안 들어온 기록은 다음 flush에 반영된다
+     */
+    private Map<Long, LocalDateTime> drain() {
+        Map<Long, LocalDateTime> drained = new HashMap<>();
+        for (Long memberId : new ArrayList<>(pending.keySet())) {
+            LocalDateTime loginAt = pending.remove(memberId);
+            if (loginAt != null) {
+                drained.put(memberId, loginAt);
+            }
+        }
+        return drained;
+    }
+}
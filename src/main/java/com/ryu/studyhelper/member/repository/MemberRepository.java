@@ -2,9 +2,14 @@ package com.ryu.studyhelper.member.repository;
 
 import com.ryu.studyhelper.member.domain.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,4 +26,17 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     // 이메일로 멤버 찾기
     Optional<Member> findByEmail(String email);
+
+    /**
+     * 마지막 접속 시간 일괄 반영 (LastLoginBuffer flush)
+     * 이미 더 늦은 시각이 저장된 회원은 건너뛴다.
+     * 벌크 UPDATE는 JPA Auditing을 거치지 않으므로 modifiedAt도 직접 갱신한다.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Member m SET m.lastLoginAt = :loginAt, m.modifiedAt = :now " +
+            "WHERE m.id IN :memberIds AND (m.lastLoginAt IS NULL OR m.lastLoginAt < :loginAt)")
+    int updateLastLoginAt(@Param("memberIds") Collection<Long> memberIds,
+                          @Param("loginAt") LocalDateTime loginAt,
+                          @Param("now") LocalDateTime now);
 }
\ No newline at end of file
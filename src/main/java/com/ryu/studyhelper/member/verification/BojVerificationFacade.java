@@ -2,12 +2,15 @@ package com.ryu.studyhelper.member.verification;
 
 import com.ryu.studyhelper.common.enums.CustomResponseStatus;
 import com.ryu.studyhelper.common.exception.CustomException;
+import com.ryu.studyhelper.config.security.PrincipalDetailsService;
 import com.ryu.studyhelper.infrastructure.solvedac.SolvedAcClient;
 import com.ryu.studyhelper.member.repository.MemberRepository;
 import com.ryu.studyhelper.member.verification.dto.GenerateHashResponse;
 import com.ryu.studyhelper.member.verification.dto.VerifyBojResponse;
 import com.ryu.studyhelper.member.domain.Member;
 import com.ryu.studyhelper.infrastructure.solvedac.dto.SolvedAcUserBioResponse;
+import com.ryu.studyhelper.solve.ranking.GlobalRankingStore;
+import com.ryu.studyhelper.team.activity.TeamActivityVersion;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -26,6 +29,9 @@ public class BojVerificationFacade {
     private final MemberRepository memberRepository;
     private final SolvedAcClient solvedAcClient;
     private final BojVerificationService bojVerificationService;
+    private final GlobalRankingStore globalRankingStore;
+    private final PrincipalDetailsService principalDetailsService;
+    private final TeamActivityVersion teamActivityVersion;
 
     /**
      * 백준 핸들 인증용 해시 생성
@@ -88,6 +94,9 @@ public class BojVerificationFacade {
 
         // 7. 인증 완료 처리
         member.verifyWithHandle(handle);
+        teamActivityVersion.bumpForMember(memberId); // 소속 팀 활동 스냅샷의 핸들 갱신
+        globalRankingStore.changeHandle(memberId, handle);
+        principalDetailsService.evict(memberId); // 캐시된 principal의 인증 상태 갱신
 
         // 8. Redis에서 해시 삭제
         bojVerificationService.deleteVerificationHash(memberId);
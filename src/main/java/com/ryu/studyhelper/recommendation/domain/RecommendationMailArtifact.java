@@ -0,0 +1,59 @@
+package com.ryu.studyhelper.recommendation.domain;
+
+import com.ryu.studyhelper.common.entity.BaseEntity;
+import com.ryu.studyhelper.common.util.GzipUtils;
+import com.ryu.studyhelper.recommendation.mailbuilder.RecommendationMailContent;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 미리 렌더링된 추천 메일 본문 (gzip 압축)
+ * 06:00 추천 저장 시점에 만들어 두고, 발송 시에는 압축 해제 후 수신자만 붙여 보낸다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "recommendation_mail_artifact",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_recommendation_mail_artifact",
+                columnNames = {"recommendation_id"}
+        ))
+public class RecommendationMailArtifact extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "recommendation_id", nullable = false)
+    private Long recommendationId;
+
+    @Column(name = "subject", nullable = false)
+    private String subject;
+
+    @Column(name = "html_gzip", nullable = false, length = 1_000_000)
+    private byte[] htmlGzip;
+
+    /**
+     * 압축 전 본문 크기 (bytes) — 압축률 확인용
+     */
+    @Column(name = "html_size", nullable = false)
+    private int htmlSize;
+
+    public static RecommendationMailArtifact create(Long recommendationId, RecommendationMailContent content) {
+        byte[] compressed = GzipUtils.compress(content.html());
+        return RecommendationMailArtifact.builder()
+                .recommendationId(recommendationId)
+                .subject(content.subject())
+                .htmlGzip(compressed)
+                .htmlSize(content.html().getBytes(StandardCharsets.UTF_8).length)
+                .build();
+    }
+
+    public RecommendationMailContent toContent() {
+        return new RecommendationMailContent(subject, GzipUtils.decompress(htmlGzip));
+    }
+}
@@ -70,8 +70,13 @@ public class MemberRecommendation extends BaseEntity {
     }
 
     public void markEmailAsSent() {
+        markEmailAsSent(LocalDateTime.now());
+    }
+
+    // 일괄 상태 반영 시 DB UPDATE와 같은 발송 시각을 쓰기 위한 오버로드
+    public void markEmailAsSent(LocalDateTime sentAt) {
         this.emailSendStatus = EmailSendStatus.SENT;
-        this.emailSentAt = LocalDateTime.now();
+        this.emailSentAt = sentAt;
     }
 
     public void markEmailAsFailed() {
@@ -0,0 +1,13 @@
+package com.ryu.studyhelper.recommendation.dto.projection;
+
+import java.time.LocalDate;
+
+/**
+ * 팀원별 추천 날짜 Projection (member, date, recommendationId)
+ * 팀 활동 현황 조회 시 엔티티 대신 필요한 컬럼만 조회합니다.
+ */
+public interface MemberRecommendationDateProjection {
+    Long getMemberId();
+    LocalDate getDate();
+    Long getRecommendationId();
+}
@@ -0,0 +1,11 @@
+package com.ryu.studyhelper.recommendation.dto.projection;
+
+/**
+ * 아직 풀이 기록이 없는 (회원, 핸들, 추천 문제) Projection
+ * 풀이 자동 감지 배치에서 solved.ac 조회 대상을 모을 때 사용합니다.
+ */
+public interface PendingSolveProjection {
+    Long getMemberId();
+    String getHandle();
+    Long getProblemId();
+}
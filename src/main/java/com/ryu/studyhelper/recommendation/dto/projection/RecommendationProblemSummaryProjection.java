@@ -0,0 +1,13 @@
+package com.ryu.studyhelper.recommendation.dto.projection;
+
+/**
+ * 추천별 문제 요약 Projection (recommendationId, problem)
+ * 팀 활동 현황 조회 시 엔티티 대신 필요한 컬럼만 조회합니다.
+ */
+public interface RecommendationProblemSummaryProjection {
+    Long getRecommendationId();
+    Long getProblemId();
+    String getTitle();
+    String getTitleKo();
+    Integer getLevel();
+}
@@ -1,21 +1,22 @@
 package com.ryu.studyhelper.recommendation.mailbuilder;
 
+import com.ryu.studyhelper.infrastructure.mail.sender.BulkMailMessage;
 import com.ryu.studyhelper.infrastructure.mail.sender.MailMessage;
 import com.ryu.studyhelper.infrastructure.mail.support.CssInliner;
+import com.ryu.studyhelper.infrastructure.mail.support.MailLogoProvider;
 import com.ryu.studyhelper.problem.domain.Problem;
 import com.ryu.studyhelper.recommendation.domain.member.MemberRecommendation;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Component;
-import org.springframework.util.StreamUtils;
 import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.context.Context;
 
-import java.io.IOException;
+import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.Base64;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -31,24 +32,54 @@ public class RecommendationMailBuilder {
 
     private final TemplateEngine templateEngine;
     private final CssInliner cssInliner;
+    private final MailLogoProvider mailLogoProvider;
+    private final MeterRegistry meterRegistry;
 
     @Value("${FRONTEND_URL:https://codemate.kr}")
     private String frontendUrl;
 
     /**
-     * 메일 메시지 생성
+     * 추천 단위 본문 렌더링 (Thymeleaf + CSS 인라인)
+     * 추천 저장 시점에 미리 렌더링해 아티팩트로 보관하고, 없을 때만 발송 시점에 호출한다.
      * problems는 호출자가 직접 전달 — lazy 로딩에 의존하지 않음
      */
-    public MailMessage build(MemberRecommendation mr, List<Problem> problems) {
-        String to = mr.getMember().getEmail();
-        String date = mr.getRecommendation().getDate().format(DATE_FORMATTER);
-        Long teamId = mr.getTeamId();
-
-        return new MailMessage(
-                to,
-                buildSubject(date),
-                buildHtml(date, teamId, problems)
+    public RecommendationMailContent renderContent(LocalDate recommendationDate, Long teamId, List<Problem> problems) {
+        String date = recommendationDate.format(DATE_FORMATTER);
+        return new RecommendationMailContent(buildSubject(date), buildHtml(date, teamId, problems));
+    }
+
+    /**
+     * 렌더링된 본문에 수신자를 붙여 메일 메시지 생성 (템플릿 처리 없음)
+     */
+    public MailMessage buildFromContent(MemberRecommendation mr, RecommendationMailContent content) {
+        MailMessage message = new MailMessage(
+                mr.getMember().getEmail(),
+                content.subject(),
+                content.html(),
+                mailLogoProvider.inlineAttachments()
+        );
+        recordPayloadSize("recommendation", message.approximateSizeInBytes());
+        return message;
+    }
+
+    /**
+     * 같은 추천을 받은 팀원들에게 보낼 대량 발송 메시지 생성 (템플릿 처리 없음)
+     *
+     * @param memberRecommendations 같은 Recommendation에 속한 개인 추천 (이메일 보유자만)
+     */
+    public BulkMailMessage buildBulkFromContent(List<MemberRecommendation> memberRecommendations,
+                                                RecommendationMailContent content) {
+        List<String> recipients = memberRecommendations.stream()
+                .map(mr -> mr.getMember().getEmail())
+                .toList();
+        BulkMailMessage message = new BulkMailMessage(
+                recipients,
+                content.subject(),
+                content.html(),
+                mailLogoProvider.inlineAttachments()
         );
+        recordPayloadSize("recommendation_bulk", message.toSingle(recipients.get(0)).approximateSizeInBytes());
+        return message;
     }
 
     // ===== private =====
@@ -69,21 +100,24 @@ public class RecommendationMailBuilder {
         }
         context.setVariable("problems", problemViews);
 
-        try {
-            context.setVariable("logoImage", getBase64EncodedImage("static/images/logo.png"));
-        } catch (IOException e) {
-            log.warn("로고 이미지 로드 실패", e);
-            context.setVariable("logoImage", null);
-        }
+        context.setVariable("logoSrc", mailLogoProvider.logoSrc());
 
         String html = templateEngine.process("recommendation-email-v3", context);
         return cssInliner.inline(html, "static/css/email-recommendation-v2.css");
     }
 
-    private String getBase64EncodedImage(String imagePath) throws IOException {
-        ClassPathResource resource = new ClassPathResource(imagePath);
-        byte[] bytes = StreamUtils.copyToByteArray(resource.getInputStream());
-        return Base64.getEncoder().encodeToString(bytes);
+    /**
+     * 메일 1건(대량 발송은 수신자 1명분)당 페이로드 크기 기록 — 로고 모드별 대역폭/SES 비용 비교용
+     * /actuator/metrics/mail.payload.bytes?tag=logo:cid
+     */
+    private void recordPayloadSize(String type, long sizeInBytes) {
+        DistributionSummary.builder("mail.payload.bytes")
+                .description("발송 메일 페이로드 크기 (본문 + 인라인 첨부)")
+                .baseUnit("bytes")
+                .tag("type", type)
+                .tag("logo", mailLogoProvider.getMode().name().toLowerCase())
+                .register(meterRegistry)
+                .record(sizeInBytes);
     }
 
     /**
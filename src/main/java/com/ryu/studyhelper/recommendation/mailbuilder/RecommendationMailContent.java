@@ -0,0 +1,8 @@
+package com.ryu.studyhelper.recommendation.mailbuilder;
+
+/**
+ * 추천 메일 본문 (수신자와 무관하게 추천 단위로 동일)
+ * 미리 렌더링해 두었다가 수신자 주소만 붙여 발송한다.
+ */
+public record RecommendationMailContent(String subject, String html) {
+}
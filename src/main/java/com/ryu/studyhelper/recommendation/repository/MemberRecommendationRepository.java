@@ -2,6 +2,8 @@ package com.ryu.studyhelper.recommendation.repository;
 
 import com.ryu.studyhelper.recommendation.domain.member.EmailSendStatus;
 import com.ryu.studyhelper.recommendation.domain.member.MemberRecommendation;
+import com.ryu.studyhelper.recommendation.dto.projection.MemberRecommendationDateProjection;
+import com.ryu.studyhelper.recommendation.dto.projection.PendingSolveProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -10,6 +12,8 @@ import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -36,19 +40,27 @@ public interface MemberRecommendationRepository extends JpaRepository<MemberReco
     List<MemberRecommendation> findByEmailSendStatus(EmailSendStatus status);
 
     /**
-     * 특정 날짜 + 이메일 발송 상태의 개인 추천 조회
-     * 이메일 발송 배치에서 오늘 대상 조회 시 사용
+     * 특정 날짜 + 이메일 발송 상태의 개인 추천 ID 조회
+     * 메일 아웃박스 적재용 (엔티티/연관 로딩 없이 ID만)
      */
-    @Query("SELECT mr FROM MemberRecommendation mr " +
-            "JOIN FETCH mr.recommendation r " +
-            "JOIN FETCH mr.member m " +
+    @Query("SELECT mr.id FROM MemberRecommendation mr " +
+            "JOIN mr.recommendation r " +
             "WHERE r.date = :date " +
             "AND mr.emailSendStatus = :status")
-    List<MemberRecommendation> findByRecommendationDateAndEmailSendStatus(
+    List<Long> findIdsByRecommendationDateAndEmailSendStatus(
             @Param("date") LocalDate date,
             @Param("status") EmailSendStatus status
     );
 
+    /**
+     * ID 목록으로 회원·추천을 함께 조회 (메일 아웃박스 발송용)
+     */
+    @Query("SELECT mr FROM MemberRecommendation mr " +
+            "JOIN FETCH mr.recommendation r " +
+            "JOIN FETCH mr.member m " +
+            "WHERE mr.id IN :ids")
+    List<MemberRecommendation> findAllWithMemberAndRecommendationByIdIn(@Param("ids") Collection<Long> ids);
+
     /**
      * 이메일 상태 CAS 업데이트
      * UPDATE ... SET email_send_status = :newStatus WHERE id = :id AND email_send_status = :expectedStatus
@@ -61,6 +73,37 @@ public interface MemberRecommendationRepository extends JpaRepository<MemberReco
                                         @Param("newStatus") EmailSendStatus newStatus,
                                         @Param("expectedStatus") EmailSendStatus expectedStatus);
 
+    /**
+     * 발송 완료 일괄 반영
+     * UPDATE ... SET email_send_status = 'SENT', email_sent_at = :sentAt WHERE id IN (:ids) AND email_send_status = 'PENDING'
+     * PENDING 조건으로 재발송 CAS 선점 규칙을 유지한다 (선점한 워커만 PENDING 행을 보유).
+     * 벌크 UPDATE는 JPA Auditing을 거치지 않으므로 modifiedAt도 직접 갱신한다.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE MemberRecommendation mr " +
+            "SET mr.emailSendStatus = com.ryu.studyhelper.recommendation.domain.member.EmailSendStatus.SENT, " +
+            "mr.emailSentAt = :sentAt, mr.modifiedAt = :now " +
+            "WHERE mr.id IN :ids " +
+            "AND mr.emailSendStatus = com.ryu.studyhelper.recommendation.domain.member.EmailSendStatus.PENDING")
+    int markEmailsAsSent(@Param("ids") List<Long> ids,
+                         @Param("sentAt") LocalDateTime sentAt,
+                         @Param("now") LocalDateTime now);
+
+    /**
+     * 발송 실패 일괄 반영
+     * UPDATE ... SET email_send_status = 'FAILED' WHERE id IN (:ids) AND email_send_status = 'PENDING'
+     * 벌크 UPDATE는 JPA Auditing을 거치지 않으므로 modifiedAt도 직접 갱신한다.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE MemberRecommendation mr " +
+            "SET mr.emailSendStatus = com.ryu.studyhelper.recommendation.domain.member.EmailSendStatus.FAILED, " +
+            "mr.modifiedAt = :now " +
+            "WHERE mr.id IN :ids " +
+            "AND mr.emailSendStatus = com.ryu.studyhelper.recommendation.domain.member.EmailSendStatus.PENDING")
+    int markEmailsAsFailed(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
     /**
      * 특정 추천에 연결된 모든 개인 추천 조회
      */
@@ -94,18 +137,42 @@ public interface MemberRecommendationRepository extends JpaRepository<MemberReco
     );
 
     /**
-     * 현재 팀원의 MemberRecommendation 조회 (팀 활동 현황 / 리더보드용)
-     * date 범위 기반 조회
+     * 특정 회원에게 추천된 적 있는 문제 ID 전체 조회 (인증용 추천 문제 색인 적재)
+     * 날짜 조건 없음.
+     */
+    @Query("SELECT DISTINCT rp.problem.id FROM MemberRecommendation mr " +
+            "JOIN mr.recommendation r " +
+            "JOIN r.problems rp " +
+            "WHERE mr.member.id = :memberId")
+    List<Long> findRecommendedProblemIdsByMemberId(@Param("memberId") Long memberId);
+
+    /**
+     * 특정 날짜 추천 문제 중 아직 풀이 기록이 없는 (회원, 핸들, 문제) 조회 (풀이 자동 감지용)
+     * 핸들 미등록 회원은 solved.ac로 확인할 수 없으므로 제외한다.
      */
-    @Query("SELECT DISTINCT mr FROM MemberRecommendation mr " +
+    @Query("SELECT DISTINCT m.id AS memberId, m.handle AS handle, rp.problem.id AS problemId " +
+            "FROM MemberRecommendation mr " +
+            "JOIN mr.member m " +
+            "JOIN mr.recommendation r " +
+            "JOIN r.problems rp " +
+            "WHERE r.date = :date " +
+            "AND m.handle IS NOT NULL AND m.handle <> '' " +
+            "AND NOT EXISTS (SELECT 1 FROM MemberSolvedProblem msp " +
+            "WHERE msp.member.id = m.id AND msp.problem.id = rp.problem.id)")
+    List<PendingSolveProjection> findPendingSolvesByRecommendationDate(@Param("date") LocalDate date);
+
+    /**
+     * 현재 팀원의 추천 날짜 목록 조회 (팀 활동 현황용)
+     * 문제까지 fetch join 하면 멤버 × 추천 × 문제 카테시안 결과가 되므로
+     * (member, date, recommendationId)만 조회하고 문제는 추천 ID 기준으로 따로 조회한다.
+     */
+    @Query("SELECT mr.member.id AS memberId, r.date AS date, r.id AS recommendationId " +
+            "FROM MemberRecommendation mr " +
             "JOIN TeamMember tm ON tm.member = mr.member AND tm.team.id = :teamId " +
-            "JOIN FETCH mr.recommendation r " +
-            "LEFT JOIN FETCH r.problems rp " +
-            "LEFT JOIN FETCH rp.problem " +
-            "JOIN FETCH mr.member " +
+            "JOIN mr.recommendation r " +
             "WHERE mr.teamId = :teamId " +
             "AND r.date BETWEEN :startDate AND :endDate")
-    List<MemberRecommendation> findByTeamIdAndDateBetween(
+    List<MemberRecommendationDateProjection> findDatesByTeamIdAndDateBetween(
             @Param("teamId") Long teamId,
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate
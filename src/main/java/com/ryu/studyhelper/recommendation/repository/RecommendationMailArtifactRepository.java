@@ -0,0 +1,19 @@
+package com.ryu.studyhelper.recommendation.repository;
+
+import com.ryu.studyhelper.recommendation.domain.RecommendationMailArtifact;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface RecommendationMailArtifactRepository extends JpaRepository<RecommendationMailArtifact, Long> {
+
+    /**
+     * 여러 추천의 미리 렌더링된 본문 조회 (이메일 발송용, IN 쿼리 1회)
+     */
+    List<RecommendationMailArtifact> findByRecommendationIdIn(Collection<Long> recommendationIds);
+
+    boolean existsByRecommendationId(Long recommendationId);
+}
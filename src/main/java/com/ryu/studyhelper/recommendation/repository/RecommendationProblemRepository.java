@@ -2,11 +2,13 @@ package com.ryu.studyhelper.recommendation.repository;
 
 import com.ryu.studyhelper.recommendation.domain.RecommendationProblem;
 import com.ryu.studyhelper.recommendation.dto.projection.ProblemWithSolvedStatusProjection;
+import com.ryu.studyhelper.recommendation.dto.projection.RecommendationProblemSummaryProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -21,17 +23,39 @@ import java.util.List;
 public interface RecommendationProblemRepository extends JpaRepository<RecommendationProblem, Long> {
 
     /**
-     * 특정 추천의 문제들을 삽입 순서대로 조회
+     * 여러 추천의 문제들을 한 번의 IN 쿼리로 조회 (이메일 배치용)
+     * 추천별 묶음 안에서는 삽입 순서(id 순)를 유지한다.
      *
-     * @param recommendationId 추천 ID
-     * @return 문제 목록 (삽입 순서)
+     * @param recommendationIds 추천 ID 목록
+     * @return 문제 목록 (추천 ID → 삽입 순서)
      */
     @Query("SELECT rp FROM RecommendationProblem rp " +
             "JOIN FETCH rp.problem " +
-            "WHERE rp.recommendation.id = :recommendationId " +
-            "ORDER BY rp.id ASC")
-    List<RecommendationProblem> findByRecommendationIdOrderById(@Param("recommendationId") Long recommendationId);
+            "WHERE rp.recommendation.id IN :recommendationIds " +
+            "ORDER BY rp.recommendation.id ASC, rp.id ASC")
+    List<RecommendationProblem> findByRecommendationIdInOrderById(
+            @Param("recommendationIds") Collection<Long> recommendationIds);
 
+    /**
+     * 여러 추천의 문제 요약을 한 번의 IN 쿼리로 조회 (팀 활동 현황용)
+     * 엔티티를 적재하지 않고 화면에 필요한 컬럼만 조회한다.
+     *
+     * @param recommendationIds 추천 ID 목록
+     * @return 문제 요약 목록 (추천 ID → 삽입 순서)
+     */
+    @Query("""
+            SELECT rp.recommendation.id AS recommendationId,
+                   p.id AS problemId,
+                   p.title AS title,
+                   p.titleKo AS titleKo,
+                   p.level AS level
+            FROM RecommendationProblem rp
+            JOIN rp.problem p
+            WHERE rp.recommendation.id IN :recommendationIds
+            ORDER BY rp.recommendation.id ASC, rp.id ASC
+            """)
+    List<RecommendationProblemSummaryProjection> findSummariesByRecommendationIdIn(
+            @Param("recommendationIds") Collection<Long> recommendationIds);
 
     /**
      * 특정 추천의 문제들과 회원의 해결 여부를 함께 조회 (OUTER JOIN)
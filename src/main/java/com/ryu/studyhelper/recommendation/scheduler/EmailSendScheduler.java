@@ -10,9 +10,10 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 /**
- * 이메일 발송 스케줄러
- * - 09:00: PENDING 상태 추천 발송
- * - 10:00: FAILED 상태 추천 1회 재발송
+ * 이메일 발송 스케줄러 — 메일 아웃박스 적재만 수행하고 발송은 MailOutboxWorker가 담당
+ * - 09:00: PENDING 상태 추천 적재
+ * - 10:00: FAILED 상태 추천 1회 재적재
+ * 결과의 success는 적재 건수, skip은 이미 아웃박스에 있던 건수
  */
 @Component
 @RequiredArgsConstructor
@@ -31,7 +32,7 @@ public class EmailSendScheduler {
         Exception failure = null;
 
         try {
-            result = recommendationEmailService.sendAll();
+            result = recommendationEmailService.enqueuePending();
             log.info("=== 이메일 발송 배치 작업 완료 === (소요시간: {}ms)", System.currentTimeMillis() - startTime);
         } catch (Exception e) {
             failure = e;
@@ -50,7 +51,7 @@ public class EmailSendScheduler {
         Exception failure = null;
 
         try {
-            result = recommendationEmailService.retryFailed();
+            result = recommendationEmailService.enqueueFailed();
             log.info("=== 이메일 재발송 배치 작업 완료 === (소요시간: {}ms)", System.currentTimeMillis() - startTime);
         } catch (Exception e) {
             failure = e;
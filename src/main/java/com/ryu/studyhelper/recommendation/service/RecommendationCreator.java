@@ -22,7 +22,7 @@ import java.util.Optional;
 
 /**
  * 스쿼드 추천 생성 공통 로직
- * - createForSquad: 수동 추천 (핸들 체크 포함, FAILED 레코드 재사용)
+ * - createForSquad: 수동 추천 (핸들 체크 포함, FAILED 레코드 재사용, 메일 아웃박스 적재)
  * - process: 배치/재시도 배치 (기존 PENDING 레코드 처리)
  */
 @Service
@@ -53,7 +53,7 @@ public class RecommendationCreator {
         }
 
         Recommendation pending = recommendationSaver.createOrResetPending(squad, date, type);
-        CreationResult result = processInternal(pending, squad, handles);
+        CreationResult result = processInternal(pending, squad, handles, true);
         return Optional.of(result);
     }
 
@@ -70,15 +70,21 @@ public class RecommendationCreator {
             recommendationSaver.saveFailed(rec);
             throw new IllegalStateException("인증된 핸들 없음: " + squad.getName());
         }
-        processInternal(rec, squad, handles);
+        processInternal(rec, squad, handles, false);
     }
 
-    private CreationResult processInternal(Recommendation rec, Squad squad, List<String> handles) {
+    /**
+     * @param enqueueEmails true면 성공 저장과 같은 트랜잭션에서 추천 메일을 아웃박스에 적재 (수동 추천).
+     *                      배치 추천은 09:00 발송 배치가 적재한다.
+     */
+    private CreationResult processInternal(Recommendation rec, Squad squad, List<String> handles, boolean enqueueEmails) {
         try {
             List<Problem> problems = recommendProblemsForSquad(squad, handles);
             Long teamId = squad.getTeam().getId();
             List<Member> members = teamMemberRepository.findMembersByTeamIdAndSquadId(teamId, squad.getId());
-            List<MemberRecommendation> memberRecommendations = recommendationSaver.saveSuccess(rec, problems, members, squad);
+            List<MemberRecommendation> memberRecommendations = enqueueEmails
+                    ? recommendationSaver.saveSuccessAndEnqueueEmails(rec, problems, members, squad)
+                    : recommendationSaver.saveSuccess(rec, problems, members, squad);
             log.info("추천 생성 완료 - 팀: {}, 스쿼드: {}, 문제: {}개",
                     squad.getTeam().getName(), squad.getName(), problems.size());
             return new CreationResult(rec, problems, memberRecommendations);
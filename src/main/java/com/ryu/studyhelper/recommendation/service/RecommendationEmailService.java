@@ -1,28 +1,48 @@
 package com.ryu.studyhelper.recommendation.service;
 
 import com.ryu.studyhelper.common.MissionCyclePolicy;
+import com.ryu.studyhelper.infrastructure.mail.outbox.MailOutboxService;
+import com.ryu.studyhelper.infrastructure.mail.outbox.MailOutboxType;
+import com.ryu.studyhelper.infrastructure.mail.sender.MailSendResult;
 import com.ryu.studyhelper.infrastructure.mail.sender.MailSender;
 import com.ryu.studyhelper.problem.domain.Problem;
+import com.ryu.studyhelper.recommendation.domain.RecommendationMailArtifact;
 import com.ryu.studyhelper.recommendation.domain.RecommendationProblem;
 import com.ryu.studyhelper.recommendation.domain.member.EmailSendStatus;
 import com.ryu.studyhelper.recommendation.domain.member.MemberRecommendation;
 import com.ryu.studyhelper.recommendation.dto.internal.BatchResult;
 import com.ryu.studyhelper.recommendation.mailbuilder.RecommendationMailBuilder;
+import com.ryu.studyhelper.recommendation.mailbuilder.RecommendationMailContent;
 import com.ryu.studyhelper.recommendation.repository.MemberRecommendationRepository;
+import com.ryu.studyhelper.recommendation.repository.RecommendationMailArtifactRepository;
 import com.ryu.studyhelper.recommendation.repository.RecommendationProblemRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Clock;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
  * 추천 이메일 발송
- * 배치(sendAll)와 수동(send) 모두 담당
+ * 09:00/10:00 배치는 메일 아웃박스에 적재만 하고(enqueuePending/enqueueFailed),
+ * 실제 발송은 아웃박스 워커가 deliver로 수행한다. 수동 추천도 아웃박스를 거치므로 발송 경로는 deliver 하나다.
+ *
+ * MailSender가 대량 발송을 지원하면 같은 Recommendation(스쿼드) 단위로 최대 STATUS_WRITE_CHUNK_SIZE명씩 묶어 보내고,
+ * 수신자별 결과를 각 MemberRecommendation의 EmailSendStatus로 되돌려 기록한다.
+ * 상태 기록은 청크 단위 일괄 UPDATE로 반영한다 (StatusWriteBack) — 대량 발송은 외부 호출 1회마다 바로 반영한다.
+ *
+ * 중복 발송 구간: 발송 후 상태 반영 전에 프로세스가 중단되면 반영하지 못한 건(단건 발송 최대 STATUS_WRITE_CHUNK_SIZE건,
+ * 대량 발송은 마지막 호출 1회분)이 PENDING으로 남아 아웃박스 임대가 만료된 뒤 다시 발송된다 (at-least-once).
+ * 본문은 추천 저장 시 미리 렌더링된 아티팩트를 사용해 발송 루프에서는 템플릿 처리를 하지 않는다.
  */
 @Service
 @RequiredArgsConstructor
@@ -34,118 +54,278 @@ public class RecommendationEmailService {
     private final RecommendationMailBuilder recommendationMailBuilder;
     private final MemberRecommendationRepository memberRecommendationRepository;
     private final RecommendationProblemRepository recommendationProblemRepository;
+    private final RecommendationMailArtifactRepository recommendationMailArtifactRepository;
+    private final MailOutboxService mailOutboxService;
+
+    // SES SendBulkTemplatedEmail 최대 수신자 수와 같게 맞춰 대량 발송 호출 1회 = 상태 반영 1회가 되도록 한다
+    private static final int STATUS_WRITE_CHUNK_SIZE = 50;
 
     /**
-     * 배치: PENDING 상태의 추천들에 대해 이메일 발송
-     * 미션 사이클 기준(06:00~06:00)으로 조회
+     * 09:00 배치: 오늘 PENDING 추천을 메일 아웃박스에 적재
+     * 이미 아웃박스에 있는 건(수동 추천 등)은 스킵으로 집계
      */
-    public BatchResult sendAll() {
-        LocalDate missionDate = MissionCyclePolicy.getMissionDate(clock);
-        log.info("이메일 발송 배치 시작: {}", missionDate);
+    @Transactional
+    public BatchResult enqueuePending() {
+        return enqueue(EmailSendStatus.PENDING);
+    }
 
-        List<MemberRecommendation> pendingRecommendations = memberRecommendationRepository
-                .findByRecommendationDateAndEmailSendStatus(missionDate, EmailSendStatus.PENDING);
+    /**
+     * 10:00 배치: 오늘 FAILED 추천을 메일 아웃박스에 다시 적재 (DEAD 행은 시도 횟수 초기화)
+     * 재발송 시 FAILED → PENDING 선점은 deliver에서 CAS로 수행한다.
+     */
+    @Transactional
+    public BatchResult enqueueFailed() {
+        return enqueue(EmailSendStatus.FAILED);
+    }
 
-        Map<Long, List<Problem>> problemsByRecommendationId = loadProblemsByRecommendation(pendingRecommendations);
+    private BatchResult enqueue(EmailSendStatus status) {
+        LocalDate missionDate = MissionCyclePolicy.getMissionDate(clock);
+        List<Long> ids = memberRecommendationRepository
+                .findIdsByRecommendationDateAndEmailSendStatus(missionDate, status);
 
-        int successCount = 0;
-        int failCount = 0;
+        int enqueued = mailOutboxService.enqueue(MailOutboxType.RECOMMENDATION, ids);
 
-        for (MemberRecommendation mr : pendingRecommendations) {
-            List<Problem> problems = problemsByRecommendationId.get(mr.getRecommendation().getId());
-            if (sendEmail(mr, problems)) {
-                successCount++;
-            } else {
-                failCount++;
+        log.info("이메일 아웃박스 적재 — 날짜: {}, 상태: {}, 대상: {}개, 적재: {}개",
+                missionDate, status, ids.size(), enqueued);
+        return new BatchResult(ids.size(), enqueued, ids.size() - enqueued, 0);
+    }
+
+    /**
+     * 메일 아웃박스 워커용 발송
+     * - PENDING: 그대로 발송
+     * - FAILED: FAILED → PENDING CAS 선점 후 발송 (배치·워커가 겹쳐도 한 번만 발송)
+     * - SENT/삭제됨: 이미 처리된 것으로 보고 성공 처리 (중복 발송 방지)
+     * - 이메일 없는 회원: FAILED로 기록하되 실패로 돌려주지 않는다 — 재시도해도 보낼 수 없으므로 아웃박스 행을 바로 끝낸다
+     *
+     * @return 발송 실패한 MemberRecommendation ID → 실패 사유 (재시도 대상)
+     */
+    public Map<Long, String> deliver(List<Long> memberRecommendationIds) {
+        List<MemberRecommendation> targets = new ArrayList<>();
+        for (MemberRecommendation mr : memberRecommendationRepository
+                .findAllWithMemberAndRecommendationByIdIn(memberRecommendationIds)) {
+            if (mr.getEmailSendStatus() == EmailSendStatus.PENDING) {
+                targets.add(mr);
+            } else if (mr.getEmailSendStatus() == EmailSendStatus.FAILED) {
+                int claimed = memberRecommendationRepository.compareAndUpdateEmailSendStatus(
+                        mr.getId(), EmailSendStatus.PENDING, EmailSendStatus.FAILED);
+                if (claimed == 0) {
+                    log.info("회원 ID {} 재발송 스킵 — 다른 워커가 선점함", mr.getMember().getId());
+                    continue;
+                }
+                mr.retryAsPending();
+                targets.add(mr);
             }
         }
+        if (targets.isEmpty()) {
+            return Map.of();
+        }
 
-        log.info("이메일 발송 배치 완료 — 대상: {}개, 성공: {}개, 실패: {}개",
-                pendingRecommendations.size(), successCount, failCount);
-        return new BatchResult(pendingRecommendations.size(), successCount, 0, failCount);
+        dispatch(targets, loadContentByRecommendation(targets));
+
+        // dispatch 후 엔티티 상태가 발송 결과와 동기화되어 있다
+        return targets.stream()
+                .filter(mr -> mr.getEmailSendStatus() == EmailSendStatus.FAILED && hasEmail(mr))
+                .collect(Collectors.toMap(MemberRecommendation::getId, mr -> "이메일 발송 실패"));
     }
 
     /**
-     * FAILED 이메일 재발송 배치.
-     * 수동 트리거와 배치가 동시에 실행될 수 있어 FAILED → PENDING CAS로 선점 후 발송한다.
-     * 문제 추천 재시도(RecommendationBatchService.retryFailed)와 동일한 패턴이다.
+     * 추천별 메일 본문 조회
+     * 추천 저장 시 미리 렌더링된 아티팩트를 우선 사용하고 (템플릿/jsoup 처리 없음),
+     * 아티팩트가 없는 추천만 문제 목록을 조회해 추천당 1회 렌더링한다.
      */
-    public BatchResult retryFailed() {
-        LocalDate missionDate = MissionCyclePolicy.getMissionDate(clock);
-        log.info("이메일 재발송 배치 시작: {}", missionDate);
+    private Map<Long, RecommendationMailContent> loadContentByRecommendation(List<MemberRecommendation> memberRecommendations) {
+        Map<Long, MemberRecommendation> representativeByRecommendationId = new LinkedHashMap<>();
+        for (MemberRecommendation mr : memberRecommendations) {
+            representativeByRecommendationId.putIfAbsent(mr.getRecommendation().getId(), mr);
+        }
+        if (representativeByRecommendationId.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, RecommendationMailContent> contentByRecommendationId = new LinkedHashMap<>();
+        for (RecommendationMailArtifact artifact : recommendationMailArtifactRepository
+                .findByRecommendationIdIn(representativeByRecommendationId.keySet())) {
+            contentByRecommendationId.put(artifact.getRecommendationId(), artifact.toContent());
+        }
 
-        List<MemberRecommendation> failedRecommendations = memberRecommendationRepository
-                .findByRecommendationDateAndEmailSendStatus(missionDate, EmailSendStatus.FAILED);
+        List<Long> missingIds = representativeByRecommendationId.keySet().stream()
+                .filter(id -> !contentByRecommendationId.containsKey(id))
+                .toList();
+        if (!missingIds.isEmpty()) {
+            log.info("미리 렌더링된 메일 본문 없음 — 발송 시 렌더링: 추천 {}개", missingIds.size());
+            Map<Long, List<Problem>> problemsByRecommendationId = loadProblemsByRecommendation(missingIds);
+            for (Long id : missingIds) {
+                MemberRecommendation representative = representativeByRecommendationId.get(id);
+                contentByRecommendationId.put(id, recommendationMailBuilder.renderContent(
+                        representative.getRecommendation().getDate(),
+                        representative.getTeamId(),
+                        problemsByRecommendationId.get(id)));
+            }
+        }
+        return contentByRecommendationId;
+    }
 
-        Map<Long, List<Problem>> problemsByRecommendationId = loadProblemsByRecommendation(failedRecommendations);
+    /**
+     * 추천별 문제 목록을 한 번의 IN 쿼리로 조회해 메모리에서 묶음
+     * 문제가 없는 추천도 빈 목록으로 포함한다.
+     */
+    private Map<Long, List<Problem>> loadProblemsByRecommendation(List<Long> recommendationIds) {
+        Map<Long, List<Problem>> problemsByRecommendationId = new LinkedHashMap<>();
+        recommendationIds.forEach(id -> problemsByRecommendationId.put(id, new ArrayList<>()));
+        for (RecommendationProblem rp : recommendationProblemRepository.findByRecommendationIdInOrderById(recommendationIds)) {
+            problemsByRecommendationId.get(rp.getRecommendation().getId()).add(rp.getProblem());
+        }
+        return problemsByRecommendationId;
+    }
 
-        int successCount = 0;
-        int failCount = 0;
+    private void dispatch(List<MemberRecommendation> memberRecommendations,
+                          Map<Long, RecommendationMailContent> contentByRecommendationId) {
+        StatusWriteBack writeBack = new StatusWriteBack();
 
-        for (MemberRecommendation mr : failedRecommendations) {
-            int claimed = memberRecommendationRepository.compareAndUpdateEmailSendStatus(
-                    mr.getId(), EmailSendStatus.PENDING, EmailSendStatus.FAILED);
-            if (claimed == 0) {
-                log.info("회원 ID {} 재발송 스킵 — 다른 워커가 선점함", mr.getMember().getId());
-                continue;
+        if (!mailSender.supportsBulk()) {
+            for (MemberRecommendation mr : memberRecommendations) {
+                sendEmail(mr, contentByRecommendationId.get(mr.getRecommendation().getId()), writeBack);
+                writeBack.flushIfFull();
             }
-            mr.retryAsPending();
-            List<Problem> problems = problemsByRecommendationId.get(mr.getRecommendation().getId());
-            if (sendEmail(mr, problems)) {
-                successCount++;
-            } else {
-                failCount++;
+        } else {
+            Map<Long, List<MemberRecommendation>> byRecommendationId = memberRecommendations.stream()
+                    .collect(Collectors.groupingBy(
+                            mr -> mr.getRecommendation().getId(), LinkedHashMap::new, Collectors.toList()));
+
+            for (Map.Entry<Long, List<MemberRecommendation>> entry : byRecommendationId.entrySet()) {
+                List<MemberRecommendation> group = entry.getValue();
+                for (int from = 0; from < group.size(); from += STATUS_WRITE_CHUNK_SIZE) {
+                    List<MemberRecommendation> chunk =
+                            group.subList(from, Math.min(from + STATUS_WRITE_CHUNK_SIZE, group.size()));
+                    sendBulkEmail(chunk, contentByRecommendationId.get(entry.getKey()), writeBack);
+                    // 발송이 끝난 묶음은 바로 반영해 중단 시 재발송 범위를 호출 1회분으로 줄인다
+                    writeBack.flush();
+                }
             }
         }
 
-        log.info("이메일 재발송 배치 완료 — 대상: {}개, 성공: {}개, 실패: {}개",
-                failedRecommendations.size(), successCount, failCount);
-        return new BatchResult(failedRecommendations.size(), successCount, 0, failCount);
-    }
-
-    private Map<Long, List<Problem>> loadProblemsByRecommendation(List<MemberRecommendation> memberRecommendations) {
-        return memberRecommendations.stream()
-                .map(mr -> mr.getRecommendation().getId())
-                .distinct()
-                .collect(Collectors.toMap(
-                        id -> id,
-                        id -> recommendationProblemRepository.findByRecommendationIdOrderById(id)
-                                .stream().map(RecommendationProblem::getProblem).toList()
-                ));
+        writeBack.flush();
     }
 
     /**
-     * 수동 추천: 해당 추천의 팀원들에게 이메일 즉시 발송.
-     * problems는 CreationResult에서 직접 전달 — lazy 로딩 없이 사용.
+     * 같은 추천의 팀원들에게 한 번에 발송. 결과는 수신자 순서대로 매핑된다.
+     * 묶음 호출 자체가 실패하면 해당 묶음 전원을 FAILED 처리 (10:00 재발송 대상).
      */
-    public void send(List<MemberRecommendation> memberRecommendations, List<Problem> problems) {
-        for (MemberRecommendation mr : memberRecommendations) {
-            sendEmail(mr, problems);
+    private void sendBulkEmail(List<MemberRecommendation> group, RecommendationMailContent content,
+                               StatusWriteBack writeBack) {
+        List<MemberRecommendation> deliverable = new ArrayList<>(group.size());
+        for (MemberRecommendation mr : group) {
+            if (hasEmail(mr)) {
+                deliverable.add(mr);
+            } else {
+                writeBack.failed(mr);
+                log.warn("회원 ID {}에 이메일이 없습니다", mr.getMember().getId());
+            }
+        }
+        if (deliverable.isEmpty()) {
+            return;
+        }
+
+        List<MailSendResult> results;
+        try {
+            results = mailSender.sendBulk(recommendationMailBuilder.buildBulkFromContent(deliverable, content));
+        } catch (Exception e) {
+            log.error("추천 ID {} 대량 발송 실패 ({}명)",
+                    deliverable.get(0).getRecommendation().getId(), deliverable.size(), e);
+            deliverable.forEach(writeBack::failed);
+            return;
+        }
+
+        for (int i = 0; i < deliverable.size(); i++) {
+            MemberRecommendation mr = deliverable.get(i);
+            MailSendResult result = i < results.size() ? results.get(i) : null;
+            if (result != null && result.success()) {
+                writeBack.sent(mr);
+            } else {
+                writeBack.failed(mr);
+                log.error("회원 ID {} 이메일 발송 실패: {}",
+                        mr.getMember().getId(), result != null ? result.error() : "결과 누락");
+            }
         }
     }
 
-    private boolean sendEmail(MemberRecommendation mr, List<Problem> problems) {
+    private void sendEmail(MemberRecommendation mr, RecommendationMailContent content, StatusWriteBack writeBack) {
         try {
-            String email = mr.getMember().getEmail();
-            if (email == null || email.isBlank()) {
-                mr.markEmailAsFailed();
-                memberRecommendationRepository.save(mr);
+            if (!hasEmail(mr)) {
+                writeBack.failed(mr);
                 log.warn("회원 ID {}에 이메일이 없습니다", mr.getMember().getId());
-                return false;
+                return;
             }
 
-            mailSender.send(recommendationMailBuilder.build(mr, problems));
+            mailSender.send(recommendationMailBuilder.buildFromContent(mr, content));
 
-            mr.markEmailAsSent();
-            memberRecommendationRepository.save(mr);
+            writeBack.sent(mr);
             log.debug("회원 '{}' 이메일 발송 완료", mr.getMember().getHandle());
-            return true;
 
         } catch (Exception e) {
-            mr.markEmailAsFailed();
-            memberRecommendationRepository.save(mr);
+            writeBack.failed(mr);
             log.error("회원 ID {} 이메일 발송 실패", mr.getMember().getId(), e);
-            return false;
         }
     }
-}
\ No newline at end of file
+
+    private boolean hasEmail(MemberRecommendation mr) {
+        String email = mr.getMember().getEmail();
+        return email != null && !email.isBlank();
+    }
+
+    /**
+     * 발송 결과를 모아 SENT/FAILED 별 UPDATE ... WHERE id IN (...) 으로 일괄 반영.
+     * 수신자당 UPDATE 1회 → 청크당 최대 2회로 줄인다.
+     * 반영 전 중단되면 모인 건은 PENDING으로 남아 재발송되므로, 모으는 크기가 곧 중복 발송 상한이다.
+     * 일괄 반영이 실패하면 해당 청크만 행 단위 저장으로 대체해 다른 청크에 영향을 주지 않는다.
+     */
+    private class StatusWriteBack {
+
+        private final List<MemberRecommendation> sent = new ArrayList<>();
+        private final List<MemberRecommendation> failed = new ArrayList<>();
+
+        void sent(MemberRecommendation mr) {
+            sent.add(mr);
+        }
+
+        void failed(MemberRecommendation mr) {
+            failed.add(mr);
+        }
+
+        void flushIfFull() {
+            if (sent.size() + failed.size() >= STATUS_WRITE_CHUNK_SIZE) {
+                flush();
+            }
+        }
+
+        void flush() {
+            LocalDateTime now = LocalDateTime.now(clock);
+            if (!sent.isEmpty()) {
+                sent.forEach(mr -> mr.markEmailAsSent(now));
+                writeOrFallback(sent, ids -> memberRecommendationRepository.markEmailsAsSent(ids, now, now));
+                sent.clear();
+            }
+            if (!failed.isEmpty()) {
+                failed.forEach(MemberRecommendation::markEmailAsFailed);
+                writeOrFallback(failed, ids -> memberRecommendationRepository.markEmailsAsFailed(ids, now));
+                failed.clear();
+            }
+        }
+
+        private void writeOrFallback(List<MemberRecommendation> targets, Consumer<List<Long>> bulkUpdate) {
+            List<Long> ids = targets.stream().map(MemberRecommendation::getId).toList();
+            try {
+                bulkUpdate.accept(ids);
+            } catch (Exception e) {
+                log.error("이메일 상태 일괄 반영 실패 — 행 단위 저장으로 대체 ({}건)", ids.size(), e);
+                for (MemberRecommendation mr : targets) {
+                    try {
+                        memberRecommendationRepository.save(mr);
+                    } catch (Exception saveFailure) {
+                        log.error("회원 ID {} 이메일 상태 저장 실패", mr.getMember().getId(), saveFailure);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.ryu.studyhelper.recommendation.service;
+
+import com.ryu.studyhelper.infrastructure.mail.outbox.MailOutboxHandler;
+import com.ryu.studyhelper.infrastructure.mail.outbox.MailOutboxType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 추천 메일 아웃박스 처리기 (reference_id = member_recommendation.id)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+class RecommendationMailOutboxHandler implements MailOutboxHandler {
+
+    private final RecommendationEmailService recommendationEmailService;
+
+    @Override
+    public MailOutboxType type() {
+        return MailOutboxType.RECOMMENDATION;
+    }
+
+    @Override
+    public Map<Long, String> handle(List<Long> referenceIds) {
+        return recommendationEmailService.deliver(referenceIds);
+    }
+
+    @Override
+    public void onDeadLetter(Long referenceId, String lastError) {
+        // MemberRecommendation은 이미 FAILED — 10:00 재발송 배치가 다시 적재한다
+        log.warn("추천 메일 최종 실패 (memberRecommendationId={}): {}", referenceId, lastError);
+    }
+}
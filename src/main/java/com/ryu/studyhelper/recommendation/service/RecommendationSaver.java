@@ -2,18 +2,30 @@ package com.ryu.studyhelper.recommendation.service;
 
 import com.ryu.studyhelper.common.enums.CustomResponseStatus;
 import com.ryu.studyhelper.common.exception.CustomException;
+import com.ryu.studyhelper.infrastructure.mail.outbox.MailOutboxService;
+import com.ryu.studyhelper.infrastructure.mail.outbox.MailOutboxType;
 import com.ryu.studyhelper.member.domain.Member;
 import com.ryu.studyhelper.problem.domain.Problem;
 import com.ryu.studyhelper.recommendation.domain.Recommendation;
+import com.ryu.studyhelper.recommendation.domain.RecommendationMailArtifact;
 import com.ryu.studyhelper.recommendation.domain.RecommendationProblem;
 import com.ryu.studyhelper.recommendation.domain.RecommendationStatus;
 import com.ryu.studyhelper.recommendation.domain.RecommendationType;
 import com.ryu.studyhelper.recommendation.domain.member.MemberRecommendation;
+import com.ryu.studyhelper.recommendation.mailbuilder.RecommendationMailBuilder;
+import com.ryu.studyhelper.recommendation.mailbuilder.RecommendationMailContent;
 import com.ryu.studyhelper.recommendation.repository.MemberRecommendationRepository;
+import com.ryu.studyhelper.recommendation.repository.RecommendationMailArtifactRepository;
 import com.ryu.studyhelper.recommendation.repository.RecommendationProblemRepository;
 import com.ryu.studyhelper.recommendation.repository.RecommendationRepository;
+import com.ryu.studyhelper.solve.verification.RecommendedProblemIndex;
+import com.ryu.studyhelper.team.activity.TeamActivityVersion;
 import com.ryu.studyhelper.team.domain.Squad;
+import com.ryu.studyhelper.team.leaderboard.TeamLeaderboardStore;
+import com.ryu.studyhelper.team.service.MemberMissionStatService;
+import com.ryu.studyhelper.team.service.TeamActivityChangeService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -29,11 +41,20 @@ import java.util.List;
  */
 @Service
 @RequiredArgsConstructor
+@Slf4j
 class RecommendationSaver {
 
     private final RecommendationRepository recommendationRepository;
     private final RecommendationProblemRepository recommendationProblemRepository;
     private final MemberRecommendationRepository memberRecommendationRepository;
+    private final MailOutboxService mailOutboxService;
+    private final RecommendationMailBuilder recommendationMailBuilder;
+    private final RecommendationMailArtifactRepository recommendationMailArtifactRepository;
+    private final MemberMissionStatService memberMissionStatService;
+    private final TeamActivityChangeService teamActivityChangeService;
+    private final TeamActivityVersion teamActivityVersion;
+    private final TeamLeaderboardStore teamLeaderboardStore;
+    private final RecommendedProblemIndex recommendedProblemIndex;
 
     /**
      * 배치용 PENDING INSERT.
@@ -84,9 +105,20 @@ class RecommendationSaver {
     /**
      * API 호출 성공 시 — 문제·멤버 저장 후 SUCCESS로 업데이트.
      * 저장된 MemberRecommendation 목록을 반환하여 호출자가 DB 재조회 없이 사용할 수 있도록 한다.
+     * 메일 본문도 이 시점에 렌더링·압축해 같은 트랜잭션으로 저장한다 (발송 시 템플릿 처리 생략).
+     * 리더보드용 팀원 미션 통계와 팀 활동 변경 로그도 같은 트랜잭션에서 갱신하고,
+     * 커밋 후 팀 활동 스냅샷 무효화와 인증용 추천 문제 색인 추가를 수행한다.
+     * 미션 통계 재계산으로 이미 푼 문제의 풀이 수가 날짜 사이를 옮겨 가므로 Redis 리더보드도 커밋 후 재구성을 예약한다.
      */
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     List<MemberRecommendation> saveSuccess(Recommendation rec, List<Problem> problems, List<Member> members, Squad squad) {
+        List<MemberRecommendation> memberRecommendations = saveSuccessRows(rec, problems, members, squad);
+        recordActivityChanges(rec, problems, members, squad);
+        return memberRecommendations;
+    }
+
+    private List<MemberRecommendation> saveSuccessRows(Recommendation rec, List<Problem> problems,
+                                                       List<Member> members, Squad squad) {
         for (Problem problem : problems) {
             recommendationProblemRepository.save(RecommendationProblem.create(problem, rec));
         }
@@ -96,6 +128,57 @@ class RecommendationSaver {
                 .toList();
         rec.markAsSuccess();
         recommendationRepository.save(rec);
+        List<Long> memberIds = members.stream().map(Member::getId).toList();
+        List<Long> problemIds = problems.stream().map(Problem::getId).distinct().toList();
+        memberMissionStatService.recordRecommended(squad.getTeam().getId(), rec.getDate(), memberIds, problemIds);
+        saveMailArtifact(rec, problems, squad);
+        teamActivityVersion.bump(squad.getTeam().getId());
+        teamLeaderboardStore.invalidate(squad.getTeam().getId());
+        recommendedProblemIndex.addRecommended(memberIds, problemIds);
+        return memberRecommendations;
+    }
+
+    /**
+     * 팀 활동 변경 로그 적재 — 트랜잭션의 마지막 쓰기
+     * 델타 커서는 created_at(INSERT 시각) 기준으로 안정화를 판단하므로, 적재 후 커밋까지의 간격을 최소로 둔다.
+     */
+    private void recordActivityChanges(Recommendation rec, List<Problem> problems, List<Member> members, Squad squad) {
+        teamActivityChangeService.recordRecommended(squad.getTeam().getId(), rec.getDate(),
+                members.stream().map(Member::getId).toList(),
+                problems.stream().map(Problem::getId).distinct().toList());
+    }
+
+    /**
+     * 추천 메일 본문 사전 렌더링.
+     * 렌더링 실패는 추천 저장을 막지 않는다 — 아티팩트가 없으면 발송 시점에 렌더링한다.
+     */
+    private void saveMailArtifact(Recommendation rec, List<Problem> problems, Squad squad) {
+        if (recommendationMailArtifactRepository.existsByRecommendationId(rec.getId())) {
+            return;
+        }
+        RecommendationMailArtifact artifact;
+        try {
+            RecommendationMailContent content = recommendationMailBuilder.renderContent(
+                    rec.getDate(), squad.getTeam().getId(), problems);
+            artifact = RecommendationMailArtifact.create(rec.getId(), content);
+        } catch (Exception e) {
+            log.warn("추천 ID {} 메일 본문 사전 렌더링 실패 — 발송 시 렌더링합니다", rec.getId(), e);
+            return;
+        }
+        recommendationMailArtifactRepository.save(artifact);
+    }
+
+    /**
+     * 수동 추천 성공 저장 + 추천 메일 아웃박스 적재를 한 트랜잭션으로 커밋.
+     * 커밋되면 발송은 MailOutboxWorker가 비동기로 처리하므로 요청은 발송을 기다리지 않는다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    List<MemberRecommendation> saveSuccessAndEnqueueEmails(Recommendation rec, List<Problem> problems,
+                                                           List<Member> members, Squad squad) {
+        List<MemberRecommendation> memberRecommendations = saveSuccessRows(rec, problems, members, squad);
+        mailOutboxService.enqueue(MailOutboxType.RECOMMENDATION,
+                memberRecommendations.stream().map(MemberRecommendation::getId).toList());
+        recordActivityChanges(rec, problems, members, squad);
         return memberRecommendations;
     }
 
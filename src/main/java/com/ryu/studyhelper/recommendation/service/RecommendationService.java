@@ -49,11 +49,10 @@ public class RecommendationService {
     private final RecommendationProblemRepository recommendationProblemRepository;
     private final MemberRecommendationRepository memberRecommendationRepository;
     private final RecommendationCreator recommendationCreator;
-    private final RecommendationEmailService recommendationEmailService;
 
     /**
      * 스쿼드 수동 추천 생성 (팀장 요청)
-     * 즉시 이메일 발송
+     * 이메일은 추천 저장과 함께 메일 아웃박스에 적재되어 워커가 비동기로 발송
      */
     public RecommendationDetailResponse createManualRecommendationForSquad(Long teamId, Long squadId) {
         Squad squad = squadRepository.findByIdAndTeamIdWithTeam(squadId, teamId)
@@ -65,8 +64,6 @@ public class RecommendationService {
                 recommendationCreator.createForSquad(squad, RecommendationType.MANUAL, missionDate)
                         .orElseThrow(() -> new CustomException(CustomResponseStatus.NO_VERIFIED_HANDLE));
 
-        recommendationEmailService.send(result.memberRecommendations(), result.problems());
-
         return RecommendationDetailResponse.from(result.recommendation(), squad.getTeam(), result.problems());
     }
 
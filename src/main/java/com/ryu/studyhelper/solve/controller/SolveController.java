@@ -6,16 +6,27 @@ import com.ryu.studyhelper.config.security.PrincipalDetails;
 import com.ryu.studyhelper.infrastructure.ratelimit.RateLimit;
 import com.ryu.studyhelper.infrastructure.ratelimit.RateLimitType;
 import com.ryu.studyhelper.solve.dto.response.DailySolvedResponse;
+import com.ryu.studyhelper.solve.dto.response.GlobalRankingPageResponse;
 import com.ryu.studyhelper.solve.dto.response.GlobalRankingResponse;
+import com.ryu.studyhelper.solve.dto.response.MyRankingResponse;
+import com.ryu.studyhelper.solve.dto.response.SolveHeatmapResponse;
+import com.ryu.studyhelper.solve.dto.response.VerificationJobResponse;
 import com.ryu.studyhelper.solve.service.RankingService;
 import com.ryu.studyhelper.solve.service.SolveFacade;
+import com.ryu.studyhelper.solve.service.SolveVerificationJobService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDate;
 
 @RestController
 @RequiredArgsConstructor
@@ -25,6 +36,7 @@ public class SolveController {
 
     private final SolveFacade solveFacade;
     private final RankingService rankingService;
+    private final SolveVerificationJobService solveVerificationJobService;
 
     @Operation(
             summary = "문제 해결 인증",
@@ -41,6 +53,50 @@ public class SolveController {
         return ResponseEntity.ok(ApiResponse.createSuccess(null, CustomResponseStatus.SUCCESS));
     }
 
+    @Operation(
+            summary = "문제 해결 인증 (비동기)",
+            description = "인증 작업을 접수하고 작업 ID를 202로 반환합니다. "
+                    + "결과는 /api/solve/verifications/{jobId} 폴링 또는 /events SSE 구독으로 확인합니다."
+    )
+    @RateLimit(type = RateLimitType.SOLVED_AC)
+    @PostMapping("/problems/{problemId}/verify/async")
+    public ResponseEntity<ApiResponse<VerificationJobResponse>> submitVerification(
+            @Parameter(description = "BOJ 문제 번호", example = "1000")
+            @PathVariable Long problemId,
+            @AuthenticationPrincipal PrincipalDetails principalDetails
+    ) {
+        VerificationJobResponse response =
+                solveVerificationJobService.submit(principalDetails.getMemberId(), problemId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.createSuccess(response, CustomResponseStatus.ACCEPTED));
+    }
+
+    @Operation(
+            summary = "비동기 인증 작업 상태 조회",
+            description = "PENDING/RUNNING이면 진행 중, SUCCEEDED면 인증 완료, FAILED면 errorCode로 실패 사유를 확인합니다. 작업은 10분간 보관됩니다."
+    )
+    @GetMapping("/verifications/{jobId}")
+    public ResponseEntity<ApiResponse<VerificationJobResponse>> getVerificationJob(
+            @Parameter(description = "작업 ID") @PathVariable String jobId,
+            @AuthenticationPrincipal PrincipalDetails principalDetails
+    ) {
+        VerificationJobResponse response =
+                solveVerificationJobService.getJob(principalDetails.getMemberId(), jobId);
+        return ResponseEntity.ok(ApiResponse.createSuccess(response, CustomResponseStatus.SUCCESS));
+    }
+
+    @Operation(
+            summary = "비동기 인증 결과 구독 (SSE)",
+            description = "작업이 끝나면 verification 이벤트로 작업 상태를 한 번 보내고 연결을 종료합니다. 90초 내 끝나지 않으면 상태 조회로 확인합니다."
+    )
+    @GetMapping(value = "/verifications/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeVerificationJob(
+            @Parameter(description = "작업 ID") @PathVariable String jobId,
+            @AuthenticationPrincipal PrincipalDetails principalDetails
+    ) {
+        return solveVerificationJobService.subscribe(principalDetails.getMemberId(), jobId);
+    }
+
     @Operation(
             summary = "일별 문제 풀이 현황 조회",
             description = "최근 N일간 일별 문제 풀이 현황을 조회합니다. 날짜 기준은 오전 6시입니다."
@@ -55,6 +111,35 @@ public class SolveController {
         return ResponseEntity.ok(ApiResponse.createSuccess(response, CustomResponseStatus.SUCCESS));
     }
 
+    @Operation(
+            summary = "풀이 히트맵 조회",
+            description = "최근 N일간 일별 풀이 수만 조회합니다 (문제 목록 제외). 날짜 기준은 오전 6시입니다."
+    )
+    @GetMapping("/heatmap")
+    public ResponseEntity<ApiResponse<SolveHeatmapResponse>> getSolveHeatmap(
+            @Parameter(description = "조회할 일수 (1~730, 기본 365일)", example = "365")
+            @RequestParam(defaultValue = "365") int days,
+            @AuthenticationPrincipal PrincipalDetails principalDetails
+    ) {
+        SolveHeatmapResponse response = solveFacade.getSolveHeatmap(principalDetails.getMemberId(), days);
+        return ResponseEntity.ok(ApiResponse.createSuccess(response, CustomResponseStatus.SUCCESS));
+    }
+
+    @Operation(
+            summary = "특정 날짜 풀이 문제 조회",
+            description = "히트맵에서 선택한 날짜(오전 6시 기준)에 풀이한 문제 목록을 조회합니다."
+    )
+    @GetMapping("/daily/{date}")
+    public ResponseEntity<ApiResponse<DailySolvedResponse.DailySolved>> getDailySolvedProblems(
+            @Parameter(description = "날짜 (yyyy-MM-dd)", example = "2024-11-28")
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @AuthenticationPrincipal PrincipalDetails principalDetails
+    ) {
+        DailySolvedResponse.DailySolved response =
+                solveFacade.getDailySolvedProblems(principalDetails.getMemberId(), date);
+        return ResponseEntity.ok(ApiResponse.createSuccess(response, CustomResponseStatus.SUCCESS));
+    }
+
     @Operation(
             summary = "전체 랭킹 조회",
             description = "전체 회원 중 문제를 가장 많이 푼 상위 10명의 랭킹을 조회합니다."
@@ -64,4 +149,31 @@ public class SolveController {
         GlobalRankingResponse response = rankingService.getGlobalRanking();
         return ResponseEntity.ok(ApiResponse.createSuccess(response, CustomResponseStatus.SUCCESS));
     }
+
+    @Operation(
+            summary = "전체 랭킹 페이지 조회",
+            description = "문제를 많이 푼 순서로 전체 랭킹을 페이지 단위로 조회합니다. 동점자는 같은 순위입니다."
+    )
+    @GetMapping("/ranking/global/page")
+    public ResponseEntity<ApiResponse<GlobalRankingPageResponse>> getGlobalRankingPage(
+            @Parameter(description = "페이지 번호 (0부터 시작)", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기 (1~100)", example = "20")
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        GlobalRankingPageResponse response = rankingService.getGlobalRankingPage(page, size);
+        return ResponseEntity.ok(ApiResponse.createSuccess(response, CustomResponseStatus.SUCCESS));
+    }
+
+    @Operation(
+            summary = "내 전체 랭킹 조회",
+            description = "로그인한 회원의 전체 랭킹 순위를 조회합니다. 핸들 미등록 시 순위는 null입니다."
+    )
+    @GetMapping("/ranking/global/me")
+    public ResponseEntity<ApiResponse<MyRankingResponse>> getMyRanking(
+            @AuthenticationPrincipal PrincipalDetails principalDetails
+    ) {
+        MyRankingResponse response = rankingService.getMyRanking(principalDetails.getMemberId());
+        return ResponseEntity.ok(ApiResponse.createSuccess(response, CustomResponseStatus.SUCCESS));
+    }
 }
\ No newline at end of file
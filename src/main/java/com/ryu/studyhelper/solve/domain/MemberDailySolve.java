@@ -0,0 +1,49 @@
+package com.ryu.studyhelper.solve.domain;
+
+import com.ryu.studyhelper.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 멤버별 날짜 단위 풀이 수 (풀이 히트맵용 집계 테이블)
+ * 문제 인증 시 해당 날짜(오전 6시 기준) 행의 풀이 수를 갱신한다.
+ * 히트맵은 (member_id, solve_date) 범위 조회 한 번으로 풀이 건수와 무관하게 O(일수)로 계산된다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "member_daily_solve",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_member_daily_solve",
+                columnNames = {"member_id", "solve_date"}
+        ))
+public class MemberDailySolve extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "solve_date", nullable = false)
+    private LocalDate solveDate;
+
+    @Column(name = "solved_count", nullable = false)
+    private int solvedCount;
+
+    /**
+     * 해당 날짜의 첫 풀이
+     */
+    public static MemberDailySolve first(Long memberId, LocalDate solveDate) {
+        return MemberDailySolve.builder()
+                .memberId(memberId)
+                .solveDate(solveDate)
+                .solvedCount(1)
+                .build();
+    }
+}
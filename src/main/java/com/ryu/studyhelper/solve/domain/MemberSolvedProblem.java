@@ -17,7 +17,8 @@ import java.time.LocalDateTime;
         uniqueConstraints = @UniqueConstraint(
                 name = "uk_member_problem",
                 columnNames = {"member_id", "problem_id"}
-        ))
+        ),
+        indexes = @Index(name = "idx_member_solved_problem_solved_at", columnList = "member_id, solved_at"))
 public class MemberSolvedProblem  extends BaseEntity {
 
     @Id
@@ -0,0 +1,9 @@
+package com.ryu.studyhelper.solve.dto.projection;
+
+/**
+ * 멤버-문제 풀이 여부 Projection (memberId, problemId)
+ */
+public interface SolvedProblemIdProjection {
+    Long getMemberId();
+    Long getProblemId();
+}
@@ -0,0 +1,21 @@
+package com.ryu.studyhelper.solve.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "전체 랭킹 페이지 응답")
+public record GlobalRankingPageResponse(
+        @Schema(description = "랭킹 목록")
+        List<GlobalRankingResponse.RankEntry> rankings,
+
+        @Schema(description = "페이지 번호 (0부터 시작)", example = "0")
+        int page,
+
+        @Schema(description = "페이지 크기", example = "20")
+        int size,
+
+        @Schema(description = "랭킹 대상 전체 인원", example = "1234")
+        long totalCount
+) {
+}
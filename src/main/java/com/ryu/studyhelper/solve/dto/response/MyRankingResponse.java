@@ -0,0 +1,22 @@
+package com.ryu.studyhelper.solve.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "내 전체 랭킹 응답")
+public record MyRankingResponse(
+        @Schema(description = "BOJ 핸들 (미등록 시 null)", example = "tourist")
+        String handle,
+
+        @Schema(description = "순위 (핸들 미등록 시 null)", example = "42")
+        Integer rank,
+
+        @Schema(description = "푼 문제 수", example = "150")
+        long solvedCount,
+
+        @Schema(description = "랭킹 대상 전체 인원", example = "1234")
+        long totalCount
+) {
+    public static MyRankingResponse unranked(long totalCount) {
+        return new MyRankingResponse(null, null, 0, totalCount);
+    }
+}
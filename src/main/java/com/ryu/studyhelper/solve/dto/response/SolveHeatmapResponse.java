@@ -0,0 +1,21 @@
+package com.ryu.studyhelper.solve.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "풀이 히트맵 응답 (일별 풀이 수만 포함)")
+public record SolveHeatmapResponse(
+        @Schema(description = "시작 날짜 (오전 6시 기준)", example = "2023-11-30")
+        String startDate,
+
+        @Schema(description = "종료 날짜 (오늘, 오전 6시 기준)", example = "2024-11-28")
+        String endDate,
+
+        @Schema(description = "시작 날짜부터 하루 단위 풀이 수 (counts[i] = startDate + i일)", example = "[0, 2, 1, 0]")
+        List<Integer> counts,
+
+        @Schema(description = "총 풀이 수", example = "16")
+        int totalCount
+) {
+}
@@ -0,0 +1,33 @@
+package com.ryu.studyhelper.solve.dto.response;
+
+import com.ryu.studyhelper.solve.verification.VerificationJob;
+import com.ryu.studyhelper.solve.verification.VerificationJobStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "비동기 문제 인증 작업 응답")
+public record VerificationJobResponse(
+        @Schema(description = "작업 ID", example = "3f2b6c1e-8a4d-4f5e-9c7b-2d1e0f9a8b7c")
+        String jobId,
+
+        @Schema(description = "BOJ 문제 번호", example = "1000")
+        Long problemId,
+
+        @Schema(description = "작업 상태 (PENDING, RUNNING, SUCCEEDED, FAILED)", example = "SUCCEEDED")
+        VerificationJobStatus status,
+
+        @Schema(description = "실패 코드 (FAILED일 때만)", example = "5006")
+        String errorCode,
+
+        @Schema(description = "실패 메시지 (FAILED일 때만)", example = "아직 해결하지 않은 문제입니다. solved.ac에서 확인되지 않았습니다.")
+        String errorMessage
+) {
+    public static VerificationJobResponse from(VerificationJob job) {
+        return new VerificationJobResponse(
+                job.jobId(),
+                job.problemId(),
+                job.status(),
+                job.error() != null ? job.error().getCode() : null,
+                job.error() != null ? job.error().getMessage() : null
+        );
+    }
+}
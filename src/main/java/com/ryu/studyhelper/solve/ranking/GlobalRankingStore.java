@@ -0,0 +1,319 @@
+package com.ryu.studyhelper.solve.ranking;
+
+import com.ryu.studyhelper.common.util.TransactionUtils;
+import com.ryu.studyhelper.solve.dto.projection.MemberSolvedSummaryProjection;
+import com.ryu.studyhelper.solve.repository.MemberSolvedProblemRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Redis ZSET 기반 전체 랭킹 저장소
+ *
+ * 키 구조
+ * - ranking:global          ZSET (member = "{handle} {memberId}", score = -풀이 수)
+ * - ranking:global:entries  HASH (memberId → ZSET member) — 핸들 변경·탈퇴 시 기존 항목 제거용
+ * - ranking:global:built    재구성 완료 마커 — 없으면 조회 시 DB에서 재구성
+ *
+ * 점수를 음수로 두고 오름차순으로 읽어 "풀이 수 내림차순, 핸들 오름차순" DB 정렬과 맞춘다.
+ * (동점자는 member 사전순 — 구분자를 공백으로 두어 핸들 문자보다 앞서게 한다)
+ * 풀이 반영은 증가 스크립트로, 누락·중복 편차는 주기적 재구성 배치로 보정한다.
+ * Redis 장애 시 조회는 Optional.empty()를 반환하고 호출자가 DB 집계로 대체한다 (Fail-open).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GlobalRankingStore {
+
+    private static final String RANKING_KEY = "ranking:global";
+    private static final String ENTRIES_KEY = "ranking:global:entries";
+    private static final String BUILT_KEY = "ranking:global:built";
+    private static final String REBUILD_LOCK_KEY = "ranking:global:rebuild-lock";
+    private static final String REBUILD_RANKING_KEY = "ranking:global:rebuild";
+    private static final String REBUILD_ENTRIES_KEY = "ranking:global:entries:rebuild";
+
+    private static final char MEMBER_SEPARATOR = ' ';
+
+    private static final Duration BUILT_TTL = Duration.ofDays(1);
+    private static final Duration REBUILD_LOCK_TTL = Duration.ofMinutes(1);
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    /**
+     * 풀이 1건 반영
+     * KEYS[1]=built, KEYS[2]=entries, KEYS[3]=ranking / ARGV[1]=memberId
+     * 재구성 전이거나 랭킹 대상(핸들 보유)이 아니면 무시한다.
+     */
+    private static final String INCREMENT_SCRIPT =
+            "if redis.call('exists', KEYS[1]) == 0 then return 0 end " +
+            "local member = redis.call('hget', KEYS[2], ARGV[1]) " +
+            "if not member then return 0 end " +
+            "redis.call('zincrby', KEYS[3], -1, member) " +
+            "return 1";
+
+    /**
+     * 핸들 등록·변경 — 기존 점수를 유지한 채 ZSET member만 교체
+     * KEYS[1]=built, KEYS[2]=entries, KEYS[3]=ranking / ARGV[1]=memberId, ARGV[2]=새 ZSET member
+     */
+    private static final String UPSERT_SCRIPT =
+            "if redis.call('exists', KEYS[1]) == 0 then return 0 end " +
+            "local score = 0 " +
+            "local old = redis.call('hget', KEYS[2], ARGV[1]) " +
+            "if old then " +
+            "    score = redis.call('zscore', KEYS[3], old) or 0 " +
+            "    redis.call('zrem', KEYS[3], old) " +
+            "end " +
+            "redis.call('zadd', KEYS[3], score, ARGV[2]) " +
+            "redis.call('hset', KEYS[2], ARGV[1], ARGV[2]) " +
+            "return 1";
+
+    /**
+     * 탈퇴 — 랭킹에서 제거
+     * KEYS[1]=entries, KEYS[2]=ranking / ARGV[1]=memberId
+     */
+    private static final String REMOVE_SCRIPT =
+            "local old = redis.call('hget', KEYS[1], ARGV[1]) " +
+            "if old then redis.call('zrem', KEYS[2], old) end " +
+            "redis.call('hdel', KEYS[1], ARGV[1]) " +
+            "return 1";
+
+    /**
+     * 페이지 조회 — {전체 인원, 첫 항목보다 많이 푼 인원, member, score, ...}
+     * KEYS[1]=ranking / ARGV[1]=시작 위치, ARGV[2]=끝 위치
+     */
+    private static final String READ_PAGE_SCRIPT =
+            "local items = redis.call('zrange', KEYS[1], ARGV[1], ARGV[2], 'WITHSCORES') " +
+            "local higher = 0 " +
+            "if #items > 0 then higher = redis.call('zcount', KEYS[1], '-inf', '(' .. items[2]) end " +
+            "local result = {tostring(redis.call('zcard', KEYS[1])), tostring(higher)} " +
+            "for _, v in ipairs(items) do result[#result + 1] = v end " +
+            "return result";
+
+    /**
+     * 내 순위 조회 — {score, 나보다 많이 푼 인원, 전체 인원}, 랭킹 대상이 아니면 빈 목록
+     * KEYS[1]=entries, KEYS[2]=ranking / ARGV[1]=memberId
+     */
+    private static final String READ_MEMBER_SCRIPT =
+            "local member = redis.call('hget', KEYS[1], ARGV[1]) " +
+            "if not member then return {} end " +
+            "local score = redis.call('zscore', KEYS[2], member) " +
+            "if not score then return {} end " +
+            "return {score, tostring(redis.call('zcount', KEYS[2], '-inf', '(' .. score)), " +
+            "tostring(redis.call('zcard', KEYS[2]))}";
+
+    /**
+     * 재구성 결과 교체 — 임시 키를 원자적으로 rename 후 마커 설정
+     * KEYS[1]=임시 ranking, KEYS[2]=임시 entries, KEYS[3]=ranking, KEYS[4]=entries, KEYS[5]=built
+     * ARGV[1]=마커 TTL(초)
+     */
+    private static final String SWAP_SCRIPT =
+            "if redis.call('exists', KEYS[1]) == 1 then " +
+            "    redis.call('rename', KEYS[1], KEYS[3]) " +
+            "    redis.call('rename', KEYS[2], KEYS[4]) " +
+            "else " +
+            "    redis.call('del', KEYS[3], KEYS[4]) " +
+            "end " +
+            "redis.call('set', KEYS[5], '1', 'EX', ARGV[1]) " +
+            "return 1";
+
+    /**
+     * 자기 토큰일 때만 재구성 락 삭제 — 재구성이 TTL을 넘겨 다른 인스턴스가 잡은 락은 지우지 않는다
+     * KEYS[1]=lock / ARGV[1]=token
+     */
+    private static final String RELEASE_LOCK_SCRIPT =
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) end " +
+            "return 0";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MemberSolvedProblemRepository memberSolvedProblemRepository;
+
+    /**
+     * 랭킹 항목 (풀이 수 내림차순, 핸들 오름차순 정렬 기준의 한 칸)
+     */
+    public record Entry(String handle, long solvedCount) {}
+
+    /**
+     * 랭킹 페이지
+     *
+     * @param entries     offset부터 정렬된 항목
+     * @param higherCount 첫 항목보다 많이 푼 인원 수 (첫 항목 순위 = higherCount + 1)
+     * @param totalCount  랭킹 대상 전체 인원 수
+     */
+    public record Page(List<Entry> entries, long higherCount, long totalCount) {}
+
+    /**
+     * 특정 회원의 랭킹 위치
+     *
+     * @param rank 공동 순위 (나보다 많이 푼 인원 + 1)
+     */
+    public record Position(long solvedCount, long rank, long totalCount) {}
+
+    /**
+     * offset부터 limit명 조회 — O(log N + limit)
+     *
+     * @return 랭킹 페이지, Redis 장애 또는 재구성 불가 시 empty
+     */
+    public Optional<Page> findPage(int offset, int limit) {
+        try {
+            if (!ensureBuilt()) {
+                return Optional.empty();
+            }
+
+            @SuppressWarnings("unchecked")
+            List<String> flat = (List<String>) redisTemplate.execute(
+                    RedisScript.of(READ_PAGE_SCRIPT, List.class),
+                    List.of(RANKING_KEY),
+                    String.valueOf(offset), String.valueOf(offset + limit - 1));
+            if (flat == null || flat.size() < 2) {
+                return Optional.empty();
+            }
+
+            List<Entry> entries = new ArrayList<>();
+            for (int i = 2; i + 1 < flat.size(); i += 2) {
+                entries.add(new Entry(handleOf(flat.get(i)), solvedCountOf(flat.get(i + 1))));
+            }
+            return Optional.of(new Page(entries, Long.parseLong(flat.get(1)), Long.parseLong(flat.get(0))));
+        } catch (Exception e) {
+            log.warn("Redis 전체 랭킹 조회 실패 — DB 집계로 대체합니다", e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 회원의 순위 조회 — O(log N)
+     *
+     * @return 순위, 랭킹에 없거나 Redis 장애 시 empty
+     */
+    public Optional<Position> findPosition(Long memberId) {
+        try {
+            if (!ensureBuilt()) {
+                return Optional.empty();
+            }
+
+            @SuppressWarnings("unchecked")
+            List<String> flat = (List<String>) redisTemplate.execute(
+                    RedisScript.of(READ_MEMBER_SCRIPT, List.class),
+                    List.of(ENTRIES_KEY, RANKING_KEY),
+                    String.valueOf(memberId));
+            if (flat == null || flat.size() < 3) {
+                return Optional.empty();
+            }
+            return Optional.of(new Position(
+                    solvedCountOf(flat.get(0)), Long.parseLong(flat.get(1)) + 1, Long.parseLong(flat.get(2))));
+        } catch (Exception e) {
+            log.warn("Redis 회원 {} 순위 조회 실패 — DB 집계로 대체합니다", memberId, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 문제 인증 반영 — 인증 트랜잭션 커밋 후 호출한다.
+     * 실패해도 인증 결과에는 영향이 없고 재구성 배치가 보정한다.
+     */
+    public void recordSolved(Long memberId) {
+        try {
+            redisTemplate.execute(
+                    RedisScript.of(INCREMENT_SCRIPT, Long.class),
+                    List.of(BUILT_KEY, ENTRIES_KEY, RANKING_KEY),
+                    String.valueOf(memberId));
+        } catch (Exception e) {
+            log.warn("Redis 전체 랭킹 풀이 반영 실패 (memberId={})", memberId, e);
+        }
+    }
+
+    /**
+     * 핸들 등록·변경 반영 (커밋 이후)
+     */
+    public void changeHandle(Long memberId, String handle) {
+        TransactionUtils.runAfterCommit(() -> {
+            try {
+                redisTemplate.execute(
+                        RedisScript.of(UPSERT_SCRIPT, Long.class),
+                        List.of(BUILT_KEY, ENTRIES_KEY, RANKING_KEY),
+                        String.valueOf(memberId), memberOf(handle, memberId));
+            } catch (Exception e) {
+                log.warn("Redis 전체 랭킹 핸들 반영 실패 (memberId={}) — 재구성 배치에서 보정됩니다", memberId, e);
+            }
+        });
+    }
+
+    /**
+     * 회원 탈퇴 반영 (커밋 이후)
+     */
+    public void remove(Long memberId) {
+        TransactionUtils.runAfterCommit(() -> {
+            try {
+                redisTemplate.execute(
+                        RedisScript.of(REMOVE_SCRIPT, Long.class),
+                        List.of(ENTRIES_KEY, RANKING_KEY),
+                        String.valueOf(memberId));
+            } catch (Exception e) {
+                log.warn("Redis 전체 랭킹 제거 실패 (memberId={}) — 재구성 배치에서 보정됩니다", memberId, e);
+            }
+        });
+    }
+
+    /**
+     * DB 기준으로 전체 랭킹 재구성
+     * 임시 키에 나눠 적재한 뒤 한 번에 교체해 재구성 중에도 이전 랭킹을 그대로 제공한다.
+     * DB 조회 이후 교체 전까지 반영된 풀이는 다음 재구성에서 보정된다.
+     *
+     * @return 재구성 여부 (다른 인스턴스가 재구성 중이면 false)
+     */
+    public boolean rebuild() {
+        String token = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue()
+                .setIfAbsent(REBUILD_LOCK_KEY, token, REBUILD_LOCK_TTL))) {
+            return false;
+        }
+
+        try {
+            List<MemberSolvedSummaryProjection> entries = memberSolvedProblemRepository.findAllRankingEntries();
+            redisTemplate.delete(List.of(REBUILD_RANKING_KEY, REBUILD_ENTRIES_KEY));
+
+            for (int from = 0; from < entries.size(); from += REBUILD_BATCH_SIZE) {
+                List<MemberSolvedSummaryProjection> batch =
+                        entries.subList(from, Math.min(from + REBUILD_BATCH_SIZE, entries.size()));
+                Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+                Map<String, String> members = new HashMap<>();
+                for (MemberSolvedSummaryProjection entry : batch) {
+                    String member = memberOf(entry.getHandle(), entry.getMemberId());
+                    tuples.add(ZSetOperations.TypedTuple.of(member, -entry.getTotalSolved().doubleValue()));
+                    members.put(String.valueOf(entry.getMemberId()), member);
+                }
+                redisTemplate.opsForZSet().add(REBUILD_RANKING_KEY, tuples);
+                redisTemplate.opsForHash().putAll(REBUILD_ENTRIES_KEY, members);
+            }
+
+            redisTemplate.execute(
+                    RedisScript.of(SWAP_SCRIPT, Long.class),
+                    List.of(REBUILD_RANKING_KEY, REBUILD_ENTRIES_KEY, RANKING_KEY, ENTRIES_KEY, BUILT_KEY),
+                    String.valueOf(BUILT_TTL.toSeconds()));
+            log.debug("Redis 전체 랭킹 재구성 완료 ({}명)", entries.size());
+            return true;
+        } finally {
+            redisTemplate.execute(RedisScript.of(RELEASE_LOCK_SCRIPT, Long.class), List.of(REBUILD_LOCK_KEY), token);
+        }
+    }
+
+    private boolean ensureBuilt() {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(BUILT_KEY)) || rebuild();
+    }
+
+    private static String memberOf(String handle, Long memberId) {
+        return handle + MEMBER_SEPARATOR + memberId;
+    }
+
+    private static String handleOf(String member) {
+        return member.substring(0, member.lastIndexOf(MEMBER_SEPARATOR));
+    }
+
+    private static long solvedCountOf(String score) {
+        return -(long) Double.parseDouble(score);
+    }
+}
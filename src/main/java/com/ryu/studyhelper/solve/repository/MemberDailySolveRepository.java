@@ -0,0 +1,31 @@
+package com.ryu.studyhelper.solve.repository;
+
+import com.ryu.studyhelper.solve.domain.MemberDailySolve;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface MemberDailySolveRepository extends JpaRepository<MemberDailySolve, Long> {
+
+    /**
+     * 히트맵 조회 — uk_member_daily_solve(member_id, solve_date) 범위 스캔
+     * 풀이가 있는 날짜의 행만 반환된다.
+     */
+    List<MemberDailySolve> findByMemberIdAndSolveDateBetween(Long memberId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * 문제 인증 시 해당 날짜 풀이 수 +1 — 행이 없으면 1로 만든다.
+     * uk_member_daily_solve에 기대는 단일 문장이라 그날 첫 풀이가 동시에 들어와도
+     * 한쪽이 유니크 제약 위반으로 실패하거나 증가분을 잃지 않는다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO member_daily_solve (created_at, modified_at, member_id, solve_date, solved_count) " +
+            "VALUES (CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, :memberId, :solveDate, 1) " +
+            "ON DUPLICATE KEY UPDATE solved_count = solved_count + 1, modified_at = CURRENT_TIMESTAMP",
+            nativeQuery = true)
+    void upsertSolvedCount(@Param("memberId") Long memberId, @Param("solveDate") LocalDate solveDate);
+}
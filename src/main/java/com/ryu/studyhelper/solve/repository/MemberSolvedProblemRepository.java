@@ -3,6 +3,7 @@ package com.ryu.studyhelper.solve.repository;
 import com.ryu.studyhelper.solve.domain.MemberSolvedProblem;
 import com.ryu.studyhelper.solve.dto.projection.GlobalRankingProjection;
 import com.ryu.studyhelper.solve.dto.projection.MemberSolvedSummaryProjection;
+import com.ryu.studyhelper.solve.dto.projection.SolvedProblemIdProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -25,6 +26,18 @@ public interface MemberSolvedProblemRepository extends JpaRepository<MemberSolve
     List<MemberSolvedProblem> findByMemberIdAndSolvedAtGreaterThanEqualAndSolvedAtLessThanOrderBySolvedAtAsc(
             Long memberId, LocalDateTime start, LocalDateTime end);
 
+    /**
+     * 기간 내 풀이 기록을 문제와 함께 조회 (하루 단위 상세 조회용)
+     * @return 풀이 시각 오름차순
+     */
+    @Query("SELECT msp FROM MemberSolvedProblem msp JOIN FETCH msp.problem " +
+            "WHERE msp.member.id = :memberId AND msp.solvedAt >= :start AND msp.solvedAt < :end " +
+            "ORDER BY msp.solvedAt ASC")
+    List<MemberSolvedProblem> findWithProblemByMemberIdAndSolvedAtRange(
+            @Param("memberId") Long memberId,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end
+    );
 
     /**
      * 여러 멤버의 특정 문제들에 대한 풀이 여부 조회
@@ -38,6 +51,19 @@ public interface MemberSolvedProblemRepository extends JpaRepository<MemberSolve
             @Param("problemIds") List<Long> problemIds
     );
 
+    /**
+     * 여러 멤버의 특정 문제들에 대한 풀이 여부를 ID 쌍으로 조회 (엔티티 적재 없음)
+     * @param memberIds 멤버 ID 목록
+     * @param problemIds 문제 ID 목록
+     * @return (memberId, problemId) 목록
+     */
+    @Query("SELECT msp.member.id AS memberId, msp.problem.id AS problemId FROM MemberSolvedProblem msp " +
+            "WHERE msp.member.id IN :memberIds AND msp.problem.id IN :problemIds")
+    List<SolvedProblemIdProjection> findSolvedProblemIds(
+            @Param("memberIds") List<Long> memberIds,
+            @Param("problemIds") List<Long> problemIds
+    );
+
     /**
      * 멤버별 특정 문제들에 대한 풀이 수 집계 (팀 추천 문제 기준 리더보드용)
      * @param memberIds 멤버 ID 목록
@@ -73,4 +99,51 @@ public interface MemberSolvedProblemRepository extends JpaRepository<MemberSolve
             LIMIT :limit
             """)
     List<GlobalRankingProjection> findGlobalRanking(@Param("limit") int limit);
+
+    /**
+     * 전체 랭킹 페이지 조회 (Redis 랭킹 장애 시 대체용)
+     * @param limit 페이지 크기
+     * @param offset 건너뛸 인원 수
+     * @return 핸들이 있는 멤버 중 풀이 수 기준 offset부터 limit명 (풀이 수 내림차순, 핸들 오름차순)
+     */
+    @Query("""
+            SELECT m.handle AS handle, COUNT(msp.id) AS totalSolved
+            FROM Member m
+            LEFT JOIN MemberSolvedProblem msp ON msp.member.id = m.id
+            WHERE m.handle IS NOT NULL
+            GROUP BY m.id, m.handle
+            ORDER BY COUNT(msp.id) DESC, m.handle ASC
+            LIMIT :limit OFFSET :offset
+            """)
+    List<GlobalRankingProjection> findGlobalRankingPage(@Param("limit") int limit, @Param("offset") int offset);
+
+    /**
+     * 전체 랭킹 대상 전원 조회 (Redis 랭킹 재구성용)
+     * @return 핸들이 있는 멤버별 (memberId, handle, 풀이 수)
+     */
+    @Query("""
+            SELECT m.id AS memberId, m.handle AS handle, COUNT(msp.id) AS totalSolved
+            FROM Member m
+            LEFT JOIN MemberSolvedProblem msp ON msp.member.id = m.id
+            WHERE m.handle IS NOT NULL
+            GROUP BY m.id, m.handle
+            """)
+    List<MemberSolvedSummaryProjection> findAllRankingEntries();
+
+    /**
+     * 전체 랭킹 대상 인원 수
+     */
+    @Query("SELECT COUNT(m) FROM Member m WHERE m.handle IS NOT NULL")
+    long countRankedMembers();
+
+    /**
+     * 주어진 풀이 수보다 많이 푼 랭킹 대상 인원 수 (공동 순위 계산용)
+     * @param solvedCount 기준 풀이 수
+     */
+    @Query("""
+            SELECT COUNT(m) FROM Member m
+            WHERE m.handle IS NOT NULL
+            AND (SELECT COUNT(msp.id) FROM MemberSolvedProblem msp WHERE msp.member.id = m.id) > :solvedCount
+            """)
+    long countRankedMembersSolvedMoreThan(@Param("solvedCount") long solvedCount);
 }
@@ -0,0 +1,34 @@
+package com.ryu.studyhelper.solve.scheduler;
+
+import com.ryu.studyhelper.solve.ranking.GlobalRankingStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 전체 랭킹 재구성 스케줄러
+ * - 매시 30분: member_solved_problem 기준으로 전체 랭킹을 재구성
+ * 증가 반영 누락·중복(커밋 후 반영 실패, 재구성과 증가 경합 등)으로 생긴 편차를 한 시간 단위로 보정한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GlobalRankingRebuildScheduler {
+
+    private final GlobalRankingStore globalRankingStore;
+
+    @Scheduled(cron = "0 30 * * * *", zone = "Asia/Seoul")
+    public void rebuild() {
+        log.info("=== 전체 랭킹 재구성 배치 작업 시작 ===");
+
+        long startTime = System.currentTimeMillis();
+        try {
+            boolean rebuilt = globalRankingStore.rebuild();
+            log.info("=== 전체 랭킹 재구성 배치 작업 완료 === (재구성 {}, 소요시간: {}ms)",
+                    rebuilt ? "완료" : "생략 — 다른 인스턴스에서 진행 중", System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("전체 랭킹 재구성 실패", e);
+        }
+    }
+}
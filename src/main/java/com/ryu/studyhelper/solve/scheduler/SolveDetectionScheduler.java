@@ -0,0 +1,70 @@
+package com.ryu.studyhelper.solve.scheduler;
+
+import com.ryu.studyhelper.common.MissionCyclePolicy;
+import com.ryu.studyhelper.solve.verification.SolveDetector;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 추천 문제 풀이 자동 감지 스케줄러
+ * 5분마다 깨어나 미션 마감(오전 6시)까지 남은 시간에 따라 실행 여부를 정한다.
+ * - 마감 1시간 이내: 5분마다
+ * - 마감 6시간 이내: 10분마다
+ * - 그 외: 30분마다
+ * 마감이 가까울수록 자주 확인해 당일 풀이가 미션 날짜 안에 반영되도록 한다.
+ */
+@Component
+@ConditionalOnProperty(name = "solve.detection.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class SolveDetectionScheduler {
+
+    private final SolveDetector solveDetector;
+    private final Clock clock;
+
+    @Scheduled(cron = "0 */5 * * * *", zone = "Asia/Seoul")
+    public void detect() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        if (!isDue(now)) {
+            return;
+        }
+
+        log.info("=== 풀이 자동 감지 배치 작업 시작 ===");
+
+        long startTime = System.currentTimeMillis();
+        try {
+            SolveDetector.Result result = solveDetector.detect(MissionCyclePolicy.toMissionDate(now));
+            log.info("=== 풀이 자동 감지 배치 작업 완료 === (대상 핸들: {}, 확인: {}, 기록: {}, 소요시간: {}ms)",
+                    result.handleCount(), result.checkedCount(), result.recordedCount(),
+                    System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("풀이 자동 감지 실패", e);
+        }
+    }
+
+    /**
+     * 미션 마감까지 남은 시간에 따른 실행 주기 판단
+     */
+    static boolean isDue(LocalDateTime now) {
+        LocalDateTime cycleEnd = MissionCyclePolicy.toMissionDate(now).plusDays(1)
+                .atTime(MissionCyclePolicy.MISSION_RESET_TIME);
+        Duration remaining = Duration.between(now, cycleEnd);
+
+        int intervalMinutes;
+        if (remaining.compareTo(Duration.ofHours(1)) <= 0) {
+            intervalMinutes = 5;
+        } else if (remaining.compareTo(Duration.ofHours(6)) <= 0) {
+            intervalMinutes = 10;
+        } else {
+            intervalMinutes = 30;
+        }
+        return (now.getHour() * 60 + now.getMinute()) % intervalMinutes == 0;
+    }
+}
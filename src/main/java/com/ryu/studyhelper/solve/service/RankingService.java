@@ -1,7 +1,14 @@
 package com.ryu.studyhelper.solve.service;
 
+import com.ryu.studyhelper.common.enums.CustomResponseStatus;
+import com.ryu.studyhelper.common.exception.CustomException;
+import com.ryu.studyhelper.member.domain.Member;
+import com.ryu.studyhelper.member.repository.MemberRepository;
 import com.ryu.studyhelper.solve.dto.projection.GlobalRankingProjection;
+import com.ryu.studyhelper.solve.dto.response.GlobalRankingPageResponse;
 import com.ryu.studyhelper.solve.dto.response.GlobalRankingResponse;
+import com.ryu.studyhelper.solve.dto.response.MyRankingResponse;
+import com.ryu.studyhelper.solve.ranking.GlobalRankingStore;
 import com.ryu.studyhelper.solve.repository.MemberSolvedProblemRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -10,50 +17,131 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * 전체 랭킹 조회 서비스
+ * Redis 랭킹(GlobalRankingStore)을 우선 사용하고, 장애 시 DB 집계로 대체한다.
+ */
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class RankingService {
 
     private static final int DEFAULT_RANKING_LIMIT = 10;
+    private static final int MAX_PAGE_SIZE = 100;
 
     private final MemberSolvedProblemRepository memberSolvedProblemRepository;
+    private final MemberRepository memberRepository;
+    private final GlobalRankingStore globalRankingStore;
 
     /**
      * 전체 랭킹 조회 (상위 10명)
      */
     public GlobalRankingResponse getGlobalRanking() {
-        List<GlobalRankingProjection> projections =
-                memberSolvedProblemRepository.findGlobalRanking(DEFAULT_RANKING_LIMIT);
-
-        List<GlobalRankingResponse.RankEntry> rankings = assignRanks(projections);
+        List<GlobalRankingResponse.RankEntry> rankings = globalRankingStore.findPage(0, DEFAULT_RANKING_LIMIT)
+                .map(page -> assignRanks(page.entries(), 0, page.higherCount() + 1))
+                .orElseGet(() -> assignRanks(
+                        toEntries(memberSolvedProblemRepository.findGlobalRanking(DEFAULT_RANKING_LIMIT)), 0, 1));
 
         return GlobalRankingResponse.from(rankings);
     }
 
+    /**
+     * 전체 랭킹 페이지 조회
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기 (1~100)
+     */
+    public GlobalRankingPageResponse getGlobalRankingPage(int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new CustomException(CustomResponseStatus.INVALID_RANKING_PAGE);
+        }
+
+        int offset = Math.multiplyExact(page, size);
+        GlobalRankingStore.Page rankingPage = globalRankingStore.findPage(offset, size)
+                .orElseGet(() -> loadPage(offset, size));
+
+        return new GlobalRankingPageResponse(
+                assignRanks(rankingPage.entries(), offset, rankingPage.higherCount() + 1),
+                page,
+                size,
+                rankingPage.totalCount()
+        );
+    }
+
+    /**
+     * 내 순위 조회 (핸들 미등록 회원은 순위 없음)
+     */
+    public MyRankingResponse getMyRanking(Long memberId) {
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new CustomException(CustomResponseStatus.MEMBER_NOT_FOUND));
+
+        if (member.getHandle() == null) {
+            return MyRankingResponse.unranked(memberSolvedProblemRepository.countRankedMembers());
+        }
+
+        GlobalRankingStore.Position position = globalRankingStore.findPosition(memberId)
+                .orElseGet(() -> loadPosition(memberId));
+
+        return new MyRankingResponse(
+                member.getHandle(),
+                Math.toIntExact(position.rank()),
+                position.solvedCount(),
+                position.totalCount()
+        );
+    }
+
+    /**
+     * DB 집계로 랭킹 페이지 조회 (Redis 장애 시)
+     */
+    private GlobalRankingStore.Page loadPage(int offset, int size) {
+        List<GlobalRankingStore.Entry> entries =
+                toEntries(memberSolvedProblemRepository.findGlobalRankingPage(size, offset));
+        long higherCount = offset == 0 || entries.isEmpty()
+                ? 0
+                : memberSolvedProblemRepository.countRankedMembersSolvedMoreThan(entries.get(0).solvedCount());
+
+        return new GlobalRankingStore.Page(entries, higherCount, memberSolvedProblemRepository.countRankedMembers());
+    }
+
+    /**
+     * DB 집계로 회원 순위 조회 (Redis 장애 또는 랭킹 미반영 시)
+     */
+    private GlobalRankingStore.Position loadPosition(Long memberId) {
+        long solvedCount = memberSolvedProblemRepository.countByMemberId(memberId);
+        long higherCount = memberSolvedProblemRepository.countRankedMembersSolvedMoreThan(solvedCount);
+
+        return new GlobalRankingStore.Position(
+                solvedCount, higherCount + 1, memberSolvedProblemRepository.countRankedMembers());
+    }
+
+    private List<GlobalRankingStore.Entry> toEntries(List<GlobalRankingProjection> projections) {
+        return projections.stream()
+                .map(projection -> new GlobalRankingStore.Entry(projection.getHandle(), projection.getTotalSolved()))
+                .toList();
+    }
+
     /**
      * 순위 부여 (동점자 처리: 공동 2위 2명이면 다음은 4위)
+     * @param offset 첫 항목의 전체 위치 (0부터 시작)
+     * @param firstRank 첫 항목의 순위 — 이전 페이지와 동점일 수 있어 별도로 계산해 전달
      */
-    private List<GlobalRankingResponse.RankEntry> assignRanks(List<GlobalRankingProjection> projections) {
+    private List<GlobalRankingResponse.RankEntry> assignRanks(
+            List<GlobalRankingStore.Entry> entries, int offset, long firstRank) {
         List<GlobalRankingResponse.RankEntry> rankings = new ArrayList<>();
 
-        int currentRank = 1;
+        int currentRank = Math.toIntExact(firstRank);
         long previousSolved = -1;
-        int sameRankCount = 0;
 
-        for (GlobalRankingProjection projection : projections) {
-            long totalSolved = projection.getTotalSolved();
+        for (int i = 0; i < entries.size(); i++) {
+            GlobalRankingStore.Entry entry = entries.get(i);
+            long totalSolved = entry.solvedCount();
 
-            if (totalSolved != previousSolved) {
-                currentRank += sameRankCount;
-                sameRankCount = 1;
-            } else {
-                sameRankCount++;
+            if (i > 0 && totalSolved != previousSolved) {
+                currentRank = offset + i + 1;
             }
 
             rankings.add(new GlobalRankingResponse.RankEntry(
                     currentRank,
-                    projection.getHandle(),
+                    entry.handle(),
                     totalSolved
             ));
 
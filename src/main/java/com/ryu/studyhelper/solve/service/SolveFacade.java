@@ -4,30 +4,57 @@ import com.ryu.studyhelper.common.enums.CustomResponseStatus;
 import com.ryu.studyhelper.common.exception.CustomException;
 import com.ryu.studyhelper.infrastructure.solvedac.SolvedAcClient;
 import com.ryu.studyhelper.solve.dto.response.DailySolvedResponse;
+import com.ryu.studyhelper.solve.dto.response.SolveHeatmapResponse;
+import com.ryu.studyhelper.solve.ranking.GlobalRankingStore;
+import com.ryu.studyhelper.solve.verification.SolveVerificationCoalescer;
+import com.ryu.studyhelper.team.activity.TeamActivityVersion;
+import com.ryu.studyhelper.team.leaderboard.TeamLeaderboardStore;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
+
 @Service
 @RequiredArgsConstructor
 public class SolveFacade {
 
     private final SolveService solveService;
     private final SolvedAcClient solvedAcClient;
+    private final TeamLeaderboardStore teamLeaderboardStore;
+    private final TeamActivityVersion teamActivityVersion;
+    private final GlobalRankingStore globalRankingStore;
+    private final SolveVerificationCoalescer solveVerificationCoalescer;
 
     /**
      * 문제 해결 인증
      * SolvedAC 호출 구간에서 DB 커넥션을 점유하지 않도록 트랜잭션을 분리
+     * 같은 (회원, 문제) 인증이 동시에 들어오면 한 번만 실행하고 결과를 공유한다.
      */
     public void verifyProblemSolved(Long memberId, Long problemId) {
+        solveVerificationCoalescer.execute(memberId, problemId, () -> verify(memberId, problemId));
+    }
+
+    private void verify(Long memberId, Long problemId) {
         String handle = solveService.validateAndGetHandle(memberId, problemId); // 트랜잭션 종료 → 커넥션 반환
         boolean isSolved = solvedAcClient.hasUserSolvedProblem(handle, problemId); // 커넥션 없음
         if (!isSolved) {
             throw new CustomException(CustomResponseStatus.PROBLEM_NOT_SOLVED_YET);
         }
         solveService.recordSolved(memberId, problemId); // 새 트랜잭션 → 커넥션 재획득
+        teamLeaderboardStore.recordSolved(memberId, problemId); // 커밋 이후 Redis 리더보드 반영
+        teamActivityVersion.bumpForMember(memberId); // 소속 팀 활동 스냅샷 무효화
+        globalRankingStore.recordSolved(memberId); // 커밋 이후 Redis 전체 랭킹 반영
     }
 
     public DailySolvedResponse getDailySolved(Long memberId, int days) {
         return solveService.getDailySolved(memberId, days);
     }
+
+    public SolveHeatmapResponse getSolveHeatmap(Long memberId, int days) {
+        return solveService.getSolveHeatmap(memberId, days);
+    }
+
+    public DailySolvedResponse.DailySolved getDailySolvedProblems(Long memberId, LocalDate date) {
+        return solveService.getDailySolvedProblems(memberId, date);
+    }
 }
@@ -6,10 +6,16 @@ import com.ryu.studyhelper.member.domain.Member;
 import com.ryu.studyhelper.member.repository.MemberRepository;
 import com.ryu.studyhelper.problem.domain.Problem;
 import com.ryu.studyhelper.problem.repository.ProblemRepository;
-import com.ryu.studyhelper.recommendation.repository.MemberRecommendationRepository;
+import com.ryu.studyhelper.solve.domain.MemberDailySolve;
 import com.ryu.studyhelper.solve.domain.MemberSolvedProblem;
+import com.ryu.studyhelper.solve.dto.projection.SolvedProblemIdProjection;
 import com.ryu.studyhelper.solve.dto.response.DailySolvedResponse;
+import com.ryu.studyhelper.solve.dto.response.SolveHeatmapResponse;
+import com.ryu.studyhelper.solve.repository.MemberDailySolveRepository;
 import com.ryu.studyhelper.solve.repository.MemberSolvedProblemRepository;
+import com.ryu.studyhelper.solve.verification.RecommendedProblemIndex;
+import com.ryu.studyhelper.team.service.MemberMissionStatService;
+import com.ryu.studyhelper.team.service.TeamActivityChangeService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
@@ -19,8 +25,8 @@ import java.time.Clock;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -28,8 +34,11 @@ public class SolveService {
 
     private final MemberRepository memberRepository;
     private final ProblemRepository problemRepository;
-    private final MemberRecommendationRepository memberRecommendationRepository;
     private final MemberSolvedProblemRepository memberSolvedProblemRepository;
+    private final MemberMissionStatService memberMissionStatService;
+    private final TeamActivityChangeService teamActivityChangeService;
+    private final MemberDailySolveRepository memberDailySolveRepository;
+    private final RecommendedProblemIndex recommendedProblemIndex;
     private final Clock clock;
 
     private static final int MAX_DAILY_SOLVED_DAYS = 730;
@@ -44,7 +53,7 @@ public class SolveService {
         }
         problemRepository.findById(problemId)
                 .orElseThrow(() -> new CustomException(CustomResponseStatus.PROBLEM_NOT_FOUND));
-        if (!memberRecommendationRepository.existsByMemberIdAndRecommendedProblemId(memberId, problemId)) {
+        if (!recommendedProblemIndex.isRecommended(memberId, problemId)) {
             throw new CustomException(CustomResponseStatus.PROBLEM_NOT_IN_RECOMMENDATION);
         }
         if (memberSolvedProblemRepository.existsByMemberIdAndProblemId(memberId, problemId)) {
@@ -60,11 +69,59 @@ public class SolveService {
                 .orElseThrow(() -> new CustomException(CustomResponseStatus.MEMBER_NOT_FOUND));
         Problem problem = problemRepository.findById(problemId)
                 .orElseThrow(() -> new CustomException(CustomResponseStatus.PROBLEM_NOT_FOUND));
+        MemberSolvedProblem solved;
         try {
-            memberSolvedProblemRepository.saveAndFlush(MemberSolvedProblem.create(member, problem));
+            solved = memberSolvedProblemRepository.saveAndFlush(MemberSolvedProblem.create(member, problem));
         } catch (DataIntegrityViolationException e) {
             throw new CustomException(CustomResponseStatus.ALREADY_SOLVED);
         }
+        memberMissionStatService.recordSolved(memberId, problemId);
+        recordDailySolve(memberId, getAdjustedDate(solved.getSolvedAt()));
+        // 델타 커서가 created_at으로 안정화를 판단하므로 변경 로그는 마지막에 적재한다
+        teamActivityChangeService.recordSolved(memberId, problemId);
+    }
+
+    /**
+     * 자동 감지된 풀이 일괄 기록 — 한 회원의 여러 문제를 한 트랜잭션에서 저장
+     * 그 사이 버튼 인증으로 기록된 문제는 건너뛴다.
+     * 동시에 같은 문제가 인증되면 유니크 제약 위반으로 전체가 롤백되므로 호출 측에서 건별 기록으로 재시도한다.
+     *
+     * @return 새로 기록한 문제 ID
+     */
+    @Transactional
+    public List<Long> recordDetectedSolves(Long memberId, List<Long> problemIds) {
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new CustomException(CustomResponseStatus.MEMBER_NOT_FOUND));
+
+        Set<Long> alreadySolved = new HashSet<>();
+        memberSolvedProblemRepository.findByMemberIdAndProblemIdIn(memberId, problemIds)
+                .forEach(solved -> alreadySolved.add(solved.getProblem().getId()));
+
+        List<MemberSolvedProblem> newSolves = problemRepository.findAllById(problemIds).stream()
+                .filter(problem -> !alreadySolved.contains(problem.getId()))
+                .map(problem -> MemberSolvedProblem.create(member, problem))
+                .toList();
+        if (newSolves.isEmpty()) {
+            return List.of();
+        }
+        memberSolvedProblemRepository.saveAllAndFlush(newSolves);
+
+        List<Long> recorded = new ArrayList<>();
+        for (MemberSolvedProblem solved : newSolves) {
+            Long problemId = solved.getProblem().getId();
+            memberMissionStatService.recordSolved(memberId, problemId);
+            recordDailySolve(memberId, getAdjustedDate(solved.getSolvedAt()));
+            recorded.add(problemId);
+        }
+        recorded.forEach(problemId -> teamActivityChangeService.recordSolved(memberId, problemId));
+        return recorded;
+    }
+
+    /**
+     * 히트맵 집계 반영 — 그날 첫 풀이면 행을 만들고, 아니면 +1 (단일 upsert)
+     */
+    private void recordDailySolve(Long memberId, LocalDate solveDate) {
+        memberDailySolveRepository.upsertSolvedCount(memberId, solveDate);
     }
 
     @Transactional(readOnly = true)
@@ -89,16 +146,8 @@ public class SolveService {
 
         for (MemberSolvedProblem solved : solvedProblems) {
             LocalDate adjustedDate = getAdjustedDate(solved.getSolvedAt());
-            Problem problem = solved.getProblem();
-
-            DailySolvedResponse.SolvedProblem solvedProblem = new DailySolvedResponse.SolvedProblem(
-                    problem.getId(),
-                    problem.getTitleKo() != null ? problem.getTitleKo() : problem.getTitle(),
-                    problem.getLevel()
-            );
-
             if (groupedByDate.containsKey(adjustedDate)) {
-                groupedByDate.get(adjustedDate).add(solvedProblem);
+                groupedByDate.get(adjustedDate).add(toSolvedProblem(solved.getProblem()));
             }
         }
 
@@ -117,23 +166,65 @@ public class SolveService {
         return new DailySolvedResponse(dailySolvedList, totalCount);
     }
 
+    /**
+     * 풀이 히트맵 조회 — 일별 풀이 수만 반환 (문제 목록 없음)
+     * 집계 테이블에서 풀이가 있는 날짜만 읽으므로 풀이 건수와 무관하게 O(일수)
+     */
+    @Transactional(readOnly = true)
+    public SolveHeatmapResponse getSolveHeatmap(Long memberId, int days) {
+        if (days < 1 || days > MAX_DAILY_SOLVED_DAYS) {
+            throw new CustomException(CustomResponseStatus.INVALID_DAYS_RANGE);
+        }
+
+        LocalDate today = getAdjustedDate(LocalDateTime.now(clock));
+        LocalDate startDate = today.minusDays(days - 1);
+
+        Integer[] counts = new Integer[days];
+        Arrays.fill(counts, 0);
+        int totalCount = 0;
+        for (MemberDailySolve daily : memberDailySolveRepository
+                .findByMemberIdAndSolveDateBetween(memberId, startDate, today)) {
+            counts[(int) ChronoUnit.DAYS.between(startDate, daily.getSolveDate())] = daily.getSolvedCount();
+            totalCount += daily.getSolvedCount();
+        }
+
+        return new SolveHeatmapResponse(startDate.toString(), today.toString(), Arrays.asList(counts), totalCount);
+    }
+
+    /**
+     * 하루(오전 6시 기준) 풀이 문제 상세 조회 — 히트맵에서 날짜를 선택했을 때 사용
+     */
+    @Transactional(readOnly = true)
+    public DailySolvedResponse.DailySolved getDailySolvedProblems(Long memberId, LocalDate date) {
+        List<DailySolvedResponse.SolvedProblem> problems = memberSolvedProblemRepository
+                .findWithProblemByMemberIdAndSolvedAtRange(
+                        memberId, date.atTime(LocalTime.of(6, 0)), date.plusDays(1).atTime(LocalTime.of(6, 0)))
+                .stream()
+                .map(solved -> toSolvedProblem(solved.getProblem()))
+                .toList();
+
+        return new DailySolvedResponse.DailySolved(date.toString(), problems.size(), problems);
+    }
+
     @Transactional(readOnly = true)
     public long countByMemberId(Long memberId) {
         return memberSolvedProblemRepository.countByMemberId(memberId);
     }
 
     @Transactional(readOnly = true)
-    public Map<Long, Set<Long>> getSolvedProblemIdMap(List<Long> memberIds, Collection<Long> problemIds) {
+    public List<SolvedProblemIdProjection> getSolvedProblemIds(List<Long> memberIds, Collection<Long> problemIds) {
         if (memberIds.isEmpty() || problemIds.isEmpty()) {
-            return Map.of();
+            return List.of();
         }
-        return memberSolvedProblemRepository
-                .findByMemberIdsAndProblemIds(memberIds, new ArrayList<>(problemIds))
-                .stream()
-                .collect(Collectors.groupingBy(
-                        msp -> msp.getMember().getId(),
-                        Collectors.mapping(msp -> msp.getProblem().getId(), Collectors.toSet())
-                ));
+        return memberSolvedProblemRepository.findSolvedProblemIds(memberIds, new ArrayList<>(problemIds));
+    }
+
+    private DailySolvedResponse.SolvedProblem toSolvedProblem(Problem problem) {
+        return new DailySolvedResponse.SolvedProblem(
+                problem.getId(),
+                problem.getTitleKo() != null ? problem.getTitleKo() : problem.getTitle(),
+                problem.getLevel()
+        );
     }
 
     private LocalDate getAdjustedDate(LocalDateTime dateTime) {
@@ -0,0 +1,130 @@
+package com.ryu.studyhelper.solve.service;
+
+import com.ryu.studyhelper.common.enums.CustomResponseStatus;
+import com.ryu.studyhelper.common.exception.CustomException;
+import com.ryu.studyhelper.solve.dto.response.VerificationJobResponse;
+import com.ryu.studyhelper.solve.verification.VerificationJob;
+import com.ryu.studyhelper.solve.verification.VerificationJobNotifier;
+import com.ryu.studyhelper.solve.verification.VerificationJobStore;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비동기 문제 인증
+ * 요청 스레드(Tomcat)는 작업을 접수만 하고 바로 반환하며, 인증(solved.ac 확인 → 풀이 기록)은 전용 스레드 풀에서 실행한다.
+ * solved.ac 장애로 재시도가 길어져도 Tomcat 스레드는 묶이지 않고, 밀린 작업은 큐 크기까지만 받는다.
+ * 결과는 상태 조회 API(폴링) 또는 SSE로 확인한다.
+ */
+@Service
+@Slf4j
+public class SolveVerificationJobService {
+
+    private static final int CORE_POOL_SIZE = 4;
+    private static final int MAX_POOL_SIZE = 8;
+    private static final int QUEUE_CAPACITY = 100;
+
+    private final SolveFacade solveFacade;
+    private final VerificationJobStore verificationJobStore;
+    private final VerificationJobNotifier verificationJobNotifier;
+    private final ExecutorService executor;
+
+    @Autowired
+    public SolveVerificationJobService(SolveFacade solveFacade,
+                                       VerificationJobStore verificationJobStore,
+                                       VerificationJobNotifier verificationJobNotifier) {
+        this(solveFacade, verificationJobStore, verificationJobNotifier, new ThreadPoolExecutor(
+                CORE_POOL_SIZE, MAX_POOL_SIZE, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                new CustomizableThreadFactory("solve-verify-"),
+                new ThreadPoolExecutor.AbortPolicy()));
+    }
+
+    SolveVerificationJobService(SolveFacade solveFacade,
+                                VerificationJobStore verificationJobStore,
+                                VerificationJobNotifier verificationJobNotifier,
+                                ExecutorService executor) {
+        this.solveFacade = solveFacade;
+        this.verificationJobStore = verificationJobStore;
+        this.verificationJobNotifier = verificationJobNotifier;
+        this.executor = executor;
+    }
+
+    /**
+     * 인증 작업 접수
+     * @throws CustomException VERIFICATION_QUEUE_FULL — 대기 작업이 큐 크기를 넘은 경우
+     */
+    public VerificationJobResponse submit(Long memberId, Long problemId) {
+        VerificationJob job = VerificationJob.pending(UUID.randomUUID().toString(), memberId, problemId);
+        verificationJobStore.save(job);
+
+        try {
+            executor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            log.warn("인증 작업 큐 포화 — 접수 거부 (memberId={}, problemId={})", memberId, problemId);
+            verificationJobStore.save(job.failed(CustomResponseStatus.VERIFICATION_QUEUE_FULL));
+            throw new CustomException(CustomResponseStatus.VERIFICATION_QUEUE_FULL);
+        }
+        return VerificationJobResponse.from(job);
+    }
+
+    /**
+     * 작업 상태 조회 (본인 작업만)
+     */
+    public VerificationJobResponse getJob(Long memberId, String jobId) {
+        return VerificationJobResponse.from(findOwnJob(memberId, jobId));
+    }
+
+    /**
+     * 작업 결과 SSE 구독 (본인 작업만)
+     */
+    public SseEmitter subscribe(Long memberId, String jobId) {
+        return verificationJobNotifier.subscribe(findOwnJob(memberId, jobId));
+    }
+
+    private void run(VerificationJob job) {
+        VerificationJob finished;
+        try {
+            verificationJobStore.save(job.running());
+            solveFacade.verifyProblemSolved(job.memberId(), job.problemId());
+            finished = job.succeeded();
+        } catch (CustomException e) {
+            finished = job.failed(e.getStatus());
+        } catch (Exception e) {
+            log.error("인증 작업 {} 실행 실패", job.jobId(), e);
+            finished = job.failed(CustomResponseStatus.INTERNAL_SERVER_ERROR);
+        }
+
+        try {
+            verificationJobStore.save(finished);
+        } catch (Exception e) {
+            log.warn("인증 작업 {} 결과 저장 실패", job.jobId(), e);
+        }
+        verificationJobNotifier.publish(finished);
+    }
+
+    private VerificationJob findOwnJob(Long memberId, String jobId) {
+        return verificationJobStore.find(jobId)
+                .filter(job -> job.memberId().equals(memberId))
+                .orElseThrow(() -> new CustomException(CustomResponseStatus.VERIFICATION_JOB_NOT_FOUND));
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("인증 작업 스레드 풀 종료 대기 시간 초과 — 남은 작업은 TTL 만료로 정리됩니다");
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.ryu.studyhelper.solve.verification;
+
+import com.ryu.studyhelper.common.util.TransactionUtils;
+import com.ryu.studyhelper.recommendation.repository.MemberRecommendationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 회원별 추천 문제 ID 색인 (Redis SET) — 문제 인증 시 "추천받은 문제인지" 확인용
+ *
+ * 키 구조
+ * - solve:recommended:{memberId}  추천받은 문제 ID SET (TTL 7일, 적재·추가 시 갱신)
+ *
+ * 색인은 "있으면 추천된 문제"만 보장하는 양성 캐시다.
+ * 색인에 없는 문제는 DB로 확인하고, 추천된 문제였다면 색인에 보정해 넣는다.
+ * 추천은 삭제되지 않으므로 한 번 들어간 항목이 틀려지는 일은 없다.
+ * Redis 장애 시에는 DB 조회로 대체한다 (Fail-open).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RecommendedProblemIndex {
+
+    private static final String KEY_PREFIX = "solve:recommended:";
+    private static final Duration TTL = Duration.ofDays(7);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MemberRecommendationRepository memberRecommendationRepository;
+
+    /**
+     * 회원에게 추천된 적 있는 문제인지 확인
+     * - 색인 적중: Redis 조회 1회
+     * - 색인 없음: 회원의 추천 문제 전체를 한 번에 적재
+     * - 색인에 없음: DB 확인 후 추천된 문제면 색인 보정
+     */
+    public boolean isRecommended(Long memberId, Long problemId) {
+        Optional<Boolean> indexed = lookup(memberId, problemId);
+        if (indexed.orElse(false)) {
+            return true;
+        }
+
+        if (indexed.isEmpty()) {
+            List<Long> problemIds = memberRecommendationRepository.findRecommendedProblemIdsByMemberId(memberId);
+            add(memberId, problemIds);
+            return problemIds.contains(problemId);
+        }
+
+        boolean recommended = memberRecommendationRepository.existsByMemberIdAndRecommendedProblemId(memberId, problemId);
+        if (recommended) {
+            add(memberId, List.of(problemId));
+        }
+        return recommended;
+    }
+
+    /**
+     * 추천 저장 반영 — 커밋 이후 멤버별 SET에 문제 ID 추가 (파이프라인 1회)
+     */
+    public void addRecommended(Collection<Long> memberIds, Collection<Long> problemIds) {
+        if (memberIds.isEmpty() || problemIds.isEmpty()) {
+            return;
+        }
+        String[] values = problemIds.stream().map(String::valueOf).toArray(String[]::new);
+
+        TransactionUtils.runAfterCommit(() -> {
+            try {
+                redisTemplate.executePipelined(new SessionCallback<Object>() {
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                        RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                        for (Long memberId : memberIds) {
+                            ops.opsForSet().add(key(memberId), values);
+                            ops.expire(key(memberId), TTL);
+                        }
+                        return null;
+                    }
+                });
+            } catch (Exception e) {
+                log.warn("추천 문제 색인 반영 실패 (회원 {}명) — 인증 시 DB로 확인합니다", memberIds.size(), e);
+            }
+        });
+    }
+
+    /**
+     * @return true: 색인에 있음, false: 색인은 있으나 없음(또는 Redis 장애), empty: 색인 없음
+     */
+    private Optional<Boolean> lookup(Long memberId, Long problemId) {
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(key(memberId), String.valueOf(problemId)))) {
+                return Optional.of(true);
+            }
+            return Boolean.TRUE.equals(redisTemplate.hasKey(key(memberId))) ? Optional.of(false) : Optional.empty();
+        } catch (Exception e) {
+            log.warn("회원 {} 추천 문제 색인 조회 실패 — DB로 확인합니다", memberId, e);
+            return Optional.of(false);
+        }
+    }
+
+    private void add(Long memberId, List<Long> problemIds) {
+        if (problemIds.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.opsForSet().add(key(memberId), problemIds.stream().map(String::valueOf).toArray(String[]::new));
+            redisTemplate.expire(key(memberId), TTL);
+        } catch (Exception e) {
+            log.warn("회원 {} 추천 문제 색인 적재 실패", memberId, e);
+        }
+    }
+
+    private String key(Long memberId) {
+        return KEY_PREFIX + memberId;
+    }
+}
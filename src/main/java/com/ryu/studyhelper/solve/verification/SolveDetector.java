@@ -0,0 +1,195 @@
+package com.ryu.studyhelper.solve.verification;
+
+import com.ryu.studyhelper.common.enums.CustomResponseStatus;
+import com.ryu.studyhelper.common.exception.CustomException;
+import com.ryu.studyhelper.infrastructure.ratelimit.RateLimitType;
+import com.ryu.studyhelper.infrastructure.ratelimit.RateLimiterService;
+import com.ryu.studyhelper.infrastructure.solvedac.SolvedAcClient;
+import com.ryu.studyhelper.recommendation.dto.projection.PendingSolveProjection;
+import com.ryu.studyhelper.recommendation.repository.MemberRecommendationRepository;
+import com.ryu.studyhelper.solve.ranking.GlobalRankingStore;
+import com.ryu.studyhelper.solve.service.SolveService;
+import com.ryu.studyhelper.team.activity.TeamActivityVersion;
+import com.ryu.studyhelper.team.leaderboard.TeamLeaderboardStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 추천 문제 풀이 자동 감지
+ * 미션 날짜의 추천 중 아직 기록이 없는 (핸들, 문제)를 모아 핸들마다 문제 ID를 OR로 묶어 solved.ac에 한 번 조회하고,
+ * 푼 문제를 회원 단위로 일괄 기록한다. 사용자가 인증 버튼을 누르지 않아도 풀이가 반영된다.
+ *
+ * - solved.ac 호출은 서버 전체 공유 예산(RateLimitType.SOLVED_AC_DETECTION) 안에서만 하고,
+ *   예산이 떨어지면 남은 핸들은 다음 실행으로 넘긴다 (핸들 순서를 섞어 특정 회원이 계속 밀리지 않게 함)
+ * - 여러 인스턴스가 동시에 돌지 않도록 Redis 락을 잡는다
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SolveDetector {
+
+    private static final String LOCK_KEY = "solve:detection:lock";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(4);
+    private static final Long GLOBAL_BUDGET_ID = 0L;
+
+    /**
+     * 자기 토큰일 때만 락 삭제 — 실행이 TTL을 넘겨 다른 인스턴스가 잡은 락은 지우지 않는다
+     * KEYS[1]=lock / ARGV[1]=token
+     */
+    private static final String RELEASE_SCRIPT =
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) end " +
+            "return 0";
+
+    private final MemberRecommendationRepository memberRecommendationRepository;
+    private final SolvedAcClient solvedAcClient;
+    private final RateLimiterService rateLimiterService;
+    private final SolveService solveService;
+    private final TeamLeaderboardStore teamLeaderboardStore;
+    private final TeamActivityVersion teamActivityVersion;
+    private final GlobalRankingStore globalRankingStore;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 감지 결과
+     * @param handleCount 확인 대상 핸들 수
+     * @param checkedCount solved.ac로 확인한 핸들 수 (예산 소진·장애로 못 한 핸들은 다음 실행에서 확인)
+     * @param recordedCount 새로 기록한 풀이 수
+     */
+    public record Result(int handleCount, int checkedCount, int recordedCount) {
+        static Result skipped() {
+            return new Result(0, 0, 0);
+        }
+    }
+
+    /**
+     * 미션 날짜 추천 문제 풀이 감지
+     * @return 감지 결과 (다른 인스턴스가 실행 중이면 모두 0)
+     */
+    public Result detect(LocalDate missionDate) {
+        String token = UUID.randomUUID().toString();
+        if (!tryLock(token)) {
+            log.debug("풀이 자동 감지 생략 — 다른 인스턴스에서 진행 중");
+            return Result.skipped();
+        }
+
+        try {
+            Map<Long, List<PendingSolveProjection>> pendingByMember = memberRecommendationRepository
+                    .findPendingSolvesByRecommendationDate(missionDate)
+                    .stream()
+                    .collect(Collectors.groupingBy(PendingSolveProjection::getMemberId));
+
+            List<Long> memberIds = new ArrayList<>(pendingByMember.keySet());
+            Collections.shuffle(memberIds);
+
+            int checkedCount = 0;
+            int recordedCount = 0;
+            for (Long memberId : memberIds) {
+                List<PendingSolveProjection> pending = pendingByMember.get(memberId);
+                Optional<Set<Long>> solved = findSolved(pending.get(0).getHandle(),
+                        pending.stream().map(PendingSolveProjection::getProblemId).toList());
+                if (solved.isEmpty()) {
+                    break;
+                }
+                checkedCount++;
+                if (solved.get().isEmpty()) {
+                    continue;
+                }
+                try {
+                    recordedCount += record(memberId, new ArrayList<>(solved.get()));
+                } catch (Exception e) {
+                    log.warn("회원 {} 풀이 자동 기록 실패 — 다음 실행에서 다시 확인합니다", memberId, e);
+                }
+            }
+            return new Result(memberIds.size(), checkedCount, recordedCount);
+        } finally {
+            unlock(token);
+        }
+    }
+
+    /**
+     * 한 핸들의 문제들을 검색 한 페이지 단위로 나눠 조회
+     * @return 푼 문제 ID (예산 소진 또는 solved.ac 장애로 이번 실행을 멈춰야 하면 empty)
+     */
+    private Optional<Set<Long>> findSolved(String handle, List<Long> problemIds) {
+        Set<Long> solved = new HashSet<>();
+        for (int from = 0; from < problemIds.size(); from += SolvedAcClient.MAX_PROBLEMS_PER_SEARCH) {
+            if (!rateLimiterService.allowRequest(GLOBAL_BUDGET_ID, RateLimitType.SOLVED_AC_DETECTION)) {
+                log.info("풀이 자동 감지 solved.ac 예산 소진 — 남은 핸들은 다음 실행에서 확인합니다");
+                return Optional.empty();
+            }
+            List<Long> chunk = problemIds.subList(from,
+                    Math.min(from + SolvedAcClient.MAX_PROBLEMS_PER_SEARCH, problemIds.size()));
+            try {
+                solved.addAll(solvedAcClient.findSolvedProblemIds(handle, chunk));
+            } catch (CustomException e) {
+                if (e.getStatus() == CustomResponseStatus.SOLVED_AC_UNAVAILABLE) {
+                    return Optional.empty();
+                }
+                log.warn("핸들 {} 풀이 자동 감지 실패 — 다음 실행에서 다시 확인합니다", handle, e);
+                return Optional.of(Set.of());
+            }
+        }
+        return Optional.of(solved);
+    }
+
+    /**
+     * 감지된 풀이 기록 후 커밋 이후 Redis 반영
+     * 버튼 인증과 경합해 일괄 기록이 롤백되면 건별로 다시 기록한다.
+     */
+    private int record(Long memberId, List<Long> problemIds) {
+        List<Long> recorded;
+        try {
+            recorded = solveService.recordDetectedSolves(memberId, problemIds);
+        } catch (DataIntegrityViolationException e) {
+            recorded = new ArrayList<>();
+            for (Long problemId : problemIds) {
+                try {
+                    solveService.recordSolved(memberId, problemId);
+                    recorded.add(problemId);
+                } catch (CustomException ex) {
+                    if (ex.getStatus() != CustomResponseStatus.ALREADY_SOLVED) {
+                        log.warn("회원 {} 문제 {} 풀이 자동 기록 실패", memberId, problemId, ex);
+                    }
+                }
+            }
+        }
+
+        for (Long problemId : recorded) {
+            teamLeaderboardStore.recordSolved(memberId, problemId);
+            globalRankingStore.recordSolved(memberId);
+        }
+        if (!recorded.isEmpty()) {
+            teamActivityVersion.bumpForMember(memberId);
+        }
+        return recorded.size();
+    }
+
+    private boolean tryLock(String token) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, token, LOCK_TTL));
+        } catch (Exception e) {
+            log.warn("풀이 자동 감지 락 획득 실패 — 이번 실행을 건너뜁니다", e);
+            return false;
+        }
+    }
+
+    private void unlock(String token) {
+        try {
+            Long released = redisTemplate.execute(RedisScript.of(RELEASE_SCRIPT, Long.class), List.of(LOCK_KEY), token);
+            if (!Long.valueOf(1).equals(released)) {
+                log.warn("풀이 자동 감지 락이 이미 만료돼 해제하지 않습니다");
+            }
+        } catch (Exception e) {
+            log.warn("풀이 자동 감지 락 해제 실패 — TTL 만료 후 해제됩니다", e);
+        }
+    }
+}
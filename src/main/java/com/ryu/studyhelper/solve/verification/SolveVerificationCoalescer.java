@@ -0,0 +1,223 @@
+package com.ryu.studyhelper.solve.verification;
+
+import com.ryu.studyhelper.common.enums.CustomResponseStatus;
+import com.ryu.studyhelper.common.exception.CustomException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 문제 인증 요청 합치기 (single-flight)
+ * 같은 (회원, 문제) 인증이 동시에 여러 번 들어오면 (더블 클릭, 여러 탭) solved.ac 호출과 풀이 기록을 한 번만 하고
+ * 나머지 요청은 그 결과(성공 또는 같은 예외)를 그대로 돌려받는다.
+ *
+ * - 인스턴스 내부: 진행 중인 인증을 CompletableFuture로 공유
+ * - 인스턴스 간: Redis 락(solve:verify:lock:{memberId}:{problemId})을 잡은 요청만 실행하고,
+ *   나머지는 락 토큰이 붙은 결과 키(solve:verify:result:...)가 생길 때까지 기다렸다가 결과를 재사용
+ * - 락 TTL과 대기 시간은 solved.ac 호출의 최악 소요 시간(재시도 포함)에 맞춘다 — 느릴 때일수록 합치기가 필요하다
+ * - 락은 자기 토큰일 때만 지운다 — 락이 만료돼 다른 요청이 새로 잡았어도 그 락을 풀지 않는다
+ * - 락 보유 요청이 결과 없이 끝나거나(예상 못 한 예외) 대기 시간을 넘기면 직접 실행한다
+ * - Redis 장애 시 인스턴스 내부 합치기만 적용 (Fail-open)
+ *
+ * 메트릭 (/actuator/metrics)
+ * - solve.verify.upstream: 실제로 실행한 인증 수 (solved.ac 호출 수)
+ * - solve.verify.coalesced{scope=local|remote}: 다른 요청의 결과를 재사용해 아낀 호출 수
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SolveVerificationCoalescer {
+
+    private static final String LOCK_KEY_PREFIX = "solve:verify:lock:";
+    private static final String RESULT_KEY_PREFIX = "solve:verify:result:";
+    private static final String SUCCESS = "OK";
+    private static final String RESULT_SEPARATOR = "|";
+    /**
+     * solved.ac 최악 소요 시간: 3회 시도 × (연결 3s + 응답 30s) + 재시도 대기(1s, 2s, 무작위 ±30%) ≈ 103s
+     */
+    static final Duration LOCK_TTL = Duration.ofSeconds(120);
+    private static final Duration RESULT_TTL = Duration.ofSeconds(30);
+    static final Duration REMOTE_WAIT_TIMEOUT = LOCK_TTL;
+    private static final long REMOTE_POLL_INTERVAL_MS = 100;
+
+    /**
+     * 자기 토큰일 때만 락 삭제
+     * KEYS[1]=lock / ARGV[1]=token
+     */
+    private static final String RELEASE_SCRIPT =
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) end " +
+            "return 0";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 같은 (회원, 문제) 인증이 진행 중이면 그 결과를 공유하고, 아니면 직접 실행
+     * @param verification 인증 본문 (검증 → solved.ac 확인 → 풀이 기록)
+     */
+    public void execute(Long memberId, Long problemId, Runnable verification) {
+        String key = memberId + ":" + problemId;
+
+        CompletableFuture<Void> mine = new CompletableFuture<>();
+        CompletableFuture<Void> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            coalesced("local");
+            awaitLocal(running);
+            return;
+        }
+
+        try {
+            executeAcrossInstances(key, verification);
+            mine.complete(null);
+        } catch (Throwable t) {
+            mine.completeExceptionally(t);
+            throw t;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private void executeAcrossInstances(String key, Runnable verification) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired;
+        try {
+            acquired = redisTemplate.opsForValue().setIfAbsent(LOCK_KEY_PREFIX + key, token, LOCK_TTL);
+        } catch (Exception e) {
+            log.warn("인증 락 획득 실패 — 인스턴스 간 합치기 없이 실행합니다 ({})", key, e);
+            runUpstream(verification);
+            return;
+        }
+
+        if (Boolean.TRUE.equals(acquired)) {
+            runAsLeader(key, token, verification);
+            return;
+        }
+
+        String outcome = awaitRemote(key);
+        if (outcome == null) {
+            runUpstream(verification);
+            return;
+        }
+        coalesced("remote");
+        replay(outcome);
+    }
+
+    private void runAsLeader(String key, String token, Runnable verification) {
+        try {
+            runUpstream(verification);
+            publish(key, token, SUCCESS);
+        } catch (CustomException e) {
+            publish(key, token, e.getStatus().name());
+            throw e;
+        } finally {
+            release(key, token);
+        }
+    }
+
+    private void runUpstream(Runnable verification) {
+        Counter.builder("solve.verify.upstream")
+                .description("실제로 실행한 문제 인증 수 (solved.ac 호출)")
+                .register(meterRegistry)
+                .increment();
+        verification.run();
+    }
+
+    /**
+     * 다른 인스턴스의 결과 대기
+     * @return 결과 (락 보유 요청이 결과 없이 끝났거나 대기 시간 초과, Redis 장애면 null)
+     */
+    private String awaitRemote(String key) {
+        long deadline = System.currentTimeMillis() + REMOTE_WAIT_TIMEOUT.toMillis();
+        try {
+            String token = redisTemplate.opsForValue().get(LOCK_KEY_PREFIX + key);
+            while (token != null && System.currentTimeMillis() < deadline) {
+                String outcome = findOutcome(key, token);
+                if (outcome != null) {
+                    return outcome;
+                }
+                if (!token.equals(redisTemplate.opsForValue().get(LOCK_KEY_PREFIX + key))) {
+                    return findOutcome(key, token); // 결과 공유 직후 락이 풀린 경우
+                }
+                Thread.sleep(REMOTE_POLL_INTERVAL_MS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("인증 결과 대기 실패 — 직접 실행합니다 ({})", key, e);
+        }
+        return null;
+    }
+
+    /**
+     * 락 토큰이 일치하는 결과만 인정 — 이전 인증의 결과를 잘못 재사용하지 않도록
+     */
+    private String findOutcome(String key, String token) {
+        String result = redisTemplate.opsForValue().get(RESULT_KEY_PREFIX + key);
+        if (result == null || !result.startsWith(token + RESULT_SEPARATOR)) {
+            return null;
+        }
+        return result.substring(token.length() + RESULT_SEPARATOR.length());
+    }
+
+    private void replay(String outcome) {
+        if (!SUCCESS.equals(outcome)) {
+            throw new CustomException(CustomResponseStatus.valueOf(outcome));
+        }
+    }
+
+    private void publish(String key, String token, String outcome) {
+        try {
+            redisTemplate.opsForValue().set(RESULT_KEY_PREFIX + key, token + RESULT_SEPARATOR + outcome, RESULT_TTL);
+        } catch (Exception e) {
+            log.warn("인증 결과 공유 실패 — 대기 중인 요청은 직접 실행합니다 ({})", key, e);
+        }
+    }
+
+    private void release(String key, String token) {
+        try {
+            Long released = redisTemplate.execute(
+                    RedisScript.of(RELEASE_SCRIPT, Long.class), List.of(LOCK_KEY_PREFIX + key), token);
+            if (!Long.valueOf(1).equals(released)) {
+                log.warn("인증 락이 이미 만료돼 해제하지 않습니다 ({})", key);
+            }
+        } catch (Exception e) {
+            log.warn("인증 락 해제 실패 — TTL 만료 후 해제됩니다 ({})", key, e);
+        }
+    }
+
+    private void awaitLocal(CompletableFuture<Void> running) {
+        try {
+            running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void coalesced(String scope) {
+        Counter.builder("solve.verify.coalesced")
+                .description("진행 중인 인증 결과를 재사용해 생략한 solved.ac 호출 수")
+                .tag("scope", scope)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,31 @@
+package com.ryu.studyhelper.solve.verification;
+
+import com.ryu.studyhelper.common.enums.CustomResponseStatus;
+
+/**
+ * 비동기 문제 인증 작업
+ * @param error 실패 사유 (FAILED일 때만)
+ */
+public record VerificationJob(
+        String jobId,
+        Long memberId,
+        Long problemId,
+        VerificationJobStatus status,
+        CustomResponseStatus error
+) {
+    public static VerificationJob pending(String jobId, Long memberId, Long problemId) {
+        return new VerificationJob(jobId, memberId, problemId, VerificationJobStatus.PENDING, null);
+    }
+
+    public VerificationJob running() {
+        return new VerificationJob(jobId, memberId, problemId, VerificationJobStatus.RUNNING, null);
+    }
+
+    public VerificationJob succeeded() {
+        return new VerificationJob(jobId, memberId, problemId, VerificationJobStatus.SUCCEEDED, null);
+    }
+
+    public VerificationJob failed(CustomResponseStatus error) {
+        return new VerificationJob(jobId, memberId, problemId, VerificationJobStatus.FAILED, error);
+    }
+}
@@ -0,0 +1,93 @@
+package com.ryu.studyhelper.solve.verification;
+
+import com.ryu.studyhelper.solve.dto.response.VerificationJobResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 비동기 문제 인증 결과 SSE 알림
+ * - 이 인스턴스에서 끝난 작업: 완료 즉시 구독자에게 전송
+ * - 다른 인스턴스에서 실행 중인 작업: 1초마다 저장소를 확인해 끝났으면 전송
+ * 구독이 타임아웃되면 클라이언트는 상태 조회 API로 확인한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class VerificationJobNotifier {
+
+    private static final long EMITTER_TIMEOUT_MS = 90_000L;
+    private static final String EVENT_NAME = "verification";
+
+    private final VerificationJobStore verificationJobStore;
+
+    private final Map<String, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    /**
+     * 작업 결과 구독 — 이미 끝난 작업이면 바로 결과를 보내고 종료
+     */
+    public SseEmitter subscribe(VerificationJob job) {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MS);
+        if (job.status().isDone()) {
+            send(emitter, job);
+            return emitter;
+        }
+
+        emitters.computeIfAbsent(job.jobId(), id -> new CopyOnWriteArrayList<>()).add(emitter);
+        emitter.onCompletion(() -> remove(job.jobId(), emitter));
+        emitter.onTimeout(() -> remove(job.jobId(), emitter));
+        emitter.onError(e -> remove(job.jobId(), emitter));
+        return emitter;
+    }
+
+    /**
+     * 끝난 작업의 구독자에게 결과 전송
+     */
+    public void publish(VerificationJob job) {
+        List<SseEmitter> subscribers = emitters.remove(job.jobId());
+        if (subscribers != null) {
+            subscribers.forEach(emitter -> send(emitter, job));
+        }
+    }
+
+    /**
+     * 다른 인스턴스에서 끝난 작업 확인 (구독자가 있을 때만 조회)
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void publishFinishedElsewhere() {
+        for (String jobId : List.copyOf(emitters.keySet())) {
+            try {
+                verificationJobStore.find(jobId)
+                        .filter(job -> job.status().isDone())
+                        .ifPresent(this::publish);
+            } catch (Exception e) {
+                log.warn("인증 작업 {} 상태 확인 실패", jobId, e);
+            }
+        }
+    }
+
+    private void send(SseEmitter emitter, VerificationJob job) {
+        try {
+            emitter.send(SseEmitter.event().name(EVENT_NAME).data(VerificationJobResponse.from(job)));
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            log.debug("인증 작업 {} 결과 전송 실패 — 연결 종료", job.jobId(), e);
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void remove(String jobId, SseEmitter emitter) {
+        emitters.computeIfPresent(jobId, (id, list) -> {
+            list.remove(emitter);
+            return list.isEmpty() ? null : list;
+        });
+    }
+}
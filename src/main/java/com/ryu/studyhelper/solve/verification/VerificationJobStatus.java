@@ -0,0 +1,15 @@
+package com.ryu.studyhelper.solve.verification;
+
+/**
+ * 비동기 문제 인증 작업 상태
+ */
+public enum VerificationJobStatus {
+    PENDING,    // 접수됨 (실행 대기)
+    RUNNING,    // solved.ac 확인 중
+    SUCCEEDED,  // 인증 완료
+    FAILED;     // 인증 실패 (errorCode 참고)
+
+    public boolean isDone() {
+        return this == SUCCEEDED || this == FAILED;
+    }
+}
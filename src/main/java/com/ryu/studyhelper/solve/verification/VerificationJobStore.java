@@ -0,0 +1,59 @@
+package com.ryu.studyhelper.solve.verification;
+
+import com.ryu.studyhelper.common.enums.CustomResponseStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 비동기 문제 인증 작업 저장소 (Redis HASH)
+ * 작업을 실행한 인스턴스와 상태를 조회하는 인스턴스가 달라도 같은 상태를 보도록 Redis에 둔다.
+ *
+ * 키 구조
+ * - solve:verify:job:{jobId}  memberId, problemId, status, error (TTL 10분)
+ */
+@Component
+@RequiredArgsConstructor
+public class VerificationJobStore {
+
+    private static final String KEY_PREFIX = "solve:verify:job:";
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public void save(VerificationJob job) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put("memberId", String.valueOf(job.memberId()));
+        fields.put("problemId", String.valueOf(job.problemId()));
+        fields.put("status", job.status().name());
+        fields.put("error", job.error() != null ? job.error().name() : "");
+
+        redisTemplate.opsForHash().putAll(key(job.jobId()), fields);
+        redisTemplate.expire(key(job.jobId()), TTL);
+    }
+
+    public Optional<VerificationJob> find(String jobId) {
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(key(jobId));
+        if (fields.isEmpty()) {
+            return Optional.empty();
+        }
+
+        String error = (String) fields.get("error");
+        return Optional.of(new VerificationJob(
+                jobId,
+                Long.valueOf((String) fields.get("memberId")),
+                Long.valueOf((String) fields.get("problemId")),
+                VerificationJobStatus.valueOf((String) fields.get("status")),
+                error == null || error.isEmpty() ? null : CustomResponseStatus.valueOf(error)
+        ));
+    }
+
+    private String key(String jobId) {
+        return KEY_PREFIX + jobId;
+    }
+}
@@ -0,0 +1,34 @@
+package com.ryu.studyhelper.team.activity;
+
+import com.ryu.studyhelper.team.dto.internal.QueryPeriod;
+import com.ryu.studyhelper.team.dto.response.TeamActivityResponseV2;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 팀 활동 스냅샷 — 팀원 목록(핸들·스쿼드)과 팀원별 일자별 추천 문제·풀이 여부
+ * 리더보드와 활동 현황 API가 같은 스냅샷에서 응답을 만든다.
+ *
+ * @param period           조회 기간
+ * @param memberActivities 팀원별 활동 (팀원 조회 순서)
+ * @param solvedCounts     팀원별 기간 내 풀이 수 (미션 날짜별 추천 문제 중 푼 문제 수의 합)
+ */
+public record TeamActivitySnapshot(
+        QueryPeriod period,
+        List<TeamActivityResponseV2.MemberActivity> memberActivities,
+        Map<Long, Long> solvedCounts
+) {
+    public TeamActivitySnapshot {
+        memberActivities = List.copyOf(memberActivities);
+        solvedCounts = Map.copyOf(solvedCounts);
+    }
+
+    public static TeamActivitySnapshot empty(QueryPeriod period) {
+        return new TeamActivitySnapshot(period, List.of(), Map.of());
+    }
+
+    public boolean isEmpty() {
+        return memberActivities.isEmpty();
+    }
+}
@@ -0,0 +1,95 @@
+package com.ryu.studyhelper.team.activity;
+
+import com.ryu.studyhelper.team.dto.internal.QueryPeriod;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 팀 활동 스냅샷 로컬 캐시 (팀·조회 기간 단위)
+ *
+ * - 저장 시점의 팀 활동 버전과 현재 버전이 같고 TTL 이내일 때만 재사용한다.
+ * - 같은 키를 동시에 요청하면 한 요청만 계산하고 나머지는 그 결과를 기다린다
+ *   (리더보드·활동 현황 API가 연달아 호출돼도 계산은 1회).
+ * - 버전 조회가 불가능하면(Redis 장애) 캐시를 쓰지 않고 매번 계산한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TeamActivitySnapshotCache {
+
+    private static final Duration TTL = Duration.ofSeconds(30);
+    private static final int MAX_ENTRIES = 1_000;
+
+    private final Clock clock;
+    private final ConcurrentHashMap<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    private record Key(Long teamId, LocalDate startDate, LocalDate endDate) {}
+
+    private record Entry(long version, Instant expiresAt, CompletableFuture<TeamActivitySnapshot> snapshot) {
+
+        boolean isReusable(long currentVersion, Instant now) {
+            return version == currentVersion
+                    && expiresAt.isAfter(now)
+                    && !snapshot.isCompletedExceptionally();
+        }
+    }
+
+    public TeamActivitySnapshot get(Long teamId, QueryPeriod period, Optional<Long> version,
+                                    Supplier<TeamActivitySnapshot> loader) {
+        if (version.isEmpty()) {
+            return loader.get();
+        }
+
+        Key key = new Key(teamId, period.startDate(), period.endDate());
+        Instant now = clock.instant();
+        Entry created = new Entry(version.get(), now.plus(TTL), new CompletableFuture<>());
+        Entry current = entries.compute(key, (k, existing) ->
+                existing != null && existing.isReusable(version.get(), now) ? existing : created);
+
+        if (current != created) {
+            return await(current.snapshot());
+        }
+
+        try {
+            TeamActivitySnapshot snapshot = loader.get();
+            created.snapshot().complete(snapshot);
+            return snapshot;
+        } catch (RuntimeException e) {
+            created.snapshot().completeExceptionally(e);
+            entries.remove(key, created);
+            throw e;
+        } finally {
+            evictIfFull(now);
+        }
+    }
+
+    private TeamActivitySnapshot await(CompletableFuture<TeamActivitySnapshot> snapshot) {
+        try {
+            return snapshot.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void evictIfFull(Instant now) {
+        if (entries.size() <= MAX_ENTRIES) {
+            return;
+        }
+        entries.values().removeIf(entry -> !entry.expiresAt().isAfter(now));
+        if (entries.size() > MAX_ENTRIES) {
+            entries.clear();
+        }
+    }
+}
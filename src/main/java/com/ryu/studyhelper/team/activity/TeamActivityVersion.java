@@ -0,0 +1,68 @@
+package com.ryu.studyhelper.team.activity;
+
+import com.ryu.studyhelper.common.util.TransactionUtils;
+import com.ryu.studyhelper.team.repository.TeamMemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * 팀 활동 데이터 변경 버전 (Redis 카운터)
+ * 풀이 인증·팀원 구성/스쿼드 변경·추천 생성·핸들 변경 시 증가시키고,
+ * 팀 활동 스냅샷과 리더보드·활동 현황 API의 ETag는 버전이 달라지면 갱신된다.
+ *
+ * 증가는 트랜잭션 커밋 이후에 수행해 커밋 전 데이터가 새 버전으로 캐시되는 것을 막는다.
+ * Redis 장애 시 조회는 empty를 반환하고 호출자는 캐시 없이 계산한다 (Fail-open).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TeamActivityVersion {
+
+    private static final String KEY_PREFIX = "team:activity:version:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final TeamMemberRepository teamMemberRepository;
+
+    /**
+     * 현재 버전 조회 (변경 이력이 없으면 0)
+     */
+    public Optional<Long> current(Long teamId) {
+        try {
+            String value = redisTemplate.opsForValue().get(key(teamId));
+            return Optional.of(value != null ? Long.parseLong(value) : 0L);
+        } catch (Exception e) {
+            log.warn("팀 {} 활동 버전 조회 실패", teamId, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 팀 버전 증가 (커밋 이후)
+     */
+    public void bump(Long teamId) {
+        TransactionUtils.runAfterCommit(() -> increment(teamId));
+    }
+
+    /**
+     * 멤버가 속한 모든 팀의 버전 증가 (커밋 이후) — 풀이 인증, 핸들 변경 등 멤버 단위 변경용
+     */
+    public void bumpForMember(Long memberId) {
+        teamMemberRepository.findTeamIdsByMemberId(memberId).forEach(this::bump);
+    }
+
+    private void increment(Long teamId) {
+        try {
+            redisTemplate.opsForValue().increment(key(teamId));
+        } catch (Exception e) {
+            log.warn("팀 {} 활동 버전 증가 실패 — 스냅샷은 TTL 만료 후 갱신됩니다", teamId, e);
+        }
+    }
+
+    private String key(Long teamId) {
+        return KEY_PREFIX + teamId;
+    }
+}
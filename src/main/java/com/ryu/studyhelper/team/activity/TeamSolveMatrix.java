@@ -0,0 +1,99 @@
+package com.ryu.studyhelper.team.activity;
+
+import com.ryu.studyhelper.solve.dto.projection.SolvedProblemIdProjection;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 팀 단위 멤버 × 문제 풀이 행렬
+ *
+ * 문제 ID를 정렬된 long 배열의 위치(밀집 인덱스)로 바꾸고, 멤버마다 BitSet 한 행으로 풀이 여부를 저장한다.
+ * 멤버·문제 조회는 이진 탐색, 풀이 여부·개수는 비트 연산이라 Set<Long> 박싱 없이 계산한다.
+ */
+public final class TeamSolveMatrix {
+
+    private static final TeamSolveMatrix EMPTY = new TeamSolveMatrix(new long[0], new long[0], new BitSet[0]);
+
+    private final long[] memberIds;
+    private final long[] problemIds;
+    private final BitSet[] rows;
+
+    private TeamSolveMatrix(long[] memberIds, long[] problemIds, BitSet[] rows) {
+        this.memberIds = memberIds;
+        this.problemIds = problemIds;
+        this.rows = rows;
+    }
+
+    public static TeamSolveMatrix empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @param memberIds  행 멤버 ID
+     * @param problemIds 열 문제 ID
+     * @param solved     (memberId, problemId) 풀이 기록 — 행·열 밖의 기록은 무시
+     */
+    public static TeamSolveMatrix of(Collection<Long> memberIds, Collection<Long> problemIds,
+                                     List<SolvedProblemIdProjection> solved) {
+        long[] members = toSortedDistinct(memberIds);
+        long[] problems = toSortedDistinct(problemIds);
+        BitSet[] rows = new BitSet[members.length];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = new BitSet(problems.length);
+        }
+
+        for (SolvedProblemIdProjection row : solved) {
+            int memberIndex = Arrays.binarySearch(members, row.getMemberId());
+            int problemIndex = Arrays.binarySearch(problems, row.getProblemId());
+            if (memberIndex >= 0 && problemIndex >= 0) {
+                rows[memberIndex].set(problemIndex);
+            }
+        }
+        return new TeamSolveMatrix(members, problems, rows);
+    }
+
+    public boolean isSolved(long memberId, long problemId) {
+        int memberIndex = Arrays.binarySearch(memberIds, memberId);
+        int problemIndex = Arrays.binarySearch(problemIds, problemId);
+        return memberIndex >= 0 && problemIndex >= 0 && rows[memberIndex].get(problemIndex);
+    }
+
+    /**
+     * 문제 ID 목록을 열 마스크로 변환 (행렬에 없는 문제는 제외)
+     */
+    public BitSet problemMask(Collection<Long> problemIds) {
+        BitSet mask = new BitSet(this.problemIds.length);
+        for (Long problemId : problemIds) {
+            int problemIndex = Arrays.binarySearch(this.problemIds, problemId);
+            if (problemIndex >= 0) {
+                mask.set(problemIndex);
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * 마스크에 포함된 문제 중 멤버가 푼 문제 수
+     */
+    public int countSolved(long memberId, BitSet mask) {
+        int memberIndex = Arrays.binarySearch(memberIds, memberId);
+        if (memberIndex < 0) {
+            return 0;
+        }
+        BitSet row = rows[memberIndex];
+        int count = 0;
+        for (int i = mask.nextSetBit(0); i >= 0; i = mask.nextSetBit(i + 1)) {
+            if (row.get(i)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static long[] toSortedDistinct(Collection<Long> ids) {
+        return ids.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+    }
+}
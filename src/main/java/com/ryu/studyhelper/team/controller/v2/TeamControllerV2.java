@@ -5,6 +5,7 @@ import com.ryu.studyhelper.common.enums.CustomResponseStatus;
 import com.ryu.studyhelper.config.security.PrincipalDetails;
 import com.ryu.studyhelper.team.dto.response.MyTeamResponse;
 import com.ryu.studyhelper.team.dto.response.PublicTeamResponseV2;
+import com.ryu.studyhelper.team.dto.response.TeamActivityDeltaResponse;
 import com.ryu.studyhelper.team.dto.response.TeamActivityResponseV2;
 import com.ryu.studyhelper.team.dto.response.TeamLeaderboardResponse;
 import com.ryu.studyhelper.team.dto.response.TeamPageResponseV2;
@@ -20,8 +21,10 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/v2/teams")
@@ -60,28 +63,63 @@ public class TeamControllerV2 {
     }
 
     @Operation(summary = "v2 팀 리더보드 조회",
-            description = "기간 내 팀원 풀이 수 기준 순위 반환. 스쿼드 필터링은 클라이언트에서 처리.")
+            description = "기간 내 팀원 풀이 수 기준 순위 반환. 스쿼드 필터링은 클라이언트에서 처리. "
+                    + "ETag를 반환하며 If-None-Match가 일치하면 304 응답.")
     @GetMapping("/{teamId}/leaderboard")
     public ResponseEntity<ApiResponse<TeamLeaderboardResponse>> getTeamLeaderboard(
             @PathVariable Long teamId,
             @RequestParam(defaultValue = "30") Integer days,
-            @AuthenticationPrincipal PrincipalDetails principalDetails
+            @AuthenticationPrincipal PrincipalDetails principalDetails,
+            WebRequest webRequest
     ) {
         Long memberId = principalDetails != null ? principalDetails.getMemberId() : null;
+        Optional<String> eTag = teamActivityService.getActivityETag(teamId, memberId, days);
+        if (eTag.isPresent() && webRequest.checkNotModified(eTag.get())) {
+            return null; // 304 Not Modified — 상태·ETag 헤더는 checkNotModified가 설정
+        }
+
         TeamLeaderboardResponse response = teamActivityService.getTeamLeaderboard(teamId, memberId, days);
-        return ResponseEntity.ok(ApiResponse.createSuccess(response, CustomResponseStatus.SUCCESS));
+        return withETag(eTag).body(ApiResponse.createSuccess(response, CustomResponseStatus.SUCCESS));
     }
 
     @Operation(summary = "v2 팀 활동 현황 조회",
-            description = "스쿼드 단위 일별 활동 현황 반환. 리더보드는 /leaderboard 엔드포인트를 사용하세요.")
+            description = "스쿼드 단위 일별 활동 현황 반환. 리더보드는 /leaderboard 엔드포인트를 사용하세요. "
+                    + "ETag를 반환하며 If-None-Match가 일치하면 304 응답.")
     @GetMapping("/{teamId}/activity")
     public ResponseEntity<ApiResponse<TeamActivityResponseV2>> getTeamActivityV2(
             @PathVariable Long teamId,
             @RequestParam(required = false, defaultValue = "30") Integer days,
-            @AuthenticationPrincipal PrincipalDetails principalDetails
+            @AuthenticationPrincipal PrincipalDetails principalDetails,
+            WebRequest webRequest
     ) {
         Long memberId = principalDetails != null ? principalDetails.getMemberId() : null;
+        Optional<String> eTag = teamActivityService.getActivityETag(teamId, memberId, days);
+        if (eTag.isPresent() && webRequest.checkNotModified(eTag.get())) {
+            return null; // 304 Not Modified — 상태·ETag 헤더는 checkNotModified가 설정
+        }
+
         TeamActivityResponseV2 response = teamActivityService.getTeamActivityV2(teamId, memberId, days);
+        return withETag(eTag).body(ApiResponse.createSuccess(response, CustomResponseStatus.SUCCESS));
+    }
+
+    @Operation(summary = "v2 팀 활동 델타 조회",
+            description = "cursor 이후 새로 추천된 문제와 새로 풀린 문제만 반환. "
+                    + "cursor 미지정 또는 resyncRequired=true 응답 시 /activity 전체 조회 후 반환된 cursor부터 적용.")
+    @GetMapping("/{teamId}/activity/changes")
+    public ResponseEntity<ApiResponse<TeamActivityDeltaResponse>> getTeamActivityDelta(
+            @PathVariable Long teamId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false, defaultValue = "30") Integer days,
+            @AuthenticationPrincipal PrincipalDetails principalDetails
+    ) {
+        Long memberId = principalDetails != null ? principalDetails.getMemberId() : null;
+        TeamActivityDeltaResponse response = teamActivityService.getTeamActivityDelta(teamId, memberId, days, cursor);
         return ResponseEntity.ok(ApiResponse.createSuccess(response, CustomResponseStatus.SUCCESS));
     }
+
+    private ResponseEntity.BodyBuilder withETag(Optional<String> eTag) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        eTag.ifPresent(builder::eTag);
+        return builder;
+    }
 }
@@ -0,0 +1,65 @@
+package com.ryu.studyhelper.team.domain;
+
+import com.ryu.studyhelper.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 팀원별 미션 날짜 단위 풀이 통계 (리더보드용 집계 테이블)
+ * 추천 저장 시 추천 수를, 문제 인증 시 풀이 수를 갱신한다.
+ * 리더보드는 (team_id, mission_date) 범위 집계 한 번으로 계산된다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "member_mission_stat",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_member_mission_stat",
+                columnNames = {"team_id", "mission_date", "member_id"}
+        ),
+        indexes = @Index(
+                name = "idx_member_mission_stat_member",
+                columnList = "member_id, team_id, mission_date"
+        ))
+public class MemberMissionStat extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "team_id", nullable = false)
+    private Long teamId;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "mission_date", nullable = false)
+    private LocalDate missionDate;
+
+    @Column(name = "recommended_count", nullable = false)
+    private int recommendedCount;
+
+    @Column(name = "solved_count", nullable = false)
+    private int solvedCount;
+
+    public static MemberMissionStat create(Long teamId, Long memberId, LocalDate missionDate) {
+        return MemberMissionStat.builder()
+                .teamId(teamId)
+                .memberId(memberId)
+                .missionDate(missionDate)
+                .build();
+    }
+
+    /**
+     * 추천 반영 — 그날 추천된 서로 다른 문제 수와 그중 이미 풀었던 문제 수로 다시 맞춘다.
+     * 같은 날 재추천돼도 겹치는 문제가 두 번 세지지 않는다.
+     */
+    public void recount(int recommendedCount, int solvedCount) {
+        this.recommendedCount = recommendedCount;
+        this.solvedCount = solvedCount;
+    }
+}
@@ -0,0 +1,64 @@
+package com.ryu.studyhelper.team.domain;
+
+import com.ryu.studyhelper.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 팀 활동 변경 로그 (append-only)
+ * 추천 저장·문제 인증 시 (팀, 멤버, 미션 날짜, 문제) 단위로 한 행씩 쌓는다.
+ * id가 델타 조회 커서이며, 보관 기간이 지난 행은 TeamActivityChangeCleanupScheduler가 삭제한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "team_activity_change",
+        indexes = {
+                @Index(name = "idx_team_activity_change_team", columnList = "team_id, id"),
+                @Index(name = "idx_team_activity_change_created_at", columnList = "created_at")
+        })
+public class TeamActivityChange extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "team_id", nullable = false)
+    private Long teamId;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", length = 16, nullable = false)
+    private TeamActivityChangeType changeType;
+
+    @Column(name = "mission_date", nullable = false)
+    private LocalDate missionDate;
+
+    @Column(name = "problem_id", nullable = false)
+    private Long problemId;
+
+    public static TeamActivityChange recommended(Long teamId, Long memberId, LocalDate missionDate, Long problemId) {
+        return of(teamId, memberId, TeamActivityChangeType.RECOMMENDED, missionDate, problemId);
+    }
+
+    public static TeamActivityChange solved(Long teamId, Long memberId, LocalDate missionDate, Long problemId) {
+        return of(teamId, memberId, TeamActivityChangeType.SOLVED, missionDate, problemId);
+    }
+
+    private static TeamActivityChange of(Long teamId, Long memberId, TeamActivityChangeType changeType,
+                                         LocalDate missionDate, Long problemId) {
+        return TeamActivityChange.builder()
+                .teamId(teamId)
+                .memberId(memberId)
+                .changeType(changeType)
+                .missionDate(missionDate)
+                .problemId(problemId)
+                .build();
+    }
+}
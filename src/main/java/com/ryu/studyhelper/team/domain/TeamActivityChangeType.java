@@ -0,0 +1,9 @@
+package com.ryu.studyhelper.team.domain;
+
+/**
+ * 팀 활동 변경 유형
+ */
+public enum TeamActivityChangeType {
+    RECOMMENDED,  // 문제 추천
+    SOLVED        // 추천 문제 풀이 인증
+}
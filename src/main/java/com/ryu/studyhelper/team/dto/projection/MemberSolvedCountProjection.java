@@ -0,0 +1,10 @@
+package com.ryu.studyhelper.team.dto.projection;
+
+/**
+ * 팀원별 기간 내 풀이 수 집계 Projection
+ * member_mission_stat 기반 리더보드에 사용됩니다.
+ */
+public interface MemberSolvedCountProjection {
+    Long getMemberId();
+    Long getTotalSolved();
+}
@@ -0,0 +1,12 @@
+package com.ryu.studyhelper.team.dto.projection;
+
+import java.time.LocalDate;
+
+/**
+ * 멤버-추천 문제-미션 날짜 Projection (memberId, problemId, missionDate)
+ */
+public interface RecommendedProblemProjection {
+    Long getMemberId();
+    Long getProblemId();
+    LocalDate getMissionDate();
+}
@@ -0,0 +1,21 @@
+package com.ryu.studyhelper.team.dto.projection;
+
+import com.ryu.studyhelper.team.domain.TeamActivityChangeType;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 팀 활동 변경 로그 + 문제 요약 Projection (델타 조회용)
+ */
+public interface TeamActivityChangeProjection {
+    Long getId();
+    LocalDateTime getCreatedAt();
+    Long getMemberId();
+    TeamActivityChangeType getChangeType();
+    LocalDate getMissionDate();
+    Long getProblemId();
+    String getTitle();
+    String getTitleKo();
+    Integer getLevel();
+}
@@ -0,0 +1,76 @@
+package com.ryu.studyhelper.team.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 팀 활동 델타 응답 DTO
+ * 커서 이후 새로 추천된 문제와 새로 풀린 문제만 제공합니다.
+ * 같은 변경이 다음 응답에 다시 포함될 수 있으므로 클라이언트는 멱등하게 적용해야 합니다.
+ */
+@Schema(description = "팀 활동 델타 응답")
+public record TeamActivityDeltaResponse(
+        @Schema(description = "현재 로그인 멤버 ID (비로그인 시 null)")
+        Long currentMemberId,
+
+        @Schema(description = "조회 기간 정보")
+        TeamActivityResponseV2.Period period,
+
+        @Schema(description = "다음 요청에 사용할 커서")
+        long cursor,
+
+        @Schema(description = "이번 응답에 담지 못한 변경이 남아 있는지 여부 (true면 즉시 다시 요청)")
+        boolean hasMore,
+
+        @Schema(description = "전체 재조회 필요 여부 (커서 미지정·보관 기간 초과) — true면 /activity를 다시 조회한 뒤 cursor부터 델타 적용")
+        boolean resyncRequired,
+
+        @Schema(description = "새로 추천된 문제")
+        List<RecommendedProblem> recommended,
+
+        @Schema(description = "새로 풀린 문제")
+        List<SolvedProblem> solved
+) {
+    @Schema(description = "새로 추천된 문제")
+    public record RecommendedProblem(
+            @Schema(description = "멤버 ID")
+            Long memberId,
+
+            @Schema(description = "미션 날짜", example = "2025-12-20")
+            LocalDate date,
+
+            @Schema(description = "문제 ID", example = "1001")
+            Long problemId,
+
+            @Schema(description = "문제 영문 제목")
+            String title,
+
+            @Schema(description = "문제 한국어 제목 (없으면 영문 제목과 동일)")
+            String titleKo,
+
+            @Schema(description = "문제 난이도 (tier)", example = "11")
+            Integer tier,
+
+            @Schema(description = "해결 여부")
+            boolean solved
+    ) {}
+
+    @Schema(description = "새로 풀린 문제")
+    public record SolvedProblem(
+            @Schema(description = "멤버 ID")
+            Long memberId,
+
+            @Schema(description = "미션 날짜", example = "2025-12-20")
+            LocalDate date,
+
+            @Schema(description = "문제 ID", example = "1001")
+            Long problemId
+    ) {}
+
+    public static TeamActivityDeltaResponse resync(Long currentMemberId, TeamActivityResponseV2.Period period,
+                                                   long cursor) {
+        return new TeamActivityDeltaResponse(currentMemberId, period, cursor, false, true, List.of(), List.of());
+    }
+}
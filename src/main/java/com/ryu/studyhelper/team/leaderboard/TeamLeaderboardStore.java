@@ -0,0 +1,225 @@
+package com.ryu.studyhelper.team.leaderboard;
+
+import com.ryu.studyhelper.common.MissionCyclePolicy;
+import com.ryu.studyhelper.common.util.TransactionUtils;
+import com.ryu.studyhelper.team.domain.MemberMissionStat;
+import com.ryu.studyhelper.team.repository.MemberMissionStatRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Redis ZSET 기반 팀 리더보드 저장소
+ *
+ * 키 구조 (팀 단위, 날짜는 epochDay)
+ * - leaderboard:team:{teamId}:day:{epochDay}        미션 날짜별 ZSET (member → 풀이 수), member_mission_stat 미러
+ * - leaderboard:team:{teamId}:window:{start}:{end}  조회 기간 합산 ZSET (짧은 TTL)
+ * - leaderboard:team:{teamId}:windows               살아있는 window 목록 SET
+ * - leaderboard:team:{teamId}:built                 재구성 완료 마커 — 없으면 조회 시 DB에서 재구성
+ *
+ * 증가·합산·재구성은 Lua 스크립트로 원자적으로 수행한다.
+ * 스크립트가 팀 prefix로 키를 조립하므로 단일 노드(standalone) Redis를 전제로 한다.
+ * Redis 장애 시 조회는 Optional.empty()를 반환하고 호출자가 DB 집계로 대체한다 (Fail-open).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TeamLeaderboardStore {
+
+    private static final String KEY_PREFIX = "leaderboard:team:";
+
+    /** 일별 ZSET 보관 기간 — 최대 조회 기간(30일) + 1일 */
+    static final int RETENTION_DAYS = 31;
+    private static final Duration BUILT_TTL = Duration.ofDays(1);
+    private static final Duration WINDOW_TTL = Duration.ofSeconds(60);
+
+    /**
+     * 풀이 1건 반영
+     * KEYS[1]=built, KEYS[2]=windows / ARGV[1]=prefix, ARGV[2]=일별 TTL(초), ARGV[3]=memberId, ARGV[4..]=epochDay
+     * 재구성 전(마커 없음)이면 무시 — 다음 조회 시 DB 기준으로 재구성된다.
+     */
+    private static final String INCREMENT_SCRIPT =
+            "if redis.call('exists', KEYS[1]) == 0 then return 0 end " +
+            "local windows = redis.call('smembers', KEYS[2]) " +
+            "for i = 4, #ARGV do " +
+            "    local day = tonumber(ARGV[i]) " +
+            "    local dayKey = ARGV[1] .. 'day:' .. ARGV[i] " +
+            "    redis.call('zincrby', dayKey, 1, ARGV[3]) " +
+            "    redis.call('expire', dayKey, ARGV[2]) " +
+            "    for _, w in ipairs(windows) do " +
+            "        local s, e = string.match(w, '^(%d+):(%d+)$') " +
+            "        local windowKey = ARGV[1] .. 'window:' .. w " +
+            "        if redis.call('exists', windowKey) == 1 and tonumber(s) <= day and day <= tonumber(e) then " +
+            "            redis.call('zincrby', windowKey, 1, ARGV[3]) " +
+            "        end " +
+            "    end " +
+            "end " +
+            "return 1";
+
+    /**
+     * 기간 합산 조회 — window가 없으면 일별 ZSET을 합산해 만든 뒤 점수 내림차순으로 반환
+     * KEYS[1]=window, KEYS[2]=windows / ARGV[1]=prefix, ARGV[2]=window TTL(초), ARGV[3]=windowId, ARGV[4..]=epochDay
+     */
+    private static final String READ_SCRIPT =
+            "if redis.call('exists', KEYS[1]) == 0 then " +
+            "    local days = {} " +
+            "    for i = 4, #ARGV do days[#days + 1] = ARGV[1] .. 'day:' .. ARGV[i] end " +
+            "    redis.call('zunionstore', KEYS[1], #days, unpack(days)) " +
+            "    redis.call('expire', KEYS[1], ARGV[2]) " +
+            "    redis.call('sadd', KEYS[2], ARGV[3]) " +
+            "    redis.call('expire', KEYS[2], ARGV[2]) " +
+            "end " +
+            "return redis.call('zrevrange', KEYS[1], 0, -1, 'WITHSCORES')";
+
+    /**
+     * 팀 전체 재구성 — 기존 window·일별 ZSET 삭제 후 (epochDay, memberId, score) 묶음으로 다시 적재
+     * KEYS[1]=built, KEYS[2]=windows / ARGV[1]=prefix, ARGV[2]=일별 TTL(초), ARGV[3]=마커 TTL(초),
+     * ARGV[4]=시작 epochDay, ARGV[5]=종료 epochDay, ARGV[6..]=(epochDay, memberId, score) 반복
+     */
+    private static final String REBUILD_SCRIPT =
+            "for _, w in ipairs(redis.call('smembers', KEYS[2])) do " +
+            "    redis.call('del', ARGV[1] .. 'window:' .. w) " +
+            "end " +
+            "redis.call('del', KEYS[2]) " +
+            "for d = tonumber(ARGV[4]), tonumber(ARGV[5]) do redis.call('del', ARGV[1] .. 'day:' .. d) end " +
+            "for i = 6, #ARGV, 3 do " +
+            "    local dayKey = ARGV[1] .. 'day:' .. ARGV[i] " +
+            "    redis.call('zadd', dayKey, ARGV[i + 2], ARGV[i + 1]) " +
+            "    redis.call('expire', dayKey, ARGV[2]) " +
+            "end " +
+            "redis.call('set', KEYS[1], '1', 'EX', ARGV[3]) " +
+            "return 1";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MemberMissionStatRepository memberMissionStatRepository;
+    private final Clock clock;
+
+    /**
+     * 기간 내 멤버별 풀이 수 조회
+     *
+     * @return memberId → 풀이 수 (풀이 기록이 없는 멤버는 포함되지 않음), Redis 장애 시 empty
+     */
+    public Optional<Map<Long, Long>> findSolvedCounts(Long teamId, LocalDate startDate, LocalDate endDate) {
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(builtKey(teamId)))) {
+                rebuild(teamId);
+            }
+
+            String windowId = startDate.toEpochDay() + ":" + endDate.toEpochDay();
+            List<String> args = new ArrayList<>(List.of(
+                    prefix(teamId), String.valueOf(WINDOW_TTL.toSeconds()), windowId));
+            for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+                args.add(String.valueOf(date.toEpochDay()));
+            }
+
+            @SuppressWarnings("unchecked")
+            List<String> flat = (List<String>) redisTemplate.execute(
+                    RedisScript.of(READ_SCRIPT, List.class),
+                    List.of(prefix(teamId) + "window:" + windowId, windowsKey(teamId)),
+                    args.toArray());
+
+            Map<Long, Long> solvedCounts = new LinkedHashMap<>();
+            if (flat != null) {
+                for (int i = 0; i + 1 < flat.size(); i += 2) {
+                    solvedCounts.put(Long.valueOf(flat.get(i)), (long) Double.parseDouble(flat.get(i + 1)));
+                }
+            }
+            return Optional.of(solvedCounts);
+        } catch (Exception e) {
+            log.warn("팀 {} Redis 리더보드 조회 실패 — DB 집계로 대체합니다", teamId, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 문제 인증 반영 — 팀마다 해당 문제가 마지막으로 추천된 미션 날짜 버킷에 +1 (member_mission_stat과 같은 규칙)
+     * 인증 트랜잭션 커밋 후 호출한다. 실패해도 인증 결과에는 영향이 없고 재구성 배치가 보정한다.
+     */
+    public void recordSolved(Long memberId, Long problemId) {
+        try {
+            Map<Long, List<LocalDate>> datesByTeam = memberMissionStatRepository
+                    .findCreditedByMemberIdAndProblemId(memberId, problemId)
+                    .stream()
+                    .collect(Collectors.groupingBy(MemberMissionStat::getTeamId,
+                            Collectors.mapping(MemberMissionStat::getMissionDate, Collectors.toList())));
+
+            datesByTeam.forEach((teamId, dates) -> {
+                List<String> args = new ArrayList<>(List.of(
+                        prefix(teamId), String.valueOf(Duration.ofDays(RETENTION_DAYS).toSeconds()),
+                        String.valueOf(memberId)));
+                dates.forEach(date -> args.add(String.valueOf(date.toEpochDay())));
+                redisTemplate.execute(
+                        RedisScript.of(INCREMENT_SCRIPT, Long.class),
+                        List.of(builtKey(teamId), windowsKey(teamId)),
+                        args.toArray());
+            });
+        } catch (Exception e) {
+            log.warn("Redis 리더보드 풀이 반영 실패 (memberId={}, problemId={})", memberId, problemId, e);
+        }
+    }
+
+    /**
+     * member_mission_stat 기준으로 팀 리더보드 재구성 (현재 팀원만)
+     */
+    public void rebuild(Long teamId) {
+        LocalDate endDate = MissionCyclePolicy.getMissionDate(clock);
+        LocalDate startDate = endDate.minusDays(RETENTION_DAYS - 1);
+
+        List<MemberMissionStat> stats = memberMissionStatRepository
+                .findCurrentMemberStatsByTeamIdAndDateBetween(teamId, startDate, endDate);
+
+        List<String> args = new ArrayList<>(List.of(
+                prefix(teamId),
+                String.valueOf(Duration.ofDays(RETENTION_DAYS).toSeconds()),
+                String.valueOf(BUILT_TTL.toSeconds()),
+                String.valueOf(startDate.toEpochDay()),
+                String.valueOf(endDate.toEpochDay())));
+        for (MemberMissionStat stat : stats) {
+            args.add(String.valueOf(stat.getMissionDate().toEpochDay()));
+            args.add(String.valueOf(stat.getMemberId()));
+            args.add(String.valueOf(stat.getSolvedCount()));
+        }
+
+        redisTemplate.execute(
+                RedisScript.of(REBUILD_SCRIPT, Long.class),
+                List.of(builtKey(teamId), windowsKey(teamId)),
+                args.toArray());
+        log.debug("팀 {} Redis 리더보드 재구성 완료 (통계 {}건)", teamId, stats.size());
+    }
+
+    /**
+     * 팀원 구성 변경 시 재구성 예약 — 마커만 지우고 다음 조회 시 재구성한다.
+     * 트랜잭션 안에서 호출되면 커밋 이후에 지워 커밋 전 데이터로 재구성되는 것을 막는다.
+     */
+    public void invalidate(Long teamId) {
+        TransactionUtils.runAfterCommit(() -> deleteBuiltMarker(teamId));
+    }
+
+    private void deleteBuiltMarker(Long teamId) {
+        try {
+            redisTemplate.delete(builtKey(teamId));
+        } catch (Exception e) {
+            log.warn("팀 {} Redis 리더보드 무효화 실패 — 재구성 배치에서 보정됩니다", teamId, e);
+        }
+    }
+
+    private String prefix(Long teamId) {
+        return KEY_PREFIX + teamId + ":";
+    }
+
+    private String builtKey(Long teamId) {
+        return prefix(teamId) + "built";
+    }
+
+    private String windowsKey(Long teamId) {
+        return prefix(teamId) + "windows";
+    }
+}
@@ -0,0 +1,57 @@
+package com.ryu.studyhelper.team.mail;
+
+import com.ryu.studyhelper.infrastructure.mail.outbox.MailOutboxHandler;
+import com.ryu.studyhelper.infrastructure.mail.outbox.MailOutboxType;
+import com.ryu.studyhelper.infrastructure.mail.sender.MailSender;
+import com.ryu.studyhelper.team.domain.TeamJoin;
+import com.ryu.studyhelper.team.repository.TeamJoinRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 팀 초대 메일 아웃박스 처리기 (reference_id = team_join.id)
+ * 발송 시점에 이미 수락/거절/취소/만료된 초대나 이메일이 없는 대상은 보내지 않고 처리 완료로 본다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+class InvitationMailOutboxHandler implements MailOutboxHandler {
+
+    private final TeamJoinRepository teamJoinRepository;
+    private final InvitationMailBuilder invitationMailBuilder;
+    private final MailSender mailSender;
+
+    @Override
+    public MailOutboxType type() {
+        return MailOutboxType.TEAM_INVITATION;
+    }
+
+    @Override
+    public Map<Long, String> handle(List<Long> referenceIds) {
+        Map<Long, String> failures = new HashMap<>();
+        for (TeamJoin teamJoin : teamJoinRepository.findAllWithTeamAndMembersByIdIn(referenceIds)) {
+            if (!teamJoin.isPending() || teamJoin.isExpired()) {
+                log.info("초대 메일 스킵 — 더 이상 대기 중이 아닌 초대 (teamJoinId={})", teamJoin.getId());
+                continue;
+            }
+            String email = teamJoin.getTargetMember().getEmail();
+            if (email == null || email.isBlank()) {
+                // 재시도해도 보낼 수 없으므로 실패로 돌려주지 않는다 (DEAD까지 재시도 방지)
+                log.warn("초대 메일 스킵 — 대상 회원에 이메일이 없음 (teamJoinId={})", teamJoin.getId());
+                continue;
+            }
+            try {
+                mailSender.send(invitationMailBuilder.build(teamJoin));
+            } catch (Exception e) {
+                log.warn("초대 이메일 발송 실패 (teamJoinId={}): {}", teamJoin.getId(), e.getMessage());
+                failures.put(teamJoin.getId(), e.getClass().getSimpleName() + ": " + e.getMessage());
+            }
+        }
+        return failures;
+    }
+}
@@ -0,0 +1,130 @@
+package com.ryu.studyhelper.team.repository;
+
+import com.ryu.studyhelper.team.domain.MemberMissionStat;
+import com.ryu.studyhelper.team.dto.projection.MemberSolvedCountProjection;
+import com.ryu.studyhelper.team.dto.projection.RecommendedProblemProjection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface MemberMissionStatRepository extends JpaRepository<MemberMissionStat, Long> {
+
+    /**
+     * 추천 저장 시 다시 계산할 통계 행 조회
+     */
+    List<MemberMissionStat> findByTeamIdAndMemberIdInAndMissionDateIn(
+            Long teamId, Collection<Long> memberIds, Collection<LocalDate> missionDates);
+
+    /**
+     * 팀에서 멤버별로 주어진 미션 날짜에 추천된 서로 다른 문제 — 같은 날 여러 추천에 겹친 문제는 한 번만 나온다
+     */
+    @Query("SELECT DISTINCT mr.member.id AS memberId, rp.problem.id AS problemId, r.date AS missionDate " +
+            "FROM MemberRecommendation mr " +
+            "JOIN mr.recommendation r " +
+            "JOIN r.problems rp " +
+            "WHERE mr.teamId = :teamId " +
+            "AND r.date IN :missionDates " +
+            "AND mr.member.id IN :memberIds")
+    List<RecommendedProblemProjection> findRecommendedProblemsByDates(
+            @Param("teamId") Long teamId,
+            @Param("memberIds") Collection<Long> memberIds,
+            @Param("missionDates") Collection<LocalDate> missionDates
+    );
+
+    /**
+     * 팀에서 멤버별로 주어진 문제가 추천된 미션 날짜 (풀이를 반영할 마지막 추천 날짜 계산용)
+     */
+    @Query("SELECT DISTINCT mr.member.id AS memberId, rp.problem.id AS problemId, r.date AS missionDate " +
+            "FROM MemberRecommendation mr " +
+            "JOIN mr.recommendation r " +
+            "JOIN r.problems rp " +
+            "WHERE mr.teamId = :teamId " +
+            "AND rp.problem.id IN :problemIds " +
+            "AND mr.member.id IN :memberIds")
+    List<RecommendedProblemProjection> findRecommendedDatesByProblems(
+            @Param("teamId") Long teamId,
+            @Param("memberIds") Collection<Long> memberIds,
+            @Param("problemIds") Collection<Long> problemIds
+    );
+
+    /**
+     * 현재 팀원의 기간 내 통계 행 조회 (Redis 리더보드 재구성용)
+     */
+    @Query("SELECT s FROM MemberMissionStat s " +
+            "JOIN TeamMember tm ON tm.member.id = s.memberId AND tm.team.id = s.teamId " +
+            "WHERE s.teamId = :teamId " +
+            "AND s.missionDate BETWEEN :startDate AND :endDate")
+    List<MemberMissionStat> findCurrentMemberStatsByTeamIdAndDateBetween(
+            @Param("teamId") Long teamId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    /**
+     * 특정 문제가 추천된 멤버의 통계 행 조회 (팀 활동 변경 로그용 — 추천된 날짜마다 한 행)
+     */
+    @Query("SELECT s FROM MemberMissionStat s " +
+            "WHERE s.memberId = :memberId " +
+            "AND EXISTS (SELECT 1 FROM MemberRecommendation mr " +
+            "JOIN mr.recommendation r " +
+            "JOIN r.problems rp " +
+            "WHERE mr.member.id = :memberId " +
+            "AND mr.teamId = s.teamId " +
+            "AND r.date = s.missionDate " +
+            "AND rp.problem.id = :problemId)")
+    List<MemberMissionStat> findByMemberIdAndRecommendedProblemId(
+            @Param("memberId") Long memberId,
+            @Param("problemId") Long problemId
+    );
+
+    /**
+     * 팀 리더보드 집계 — uk_member_mission_stat(team_id, mission_date, member_id) 범위 스캔
+     */
+    @Query("SELECT s.memberId AS memberId, SUM(s.solvedCount) AS totalSolved " +
+            "FROM MemberMissionStat s " +
+            "WHERE s.teamId = :teamId " +
+            "AND s.missionDate BETWEEN :startDate AND :endDate " +
+            "GROUP BY s.memberId")
+    List<MemberSolvedCountProjection> sumSolvedByTeamIdAndDateBetween(
+            @Param("teamId") Long teamId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    /**
+     * 풀이를 반영할 통계 행 조회 — 팀마다 해당 문제가 마지막으로 추천된 미션 날짜의 행 (incrementSolvedCount 대상)
+     */
+    @Query("SELECT s FROM MemberMissionStat s " +
+            "WHERE s.memberId = :memberId " +
+            "AND s.missionDate = (SELECT MAX(r.date) FROM MemberRecommendation mr " +
+            "JOIN mr.recommendation r " +
+            "JOIN r.problems rp " +
+            "WHERE mr.member.id = :memberId " +
+            "AND mr.teamId = s.teamId " +
+            "AND rp.problem.id = :problemId)")
+    List<MemberMissionStat> findCreditedByMemberIdAndProblemId(
+            @Param("memberId") Long memberId,
+            @Param("problemId") Long problemId
+    );
+
+    /**
+     * 문제 인증 시 풀이 수 증가
+     * 팀마다 해당 문제가 마지막으로 추천된 미션 날짜의 행만 원자적으로 +1 한다.
+     * 여러 날 추천된 문제도 한 번만 세므로 오늘까지의 조회 기간 합산이 기간 내 서로 다른 풀이 문제 수와 같다.
+     */
+    @Modifying
+    @Query("UPDATE MemberMissionStat s SET s.solvedCount = s.solvedCount + 1 " +
+            "WHERE s.memberId = :memberId " +
+            "AND s.missionDate = (SELECT MAX(r.date) FROM MemberRecommendation mr " +
+            "JOIN mr.recommendation r " +
+            "JOIN r.problems rp " +
+            "WHERE mr.member.id = :memberId " +
+            "AND mr.teamId = s.teamId " +
+            "AND rp.problem.id = :problemId)")
+    int incrementSolvedCount(@Param("memberId") Long memberId, @Param("problemId") Long problemId);
+}
@@ -0,0 +1,58 @@
+package com.ryu.studyhelper.team.repository;
+
+import com.ryu.studyhelper.team.domain.TeamActivityChange;
+import com.ryu.studyhelper.team.dto.projection.TeamActivityChangeProjection;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TeamActivityChangeRepository extends JpaRepository<TeamActivityChange, Long> {
+
+    /**
+     * 안정화 시각 이전에 적재된 최신 변경 ID (없으면 null)
+     * id는 커밋 순서와 다를 수 있어, 아직 커밋 중일 수 있는 최근 행은 커서에 포함하지 않는다.
+     */
+    @Query("SELECT MAX(c.id) FROM TeamActivityChange c WHERE c.createdAt < :settledBefore")
+    Long findLatestIdCreatedBefore(@Param("settledBefore") LocalDateTime settledBefore);
+
+    /**
+     * 보관 중인 가장 오래된 변경 ID (없으면 null) — 이보다 오래된 커서는 전체 재조회가 필요하다
+     */
+    @Query("SELECT MIN(c.id) FROM TeamActivityChange c")
+    Long findOldestId();
+
+    /**
+     * 커서 이후 변경 조회 (id 오름차순, 조회 기간 내 미션 날짜만)
+     */
+    @Query("SELECT c.id AS id, c.createdAt AS createdAt, c.memberId AS memberId, c.changeType AS changeType, " +
+            "c.missionDate AS missionDate, p.id AS problemId, " +
+            "p.title AS title, p.titleKo AS titleKo, p.level AS level " +
+            "FROM TeamActivityChange c " +
+            "JOIN Problem p ON p.id = c.problemId " +
+            "WHERE c.teamId = :teamId " +
+            "AND c.id > :cursor " +
+            "AND c.missionDate BETWEEN :startDate AND :endDate " +
+            "ORDER BY c.id ASC")
+    List<TeamActivityChangeProjection> findChangesAfter(
+            @Param("teamId") Long teamId,
+            @Param("cursor") Long cursor,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            Pageable pageable
+    );
+
+    /**
+     * 보관 기간이 지난 변경 삭제
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM TeamActivityChange c WHERE c.createdAt < :threshold")
+    int deleteByCreatedAtBefore(@Param("threshold") LocalDateTime threshold);
+}
@@ -4,8 +4,11 @@ import com.ryu.studyhelper.team.domain.TeamJoin;
 import com.ryu.studyhelper.team.domain.TeamJoinStatus;
 import com.ryu.studyhelper.team.domain.TeamJoinType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,4 +31,14 @@ public interface TeamJoinRepository extends JpaRepository<TeamJoin, Long> {
 
     List<TeamJoin> findByTeamIdAndTypeAndStatusAndExpiresAtAfter(
             Long teamId, TeamJoinType type, TeamJoinStatus status, LocalDateTime now);
-}
\ No newline at end of file
+
+    /**
+     * 초대 메일 발송용 — 팀·요청자·대상 회원을 함께 조회
+     */
+    @Query("SELECT tj FROM TeamJoin tj " +
+            "JOIN FETCH tj.team " +
+            "JOIN FETCH tj.requester " +
+            "JOIN FETCH tj.targetMember " +
+            "WHERE tj.id IN :ids")
+    List<TeamJoin> findAllWithTeamAndMembersByIdIn(@Param("ids") Collection<Long> ids);
+}
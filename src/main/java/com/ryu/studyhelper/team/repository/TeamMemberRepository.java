@@ -46,6 +46,12 @@ public interface TeamMemberRepository extends JpaRepository<TeamMember, Long> {
      */
     boolean existsByTeamIdAndMemberIdAndRole(Long teamId, Long memberId, TeamRole role);
 
+    /**
+     * 특정 멤버가 속한 팀 ID 목록 조회
+     */
+    @Query("SELECT tm.team.id FROM TeamMember tm WHERE tm.member.id = :memberId")
+    List<Long> findTeamIdsByMemberId(@org.springframework.data.repository.query.Param("memberId") Long memberId);
+
     /**
      * 특정 멤버가 속한 모든 팀 멤버십 조회
      */
@@ -18,6 +18,12 @@ public interface TeamRepository extends JpaRepository<Team, Long> {
      */
     List<Team> findByIsPrivateFalse();
 
+    /**
+     * 전체 팀 ID 조회 (리더보드 재구성 배치용)
+     */
+    @Query("SELECT t.id FROM Team t")
+    List<Long> findAllIds();
+
     /**
      * 기본 스쿼드 lazy 초기화 시 동시성 제어용 비관적 쓰기 락
      */
@@ -0,0 +1,38 @@
+package com.ryu.studyhelper.team.scheduler;
+
+import com.ryu.studyhelper.team.repository.TeamActivityChangeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+/**
+ * 팀 활동 변경 로그 정리 스케줄러
+ * - 06:10: 보관 기간(최대 조회 기간 30일 + 1일)이 지난 변경 삭제
+ * 삭제된 구간의 커서로 델타를 요청하면 전체 재조회(resyncRequired)로 응답한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TeamActivityChangeCleanupScheduler {
+
+    static final int RETENTION_DAYS = 31;
+
+    private final TeamActivityChangeRepository teamActivityChangeRepository;
+    private final Clock clock;
+
+    @Scheduled(cron = "0 10 6 * * *", zone = "Asia/Seoul")
+    public void purgeExpired() {
+        log.info("=== 팀 활동 변경 로그 정리 배치 작업 시작 ===");
+
+        long startTime = System.currentTimeMillis();
+        int deleted = teamActivityChangeRepository.deleteByCreatedAtBefore(
+                LocalDateTime.now(clock).minusDays(RETENTION_DAYS));
+
+        log.info("=== 팀 활동 변경 로그 정리 배치 작업 완료 === (삭제 {}건, 소요시간: {}ms)",
+                deleted, System.currentTimeMillis() - startTime);
+    }
+}
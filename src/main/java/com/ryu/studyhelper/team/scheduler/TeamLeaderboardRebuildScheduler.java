@@ -0,0 +1,48 @@
+package com.ryu.studyhelper.team.scheduler;
+
+import com.ryu.studyhelper.team.activity.TeamActivityVersion;
+import com.ryu.studyhelper.team.leaderboard.TeamLeaderboardStore;
+import com.ryu.studyhelper.team.repository.TeamRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Redis 팀 리더보드 재구성 스케줄러
+ * - 06:05: 미션 날짜 전환 직후 전체 팀을 member_mission_stat 기준으로 재구성
+ * 증가 반영 누락·중복(커밋 후 반영 실패, 재구성과 증가 경합 등)으로 생긴 편차를 하루 단위로 보정한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TeamLeaderboardRebuildScheduler {
+
+    private final TeamRepository teamRepository;
+    private final TeamLeaderboardStore teamLeaderboardStore;
+    private final TeamActivityVersion teamActivityVersion;
+
+    @Scheduled(cron = "0 5 6 * * *", zone = "Asia/Seoul")
+    public void rebuildAll() {
+        log.info("=== 팀 리더보드 재구성 배치 작업 시작 ===");
+
+        long startTime = System.currentTimeMillis();
+        List<Long> teamIds = teamRepository.findAllIds();
+        int failCount = 0;
+
+        for (Long teamId : teamIds) {
+            try {
+                teamLeaderboardStore.rebuild(teamId);
+                teamActivityVersion.bump(teamId); // 보정된 점수가 조건부 응답(304)에 가려지지 않도록
+            } catch (Exception e) {
+                failCount++;
+                log.warn("팀 {} 리더보드 재구성 실패", teamId, e);
+            }
+        }
+
+        log.info("=== 팀 리더보드 재구성 배치 작업 완료 === (팀 {}개, 실패 {}개, 소요시간: {}ms)",
+                teamIds.size(), failCount, System.currentTimeMillis() - startTime);
+    }
+}
@@ -0,0 +1,141 @@
+package com.ryu.studyhelper.team.service;
+
+import com.ryu.studyhelper.solve.dto.projection.SolvedProblemIdProjection;
+import com.ryu.studyhelper.solve.repository.MemberSolvedProblemRepository;
+import com.ryu.studyhelper.team.domain.MemberMissionStat;
+import com.ryu.studyhelper.team.dto.projection.RecommendedProblemProjection;
+import com.ryu.studyhelper.team.repository.MemberMissionStatRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 팀원별 미션 통계(member_mission_stat) 갱신 서비스
+ * 추천 저장·문제 인증 트랜잭션에 참여해 함께 커밋된다.
+ */
+@Service
+@RequiredArgsConstructor
+public class MemberMissionStatService {
+
+    private final MemberMissionStatRepository memberMissionStatRepository;
+    private final MemberSolvedProblemRepository memberSolvedProblemRepository;
+
+    /**
+     * 추천 저장 반영 — 이번 추천으로 값이 바뀌는 행을 (멤버, 문제) 쌍 기준으로 다시 계산
+     * 풀이는 팀에서 그 문제가 마지막으로 추천된 미션 날짜 한 곳에만 센다 (incrementSolvedCount와 같은 규칙).
+     * 이미 푼 문제가 다시 추천되면 풀이 몫이 이번 날짜로 옮겨 오므로, 그 문제가 추천됐던 이전 날짜 행도 함께 다시 계산한다.
+     * 같은 날 재추천(수동 추천 등)으로 문제가 겹쳐도 추천 수·풀이 수를 두 번 세지 않는다.
+     */
+    @Transactional
+    public void recordRecommended(Long teamId, LocalDate missionDate, List<Long> memberIds, List<Long> problemIds) {
+        if (memberIds.isEmpty() || problemIds.isEmpty()) {
+            return;
+        }
+
+        // 1. 다시 계산할 행: 이번 날짜 + 이번 추천 문제가 추천됐던 다른 날짜
+        Map<RowKey, Set<Long>> problemsByRow = new HashMap<>();
+        memberIds.forEach(memberId -> problemsByRow.put(new RowKey(memberId, missionDate), new HashSet<>(problemIds)));
+        memberMissionStatRepository.findRecommendedDatesByProblems(teamId, memberIds, problemIds)
+                .forEach(row -> problemsByRow.computeIfAbsent(
+                        new RowKey(row.getMemberId(), row.getMissionDate()), key -> new HashSet<>()));
+
+        // 2. 각 행에 추천된 문제 (이번 추천은 아직 flush 전일 수 있어 1에서 직접 넣었다)
+        Set<LocalDate> missionDates = problemsByRow.keySet().stream()
+                .map(RowKey::missionDate)
+                .collect(Collectors.toSet());
+        for (RecommendedProblemProjection row : memberMissionStatRepository
+                .findRecommendedProblemsByDates(teamId, memberIds, missionDates)) {
+            Set<Long> problems = problemsByRow.get(new RowKey(row.getMemberId(), row.getMissionDate()));
+            if (problems != null) {
+                problems.add(row.getProblemId());
+            }
+        }
+
+        // 3. 푼 문제와 그 문제가 마지막으로 추천된 날짜
+        List<Long> allProblemIds = problemsByRow.values().stream()
+                .flatMap(Set::stream)
+                .distinct()
+                .toList();
+        Map<Long, Set<Long>> solvedByMember = memberSolvedProblemRepository
+                .findSolvedProblemIds(memberIds, allProblemIds)
+                .stream()
+                .collect(Collectors.groupingBy(SolvedProblemIdProjection::getMemberId,
+                        Collectors.mapping(SolvedProblemIdProjection::getProblemId, Collectors.toSet())));
+        Map<SolvedKey, LocalDate> creditedDates = findCreditedDates(
+                teamId, missionDate, memberIds, problemIds, solvedByMember);
+
+        // 4. 행별 추천 수·풀이 수 재계산
+        Map<RowKey, MemberMissionStat> existing = memberMissionStatRepository
+                .findByTeamIdAndMemberIdInAndMissionDateIn(teamId, memberIds, missionDates)
+                .stream()
+                .collect(Collectors.toMap(stat -> new RowKey(stat.getMemberId(), stat.getMissionDate()),
+                        Function.identity()));
+
+        List<MemberMissionStat> stats = problemsByRow.entrySet().stream()
+                .map(entry -> {
+                    RowKey key = entry.getKey();
+                    Set<Long> solved = solvedByMember.getOrDefault(key.memberId(), Set.of());
+                    int solvedCount = (int) entry.getValue().stream()
+                            .filter(solved::contains)
+                            .filter(problemId -> key.missionDate().equals(
+                                    creditedDates.get(new SolvedKey(key.memberId(), problemId))))
+                            .count();
+                    MemberMissionStat stat = existing.getOrDefault(key,
+                            MemberMissionStat.create(teamId, key.memberId(), key.missionDate()));
+                    stat.recount(entry.getValue().size(), solvedCount);
+                    return stat;
+                })
+                .toList();
+        memberMissionStatRepository.saveAll(stats);
+    }
+
+    /**
+     * 문제 인증 반영 — 팀마다 해당 문제가 마지막으로 추천된 미션 날짜 행의 풀이 수 +1
+     */
+    @Transactional
+    public void recordSolved(Long memberId, Long problemId) {
+        memberMissionStatRepository.incrementSolvedCount(memberId, problemId);
+    }
+
+    /**
+     * 푼 (멤버, 문제)별 마지막 추천 날짜 — 이번 추천은 flush 전일 수 있어 이번 날짜도 후보에 넣는다
+     */
+    private Map<SolvedKey, LocalDate> findCreditedDates(Long teamId, LocalDate missionDate, List<Long> memberIds,
+                                                        List<Long> problemIds, Map<Long, Set<Long>> solvedByMember) {
+        Map<SolvedKey, LocalDate> creditedDates = new HashMap<>();
+        Set<Long> solvedProblemIds = solvedByMember.values().stream()
+                .flatMap(Set::stream)
+                .collect(Collectors.toSet());
+        if (solvedProblemIds.isEmpty()) {
+            return creditedDates;
+        }
+
+        for (Long memberId : memberIds) {
+            Set<Long> solved = solvedByMember.getOrDefault(memberId, Set.of());
+            problemIds.stream()
+                    .filter(solved::contains)
+                    .forEach(problemId -> creditedDates.put(new SolvedKey(memberId, problemId), missionDate));
+        }
+        for (RecommendedProblemProjection row : memberMissionStatRepository
+                .findRecommendedDatesByProblems(teamId, memberIds, solvedProblemIds)) {
+            creditedDates.merge(new SolvedKey(row.getMemberId(), row.getProblemId()), row.getMissionDate(),
+                    (a, b) -> a.isAfter(b) ? a : b);
+        }
+        return creditedDates;
+    }
+
+    private record RowKey(Long memberId, LocalDate missionDate) {
+    }
+
+    private record SolvedKey(Long memberId, Long problemId) {
+    }
+}
@@ -4,6 +4,7 @@ import com.ryu.studyhelper.common.enums.CustomResponseStatus;
 import com.ryu.studyhelper.common.exception.CustomException;
 import com.ryu.studyhelper.problem.domain.Tag;
 import com.ryu.studyhelper.problem.repository.TagRepository;
+import com.ryu.studyhelper.team.activity.TeamActivityVersion;
 import com.ryu.studyhelper.team.domain.Squad;
 import com.ryu.studyhelper.team.domain.SquadIncludeTag;
 import com.ryu.studyhelper.team.domain.Team;
@@ -43,6 +44,7 @@ public class SquadService {
     private final SquadIncludeTagRepository squadIncludeTagRepository;
     private final TeamMemberRepository teamMemberRepository;
     private final TagRepository tagRepository;
+    private final TeamActivityVersion teamActivityVersion;
 
     @Transactional
     public SquadResponse createSquad(Long teamId, CreateSquadRequest request, Long memberId) {
@@ -92,6 +94,7 @@ public class SquadService {
 
         squad.updateBasicInfo(request.name(), request.description());
         squadRepository.save(squad);
+        teamActivityVersion.bump(teamId);
         return SquadResponse.from(squad);
     }
 
@@ -117,6 +120,7 @@ public class SquadService {
 
         squadIncludeTagRepository.deleteAllBySquadId(squadId);
         squadRepository.delete(squad);
+        teamActivityVersion.bump(teamId);
     }
 
     @Transactional(readOnly = true)
@@ -189,6 +193,7 @@ public class SquadService {
 
         target.updateSquadId(squad.getId());
         teamMemberRepository.save(target);
+        teamActivityVersion.bump(teamId);
     }
 
     @Transactional(readOnly = true)
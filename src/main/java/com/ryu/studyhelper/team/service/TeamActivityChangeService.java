@@ -0,0 +1,52 @@
+package com.ryu.studyhelper.team.service;
+
+import com.ryu.studyhelper.team.domain.TeamActivityChange;
+import com.ryu.studyhelper.team.repository.MemberMissionStatRepository;
+import com.ryu.studyhelper.team.repository.TeamActivityChangeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 팀 활동 변경 로그(team_activity_change) 적재 서비스
+ * 추천 저장·문제 인증 트랜잭션에 참여해 함께 커밋된다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TeamActivityChangeService {
+
+    private final TeamActivityChangeRepository teamActivityChangeRepository;
+    private final MemberMissionStatRepository memberMissionStatRepository;
+
+    /**
+     * 추천 저장 반영 — 멤버 × 문제마다 RECOMMENDED 한 행
+     */
+    @Transactional
+    public void recordRecommended(Long teamId, LocalDate missionDate, List<Long> memberIds, List<Long> problemIds) {
+        if (memberIds.isEmpty() || problemIds.isEmpty()) {
+            return;
+        }
+
+        List<TeamActivityChange> changes = memberIds.stream()
+                .flatMap(memberId -> problemIds.stream()
+                        .map(problemId -> TeamActivityChange.recommended(teamId, memberId, missionDate, problemId)))
+                .toList();
+        teamActivityChangeRepository.saveAll(changes);
+    }
+
+    /**
+     * 문제 인증 반영 — 해당 문제가 추천된 (팀, 미션 날짜)마다 SOLVED 한 행
+     */
+    @Transactional
+    public void recordSolved(Long memberId, Long problemId) {
+        List<TeamActivityChange> changes = memberMissionStatRepository
+                .findByMemberIdAndRecommendedProblemId(memberId, problemId)
+                .stream()
+                .map(stat -> TeamActivityChange.solved(stat.getTeamId(), memberId, stat.getMissionDate(), problemId))
+                .toList();
+        teamActivityChangeRepository.saveAll(changes);
+    }
+}
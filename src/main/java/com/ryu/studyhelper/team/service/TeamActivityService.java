@@ -1,21 +1,34 @@
 package com.ryu.studyhelper.team.service;
 
 import com.ryu.studyhelper.common.MissionCyclePolicy;
-import com.ryu.studyhelper.member.domain.Member;
-import com.ryu.studyhelper.recommendation.domain.member.MemberRecommendation;
+import com.ryu.studyhelper.recommendation.dto.projection.MemberRecommendationDateProjection;
+import com.ryu.studyhelper.recommendation.dto.projection.RecommendationProblemSummaryProjection;
 import com.ryu.studyhelper.recommendation.repository.MemberRecommendationRepository;
+import com.ryu.studyhelper.recommendation.repository.RecommendationProblemRepository;
 import com.ryu.studyhelper.solve.service.SolveService;
+import com.ryu.studyhelper.team.activity.TeamActivitySnapshot;
+import com.ryu.studyhelper.team.activity.TeamActivitySnapshotCache;
+import com.ryu.studyhelper.team.activity.TeamActivityVersion;
+import com.ryu.studyhelper.team.activity.TeamSolveMatrix;
 import com.ryu.studyhelper.team.domain.Squad;
+import com.ryu.studyhelper.team.domain.TeamActivityChangeType;
 import com.ryu.studyhelper.team.domain.TeamMember;
 import com.ryu.studyhelper.team.dto.internal.QueryPeriod;
+import com.ryu.studyhelper.team.dto.projection.TeamActivityChangeProjection;
+import com.ryu.studyhelper.team.dto.response.TeamActivityDeltaResponse;
 import com.ryu.studyhelper.team.dto.response.TeamActivityResponseV2;
 import com.ryu.studyhelper.team.dto.response.TeamLeaderboardResponse;
+import com.ryu.studyhelper.team.leaderboard.TeamLeaderboardStore;
 import com.ryu.studyhelper.team.repository.SquadRepository;
+import com.ryu.studyhelper.team.repository.TeamActivityChangeRepository;
 import com.ryu.studyhelper.team.repository.TeamMemberRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
@@ -34,78 +47,164 @@ public class TeamActivityService {
     private final TeamMemberRepository teamMemberRepository;
     private final SquadRepository squadRepository;
     private final MemberRecommendationRepository memberRecommendationRepository;
+    private final RecommendationProblemRepository recommendationProblemRepository;
+    private final TeamLeaderboardStore teamLeaderboardStore;
+    private final TeamActivitySnapshotCache teamActivitySnapshotCache;
+    private final TeamActivityVersion teamActivityVersion;
+    private final TeamActivityChangeRepository teamActivityChangeRepository;
+    private final Clock clock;
 
     private static final int MAX_DAYS = 30;
     private static final int DEFAULT_DAYS = 30;
+    private static final int DELTA_PAGE_SIZE = 500;
+    /**
+     * 이 시간 안에 적재된 변경은 커서를 넘기지 않는다 (id 순서와 커밋 순서 차이 흡수)
+     * created_at은 INSERT 시각이므로, 변경 로그는 각 트랜잭션의 마지막 쓰기로 적재하고
+     * 그 뒤 커밋까지 걸릴 수 있는 최악 시간(커밋 시 플러시·락 대기)보다 넉넉히 잡는다.
+     */
+    static final Duration DELTA_SETTLE_TIME = Duration.ofSeconds(60);
 
     // ========== 기간 계산 ==========
 
     private QueryPeriod calculateQueryPeriod(Integer days) {
         int queryDays = (days == null || days <= 0) ? DEFAULT_DAYS : Math.min(days, MAX_DAYS);
-        LocalDate endDate = MissionCyclePolicy.toMissionDate(LocalDateTime.now());
+        LocalDate endDate = MissionCyclePolicy.toMissionDate(LocalDateTime.now(clock));
         LocalDate startDate = endDate.minusDays(queryDays - 1);
         return QueryPeriod.of(queryDays, startDate, endDate);
     }
 
-    // ========== V2: 팀 리더보드 ==========
-    @Transactional(readOnly = true)
-    public TeamLeaderboardResponse getTeamLeaderboard(Long teamId, Long currentMemberId, Integer days) {
-        teamService.validateTeamAccess(teamId, currentMemberId);
+    // ========== 조건부 조회 (ETag) ==========
 
+    /**
+     * 리더보드·활동 현황 응답의 ETag
+     * 팀 활동 버전·조회 기간(미션 날짜 전환 반영)·요청 멤버로만 구성해 활동 데이터 조회 없이 계산한다.
+     * ETag 형식은 추측 가능하므로 접근 권한을 먼저 확인한다 — 비회원이 비공개 팀에 If-None-Match로
+     * 304 여부를 떠보는 것을 막는다 (팀 PK 조회 + 비공개 팀이면 멤버십 확인).
+     * 버전을 알 수 없으면(Redis 장애) empty — 조건부 응답 없이 매번 조회한다.
+     */
+    public Optional<String> getActivityETag(Long teamId, Long currentMemberId, Integer days) {
+        teamService.validateTeamAccess(teamId, currentMemberId);
         QueryPeriod period = calculateQueryPeriod(days);
+        return teamActivityVersion.current(teamId)
+                .map(version -> "team-" + teamId + "-v" + version
+                        + "-m" + (currentMemberId != null ? currentMemberId : "anon")
+                        + "-" + period.startDate() + "-" + period.endDate());
+    }
+
+    // ========== 팀 활동 스냅샷 ==========
+
+    /**
+     * 팀 활동 스냅샷 조회 — 리더보드·활동 현황 API가 공유한다.
+     * 팀 활동 버전이 같고 TTL 이내면 캐시된 스냅샷을 재사용한다.
+     */
+    private TeamActivitySnapshot loadSnapshot(Long teamId, QueryPeriod period) {
+        return teamActivitySnapshotCache.get(teamId, period, teamActivityVersion.current(teamId),
+                () -> buildSnapshot(teamId, period));
+    }
+
+    /**
+     * 팀 활동 스냅샷 계산
+     * (member, date, recommendationId) 목록과 (recommendationId, problem) 목록을 각각 projection으로 조회해
+     * 메모리에서 조립한다. 엔티티 fetch join의 카테시안 결과와 영속성 컨텍스트 적재를 피한다.
+     */
+    private TeamActivitySnapshot buildSnapshot(Long teamId, QueryPeriod period) {
         List<TeamMember> teamMembers = teamMemberRepository.findByTeamIdWithMember(teamId);
-        List<Squad> squads = squadRepository.findByTeamIdOrderByIdAsc(teamId);
-        Map<Long, Squad> squadMap = squads.stream().collect(Collectors.toMap(Squad::getId, s -> s));
 
         if (teamMembers.isEmpty()) {
-            return new TeamLeaderboardResponse(currentMemberId,
-                    new TeamLeaderboardResponse.Period(period.days(), period.startDate(), period.endDate()),
-                    List.of());
+            return TeamActivitySnapshot.empty(period);
         }
 
-        List<MemberRecommendation> memberRecs = memberRecommendationRepository
-                .findByTeamIdAndDateBetween(teamId, period.startDate(), period.endDate());
+        List<Squad> squads = squadRepository.findByTeamIdOrderByIdAsc(teamId);
+        Map<Long, Squad> squadMap = squads.stream().collect(Collectors.toMap(Squad::getId, s -> s));
 
-        Map<Long, Set<Long>> solvedMap = Map.of();
+        List<MemberRecommendationDateProjection> memberRecs = memberRecommendationRepository
+                .findDatesByTeamIdAndDateBetween(teamId, period.startDate(), period.endDate());
+
+        Map<Long, List<RecommendationProblemSummaryProjection>> problemsByRec = Map.of();
+        TeamSolveMatrix solveMatrix = TeamSolveMatrix.empty();
         if (!memberRecs.isEmpty()) {
-            Set<Long> allProblemIds = memberRecs.stream()
-                    .flatMap(mr -> mr.getRecommendation().getProblems().stream())
-                    .map(rp -> rp.getProblem().getId())
+            Set<Long> recommendationIds = memberRecs.stream()
+                    .map(MemberRecommendationDateProjection::getRecommendationId)
+                    .collect(Collectors.toSet());
+            problemsByRec = recommendationProblemRepository.findSummariesByRecommendationIdIn(recommendationIds)
+                    .stream()
+                    .collect(Collectors.groupingBy(RecommendationProblemSummaryProjection::getRecommendationId));
+
+            Set<Long> allProblemIds = problemsByRec.values().stream()
+                    .flatMap(List::stream)
+                    .map(RecommendationProblemSummaryProjection::getProblemId)
                     .collect(Collectors.toSet());
             List<Long> participatingMemberIds = memberRecs.stream()
-                    .map(mr -> mr.getMember().getId()).distinct().toList();
-            solvedMap = solveService.getSolvedProblemIdMap(participatingMemberIds, allProblemIds);
+                    .map(MemberRecommendationDateProjection::getMemberId).distinct().toList();
+            solveMatrix = TeamSolveMatrix.of(participatingMemberIds, allProblemIds,
+                    solveService.getSolvedProblemIds(participatingMemberIds, allProblemIds));
         }
 
+        Map<Long, List<MemberRecommendationDateProjection>> recsByMember = memberRecs.stream()
+                .collect(Collectors.groupingBy(MemberRecommendationDateProjection::getMemberId));
+
+        List<TeamActivityResponseV2.MemberActivity> memberActivities =
+                buildMemberActivities(teamMembers, recsByMember, problemsByRec, solveMatrix, squadMap);
+        return new TeamActivitySnapshot(period, memberActivities, countSolved(memberActivities, solveMatrix));
+    }
+
+    /**
+     * 팀원별 기간 내 풀이 수 — 미션 날짜마다 추천 문제 마스크와 풀이 행을 비트 연산으로 센다.
+     */
+    private Map<Long, Long> countSolved(List<TeamActivityResponseV2.MemberActivity> memberActivities,
+                                        TeamSolveMatrix solveMatrix) {
+        Map<Long, Long> solvedCounts = new HashMap<>();
+        for (TeamActivityResponseV2.MemberActivity activity : memberActivities) {
+            long solved = 0;
+            for (TeamActivityResponseV2.DailyRecommendation daily : activity.dailyRecommendations()) {
+                BitSet dayMask = solveMatrix.problemMask(daily.problems().stream()
+                        .map(TeamActivityResponseV2.ProblemActivity::problemId)
+                        .toList());
+                solved += solveMatrix.countSolved(activity.memberId(), dayMask);
+            }
+            solvedCounts.put(activity.memberId(), solved);
+        }
+        return solvedCounts;
+    }
+
+    // ========== V2: 팀 리더보드 ==========
+
+    /**
+     * 팀 리더보드 조회
+     * 팀원 목록은 팀 활동 스냅샷에서, 풀이 수는 Redis 팀 리더보드(ZSET)에서 읽는다.
+     * Redis를 쓸 수 없으면 스냅샷의 풀이 행렬로 센 풀이 수로 대체한다 (추가 쿼리 없음).
+     */
+    @Transactional(readOnly = true)
+    public TeamLeaderboardResponse getTeamLeaderboard(Long teamId, Long currentMemberId, Integer days) {
+        teamService.validateTeamAccess(teamId, currentMemberId);
+
+        QueryPeriod period = calculateQueryPeriod(days);
+        TeamActivitySnapshot snapshot = loadSnapshot(teamId, period);
+
+        if (snapshot.isEmpty()) {
+            return new TeamLeaderboardResponse(currentMemberId,
+                    new TeamLeaderboardResponse.Period(period.days(), period.startDate(), period.endDate()),
+                    List.of());
+        }
+
+        Map<Long, Long> solvedCounts = teamLeaderboardStore
+                .findSolvedCounts(teamId, period.startDate(), period.endDate())
+                .orElseGet(snapshot::solvedCounts);
+
         return new TeamLeaderboardResponse(currentMemberId,
                 new TeamLeaderboardResponse.Period(period.days(), period.startDate(), period.endDate()),
-                buildLeaderboardRanks(teamMembers, memberRecs, solvedMap, squadMap));
+                buildLeaderboardRanks(snapshot.memberActivities(), solvedCounts));
     }
 
     private List<TeamLeaderboardResponse.MemberRank> buildLeaderboardRanks(
-            List<TeamMember> teamMembers,
-            List<MemberRecommendation> memberRecs,
-            Map<Long, Set<Long>> solvedMap,
-            Map<Long, Squad> squadMap) {
+            List<TeamActivityResponseV2.MemberActivity> members,
+            Map<Long, Long> solvedCounts) {
 
-        Map<Long, Set<Long>> memberProblemIds = memberRecs.stream().collect(Collectors.groupingBy(
-                mr -> mr.getMember().getId(),
-                Collectors.flatMapping(
-                        mr -> mr.getRecommendation().getProblems().stream().map(rp -> rp.getProblem().getId()),
-                        Collectors.toSet()
-                )
-        ));
-
-        record MemberScore(TeamMember tm, long solved) {}
-        List<MemberScore> scores = teamMembers.stream()
-                .map(tm -> {
-                    Set<Long> pIds = memberProblemIds.getOrDefault(tm.getMember().getId(), Set.of());
-                    Set<Long> solved = solvedMap.getOrDefault(tm.getMember().getId(), Set.of());
-                    long count = pIds.stream().filter(solved::contains).count();
-                    return new MemberScore(tm, count);
-                })
+        record MemberScore(TeamActivityResponseV2.MemberActivity member, long solved) {}
+        List<MemberScore> scores = members.stream()
+                .map(m -> new MemberScore(m, solvedCounts.getOrDefault(m.memberId(), 0L)))
                 .sorted(Comparator.comparingLong(MemberScore::solved).reversed()
-                        .thenComparingLong(s -> s.tm().getMember().getId()))
+                        .thenComparingLong(s -> s.member().memberId()))
                 .toList();
 
         List<TeamLeaderboardResponse.MemberRank> ranks = new ArrayList<>();
@@ -122,12 +221,10 @@ public class TeamActivityService {
             }
             previousSolved = score.solved();
 
-            TeamMember tm = score.tm();
-            Long squadId = tm.getSquadId();
-            Squad squad = squadId != null ? squadMap.get(squadId) : null;
+            TeamActivityResponseV2.MemberActivity member = score.member();
             ranks.add(new TeamLeaderboardResponse.MemberRank(
-                    tm.getMember().getId(), tm.getMember().getHandle(),
-                    squadId, squad != null ? squad.getName() : null,
+                    member.memberId(), member.handle(),
+                    member.squadId(), member.squadName(),
                     currentRank, score.solved()
             ));
         }
@@ -138,47 +235,31 @@ public class TeamActivityService {
 
     // ========== V2: 팀원별 활동 현황 ==========
 
+    /**
+     * 팀원별 활동 현황 조회 — 팀 활동 스냅샷을 그대로 응답으로 사용한다.
+     */
     @Transactional(readOnly = true)
     public TeamActivityResponseV2 getTeamActivityV2(Long teamId, Long currentMemberId, Integer days) {
         teamService.validateTeamAccess(teamId, currentMemberId);
 
         QueryPeriod period = calculateQueryPeriod(days);
-        List<TeamMember> teamMembers = teamMemberRepository.findByTeamIdWithMember(teamId);
+        TeamActivitySnapshot snapshot = loadSnapshot(teamId, period);
 
-        if (teamMembers.isEmpty()) {
+        if (snapshot.isEmpty()) {
             return buildEmptyResponseV2(currentMemberId, period);
         }
 
-        List<Squad> squads = squadRepository.findByTeamIdOrderByIdAsc(teamId);
-        Map<Long, Squad> squadMap = squads.stream().collect(Collectors.toMap(Squad::getId, s -> s));
-
-        List<MemberRecommendation> memberRecs = memberRecommendationRepository
-                .findByTeamIdAndDateBetween(teamId, period.startDate(), period.endDate());
-
-        Map<Long, Set<Long>> solvedMap = Map.of();
-        if (!memberRecs.isEmpty()) {
-            Set<Long> allProblemIds = memberRecs.stream()
-                    .flatMap(mr -> mr.getRecommendation().getProblems().stream())
-                    .map(rp -> rp.getProblem().getId())
-                    .collect(Collectors.toSet());
-            List<Long> participatingMemberIds = memberRecs.stream()
-                    .map(mr -> mr.getMember().getId()).distinct().toList();
-            solvedMap = solveService.getSolvedProblemIdMap(participatingMemberIds, allProblemIds);
-        }
-
-        Map<Long, List<MemberRecommendation>> recsByMember = memberRecs.stream()
-                .collect(Collectors.groupingBy(mr -> mr.getMember().getId()));
-
         return new TeamActivityResponseV2(currentMemberId,
                 new TeamActivityResponseV2.Period(period.days(), period.startDate(), period.endDate()),
-                buildMemberActivities(teamMembers, recsByMember, solvedMap, squadMap)
+                snapshot.memberActivities()
         );
     }
 
     private List<TeamActivityResponseV2.MemberActivity> buildMemberActivities(
             List<TeamMember> teamMembers,
-            Map<Long, List<MemberRecommendation>> recsByMember,
-            Map<Long, Set<Long>> solvedMap,
+            Map<Long, List<MemberRecommendationDateProjection>> recsByMember,
+            Map<Long, List<RecommendationProblemSummaryProjection>> problemsByRec,
+            TeamSolveMatrix solveMatrix,
             Map<Long, Squad> squadMap) {
 
         return teamMembers.stream()
@@ -186,37 +267,37 @@ public class TeamActivityService {
                     Long memberId = tm.getMember().getId();
                     Long squadId = tm.getSquadId();
                     Squad squad = squadId != null ? squadMap.get(squadId) : null;
-                    Set<Long> solved = solvedMap.getOrDefault(memberId, Set.of());
 
                     // 미션 날짜 기준으로 그룹핑 (같은 날 여러 MR 머지)
-                    Map<LocalDate, List<MemberRecommendation>> byDate =
+                    Map<LocalDate, List<MemberRecommendationDateProjection>> byDate =
                             recsByMember.getOrDefault(memberId, List.of()).stream()
                                     .collect(Collectors.groupingBy(
-                                            mr -> mr.getRecommendation().getDate()
+                                            MemberRecommendationDateProjection::getDate
                                     ));
 
                     List<TeamActivityResponseV2.DailyRecommendation> dailyRecs =
                             byDate.entrySet().stream()
-                                    .sorted(Map.Entry.<LocalDate, List<MemberRecommendation>>comparingByKey().reversed())
+                                    .sorted(Map.Entry.<LocalDate, List<MemberRecommendationDateProjection>>comparingByKey().reversed())
                                     .map(entry -> {
                                         LocalDate date = entry.getKey();
                                         // 같은 날 MR들의 문제를 flat하게 수집, problemId 기준 중복 제거 후 정렬
                                         List<TeamActivityResponseV2.ProblemActivity> problems =
                                                 entry.getValue().stream()
-                                                        .flatMap(mr -> mr.getRecommendation().getProblems().stream())
+                                                        .flatMap(mr -> problemsByRec
+                                                                .getOrDefault(mr.getRecommendationId(), List.of()).stream())
                                                         .collect(Collectors.toMap(
-                                                                rp -> rp.getProblem().getId(),
+                                                                RecommendationProblemSummaryProjection::getProblemId,
                                                                 rp -> rp,
                                                                 (a, b) -> a
                                                         ))
                                                         .values().stream()
-                                                        .sorted(Comparator.comparing(rp -> rp.getProblem().getId()))
+                                                        .sorted(Comparator.comparing(RecommendationProblemSummaryProjection::getProblemId))
                                                         .map(rp -> new TeamActivityResponseV2.ProblemActivity(
-                                                                rp.getProblem().getId(),
-                                                                rp.getProblem().getTitle(),
-                                                                rp.getProblem().getTitleKo(),
-                                                                rp.getProblem().getLevel(),
-                                                                solved.contains(rp.getProblem().getId())
+                                                                rp.getProblemId(),
+                                                                rp.getTitle(),
+                                                                rp.getTitleKo(),
+                                                                rp.getLevel(),
+                                                                solveMatrix.isSolved(memberId, rp.getProblemId())
                                                         ))
                                                         .toList();
                                         return new TeamActivityResponseV2.DailyRecommendation(date, problems);
@@ -234,6 +315,87 @@ public class TeamActivityService {
                 .toList();
     }
 
+    // ========== V2: 팀 활동 델타 ==========
+
+    /**
+     * 커서 이후 팀 활동 변경 조회 (team_activity_change 기반)
+     * 커서가 없거나 보관 기간을 넘겼으면 재조회용 커서만 반환한다 — 클라이언트는 /activity 전체 조회 후 이 커서부터 델타를 적용한다.
+     * 최근 DELTA_SETTLE_TIME 내 변경은 응답에 포함하되 커서는 그 앞에서 멈춰, 다음 요청에서 다시 전달한다.
+     */
+    @Transactional(readOnly = true)
+    public TeamActivityDeltaResponse getTeamActivityDelta(Long teamId, Long currentMemberId, Integer days, Long cursor) {
+        teamService.validateTeamAccess(teamId, currentMemberId);
+
+        QueryPeriod period = calculateQueryPeriod(days);
+        TeamActivityResponseV2.Period responsePeriod =
+                new TeamActivityResponseV2.Period(period.days(), period.startDate(), period.endDate());
+        LocalDateTime settledBefore = LocalDateTime.now(clock).minus(DELTA_SETTLE_TIME);
+
+        if (cursor == null || isExpiredCursor(cursor)) {
+            Long latestId = teamActivityChangeRepository.findLatestIdCreatedBefore(settledBefore);
+            return TeamActivityDeltaResponse.resync(currentMemberId, responsePeriod, latestId != null ? latestId : 0L);
+        }
+
+        List<TeamActivityChangeProjection> changes = teamActivityChangeRepository.findChangesAfter(
+                teamId, cursor, period.startDate(), period.endDate(), PageRequest.of(0, DELTA_PAGE_SIZE + 1));
+        boolean hasMore = changes.size() > DELTA_PAGE_SIZE;
+        if (hasMore) {
+            changes = changes.subList(0, DELTA_PAGE_SIZE);
+        }
+
+        long nextCursor = cursor;
+        boolean settled = true;
+        for (TeamActivityChangeProjection change : changes) {
+            if (!change.getCreatedAt().isBefore(settledBefore)) {
+                settled = false;
+                break;
+            }
+            nextCursor = change.getId();
+        }
+
+        // 안정화 전 변경에서 커서가 멈췄으면 즉시 재요청해도 같은 결과이므로 hasMore를 내리지 않는다
+        return new TeamActivityDeltaResponse(currentMemberId, responsePeriod, nextCursor, hasMore && settled, false,
+                buildRecommendedDeltas(changes), buildSolvedDeltas(changes));
+    }
+
+    private boolean isExpiredCursor(long cursor) {
+        Long oldestId = teamActivityChangeRepository.findOldestId();
+        return oldestId != null && cursor < oldestId - 1;
+    }
+
+    private List<TeamActivityDeltaResponse.RecommendedProblem> buildRecommendedDeltas(
+            List<TeamActivityChangeProjection> changes) {
+
+        List<TeamActivityChangeProjection> recommended = changes.stream()
+                .filter(c -> c.getChangeType() == TeamActivityChangeType.RECOMMENDED)
+                .toList();
+        if (recommended.isEmpty()) {
+            return List.of();
+        }
+
+        // 추천 시점에 이미 풀었던 문제는 SOLVED 변경이 없으므로 현재 풀이 여부를 함께 내려준다
+        List<Long> memberIds = recommended.stream().map(TeamActivityChangeProjection::getMemberId).distinct().toList();
+        Set<Long> problemIds = recommended.stream()
+                .map(TeamActivityChangeProjection::getProblemId)
+                .collect(Collectors.toSet());
+        TeamSolveMatrix solveMatrix = TeamSolveMatrix.of(memberIds, problemIds,
+                solveService.getSolvedProblemIds(memberIds, problemIds));
+
+        return recommended.stream()
+                .map(c -> new TeamActivityDeltaResponse.RecommendedProblem(
+                        c.getMemberId(), c.getMissionDate(), c.getProblemId(),
+                        c.getTitle(), c.getTitleKo(), c.getLevel(),
+                        solveMatrix.isSolved(c.getMemberId(), c.getProblemId())))
+                .toList();
+    }
+
+    private List<TeamActivityDeltaResponse.SolvedProblem> buildSolvedDeltas(List<TeamActivityChangeProjection> changes) {
+        return changes.stream()
+                .filter(c -> c.getChangeType() == TeamActivityChangeType.SOLVED)
+                .map(c -> new TeamActivityDeltaResponse.SolvedProblem(c.getMemberId(), c.getMissionDate(), c.getProblemId()))
+                .toList();
+    }
+
     // ========== V2: 빈 응답 ==========
 
     private TeamActivityResponseV2 buildEmptyResponseV2(Long currentMemberId, QueryPeriod period) {
@@ -2,8 +2,8 @@ package com.ryu.studyhelper.team.service;
 
 import com.ryu.studyhelper.common.enums.CustomResponseStatus;
 import com.ryu.studyhelper.common.exception.CustomException;
-import com.ryu.studyhelper.infrastructure.mail.sender.MailSender;
-import com.ryu.studyhelper.team.mail.InvitationMailBuilder;
+import com.ryu.studyhelper.infrastructure.mail.outbox.MailOutboxService;
+import com.ryu.studyhelper.infrastructure.mail.outbox.MailOutboxType;
 import com.ryu.studyhelper.member.domain.Member;
 import com.ryu.studyhelper.member.repository.MemberRepository;
 import com.ryu.studyhelper.notification.domain.NotificationType;
@@ -11,6 +11,8 @@ import com.ryu.studyhelper.notification.service.NotificationService;
 import com.ryu.studyhelper.team.domain.*;
 import com.ryu.studyhelper.team.dto.request.TeamJoinInviteRequest;
 import com.ryu.studyhelper.team.dto.response.TeamJoinResponse;
+import com.ryu.studyhelper.team.activity.TeamActivityVersion;
+import com.ryu.studyhelper.team.leaderboard.TeamLeaderboardStore;
 import com.ryu.studyhelper.team.repository.TeamJoinRepository;
 import com.ryu.studyhelper.team.repository.TeamMemberRepository;
 import com.ryu.studyhelper.team.repository.TeamRepository;
@@ -33,9 +35,10 @@ public class TeamJoinService {
     private final TeamMemberRepository teamMemberRepository;
     private final SquadService squadService;
     private final MemberRepository memberRepository;
-    private final MailSender mailSender;
-    private final InvitationMailBuilder invitationMailBuilder;
+    private final MailOutboxService mailOutboxService;
     private final NotificationService notificationService;
+    private final TeamLeaderboardStore teamLeaderboardStore;
+    private final TeamActivityVersion teamActivityVersion;
 
     @Transactional
     public TeamJoinResponse inviteMember(TeamJoinInviteRequest request, Long requesterId) {
@@ -72,16 +75,12 @@ public class TeamJoinService {
         TeamJoin teamJoin = TeamJoin.createInvitation(team, requester, targetMember);
         TeamJoin saved = teamJoinRepository.save(teamJoin);
 
-        // 이메일 발송
-        try {
-            String targetEmail = targetMember.getEmail();
-            if (targetEmail == null || targetEmail.isBlank()) {
-                log.warn("초대 대상 회원 ID {}에 이메일이 없습니다", targetMember.getId());
-            } else {
-                mailSender.send(invitationMailBuilder.build(saved));
-            }
-        } catch (Exception e) {
-            log.warn("초대 이메일 발송 실패 (teamJoinId={}): {}", saved.getId(), e.getMessage());
+        // 초대 메일은 아웃박스에 적재 — 트랜잭션 커밋 후 워커가 발송
+        String targetEmail = targetMember.getEmail();
+        if (targetEmail == null || targetEmail.isBlank()) {
+            log.warn("초대 대상 회원 ID {}에 이메일이 없습니다", targetMember.getId());
+        } else {
+            mailOutboxService.enqueue(MailOutboxType.TEAM_INVITATION, saved.getId());
         }
 
         // 웹 알림 생성
@@ -109,6 +108,8 @@ public class TeamJoinService {
         Long defaultSquadId = squadService.findDefaultSquad(teamJoin.getTeam().getId()).getId();
         TeamMember teamMember = TeamMember.createMember(teamJoin.getTeam(), teamJoin.getTargetMember(), defaultSquadId);
         teamMemberRepository.save(teamMember);
+        teamLeaderboardStore.invalidate(teamJoin.getTeam().getId());
+        teamActivityVersion.bump(teamJoin.getTeam().getId());
 
         // 팀장에게 수락 알림
         Team team = teamJoin.getTeam();
@@ -224,6 +225,8 @@ public class TeamJoinService {
         Long defaultSquadId = squadService.findDefaultSquad(teamJoin.getTeam().getId()).getId();
         TeamMember teamMember = TeamMember.createMember(teamJoin.getTeam(), teamJoin.getRequester(), defaultSquadId);
         teamMemberRepository.save(teamMember);
+        teamLeaderboardStore.invalidate(teamJoin.getTeam().getId());
+        teamActivityVersion.bump(teamJoin.getTeam().getId());
 
         // 신청자에게 승인 알림
         Team team = teamJoin.getTeam();
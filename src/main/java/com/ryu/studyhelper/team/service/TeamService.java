@@ -24,6 +24,8 @@ import com.ryu.studyhelper.team.dto.response.PublicTeamResponseV2;
 import com.ryu.studyhelper.team.dto.response.TeamMemberResponse;
 import com.ryu.studyhelper.team.dto.response.TeamPageResponseV2;
 import com.ryu.studyhelper.team.dto.response.SquadSummaryResponse;
+import com.ryu.studyhelper.team.activity.TeamActivityVersion;
+import com.ryu.studyhelper.team.leaderboard.TeamLeaderboardStore;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -48,6 +50,8 @@ public class TeamService {
     private final SquadIncludeTagRepository squadIncludeTagRepository;
     private final RecommendationService recommendationService;
     private final NotificationService notificationService;
+    private final TeamLeaderboardStore teamLeaderboardStore;
+    private final TeamActivityVersion teamActivityVersion;
 
     @Transactional
     public CreateTeamResponse create(@Valid CreateTeamRequest req, Long memberId) {
@@ -171,6 +175,7 @@ public class TeamService {
         validateTeamLeaderAccess(teamId, memberId);
         team.updateVisibility(request.isPrivate());
         teamRepository.save(team);
+        teamActivityVersion.bump(teamId); // 비공개 전환 시 기존 ETag로 304를 받지 않도록
     }
 
     @Transactional
@@ -186,6 +191,8 @@ public class TeamService {
         Member member = teamMember.getMember();
 
         teamMemberRepository.delete(teamMember);
+        teamLeaderboardStore.invalidate(teamId);
+        teamActivityVersion.bump(teamId);
 
         teamMemberRepository.findLeaderIdByTeamId(teamId).ifPresent(leaderId ->
                 notificationService.createNotification(
@@ -214,6 +221,7 @@ public class TeamService {
         squadRepository.deleteAll(squads);
 
         teamRepository.delete(team);
+        teamActivityVersion.bump(teamId);
     }
 
     /**
@@ -0,0 +1,24 @@
+-- 멤버별 날짜 단위 풀이 수: 풀이 히트맵을 풀이 건수와 무관하게 O(일수)로 조회하기 위한 집계 테이블
+
+CREATE TABLE member_daily_solve
+(
+    id           bigint      NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    created_at   timestamp   NULL,
+    deleted_at   datetime(6) NULL,
+    modified_at  timestamp   NULL,
+    member_id    bigint      NOT NULL COMMENT 'Member 참조 (FK 없음)',
+    solve_date   date        NOT NULL COMMENT '06:00 기준 풀이 날짜',
+    solved_count int         DEFAULT 0 NOT NULL,
+    CONSTRAINT uk_member_daily_solve UNIQUE (member_id, solve_date)
+) COLLATE = utf8mb4_unicode_ci;
+
+-- 기존 풀이 이력 백필 (오전 6시 이전 풀이는 전날로 집계)
+INSERT INTO member_daily_solve (created_at, modified_at, member_id, solve_date, solved_count)
+SELECT NOW(),
+       NOW(),
+       member_id,
+       DATE(solved_at - INTERVAL 6 HOUR),
+       COUNT(*)
+FROM member_solved_problem
+WHERE solved_at IS NOT NULL
+GROUP BY member_id, DATE(solved_at - INTERVAL 6 HOUR);
@@ -0,0 +1,22 @@
+-- 팀원별 미션 통계 풀이 수 재계산: 여러 날 추천된 문제는 마지막으로 추천된 미션 날짜에서 한 번만 센다
+-- (V7 백필은 추천된 날짜마다 세어 조회 기간 합산이 서로 다른 풀이 문제 수보다 커질 수 있었다)
+
+UPDATE member_mission_stat s
+    LEFT JOIN (SELECT latest.team_id,
+                      latest.member_id,
+                      latest.mission_date,
+                      COUNT(*) AS solved_count
+               FROM (SELECT mr.team_id, mr.member_id, rp.problem_id, MAX(r.date) AS mission_date
+                     FROM member_recommendation mr
+                              JOIN recommendation r ON r.id = mr.recommendation_id
+                              JOIN recommendation_problem rp ON rp.recommendation_id = r.id
+                     WHERE mr.team_id IS NOT NULL
+                     GROUP BY mr.team_id, mr.member_id, rp.problem_id) latest
+                        JOIN member_solved_problem msp
+                             ON msp.member_id = latest.member_id AND msp.problem_id = latest.problem_id
+               GROUP BY latest.team_id, latest.member_id, latest.mission_date) credited
+    ON credited.team_id = s.team_id
+        AND credited.member_id = s.member_id
+        AND credited.mission_date = s.mission_date
+SET s.solved_count = COALESCE(credited.solved_count, 0),
+    s.modified_at  = NOW();
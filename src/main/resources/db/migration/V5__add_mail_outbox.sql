@@ -0,0 +1,21 @@
+-- 메일 아웃박스: 요청 트랜잭션에서 적재하고 MailOutboxWorker가 비동기 발송
+
+CREATE TABLE mail_outbox
+(
+    id              bigint       NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    created_at      timestamp    NULL,
+    deleted_at      datetime(6)  NULL,
+    modified_at     timestamp    NULL,
+    type            varchar(32)  NOT NULL COMMENT 'RECOMMENDATION / TEAM_INVITATION',
+    reference_id    bigint       NOT NULL COMMENT 'member_recommendation.id 또는 team_join.id',
+    status          varchar(16)  NOT NULL,
+    attempt_count   int          DEFAULT 0 NOT NULL,
+    next_attempt_at datetime(6)  NOT NULL,
+    locked_at       datetime(6)  NULL,
+    last_error      varchar(500) NULL,
+    sent_at         datetime(6)  NULL,
+    CONSTRAINT uk_mail_outbox_type_reference UNIQUE (type, reference_id)
+) COLLATE = utf8mb4_unicode_ci;
+
+-- 워커 폴링: status + next_attempt_at 범위 조회
+CREATE INDEX idx_mail_outbox_status_next_attempt ON mail_outbox (status, next_attempt_at);
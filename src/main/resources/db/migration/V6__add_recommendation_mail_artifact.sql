@@ -0,0 +1,14 @@
+-- 미리 렌더링된 추천 메일 본문: 추천 저장(06:00) 시 생성, 발송 시 압축 해제만 수행
+
+CREATE TABLE recommendation_mail_artifact
+(
+    id                bigint       NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    created_at        timestamp    NULL,
+    deleted_at        datetime(6)  NULL,
+    modified_at       timestamp    NULL,
+    recommendation_id bigint       NOT NULL COMMENT 'Recommendation 참조',
+    subject           varchar(255) NOT NULL,
+    html_gzip         mediumblob   NOT NULL COMMENT 'gzip 압축된 HTML 본문',
+    html_size         int          NOT NULL COMMENT '압축 전 본문 크기 (bytes)',
+    CONSTRAINT uk_recommendation_mail_artifact UNIQUE (recommendation_id)
+) COLLATE = utf8mb4_unicode_ci;
@@ -0,0 +1,36 @@
+-- 팀원별 미션 날짜 단위 풀이 통계: 리더보드를 범위 집계 한 번으로 계산하기 위한 집계 테이블
+
+CREATE TABLE member_mission_stat
+(
+    id                bigint      NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    created_at        timestamp   NULL,
+    deleted_at        datetime(6) NULL,
+    modified_at       timestamp   NULL,
+    team_id           bigint      NOT NULL COMMENT 'Team 참조 (FK 없음)',
+    member_id         bigint      NOT NULL COMMENT 'Member 참조 (FK 없음)',
+    mission_date      date        NOT NULL COMMENT '06:00 기준 미션 날짜',
+    recommended_count int         DEFAULT 0 NOT NULL,
+    solved_count      int         DEFAULT 0 NOT NULL,
+    CONSTRAINT uk_member_mission_stat UNIQUE (team_id, mission_date, member_id)
+) COLLATE = utf8mb4_unicode_ci;
+
+-- 문제 인증 시 멤버 기준 갱신
+CREATE INDEX idx_member_mission_stat_member ON member_mission_stat (member_id, team_id, mission_date);
+
+-- 기존 추천/풀이 이력 백필
+INSERT INTO member_mission_stat (created_at, modified_at, team_id, member_id, mission_date,
+                                 recommended_count, solved_count)
+SELECT NOW(),
+       NOW(),
+       mr.team_id,
+       mr.member_id,
+       r.date,
+       COUNT(DISTINCT rp.problem_id),
+       COUNT(DISTINCT msp.problem_id)
+FROM member_recommendation mr
+         JOIN recommendation r ON r.id = mr.recommendation_id
+         JOIN recommendation_problem rp ON rp.recommendation_id = r.id
+         LEFT JOIN member_solved_problem msp
+                   ON msp.member_id = mr.member_id AND msp.problem_id = rp.problem_id
+WHERE mr.team_id IS NOT NULL
+GROUP BY mr.team_id, mr.member_id, r.date;
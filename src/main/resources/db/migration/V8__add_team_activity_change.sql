@@ -0,0 +1,20 @@
+-- 팀 활동 변경 로그: 팀 활동 델타 조회(커서 = id)용 append-only 테이블
+
+CREATE TABLE team_activity_change
+(
+    id           bigint      NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    created_at   timestamp   NULL,
+    deleted_at   datetime(6) NULL,
+    modified_at  timestamp   NULL,
+    team_id      bigint      NOT NULL COMMENT 'Team 참조 (FK 없음)',
+    member_id    bigint      NOT NULL COMMENT 'Member 참조 (FK 없음)',
+    change_type  varchar(16) NOT NULL COMMENT 'RECOMMENDED / SOLVED',
+    mission_date date        NOT NULL COMMENT '06:00 기준 미션 날짜',
+    problem_id   bigint      NOT NULL COMMENT 'Problem 참조 (FK 없음)'
+) COLLATE = utf8mb4_unicode_ci;
+
+-- 델타 조회: 팀 단위 커서 범위 스캔
+CREATE INDEX idx_team_activity_change_team ON team_activity_change (team_id, id);
+
+-- 보관 기간 경과 행 정리
+CREATE INDEX idx_team_activity_change_created_at ON team_activity_change (created_at);
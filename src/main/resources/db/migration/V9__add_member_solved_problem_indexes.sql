@@ -0,0 +1,16 @@
+-- member_solved_problem: 중복 인증 방지 unique key + 멤버 기준 조회 인덱스
+-- V1은 보조 인덱스 없이 생성되어 풀이 여부 확인·풀이 수·일별 조회가 모두 전체 스캔이었다.
+
+-- 중복 풀이 기록 정리 (가장 먼저 인증된 행만 유지)
+DELETE dup
+FROM member_solved_problem dup
+         JOIN member_solved_problem keep
+              ON keep.member_id = dup.member_id
+                  AND keep.problem_id = dup.problem_id
+                  AND keep.id < dup.id;
+
+-- 풀이 여부 확인·풀이 수·(멤버, 문제) IN 조회 + 동시 인증 시 중복 저장 차단 (recordSolved의 ALREADY_SOLVED)
+-- 일별 풀이 조회: 멤버 단위 solved_at 범위 스캔
+ALTER TABLE member_solved_problem
+    ADD CONSTRAINT uk_member_problem UNIQUE (member_id, problem_id),
+    ADD INDEX idx_member_solved_problem_solved_at (member_id, solved_at);
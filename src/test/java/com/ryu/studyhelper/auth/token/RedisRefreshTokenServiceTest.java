@@ -0,0 +1,263 @@
+package com.ryu.studyhelper.auth.token;
+
+import com.ryu.studyhelper.auth.dto.TokenResponse;
+import com.ryu.studyhelper.common.enums.CustomResponseStatus;
+import com.ryu.studyhelper.common.exception.CustomException;
+import com.ryu.studyhelper.config.security.jwt.JwtUtil;
+import com.ryu.studyhelper.config.security.jwt.VerifiedTokenCache;
+import com.ryu.studyhelper.member.domain.Member;
+import com.ryu.studyhelper.member.domain.Role;
+import com.ryu.studyhelper.member.repository.MemberRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito.BDDMyOngoingStubbing;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisRefreshTokenService 단위 테스트")
+class RedisRefreshTokenServiceTest {
+
+    private static final String SECRET =
+            "dGVzdC1zZWNyZXQta2V5LWZvci10ZXN0aW5nLXB1cnBvc2VzLW9ubHktdGhpcy1pcy1ub3QtZm9yLXByb2R1Y3Rpb24=";
+    private static final String DEVICE_ID = "device-1";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private JwtUtil jwtUtil;
+    private RedisRefreshTokenService refreshTokenService;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(Instant.now(), ZoneId.of("Asia/Seoul"));
+        jwtUtil = new JwtUtil(SECRET, new VerifiedTokenCache(clock));
+        refreshTokenService = new RedisRefreshTokenService(redisTemplate, jwtUtil, memberRepository, clock);
+    }
+
+    @Nested
+    @DisplayName("rotateRefreshToken 메서드")
+    class RotateTest {
+
+        @Test
+        @DisplayName("성공 - 새 Refresh Token을 같은 기기 ID로 발급한다")
+        void rotated() {
+            // given
+            String refreshToken = jwtUtil.createRefreshToken(1L, DEVICE_ID);
+            String[] issued = new String[1];
+            givenRotateScript().willAnswer(invocation -> {
+                issued[0] = invocation.getArgument(5);
+                return List.of("ROTATED", issued[0]);
+            });
+            givenMember();
+
+            // when
+            TokenResponse tokens = refreshTokenService.rotateRefreshToken(refreshToken);
+
+            // then
+            assertThat(tokens.getRefreshToken()).isEqualTo(issued[0]).isNotEqualTo(refreshToken);
+            assertThat(jwtUtil.getDeviceIdFromToken(tokens.getRefreshToken())).isEqualTo(DEVICE_ID);
+            assertThat(jwtUtil.getDeviceIdFromToken(tokens.getAccessToken())).isEqualTo(DEVICE_ID);
+            assertThat(jwtUtil.getRoleFromToken(tokens.getAccessToken())).isEqualTo("ROLE_USER");
+        }
+
+        @Test
+        @DisplayName("동시 갱신 - 먼저 회전한 요청이 발급한 토큰을 그대로 돌려준다")
+        void concurrent_reusesRotatedToken() {
+            // given
+            String refreshToken = jwtUtil.createRefreshToken(1L, DEVICE_ID);
+            String alreadyIssued = jwtUtil.createRefreshToken(1L, DEVICE_ID);
+            givenRotateScript().willReturn(List.of("CONCURRENT", alreadyIssued));
+            givenMember();
+
+            // when
+            TokenResponse tokens = refreshTokenService.rotateRefreshToken(refreshToken);
+
+            // then
+            assertThat(tokens.getRefreshToken()).isEqualTo(alreadyIssued);
+        }
+
+        @Test
+        @DisplayName("실패 - 이미 회전된 토큰 재사용은 거부한다")
+        void fail_reused() {
+            // given
+            String refreshToken = jwtUtil.createRefreshToken(1L, DEVICE_ID);
+            givenRotateScript().willReturn(List.of("REUSED"));
+
+            // when & then
+            assertThatThrownBy(() -> refreshTokenService.rotateRefreshToken(refreshToken))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("status", CustomResponseStatus.REFRESH_TOKEN_REUSE_DETECTED);
+        }
+
+        @Test
+        @DisplayName("실패 - 저장된 기기 토큰이 없으면 찾을 수 없음")
+        void fail_notFound() {
+            // given
+            String refreshToken = jwtUtil.createRefreshToken(1L, DEVICE_ID);
+            givenRotateScript().willReturn(List.of("NOT_FOUND"));
+
+            // when & then
+            assertThatThrownBy(() -> refreshTokenService.rotateRefreshToken(refreshToken))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("status", CustomResponseStatus.REFRESH_TOKEN_NOT_FOUND);
+        }
+
+        @Test
+        @DisplayName("실패 - Access Token으로는 갱신할 수 없다")
+        void fail_accessToken() {
+            // given
+            String accessToken = jwtUtil.createAccessToken(1L, "ROLE_USER", DEVICE_ID);
+
+            // when & then
+            assertThatThrownBy(() -> refreshTokenService.rotateRefreshToken(accessToken))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("status", CustomResponseStatus.REFRESH_TOKEN_NOT_FOUND);
+        }
+
+        @Test
+        @DisplayName("기기 ID 도입 전 토큰 - 저장된 토큰과 일치하면 새 기기 토큰으로 이전한다")
+        void legacy_migratesToDevice() {
+            // given
+            String legacyToken = legacyRefreshToken();
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.getAndDelete("refresh_token:1")).willReturn(legacyToken);
+            given(redisTemplate.execute(any(RedisScript.class), anyList(),
+                    anyString(), anyString(), anyString(), anyString(), anyString())).willReturn(0L);
+            givenMember();
+
+            // when
+            TokenResponse tokens = refreshTokenService.rotateRefreshToken(legacyToken);
+
+            // then
+            String deviceId = jwtUtil.getDeviceIdFromToken(tokens.getRefreshToken());
+            assertThat(deviceId).isNotNull();
+            verify(redisTemplate).execute(any(RedisScript.class),
+                    eq(List.of("refresh_token:1:devices", "refresh_token:1:seen", "refresh_token:1:next:" + deviceId)),
+                    anyString(), anyString(), anyString(), eq(String.valueOf(RedisRefreshTokenService.MAX_DEVICES)),
+                    anyString());
+        }
+
+        @Test
+        @DisplayName("실패 - 기기 ID 도입 전 토큰이 저장된 토큰과 다르면 재사용으로 거부한다")
+        void fail_legacyMismatch() {
+            // given
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.getAndDelete("refresh_token:1")).willReturn("other-token");
+
+            // when & then
+            assertThatThrownBy(() -> refreshTokenService.rotateRefreshToken(legacyRefreshToken()))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("status", CustomResponseStatus.REFRESH_TOKEN_REUSE_DETECTED);
+        }
+    }
+
+    @Nested
+    @DisplayName("토큰 삭제")
+    class DeleteTest {
+
+        @Mock
+        private HashOperations<String, Object, Object> hashOperations;
+
+        @Mock
+        private ZSetOperations<String, String> zSetOperations;
+
+        @Test
+        @DisplayName("기기 로그아웃 - 해당 기기의 해시 필드와 동시 회전용 토큰 원문을 함께 지운다")
+        void deleteDevice_removesNextToken() {
+            // given
+            given(redisTemplate.opsForHash()).willReturn(hashOperations);
+            given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+
+            // when
+            refreshTokenService.deleteRefreshToken(1L, DEVICE_ID);
+
+            // then
+            verify(hashOperations).delete("refresh_token:1:devices",
+                    DEVICE_ID, DEVICE_ID + ":prev", DEVICE_ID + ":rotated");
+            verify(zSetOperations).remove("refresh_token:1:seen", DEVICE_ID);
+            verify(redisTemplate).delete("refresh_token:1:next:" + DEVICE_ID);
+        }
+
+        @Test
+        @DisplayName("전체 로그아웃 - 모든 기기의 동시 회전용 토큰 원문까지 지운다")
+        void deleteAll_removesNextTokens() {
+            // given
+            given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+            given(zSetOperations.range("refresh_token:1:seen", 0, -1))
+                    .willReturn(new LinkedHashSet<>(List.of(DEVICE_ID, "device-2")));
+
+            // when
+            refreshTokenService.deleteAllRefreshTokens(1L);
+
+            // then
+            verify(redisTemplate).delete(List.of(
+                    "refresh_token:1:devices", "refresh_token:1:seen", "refresh_token:1",
+                    "refresh_token:1:next:" + DEVICE_ID, "refresh_token:1:next:device-2"));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private BDDMyOngoingStubbing<Object> givenRotateScript() {
+        return given((Object) redisTemplate.execute(any(RedisScript.class),
+                eq(List.of("refresh_token:1:devices", "refresh_token:1:seen", "refresh_token:1:next:" + DEVICE_ID)),
+                eq(DEVICE_ID), anyString(), anyString(), anyString(), anyString(),
+                eq(String.valueOf(RedisRefreshTokenService.GRACE_MS)), anyString()));
+    }
+
+    private void givenMember() {
+        given(memberRepository.findById(1L)).willReturn(Optional.of(
+                Member.builder().id(1L).email("test@example.com").role(Role.ROLE_USER).build()));
+    }
+
+    /**
+     * 기기 ID 클레임이 없는 기존 형식의 Refresh Token
+     */
+    private String legacyRefreshToken() {
+        Claims claims = Jwts.claims().setSubject("1");
+        claims.put("tokenType", "REFRESH");
+        return Jwts.builder()
+                .setClaims(claims)
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + JwtUtil.REFRESH_TOKEN_VALID_MS))
+                .signWith(Keys.hmacShaKeyFor(
+                        Decoders.BASE64.decode(SECRET)), SignatureAlgorithm.HS512)
+                .compact();
+    }
+}
@@ -0,0 +1,153 @@
+package com.ryu.studyhelper.config.security;
+
+import com.ryu.studyhelper.config.security.jwt.JwtAuthenticationFilter;
+import com.ryu.studyhelper.config.security.jwt.JwtUtil;
+import com.ryu.studyhelper.member.domain.Member;
+import com.ryu.studyhelper.member.domain.Role;
+import com.ryu.studyhelper.member.repository.MemberRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * JWT 인증 principal 조회 부하 측정용 (수동 실행)
+ * per-request: 요청마다 토큰 검증 → PrincipalDetailsService.loadUserByUsername (기존 필터 동작)
+ * cached: JwtAuthenticationFilter — 클레임 한 번 파싱 후 PrincipalDetailsCache 우선 조회
+ * 여러 스레드가 회원 토큰을 무작위로 골라 인증하는 동안 실행된 SQL 수와 커넥션 획득 수를 비교한다.
+ * 여러 스레드에서 조회하므로 데이터를 커밋해야 해서 @Transactional 대신 직접 정리한다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Disabled
+@DisplayName("JWT principal 조회 성능 측정")
+class PrincipalDetailsBenchmarkTest {
+
+    private static final int MEMBER_COUNT = 200;
+    private static final int THREADS = 8;
+    private static final int REQUESTS_PER_THREAD = 2_500;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private PrincipalDetailsService principalDetailsService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("회원 200명 · 8스레드 20,000 요청 — 요청마다 조회 vs principal 캐시")
+    void benchmarkPrincipalResolution() throws Exception {
+        List<Member> members = seedMembers();
+        List<String> tokens = members.stream()
+                .map(member -> jwtUtil.createAccessToken(member.getId(), member.getRole().name()))
+                .toList();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtUtil, principalDetailsService);
+
+        try {
+            for (String name : new String[]{"per-request", "cached"}) {
+                RequestTask task = name.equals("per-request")
+                        ? token -> {
+                            jwtUtil.validateTokenOrThrow(token);
+                            principalDetailsService.loadUserByUsername(String.valueOf(jwtUtil.getIdFromToken(token)));
+                        }
+                        : token -> authenticate(filter, token);
+
+                run(task, tokens, 100); // 워밍업
+
+                statistics.clear();
+                long start = System.nanoTime();
+                int requests = run(task, tokens, REQUESTS_PER_THREAD);
+                double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+                System.out.printf("[%s] %,d req in %.2f s (%,.0f req/s), statements %,d (%.3f/req, %,.0f/s), connections %,d%n",
+                        name,
+                        requests,
+                        elapsedSeconds,
+                        requests / elapsedSeconds,
+                        statistics.getPrepareStatementCount(),
+                        statistics.getPrepareStatementCount() / (double) requests,
+                        statistics.getPrepareStatementCount() / elapsedSeconds,
+                        statistics.getConnectCount());
+            }
+        } finally {
+            memberRepository.deleteAllInBatch(members);
+        }
+    }
+
+    private int run(RequestTask task, List<String> tokens, int requestsPerThread) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < requestsPerThread; i++) {
+                        task.run(tokens.get(ThreadLocalRandom.current().nextInt(tokens.size())));
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        return THREADS * requestsPerThread;
+    }
+
+    private void authenticate(JwtAuthenticationFilter filter, String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/member/me");
+        request.addHeader("Authorization", "Bearer " + token);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            if (request.getAttribute("exception") != null) {
+                throw new IllegalStateException("인증 실패: " + request.getAttribute("exception"));
+            }
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private List<Member> seedMembers() {
+        List<Member> members = new ArrayList<>();
+        for (int i = 1; i <= MEMBER_COUNT; i++) {
+            members.add(Member.builder()
+                    .email("principal-bench" + i + "@test.com")
+                    .handle("principal-bench" + i)
+                    .provider("google")
+                    .providerId("principal-bench-provider-" + i)
+                    .role(Role.ROLE_USER)
+                    .isVerified(true)
+                    .build());
+        }
+        return memberRepository.saveAll(members);
+    }
+
+    @FunctionalInterface
+    private interface RequestTask {
+        void run(String token) throws Exception;
+    }
+}
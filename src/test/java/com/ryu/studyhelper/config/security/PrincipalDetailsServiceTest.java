@@ -0,0 +1,189 @@
+package com.ryu.studyhelper.config.security;
+
+import com.ryu.studyhelper.member.domain.Member;
+import com.ryu.studyhelper.member.domain.Role;
+import com.ryu.studyhelper.member.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PrincipalDetailsService 단위 테스트")
+class PrincipalDetailsServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    private PrincipalDetailsCache principalDetailsCache;
+    private PrincipalDetailsService principalDetailsService;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        principalDetailsCache = new PrincipalDetailsCache(Clock.fixed(NOW, ZoneId.of("Asia/Seoul")));
+        principalDetailsService = new PrincipalDetailsService(memberRepository, principalDetailsCache, redisTemplate);
+        member = Member.builder()
+                .id(1L)
+                .email("test@example.com")
+                .role(Role.ROLE_USER)
+                .isVerified(true)
+                .build();
+    }
+
+    @Nested
+    @DisplayName("loadByMemberId 메서드")
+    class LoadByMemberIdTest {
+
+        @Test
+        @DisplayName("캐시 적중 시 회원을 다시 조회하지 않는다")
+        void cacheHit_skipsRepository() {
+            // given
+            given(memberRepository.findById(1L)).willReturn(Optional.of(member));
+
+            // when
+            PrincipalDetails first = principalDetailsService.loadByMemberId(1L, "ROLE_USER");
+            PrincipalDetails second = principalDetailsService.loadByMemberId(1L, "ROLE_USER");
+
+            // then
+            assertThat(second).isSameAs(first);
+            assertThat(second.getMemberId()).isEqualTo(1L);
+            verify(memberRepository, times(1)).findById(1L);
+        }
+
+        @Test
+        @DisplayName("토큰의 권한이 캐시된 권한과 다르면 다시 조회한다")
+        void roleMismatch_reloads() {
+            // given
+            given(memberRepository.findById(1L)).willReturn(Optional.of(member));
+            principalDetailsService.loadByMemberId(1L, "ROLE_USER");
+
+            // when
+            principalDetailsService.loadByMemberId(1L, "ROLE_ADMIN");
+
+            // then
+            verify(memberRepository, times(2)).findById(1L);
+        }
+
+        @Test
+        @DisplayName("TTL이 지나면 다시 조회한다")
+        void expired_reloads() {
+            // given
+            Clock clock = mock(Clock.class);
+            given(clock.millis()).willReturn(NOW.toEpochMilli(), NOW.plus(PrincipalDetailsCache.TTL).toEpochMilli());
+            principalDetailsService = new PrincipalDetailsService(
+                    memberRepository, new PrincipalDetailsCache(clock), redisTemplate);
+            given(memberRepository.findById(1L)).willReturn(Optional.of(member));
+            principalDetailsService.loadByMemberId(1L, "ROLE_USER");
+
+            // when
+            principalDetailsService.loadByMemberId(1L, "ROLE_USER");
+
+            // then
+            verify(memberRepository, times(2)).findById(1L);
+        }
+
+        @Test
+        @DisplayName("실패 - 탈퇴 등으로 조회되지 않는 회원은 거부하고 캐시하지 않는다")
+        void fail_memberNotFound() {
+            // given
+            given(memberRepository.findById(1L)).willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> principalDetailsService.loadByMemberId(1L, "ROLE_USER"))
+                    .isInstanceOf(UsernameNotFoundException.class);
+            assertThat(principalDetailsCache.size()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("evict - 트랜잭션 밖에서는 즉시 제거되어 다음 요청에서 다시 조회한다")
+    void evict_reloadsOnNextRequest() {
+        // given
+        given(memberRepository.findById(1L)).willReturn(Optional.of(member));
+        principalDetailsService.loadByMemberId(1L, "ROLE_USER");
+
+        // when
+        principalDetailsService.evict(1L);
+        principalDetailsService.loadByMemberId(1L, "ROLE_USER");
+
+        // then
+        verify(memberRepository, times(2)).findById(1L);
+        verify(redisTemplate).convertAndSend(PrincipalDetailsService.EVICT_CHANNEL, "1");
+    }
+
+    @Test
+    @DisplayName("evict - 무효화 발행에 실패해도 로컬 캐시는 제거한다")
+    void evict_publishFails_stillEvictsLocally() {
+        // given
+        given(memberRepository.findById(1L)).willReturn(Optional.of(member));
+        principalDetailsService.loadByMemberId(1L, "ROLE_USER");
+        willThrow(new RedisConnectionFailureException("down"))
+                .given(redisTemplate).convertAndSend(PrincipalDetailsService.EVICT_CHANNEL, "1");
+
+        // when
+        principalDetailsService.evict(1L);
+
+        // then
+        assertThat(principalDetailsCache.get(1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 무효화 메시지를 받으면 로컬 캐시에서 제거한다")
+    void evictionMessage_evictsLocally() {
+        // given
+        given(memberRepository.findById(1L)).willReturn(Optional.of(member));
+        principalDetailsService.loadByMemberId(1L, "ROLE_USER");
+        DefaultMessage message = new DefaultMessage(
+                PrincipalDetailsService.EVICT_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "1".getBytes(StandardCharsets.UTF_8));
+
+        // when
+        new PrincipalCacheEvictionConfig().principalEvictionListener(principalDetailsCache).onMessage(message, null);
+        principalDetailsService.loadByMemberId(1L, "ROLE_USER");
+
+        // then
+        verify(memberRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용하지 않은 항목부터 제거한다")
+    void boundedSize() {
+        // when
+        for (long id = 1; id <= PrincipalDetailsCache.MAX_SIZE + 1; id++) {
+            principalDetailsCache.put(id, new PrincipalDetails(member));
+        }
+
+        // then
+        assertThat(principalDetailsCache.size()).isEqualTo(PrincipalDetailsCache.MAX_SIZE);
+        assertThat(principalDetailsCache.get(1L)).isEmpty();
+        assertThat(principalDetailsCache.get(PrincipalDetailsCache.MAX_SIZE + 1L)).isPresent();
+    }
+}
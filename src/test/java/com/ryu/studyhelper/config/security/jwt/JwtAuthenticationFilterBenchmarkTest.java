@@ -0,0 +1,85 @@
+package com.ryu.studyhelper.config.security.jwt;
+
+import com.ryu.studyhelper.config.security.PrincipalDetails;
+import com.ryu.studyhelper.config.security.PrincipalDetailsService;
+import com.ryu.studyhelper.member.domain.Member;
+import com.ryu.studyhelper.member.domain.Role;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * JWT 인증 필터 오버헤드 측정용 (수동 실행)
+ * uncached: 요청마다 HS512 서명 검증 + Claims 파싱
+ * cached: VerifiedTokenCache — 토큰 digest로 검증된 Claims 재사용
+ * principal 조회는 mock으로 고정해 토큰 처리 비용만 비교한다.
+ */
+@Disabled
+@DisplayName("JwtAuthenticationFilter 성능 측정")
+class JwtAuthenticationFilterBenchmarkTest {
+
+    private static final String SECRET =
+            "dGVzdC1zZWNyZXQta2V5LWZvci10ZXN0aW5nLXB1cnBvc2VzLW9ubHktdGhpcy1pcy1ub3QtZm9yLXByb2R1Y3Rpb24=";
+    private static final int TOKEN_COUNT = 1_000;
+    private static final int WARMUP = 50_000;
+    private static final int ITERATIONS = 200_000;
+
+    @Test
+    @DisplayName("토큰 1,000개 · 200,000 요청 — 검증 캐시 유무별 요청당 필터 처리 시간")
+    void benchmarkFilterOverhead() throws Exception {
+        Clock clock = Clock.systemDefaultZone();
+        PrincipalDetailsService principalDetailsService = mock(PrincipalDetailsService.class);
+        given(principalDetailsService.loadByMemberId(anyLong(), anyString())).willReturn(new PrincipalDetails(
+                Member.builder().id(1L).email("bench@test.com").role(Role.ROLE_USER).isVerified(true).build()));
+
+        JwtUtil uncached = new JwtUtil(SECRET, new VerifiedTokenCache(clock, 0));
+        JwtUtil cached = new JwtUtil(SECRET, new VerifiedTokenCache(clock));
+
+        List<String> tokens = new ArrayList<>();
+        for (long id = 1; id <= TOKEN_COUNT; id++) {
+            tokens.add(uncached.createAccessToken(id, "ROLE_USER"));
+        }
+
+        for (String name : new String[]{"uncached", "cached"}) {
+            JwtAuthenticationFilter filter = new JwtAuthenticationFilter(
+                    name.equals("uncached") ? uncached : cached, principalDetailsService);
+
+            for (int i = 0; i < WARMUP; i++) authenticate(filter, tokens.get(i % TOKEN_COUNT));
+
+            long start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) authenticate(filter, tokens.get(i % TOKEN_COUNT));
+            long elapsed = System.nanoTime() - start;
+
+            System.out.printf("[%s] avg %.2f µs/request, %,.0f req/s%n",
+                    name,
+                    elapsed / 1_000.0 / ITERATIONS,
+                    ITERATIONS / (elapsed / 1_000_000_000.0));
+        }
+    }
+
+    private void authenticate(JwtAuthenticationFilter filter, String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/member/me");
+        request.addHeader("Authorization", "Bearer " + token);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            if (request.getAttribute("exception") != null) {
+                throw new IllegalStateException("인증 실패: " + request.getAttribute("exception"));
+            }
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.ryu.studyhelper.config.security.jwt;
+
+import com.ryu.studyhelper.common.enums.CustomResponseStatus;
+import com.ryu.studyhelper.common.exception.CustomException;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VerifiedTokenCache 단위 테스트")
+class VerifiedTokenCacheTest {
+
+    private static final String SECRET =
+            "dGVzdC1zZWNyZXQta2V5LWZvci10ZXN0aW5nLXB1cnBvc2VzLW9ubHktdGhpcy1pcy1ub3QtZm9yLXByb2R1Y3Rpb24=";
+
+    @Mock
+    private Clock clock;
+
+    private VerifiedTokenCache cache;
+    private JwtUtil jwtUtil;
+    private JwtUtil uncachedJwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        cache = new VerifiedTokenCache(clock);
+        jwtUtil = new JwtUtil(SECRET, cache);
+        uncachedJwtUtil = new JwtUtil(SECRET, new VerifiedTokenCache(clock, 0));
+    }
+
+    @Test
+    @DisplayName("같은 토큰은 만료 전까지 한 번만 검증한다")
+    void verifiesOnce() {
+        // given
+        given(clock.millis()).willReturn(System.currentTimeMillis());
+        String token = jwtUtil.createAccessToken(1L, "ROLE_USER");
+        CountingVerifier verifier = new CountingVerifier(uncachedJwtUtil::validateAndGetClaims);
+
+        // when
+        Claims first = cache.getOrVerify(token, verifier);
+        Claims second = cache.getOrVerify(token, verifier);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(verifier.calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("검증 후 ID·권한·토큰 타입 조회는 캐시된 Claims를 사용한다")
+    void jwtUtil_readsFromCache() {
+        // given
+        given(clock.millis()).willReturn(System.currentTimeMillis());
+        String token = jwtUtil.createAccessToken(1L, "ROLE_USER");
+
+        // when
+        jwtUtil.validateTokenOrThrow(token);
+
+        // then
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(jwtUtil.getIdFromToken(token)).isEqualTo(1L);
+        assertThat(jwtUtil.getRoleFromToken(token)).isEqualTo("ROLE_USER");
+        assertThat(jwtUtil.getTokenType(token)).isEqualTo("ACCESS");
+    }
+
+    @Test
+    @DisplayName("캐시된 Claims의 만료 시각이 지나면 다시 검증한다")
+    void expired_reverifies() {
+        // given
+        String token = jwtUtil.createAccessToken(1L, "ROLE_USER");
+        given(clock.millis()).willReturn(System.currentTimeMillis() + JwtUtil.ACCESS_TOKEN_VALID_MS + 1_000);
+        CountingVerifier verifier = new CountingVerifier(uncachedJwtUtil::validateAndGetClaims);
+        cache.getOrVerify(token, verifier);
+
+        // when
+        cache.getOrVerify(token, verifier);
+
+        // then
+        assertThat(verifier.calls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 토큰은 저장하지 않는다")
+    void invalidToken_notCached() {
+        // given
+        String token = jwtUtil.createAccessToken(1L, "ROLE_USER");
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        // when & then
+        assertThatThrownBy(() -> jwtUtil.validateTokenOrThrow(tampered))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("status", CustomResponseStatus.BAD_JWT);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("액세스 토큰이 아닌 토큰(리프레시·이메일 인증)은 검증만 하고 저장하지 않는다")
+    void nonAccessToken_notCached() {
+        // given
+        String refreshToken = jwtUtil.createRefreshToken(1L);
+        String emailToken = jwtUtil.createEmailVerificationToken(1L, "a@test.com");
+        CountingVerifier verifier = new CountingVerifier(uncachedJwtUtil::validateAndGetClaims);
+
+        // when
+        cache.getOrVerify(refreshToken, verifier);
+        cache.getOrVerify(refreshToken, verifier);
+        jwtUtil.validateTokenOrThrow(emailToken);
+
+        // then
+        assertThat(verifier.calls).hasValue(2);
+        assertThat(cache.size()).isZero();
+        assertThat(jwtUtil.getTokenType(refreshToken)).isEqualTo("REFRESH");
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용하지 않은 토큰부터 제거한다")
+    void boundedSize() {
+        // given
+        given(clock.millis()).willReturn(System.currentTimeMillis());
+        VerifiedTokenCache small = new VerifiedTokenCache(clock, 1);
+        String first = jwtUtil.createAccessToken(1L, "ROLE_USER");
+        String second = jwtUtil.createAccessToken(2L, "ROLE_USER");
+
+        // when
+        small.getOrVerify(first, uncachedJwtUtil::validateAndGetClaims);
+        small.getOrVerify(second, uncachedJwtUtil::validateAndGetClaims);
+
+        // then
+        assertThat(small.size()).isEqualTo(1);
+        assertThat(small.find(first)).isEmpty();
+        assertThat(small.find(second)).isPresent();
+    }
+
+    private static class CountingVerifier implements Function<String, Claims> {
+
+        private final Function<String, Claims> delegate;
+        private final AtomicInteger calls = new AtomicInteger();
+
+        CountingVerifier(Function<String, Claims> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Claims apply(String token) {
+            calls.incrementAndGet();
+            return delegate.apply(token);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.ryu.studyhelper.infrastructure.mail.outbox;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MailOutboxWorker 테스트")
+class MailOutboxWorkerTest {
+
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 15, 9, 0);
+
+    @Mock
+    private MailOutboxRepository mailOutboxRepository;
+
+    @Mock
+    private MailOutboxHandler handler;
+
+    private MailOutboxWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(NOW.atZone(ZONE_ID).toInstant(), ZONE_ID);
+        lenient().when(handler.type()).thenReturn(MailOutboxType.RECOMMENDATION);
+        worker = new MailOutboxWorker(clock, mailOutboxRepository, List.of(handler),
+                50, 3, Duration.ofSeconds(30), Duration.ofMinutes(5), Duration.ofMinutes(10));
+    }
+
+    @Nested
+    @DisplayName("drainOnce - 점유 후 처리")
+    class DrainOnce {
+
+        @Test
+        @DisplayName("처리기 성공 시 SENT, 실패 시 백오프 후 PENDING으로 되돌린다")
+        void marksSentOrSchedulesRetry() {
+            // given
+            MailOutbox ok = claimedRow(1L, 100L, 1);
+            MailOutbox failed = claimedRow(2L, 200L, 2);
+            stubClaim(List.of(1L, 2L), List.of(ok, failed));
+            when(handler.handle(List.of(100L, 200L))).thenReturn(Map.of(200L, "SES 오류"));
+
+            // when
+            int processed = worker.drainOnce();
+
+            // then
+            assertThat(processed).isEqualTo(2);
+            assertThat(ok.getStatus()).isEqualTo(MailOutboxStatus.SENT);
+            assertThat(ok.getSentAt()).isEqualTo(NOW);
+            assertThat(failed.getStatus()).isEqualTo(MailOutboxStatus.PENDING);
+            assertThat(failed.getNextAttemptAt()).isEqualTo(NOW.plusSeconds(60)); // 2번째 실패 → 30s × 2
+            assertThat(failed.getLastError()).isEqualTo("SES 오류");
+            verify(mailOutboxRepository).saveAll(List.of(ok, failed));
+        }
+
+        @Test
+        @DisplayName("최대 시도 횟수에 도달하면 DEAD 처리하고 처리기에 알린다")
+        void exceedsMaxAttempts_marksDead() {
+            // given
+            MailOutbox row = claimedRow(1L, 100L, 3);
+            stubClaim(List.of(1L), List.of(row));
+            when(handler.handle(List.of(100L))).thenReturn(Map.of(100L, "거부됨"));
+
+            // when
+            worker.drainOnce();
+
+            // then
+            assertThat(row.getStatus()).isEqualTo(MailOutboxStatus.DEAD);
+            verify(handler).onDeadLetter(100L, "거부됨");
+        }
+
+        @Test
+        @DisplayName("처리기가 예외를 던지면 묶음 전체를 재시도 대상으로 둔다")
+        void handlerThrows_retriesAll() {
+            // given
+            MailOutbox row1 = claimedRow(1L, 100L, 1);
+            MailOutbox row2 = claimedRow(2L, 200L, 1);
+            stubClaim(List.of(1L, 2L), List.of(row1, row2));
+            when(handler.handle(any())).thenThrow(new IllegalStateException("DB 연결 실패"));
+
+            // when
+            worker.drainOnce();
+
+            // then
+            assertThat(List.of(row1, row2)).allSatisfy(row -> {
+                assertThat(row.getStatus()).isEqualTo(MailOutboxStatus.PENDING);
+                assertThat(row.getNextAttemptAt()).isEqualTo(NOW.plusSeconds(30));
+            });
+        }
+
+        @Test
+        @DisplayName("다른 워커가 먼저 점유한 행은 처리하지 않는다")
+        void skipsRowsClaimedByOthers() {
+            // given
+            when(mailOutboxRepository.findClaimableIds(eq(NOW), eq(NOW.minusMinutes(10)), any()))
+                    .thenReturn(List.of(1L));
+            when(mailOutboxRepository.claim(1L, NOW, NOW.minusMinutes(10))).thenReturn(0);
+
+            // when
+            int processed = worker.drainOnce();
+
+            // then
+            assertThat(processed).isZero();
+            verify(handler, never()).handle(any());
+        }
+    }
+
+    @Test
+    @DisplayName("백오프는 시도마다 두 배로 늘고 최대값에서 멈춘다")
+    void backoff_isExponentialAndCapped() {
+        assertThat(worker.backoff(1)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(worker.backoff(2)).isEqualTo(Duration.ofSeconds(60));
+        assertThat(worker.backoff(3)).isEqualTo(Duration.ofSeconds(120));
+        assertThat(worker.backoff(10)).isEqualTo(Duration.ofMinutes(5));
+    }
+
+    private void stubClaim(List<Long> ids, List<MailOutbox> rows) {
+        when(mailOutboxRepository.findClaimableIds(eq(NOW), eq(NOW.minusMinutes(10)), any())).thenReturn(ids);
+        when(mailOutboxRepository.claim(any(), eq(NOW), eq(NOW.minusMinutes(10)))).thenReturn(1);
+        when(mailOutboxRepository.findAllById(ids)).thenReturn(rows);
+    }
+
+    /**
+     * claim UPDATE 이후 상태 (PROCESSING, 시도 횟수 증가 반영)
+     */
+    private MailOutbox claimedRow(Long id, Long referenceId, int attemptCount) {
+        return MailOutbox.builder()
+                .id(id)
+                .type(MailOutboxType.RECOMMENDATION)
+                .referenceId(referenceId)
+                .status(MailOutboxStatus.PROCESSING)
+                .attemptCount(attemptCount)
+                .nextAttemptAt(NOW)
+                .lockedAt(NOW)
+                .build();
+    }
+}
@@ -0,0 +1,40 @@
+package com.ryu.studyhelper.infrastructure.mail.sender;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MailMessage 테스트")
+class MailMessageTest {
+
+    @Test
+    @DisplayName("페이로드 크기 - 제목/본문은 UTF-8 바이트 수로 센다")
+    void approximateSize_utf8() {
+        MailMessage message = new MailMessage("a@b.com", "미션", "<p>ok</p>");
+
+        // "미션" = 6바이트, "<p>ok</p>" = 9바이트
+        assertThat(message.approximateSizeInBytes()).isEqualTo(15);
+    }
+
+    @Test
+    @DisplayName("페이로드 크기 - 인라인 첨부는 base64 인코딩 크기로 더한다")
+    void approximateSize_withAttachment() {
+        InlineAttachment logo = new InlineAttachment("codemate-logo", "image/png", new byte[100]);
+        MailMessage message = new MailMessage("a@b.com", "s", "h", List.of(logo));
+
+        // 100바이트 → base64 136바이트
+        assertThat(message.approximateSizeInBytes()).isEqualTo(2 + 136);
+    }
+
+    @Test
+    @DisplayName("첨부 목록이 null이면 빈 목록으로 다룬다")
+    void nullAttachments() {
+        MailMessage message = new MailMessage("a@b.com", "s", "h", null);
+
+        assertThat(message.hasInlineAttachments()).isFalse();
+        assertThat(message.approximateSizeInBytes()).isEqualTo(2);
+    }
+}
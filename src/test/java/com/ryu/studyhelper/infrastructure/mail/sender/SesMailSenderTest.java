@@ -0,0 +1,276 @@
+package com.ryu.studyhelper.infrastructure.mail.sender;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ryu.studyhelper.infrastructure.mail.support.MailLogoProvider;
+import jakarta.mail.BodyPart;
+import jakarta.mail.Multipart;
+import jakarta.mail.Part;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.services.ses.SesClient;
+import software.amazon.awssdk.services.ses.model.BulkEmailDestinationStatus;
+import software.amazon.awssdk.services.ses.model.BulkEmailStatus;
+import software.amazon.awssdk.services.ses.model.SendBulkTemplatedEmailRequest;
+import software.amazon.awssdk.services.ses.model.SendBulkTemplatedEmailResponse;
+import software.amazon.awssdk.services.ses.model.SendEmailRequest;
+import software.amazon.awssdk.services.ses.model.SendRawEmailRequest;
+import software.amazon.awssdk.services.ses.model.SesException;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SesMailSender 단위 테스트")
+class SesMailSenderTest {
+
+    private static final String FROM_EMAIL = "noreply@codemate.kr";
+
+    @Mock
+    private SesClient sesClient;
+
+    private SesMailSender sesMailSender;
+
+    @BeforeEach
+    void setUp() {
+        sesMailSender = new SesMailSender(sesClient, new ObjectMapper());
+        ReflectionTestUtils.setField(sesMailSender, "fromEmail", FROM_EMAIL);
+    }
+
+    @Nested
+    @DisplayName("send 메서드")
+    class SendTest {
+
+        @Test
+        @DisplayName("인라인 첨부가 없으면 SendEmail로 보낸다")
+        void withoutAttachments_sendEmail() {
+            // when
+            sesMailSender.send(new MailMessage("user@example.com", "제목", "<p>본문</p>"));
+
+            // then
+            ArgumentCaptor<SendEmailRequest> captor = ArgumentCaptor.forClass(SendEmailRequest.class);
+            verify(sesClient).sendEmail(captor.capture());
+            assertThat(captor.getValue().destination().toAddresses()).containsExactly("user@example.com");
+            assertThat(captor.getValue().message().body().html().data()).isEqualTo("<p>본문</p>");
+            verify(sesClient, never()).sendRawEmail(any(SendRawEmailRequest.class));
+        }
+
+        @Test
+        @DisplayName("cid 로고 - 본문의 cid: 참조와 같은 Content-ID의 인라인 파트를 담아 SendRawEmail로 보낸다")
+        void cidLogo_sendRaw() throws Exception {
+            // given
+            MailLogoProvider logoProvider = new MailLogoProvider("cid", "");
+            ReflectionTestUtils.invokeMethod(logoProvider, "init");
+            String html = "<img src=\"" + logoProvider.logoSrc() + "\" alt=\"CodeMate\">";
+            MailMessage message = new MailMessage(
+                    "user@example.com", "제목", html, logoProvider.inlineAttachments());
+
+            // when
+            sesMailSender.send(message);
+
+            // then
+            ArgumentCaptor<SendRawEmailRequest> captor = ArgumentCaptor.forClass(SendRawEmailRequest.class);
+            verify(sesClient).sendRawEmail(captor.capture());
+            verify(sesClient, never()).sendEmail(any(SendEmailRequest.class));
+
+            MimeMessage mime = new MimeMessage(Session.getInstance(new Properties()),
+                    new ByteArrayInputStream(captor.getValue().rawMessage().data().asByteArray()));
+            assertThat(mime.getAllRecipients()[0].toString()).isEqualTo("user@example.com");
+            assertThat(mime.getFrom()[0].toString()).contains(FROM_EMAIL);
+
+            Part logoPart = findInlinePart(mime);
+            assertThat(logoPart).isNotNull();
+            String contentId = logoPart.getHeader("Content-ID")[0];
+            assertThat("cid:" + contentId.replaceAll("[<>]", "")).isEqualTo(logoProvider.logoSrc());
+            assertThat(logoPart.getContentType()).startsWith("image/png");
+        }
+    }
+
+    @Nested
+    @DisplayName("sendBulk 메서드")
+    class SendBulkTest {
+
+        @BeforeEach
+        void enableBulk() {
+            ReflectionTestUtils.setField(sesMailSender, "bulkEnabled", true);
+            ReflectionTestUtils.setField(sesMailSender, "bulkTemplateName", "codemate-generic-html");
+            ReflectionTestUtils.setField(sesMailSender, "bulkTemplateReady", true);
+        }
+
+        @Test
+        @DisplayName("50명을 넘으면 50명씩 나눠 호출하고 결과를 입력 순서대로 돌려준다")
+        void chunksBy50() {
+            // given
+            List<String> recipients = recipients(51);
+            given(sesClient.sendBulkTemplatedEmail(any(SendBulkTemplatedEmailRequest.class)))
+                    .willAnswer(invocation -> allSuccess(invocation.getArgument(0)));
+
+            // when
+            List<MailSendResult> results = sesMailSender.sendBulk(bulkMessage(recipients));
+
+            // then
+            ArgumentCaptor<SendBulkTemplatedEmailRequest> captor =
+                    ArgumentCaptor.forClass(SendBulkTemplatedEmailRequest.class);
+            verify(sesClient, times(2)).sendBulkTemplatedEmail(captor.capture());
+            assertThat(captor.getAllValues().get(0).destinations()).hasSize(50);
+            assertThat(captor.getAllValues().get(1).destinations()).hasSize(1);
+            assertThat(captor.getAllValues().get(1).destinations().get(0).destination().toAddresses())
+                    .containsExactly("user50@example.com");
+            assertThat(captor.getAllValues().get(0).template()).isEqualTo("codemate-generic-html");
+
+            assertThat(results).extracting(MailSendResult::to).containsExactlyElementsOf(recipients);
+            assertThat(results).allMatch(MailSendResult::success);
+            verify(sesClient, never()).sendEmail(any(SendEmailRequest.class));
+        }
+
+        @Test
+        @DisplayName("일부 수신자만 거부되면 해당 수신자만 실패로 돌려준다")
+        void partialFailure() {
+            // given
+            List<String> recipients = recipients(3);
+            given(sesClient.sendBulkTemplatedEmail(any(SendBulkTemplatedEmailRequest.class)))
+                    .willReturn(SendBulkTemplatedEmailResponse.builder()
+                            .status(
+                                    status(BulkEmailStatus.SUCCESS, null),
+                                    status(BulkEmailStatus.MESSAGE_REJECTED, "Email address is not verified"),
+                                    status(BulkEmailStatus.SUCCESS, null))
+                            .build());
+
+            // when
+            List<MailSendResult> results = sesMailSender.sendBulk(bulkMessage(recipients));
+
+            // then
+            assertThat(results).extracting(MailSendResult::success).containsExactly(true, false, true);
+            assertThat(results.get(1).to()).isEqualTo("user1@example.com");
+            assertThat(results.get(1).error()).contains("MessageRejected", "Email address is not verified");
+        }
+
+        @Test
+        @DisplayName("응답 status가 모자라면 나머지 수신자는 실패로 돌려준다")
+        void missingStatus() {
+            // given
+            given(sesClient.sendBulkTemplatedEmail(any(SendBulkTemplatedEmailRequest.class)))
+                    .willReturn(SendBulkTemplatedEmailResponse.builder()
+                            .status(status(BulkEmailStatus.SUCCESS, null))
+                            .build());
+
+            // when
+            List<MailSendResult> results = sesMailSender.sendBulk(bulkMessage(recipients(2)));
+
+            // then
+            assertThat(results).extracting(MailSendResult::success).containsExactly(true, false);
+        }
+
+        @Test
+        @DisplayName("묶음 호출이 SesException으로 실패하면 해당 묶음만 단건 발송으로 대체한다")
+        void sesException_fallsBackToSingleSends() {
+            // given
+            List<String> recipients = recipients(51);
+            given(sesClient.sendBulkTemplatedEmail(any(SendBulkTemplatedEmailRequest.class)))
+                    .willThrow(SesException.builder().message("Throttling").build())
+                    .willAnswer(invocation -> allSuccess(invocation.getArgument(0)));
+
+            // when
+            List<MailSendResult> results = sesMailSender.sendBulk(bulkMessage(recipients));
+
+            // then
+            verify(sesClient, times(2)).sendBulkTemplatedEmail(any(SendBulkTemplatedEmailRequest.class));
+            ArgumentCaptor<SendEmailRequest> captor = ArgumentCaptor.forClass(SendEmailRequest.class);
+            verify(sesClient, times(50)).sendEmail(captor.capture());
+            assertThat(captor.getAllValues())
+                    .extracting(request -> request.destination().toAddresses().get(0))
+                    .containsExactlyElementsOf(recipients.subList(0, 50));
+            assertThat(results).extracting(MailSendResult::to).containsExactlyElementsOf(recipients);
+            assertThat(results).allMatch(MailSendResult::success);
+        }
+
+        @Test
+        @DisplayName("대체 단건 발송 중 실패한 수신자는 실패로 돌려준다")
+        void fallback_singleFailure() {
+            // given
+            given(sesClient.sendBulkTemplatedEmail(any(SendBulkTemplatedEmailRequest.class)))
+                    .willThrow(SesException.builder().message("Throttling").build());
+            given(sesClient.sendEmail(any(SendEmailRequest.class)))
+                    .willReturn(null)
+                    .willThrow(SesException.builder().message("Rejected").build());
+
+            // when
+            List<MailSendResult> results = sesMailSender.sendBulk(bulkMessage(recipients(2)));
+
+            // then
+            assertThat(results).extracting(MailSendResult::success).containsExactly(true, false);
+            assertThat(results.get(1).error()).contains("Rejected");
+        }
+
+        @Test
+        @DisplayName("대량 발송이 꺼져 있으면 묶음 호출 없이 단건 발송한다")
+        void bulkDisabled_singleSends() {
+            // given
+            ReflectionTestUtils.setField(sesMailSender, "bulkEnabled", false);
+
+            // when
+            List<MailSendResult> results = sesMailSender.sendBulk(bulkMessage(recipients(2)));
+
+            // then
+            verify(sesClient, never()).sendBulkTemplatedEmail(any(SendBulkTemplatedEmailRequest.class));
+            verify(sesClient, times(2)).sendEmail(any(SendEmailRequest.class));
+            assertThat(results).allMatch(MailSendResult::success);
+        }
+
+        private List<String> recipients(int count) {
+            return IntStream.range(0, count).mapToObj(i -> "user" + i + "@example.com").toList();
+        }
+
+        private BulkMailMessage bulkMessage(List<String> recipients) {
+            return new BulkMailMessage(recipients, "제목", "<p>본문</p>", List.of());
+        }
+
+        private SendBulkTemplatedEmailResponse allSuccess(SendBulkTemplatedEmailRequest request) {
+            return SendBulkTemplatedEmailResponse.builder()
+                    .status(request.destinations().stream()
+                            .map(destination -> status(BulkEmailStatus.SUCCESS, null))
+                            .toList())
+                    .build();
+        }
+
+        private BulkEmailDestinationStatus status(BulkEmailStatus status, String error) {
+            return BulkEmailDestinationStatus.builder().status(status).error(error).build();
+        }
+    }
+
+    /**
+     * Content-ID 헤더가 있는 첫 번째 파트 (multipart/related 안의 인라인 이미지)
+     */
+    private static Part findInlinePart(Part part) throws Exception {
+        if (part.getHeader("Content-ID") != null) {
+            return part;
+        }
+        if (part.getContent() instanceof Multipart multipart) {
+            for (int i = 0; i < multipart.getCount(); i++) {
+                BodyPart child = multipart.getBodyPart(i);
+                Part found = findInlinePart(child);
+                if (found != null) {
+                    return found;
+                }
+            }
+        }
+        return null;
+    }
+}
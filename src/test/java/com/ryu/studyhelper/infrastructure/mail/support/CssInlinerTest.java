@@ -0,0 +1,152 @@
+package com.ryu.studyhelper.infrastructure.mail.support;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CssInliner 테스트")
+class CssInlinerTest {
+
+    private static final String EMAIL_CSS = "static/css/email-recommendation-v2.css";
+
+    private final CssInliner cssInliner = new CssInliner();
+
+    @Nested
+    @DisplayName("CompiledStylesheet - 규칙 적용")
+    class Apply {
+
+        @Test
+        @DisplayName("클래스 셀렉터의 선언을 공백 정규화해 style 속성에 인라인한다")
+        void inlinesClassRule() {
+            CompiledStylesheet css = CompiledStylesheet.compile("""
+                    /* 주석 */
+                    .title {
+                        color: red;
+                        margin: 0;
+                    }
+                    """);
+            Document doc = Jsoup.parse("<p class=\"title\">x</p>");
+
+            css.applyTo(doc);
+
+            assertThat(doc.selectFirst("p").attr("style")).isEqualTo("color: red; margin: 0;");
+        }
+
+        @Test
+        @DisplayName("기존 인라인 스타일 뒤에 이어 붙인다")
+        void appendsToExistingStyle() {
+            CompiledStylesheet css = CompiledStylesheet.compile(".badge { padding: 4px; }");
+            Document doc = Jsoup.parse("<span class=\"badge\" style=\"color: #fff;\">x</span>");
+
+            css.applyTo(doc);
+
+            assertThat(doc.selectFirst("span").attr("style")).isEqualTo("color: #fff; padding: 4px;");
+        }
+
+        @Test
+        @DisplayName("자손 셀렉터는 조상에 해당 클래스가 있을 때만 적용된다")
+        void descendantSelector() {
+            CompiledStylesheet css = CompiledStylesheet.compile(".card .title { font-weight: bold; }");
+            Document doc = Jsoup.parse("""
+                    <div class="card"><table><tr><td><h3 class="title" id="in">a</h3></td></tr></table></div>
+                    <h3 class="title" id="out">b</h3>
+                    """);
+
+            css.applyTo(doc);
+
+            assertThat(doc.getElementById("in").attr("style")).isEqualTo("font-weight: bold;");
+            assertThat(doc.getElementById("out").hasAttr("style")).isFalse();
+        }
+
+        @Test
+        @DisplayName("여러 규칙이 매칭되면 스타일시트 선언 순서대로 적용한다")
+        void appliesInDeclarationOrder() {
+            CompiledStylesheet css = CompiledStylesheet.compile("""
+                    .b { color: blue; }
+                    .a { color: red; }
+                    .a.b { font-size: 12px; }
+                    """);
+            Document doc = Jsoup.parse("<p class=\"a b\">x</p>");
+
+            css.applyTo(doc);
+
+            assertThat(doc.selectFirst("p").attr("style"))
+                    .isEqualTo("color: blue; color: red; font-size: 12px;");
+        }
+
+        @Test
+        @DisplayName("태그/의사 셀렉터는 무시하고 콤마 그룹은 각각 적용한다")
+        void ignoresUnsupportedSelectors() {
+            CompiledStylesheet css = CompiledStylesheet.compile("""
+                    body { margin: 0; }
+                    a:hover { color: red; }
+                    .x, .y { color: green; }
+                    """);
+            Document doc = Jsoup.parse("<p class=\"x\">1</p><p class=\"y\">2</p>");
+
+            css.applyTo(doc);
+
+            assertThat(css.ruleCount()).isEqualTo(2);
+            assertThat(doc.body().hasAttr("style")).isFalse();
+            assertThat(doc.select("p").eachAttr("style")).containsExactly("color: green;", "color: green;");
+        }
+    }
+
+    @Test
+    @DisplayName("CSS 파일이 없으면 원본 HTML을 그대로 반환한다")
+    void missingCss_returnsOriginal() {
+        String html = "<p class=\"title\">x</p>";
+
+        assertThat(cssInliner.inline(html, "static/css/not-exists.css")).isEqualTo(html);
+    }
+
+    /**
+     * 컴파일 캐시 효과 측정용 (수동 실행)
+     * cold: 매 호출마다 CSS 파싱/컴파일, warm: 캐시된 스타일시트 재사용
+     */
+    @Test
+    @Disabled
+    @DisplayName("v2/v3 추천 템플릿 인라인 처리량 측정")
+    void benchmarkRecommendationTemplates() throws IOException {
+        String css = readClasspath(EMAIL_CSS);
+        for (String template : new String[]{"recommendation-email-v2", "recommendation-email-v3"}) {
+            String html = readClasspath("templates/" + template + ".html");
+
+            long cold = measureOpsPerSecond(() -> {
+                Document doc = Jsoup.parse(html);
+                CompiledStylesheet.compile(css).applyTo(doc);
+                doc.html();
+            });
+            long warm = measureOpsPerSecond(() -> cssInliner.inline(html, EMAIL_CSS));
+
+            System.out.printf("[%s] cold: %,d ops/s, warm: %,d ops/s (x%.2f)%n",
+                    template, cold, warm, (double) warm / cold);
+        }
+    }
+
+    private long measureOpsPerSecond(Runnable task) {
+        for (int i = 0; i < 2_000; i++) task.run(); // 워밍업
+
+        int iterations = 5_000;
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) task.run();
+        long elapsed = System.nanoTime() - start;
+        return iterations * 1_000_000_000L / elapsed;
+    }
+
+    private String readClasspath(String path) throws IOException {
+        try (var stream = new ClassPathResource(path).getInputStream()) {
+            return StreamUtils.copyToString(stream, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.ryu.studyhelper.infrastructure.mail.support;
+
+import com.ryu.studyhelper.infrastructure.mail.sender.InlineAttachment;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MailLogoProvider 테스트")
+class MailLogoProviderTest {
+
+    @Test
+    @DisplayName("none 모드 - 로고 src와 첨부가 없다")
+    void none() {
+        MailLogoProvider provider = initialized("none", "");
+
+        assertThat(provider.getMode()).isEqualTo(MailLogoProvider.Mode.NONE);
+        assertThat(provider.logoSrc()).isNull();
+        assertThat(provider.inlineAttachments()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("url 모드 - 호스팅 이미지 주소를 그대로 src로 쓴다")
+    void url() {
+        MailLogoProvider provider = initialized(" URL ", "https://cdn.codemate.kr/logo.png");
+
+        assertThat(provider.getMode()).isEqualTo(MailLogoProvider.Mode.URL);
+        assertThat(provider.logoSrc()).isEqualTo("https://cdn.codemate.kr/logo.png");
+        assertThat(provider.inlineAttachments()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("url 모드 - mail.logo.url이 비어 있으면 기동에 실패한다")
+    void url_blank_fails() {
+        MailLogoProvider provider = new MailLogoProvider("url", " ");
+
+        assertThatThrownBy(provider::init)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("mail.logo.url");
+    }
+
+    @Test
+    @DisplayName("inline 모드 - 로고를 base64 data URI로 본문에 싣는다")
+    void inline() {
+        MailLogoProvider provider = initialized("inline", "");
+
+        assertThat(provider.getMode()).isEqualTo(MailLogoProvider.Mode.INLINE);
+        assertThat(provider.logoSrc()).startsWith("data:image/png;base64,");
+        byte[] decoded = Base64.getDecoder().decode(provider.logoSrc().substring("data:image/png;base64,".length()));
+        assertThat(decoded).isNotEmpty();
+        assertThat(provider.inlineAttachments()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("cid 모드 - 본문은 cid:로 참조하고 같은 Content-ID의 인라인 첨부를 제공한다")
+    void cid() {
+        MailLogoProvider provider = initialized("cid", "");
+
+        assertThat(provider.getMode()).isEqualTo(MailLogoProvider.Mode.CID);
+        assertThat(provider.inlineAttachments()).hasSize(1);
+        InlineAttachment logo = provider.inlineAttachments().get(0);
+        assertThat(provider.logoSrc()).isEqualTo("cid:" + logo.contentId());
+        assertThat(logo.contentType()).isEqualTo("image/png");
+        assertThat(logo.data()).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("알 수 없는 모드는 기동에 실패한다")
+    void unknownMode_fails() {
+        assertThatThrownBy(() -> new MailLogoProvider("svg", ""))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private MailLogoProvider initialized(String mode, String url) {
+        MailLogoProvider provider = new MailLogoProvider(mode, url);
+        provider.init();
+        return provider;
+    }
+}
@@ -2,8 +2,10 @@ package com.ryu.studyhelper.member;
 
 import com.ryu.studyhelper.common.enums.CustomResponseStatus;
 import com.ryu.studyhelper.common.exception.CustomException;
+import com.ryu.studyhelper.config.security.PrincipalDetailsService;
 import com.ryu.studyhelper.member.domain.Member;
 import com.ryu.studyhelper.member.repository.MemberRepository;
+import com.ryu.studyhelper.solve.ranking.GlobalRankingStore;
 import com.ryu.studyhelper.solve.service.SolveService;
 import com.ryu.studyhelper.team.repository.TeamMemberRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -39,6 +41,12 @@ class MemberServiceTest {
     @Mock
     private SolveService solveService;
 
+    @Mock
+    private GlobalRankingStore globalRankingStore;
+
+    @Mock
+    private PrincipalDetailsService principalDetailsService;
+
     private Member member;
 
     @BeforeEach
@@ -74,6 +82,8 @@ class MemberServiceTest {
             assertThat(member.getHandle()).isNull();
             assertThat(member.isVerified()).isFalse();
             verify(memberRepository).save(member);
+            verify(globalRankingStore).remove(1L);
+            verify(principalDetailsService).evict(1L);
         }
 
         @Test
@@ -103,6 +113,7 @@ class MemberServiceTest {
             // 탈퇴 처리되지 않았는지 확인
             assertThat(member.isDeleted()).isFalse();
             verify(memberRepository, never()).save(any());
+            verifyNoInteractions(globalRankingStore);
         }
     }
 }
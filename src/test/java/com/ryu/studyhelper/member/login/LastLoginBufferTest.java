@@ -0,0 +1,120 @@
+package com.ryu.studyhelper.member.login;
+
+import com.ryu.studyhelper.member.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LastLoginBuffer 단위 테스트")
+class LastLoginBufferTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 12, 30, 15);
+    private static final LocalDateTime FLUSHED_AT = NOW.plusMinutes(2);
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    private LastLoginBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        ZoneId zone = ZoneId.of("Asia/Seoul");
+        buffer = new LastLoginBuffer(memberRepository, Clock.fixed(FLUSHED_AT.atZone(zone).toInstant(), zone));
+    }
+
+    @Test
+    @DisplayName("같은 회원의 여러 접속은 가장 늦은 시각으로 합쳐 한 번만 반영한다")
+    void coalescesPerMember() {
+        // given
+        buffer.record(1L, NOW.plusSeconds(30));
+        buffer.record(1L, NOW);
+        buffer.record(2L, NOW.plusSeconds(10));
+
+        // when
+        buffer.flush();
+
+        // then
+        verify(memberRepository).updateLastLoginAt(
+                argThat(ids -> ids.size() == 2 && ids.containsAll(List.of(1L, 2L))),
+                eq(NOW.withSecond(0)),
+                eq(FLUSHED_AT));
+        assertThat(buffer.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("분이 다른 기록은 분 단위로 나눠 UPDATE한다")
+    void groupsByMinute() {
+        // given
+        buffer.record(1L, NOW);
+        buffer.record(2L, NOW.plusMinutes(1));
+
+        // when
+        buffer.flush();
+
+        // then
+        verify(memberRepository).updateLastLoginAt(List.of(1L), NOW.withSecond(0), FLUSHED_AT);
+        verify(memberRepository).updateLastLoginAt(List.of(2L), NOW.plusMinutes(1).withSecond(0), FLUSHED_AT);
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 버퍼에 되돌려 다음 주기에 재시도한다")
+    void failure_requeues() {
+        // given
+        buffer.record(1L, NOW);
+        given(memberRepository.updateLastLoginAt(anyCollection(), any(), any()))
+                .willThrow(new QueryTimeoutException("timeout"))
+                .willReturn(1);
+
+        // when
+        buffer.flush();
+        assertThat(buffer.pendingCount()).isEqualTo(1);
+        buffer.flush();
+
+        // then
+        verify(memberRepository, times(2)).updateLastLoginAt(List.of(1L), NOW.withSecond(0), FLUSHED_AT);
+        assertThat(buffer.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("종료 시 남은 기록을 모두 반영한다")
+    void flushOnShutdown() {
+        // given
+        buffer.record(1L, NOW);
+
+        // when
+        buffer.flushOnShutdown();
+
+        // then
+        verify(memberRepository).updateLastLoginAt(List.of(1L), NOW.withSecond(0), FLUSHED_AT);
+    }
+
+    @Test
+    @DisplayName("기록이 없으면 DB에 접근하지 않는다")
+    void empty_noQuery() {
+        // when
+        buffer.flush();
+
+        // then
+        verifyNoInteractions(memberRepository);
+    }
+}
@@ -0,0 +1,110 @@
+package com.ryu.studyhelper.member.verification;
+
+import com.ryu.studyhelper.config.security.PrincipalDetailsService;
+import com.ryu.studyhelper.infrastructure.solvedac.SolvedAcClient;
+import com.ryu.studyhelper.infrastructure.solvedac.dto.SolvedAcUserBioResponse;
+import com.ryu.studyhelper.member.domain.Member;
+import com.ryu.studyhelper.member.repository.MemberRepository;
+import com.ryu.studyhelper.member.verification.dto.VerifyBojResponse;
+import com.ryu.studyhelper.solve.ranking.GlobalRankingStore;
+import com.ryu.studyhelper.team.activity.TeamActivityVersion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BojVerificationFacade 단위 테스트")
+class BojVerificationFacadeTest {
+
+    private static final String HASH = "codemate-abc123";
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private SolvedAcClient solvedAcClient;
+
+    @Mock
+    private BojVerificationService bojVerificationService;
+
+    @Mock
+    private GlobalRankingStore globalRankingStore;
+
+    @Mock
+    private PrincipalDetailsService principalDetailsService;
+
+    @Mock
+    private TeamActivityVersion teamActivityVersion;
+
+    @InjectMocks
+    private BojVerificationFacade bojVerificationFacade;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        member = Member.builder()
+                .id(1L)
+                .email("test@example.com")
+                .handle("oldHandle")
+                .isVerified(false)
+                .build();
+    }
+
+    @Nested
+    @DisplayName("verifyBojHandle 메서드")
+    class VerifyBojHandleTest {
+
+        @Test
+        @DisplayName("성공 - 핸들을 인증하고 소속 팀 활동 스냅샷 버전을 올린다")
+        void success_bumpsTeamActivityVersion() {
+            // given
+            given(memberRepository.findById(1L)).willReturn(Optional.of(member));
+            given(bojVerificationService.getVerificationHash(1L)).willReturn(Optional.of(HASH));
+            given(solvedAcClient.getUserBio("newHandle"))
+                    .willReturn(new SolvedAcUserBioResponse("newHandle", "인증: " + HASH));
+
+            // when
+            VerifyBojResponse response = bojVerificationFacade.verifyBojHandle(1L, "newHandle");
+
+            // then
+            assertThat(response.verified()).isTrue();
+            assertThat(member.getHandle()).isEqualTo("newHandle");
+            verify(teamActivityVersion).bumpForMember(1L);
+            verify(globalRankingStore).changeHandle(1L, "newHandle");
+            verify(principalDetailsService).evict(1L);
+            verify(bojVerificationService).deleteVerificationHash(1L);
+        }
+
+        @Test
+        @DisplayName("실패 - bio에 해시가 없으면 핸들을 바꾸지 않고 버전도 올리지 않는다")
+        void fail_hashMissing_noBump() {
+            // given
+            given(memberRepository.findById(1L)).willReturn(Optional.of(member));
+            given(bojVerificationService.getVerificationHash(1L)).willReturn(Optional.of(HASH));
+            given(solvedAcClient.getUserBio("newHandle"))
+                    .willReturn(new SolvedAcUserBioResponse("newHandle", "다른 상태 메시지"));
+
+            // when
+            VerifyBojResponse response = bojVerificationFacade.verifyBojHandle(1L, "newHandle");
+
+            // then
+            assertThat(response.verified()).isFalse();
+            assertThat(member.getHandle()).isEqualTo("oldHandle");
+            verify(teamActivityVersion, never()).bumpForMember(any());
+        }
+    }
+}
@@ -113,7 +113,7 @@ class TransactionIssueTest {
         }).when(mailSender).send(any());
 
         // when
-        recommendationEmailService.sendAll();
+        recommendationEmailService.deliver(pendingIds());
 
         // then
         System.out.println("\n=== 결과 ===");
@@ -151,7 +151,7 @@ class TransactionIssueTest {
         }).when(mailSender).send(any());
 
         // when
-        recommendationEmailService.sendAll();
+        recommendationEmailService.deliver(pendingIds());
 
         // then
         System.out.println("\n=== 결과 ===");
@@ -233,7 +233,7 @@ class TransactionIssueTest {
 
         // when
         long startTime = System.currentTimeMillis();
-        recommendationEmailService.sendAll();
+        recommendationEmailService.deliver(pendingIds());
         long endTime = System.currentTimeMillis();
 
         // then
@@ -251,6 +251,15 @@ class TransactionIssueTest {
 
     // === Helper Methods ===
 
+    /**
+     * 아웃박스 워커가 넘겨주는 것과 같은 발송 대상 ID 목록
+     */
+    private List<Long> pendingIds() {
+        return memberRecommendationRepository.findAll().stream()
+                .map(MemberRecommendation::getId)
+                .toList();
+    }
+
     private Member createMember(String handle, String email) {
         List<Member> existing = memberRepository.findAllByHandle(handle);
         if (!existing.isEmpty()) {
@@ -0,0 +1,78 @@
+package com.ryu.studyhelper.recommendation.mailbuilder;
+
+import com.ryu.studyhelper.infrastructure.mail.sender.BulkMailMessage;
+import com.ryu.studyhelper.infrastructure.mail.sender.MailMessage;
+import com.ryu.studyhelper.infrastructure.mail.support.CssInliner;
+import com.ryu.studyhelper.infrastructure.mail.support.MailLogoProvider;
+import com.ryu.studyhelper.member.domain.Member;
+import com.ryu.studyhelper.recommendation.domain.member.MemberRecommendation;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.thymeleaf.TemplateEngine;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RecommendationMailBuilder 테스트")
+class RecommendationMailBuilderTest {
+
+    private static final RecommendationMailContent CONTENT =
+            new RecommendationMailContent("[CodeMate] 오늘의 미션 문제 (01/01)", "<p>본문</p>");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("단건 메시지 - 로고 모드 태그와 함께 페이로드 크기를 기록한다")
+    void buildFromContent_recordsPayloadSize() {
+        // given
+        RecommendationMailBuilder builder = builderWithLogo("cid");
+
+        // when
+        MailMessage message = builder.buildFromContent(memberRecommendation("a@example.com"), CONTENT);
+
+        // then
+        DistributionSummary summary = meterRegistry.get("mail.payload.bytes")
+                .tag("type", "recommendation")
+                .tag("logo", "cid")
+                .summary();
+        assertThat(summary.count()).isEqualTo(1);
+        assertThat(summary.totalAmount()).isEqualTo(message.approximateSizeInBytes());
+        assertThat(message.hasInlineAttachments()).isTrue();
+    }
+
+    @Test
+    @DisplayName("대량 메시지 - 수신자 1명분 페이로드 크기를 기록한다")
+    void buildBulkFromContent_recordsPerRecipientSize() {
+        // given
+        RecommendationMailBuilder builder = builderWithLogo("none");
+
+        // when
+        BulkMailMessage message = builder.buildBulkFromContent(
+                List.of(memberRecommendation("a@example.com"), memberRecommendation("b@example.com")), CONTENT);
+
+        // then
+        DistributionSummary summary = meterRegistry.get("mail.payload.bytes")
+                .tag("type", "recommendation_bulk")
+                .tag("logo", "none")
+                .summary();
+        assertThat(summary.count()).isEqualTo(1);
+        assertThat(summary.totalAmount())
+                .isEqualTo(message.toSingle("a@example.com").approximateSizeInBytes());
+    }
+
+    private RecommendationMailBuilder builderWithLogo(String mode) {
+        MailLogoProvider logoProvider = new MailLogoProvider(mode, "");
+        ReflectionTestUtils.invokeMethod(logoProvider, "init");
+        return new RecommendationMailBuilder(new TemplateEngine(), new CssInliner(), logoProvider, meterRegistry);
+    }
+
+    private MemberRecommendation memberRecommendation(String email) {
+        return MemberRecommendation.builder()
+                .member(Member.builder().email(email).build())
+                .build();
+    }
+}
@@ -22,6 +22,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Clock;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -71,9 +73,10 @@ class MemberRecommendationRepositoryTest {
         Recommendation recommendation = createRecommendation(missionDate);
         createRecommendationProblems(recommendation, PROBLEM_COUNT);
 
+        List<Long> ids = new ArrayList<>();
         for (int i = 1; i <= MEMBER_COUNT; i++) {
             Member member = createMember("user" + i, "user" + i + "@test.com");
-            createMemberRecommendation(member, recommendation);
+            ids.add(createMemberRecommendation(member, recommendation).getId());
         }
 
         // 1차 캐시 초기화 — 쿼리 결과가 캐시 없이 직접 로딩되도록
@@ -82,7 +85,7 @@ class MemberRecommendationRepositoryTest {
 
         // when
         List<MemberRecommendation> memberRecommendations = memberRecommendationRepository
-                .findByRecommendationDateAndEmailSendStatus(missionDate, EmailSendStatus.PENDING);
+                .findAllWithMemberAndRecommendationByIdIn(ids);
 
         // then
         assertThat(memberRecommendations).hasSize(MEMBER_COUNT);
@@ -103,19 +106,19 @@ class MemberRecommendationRepositoryTest {
         LocalDate missionDate = MissionCyclePolicy.getMissionDate(clock);
         Recommendation recommendation = createRecommendation(missionDate);
         createRecommendationProblems(recommendation, PROBLEM_COUNT);
-        createMemberRecommendation(createMember("solo", "solo@test.com"), recommendation);
+        List<Long> ids = List.of(
+                createMemberRecommendation(createMember("solo", "solo@test.com"), recommendation).getId());
 
         entityManager.flush();
         entityManager.clear();
 
         // when: 같은 쿼리 10번 반복 — 컬렉션이 한 번 초기화되면 이후 쿼리는 캐시를 재사용하므로 누적 없음
         for (int i = 0; i < 10; i++) {
-            memberRecommendationRepository
-                    .findByRecommendationDateAndEmailSendStatus(missionDate, EmailSendStatus.PENDING);
+            memberRecommendationRepository.findAllWithMemberAndRecommendationByIdIn(ids);
         }
 
         List<MemberRecommendation> results = memberRecommendationRepository
-                .findByRecommendationDateAndEmailSendStatus(missionDate, EmailSendStatus.PENDING);
+                .findAllWithMemberAndRecommendationByIdIn(ids);
 
         // then
         results.forEach(mr -> {
@@ -131,6 +134,33 @@ class MemberRecommendationRepositoryTest {
         );
     }
 
+    @Test
+    @DisplayName("발송 결과 일괄 반영은 Auditing을 거치지 않으므로 modifiedAt을 직접 갱신한다")
+    void markEmails_stampsModifiedAt() {
+        // given
+        Recommendation recommendation = createRecommendation(MissionCyclePolicy.getMissionDate(clock));
+        MemberRecommendation sent = createMemberRecommendation(createMember("sent", "sent@test.com"), recommendation);
+        MemberRecommendation failed = createMemberRecommendation(createMember("failed", "failed@test.com"), recommendation);
+        entityManager.flush();
+        LocalDateTime now = LocalDateTime.of(2099, 1, 1, 9, 0);
+
+        // when
+        int sentCount = memberRecommendationRepository.markEmailsAsSent(List.of(sent.getId()), now, now);
+        int failedCount = memberRecommendationRepository.markEmailsAsFailed(List.of(failed.getId()), now);
+        entityManager.clear();
+
+        // then
+        assertThat(sentCount).isEqualTo(1);
+        assertThat(failedCount).isEqualTo(1);
+        MemberRecommendation sentRow = memberRecommendationRepository.findById(sent.getId()).orElseThrow();
+        MemberRecommendation failedRow = memberRecommendationRepository.findById(failed.getId()).orElseThrow();
+        assertThat(sentRow.getEmailSendStatus()).isEqualTo(EmailSendStatus.SENT);
+        assertThat(sentRow.getEmailSentAt()).isEqualTo(now);
+        assertThat(sentRow.getModifiedAt()).isEqualTo(now);
+        assertThat(failedRow.getEmailSendStatus()).isEqualTo(EmailSendStatus.FAILED);
+        assertThat(failedRow.getModifiedAt()).isEqualTo(now);
+    }
+
     // === Helper Methods ===
 
     private Recommendation createRecommendation(LocalDate date) {
@@ -0,0 +1,135 @@
+package com.ryu.studyhelper.recommendation.repository;
+
+import com.ryu.studyhelper.problem.domain.Problem;
+import com.ryu.studyhelper.problem.repository.ProblemRepository;
+import com.ryu.studyhelper.recommendation.domain.Recommendation;
+import com.ryu.studyhelper.recommendation.domain.RecommendationProblem;
+import com.ryu.studyhelper.recommendation.domain.RecommendationStatus;
+import com.ryu.studyhelper.recommendation.domain.RecommendationType;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("RecommendationProblemRepository 테스트")
+class RecommendationProblemRepositoryTest {
+
+    @Autowired
+    private ProblemRepository problemRepository;
+
+    @Autowired
+    private RecommendationRepository recommendationRepository;
+
+    @Autowired
+    private RecommendationProblemRepository recommendationProblemRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private static final int SQUAD_COUNT = 20;
+    private static final int PROBLEM_COUNT = 3;
+
+    @BeforeEach
+    void setUp() {
+        recommendationProblemRepository.deleteAll();
+        recommendationRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("스쿼드 수와 관계없이 여러 추천의 문제를 쿼리 1회로 조회한다")
+    void findByRecommendationIdIn_executesSingleQuery() {
+        // given: 스쿼드 20개 × 문제 3개
+        LocalDate date = LocalDate.of(2025, 1, 15);
+        List<Long> recommendationIds = new ArrayList<>();
+        for (int squad = 1; squad <= SQUAD_COUNT; squad++) {
+            Recommendation recommendation = createRecommendation((long) squad, date);
+            createRecommendationProblems(recommendation, squad * 100L);
+            recommendationIds.add(recommendation.getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        // when
+        List<RecommendationProblem> result =
+                recommendationProblemRepository.findByRecommendationIdInOrderById(recommendationIds);
+        result.forEach(rp -> rp.getProblem().getTitle()); // problem fetch join 확인 (추가 쿼리 없어야 함)
+
+        // then
+        assertThat(statistics.getPrepareStatementCount())
+                .as("추천 %d개 문제 조회 쿼리 수", SQUAD_COUNT)
+                .isEqualTo(1);
+        assertThat(result).hasSize(SQUAD_COUNT * PROBLEM_COUNT);
+    }
+
+    @Test
+    @DisplayName("추천별로 삽입 순서(id 순)를 유지한다")
+    void findByRecommendationIdIn_keepsInsertionOrderPerRecommendation() {
+        // given
+        LocalDate date = LocalDate.of(2025, 1, 15);
+        Recommendation first = createRecommendation(1L, date);
+        Recommendation second = createRecommendation(2L, date);
+        createRecommendationProblems(second, 200L);
+        createRecommendationProblems(first, 100L);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<RecommendationProblem> result = recommendationProblemRepository
+                .findByRecommendationIdInOrderById(List.of(first.getId(), second.getId()));
+
+        // then
+        assertThat(result)
+                .extracting(rp -> rp.getProblem().getId())
+                .containsExactly(101L, 102L, 103L, 201L, 202L, 203L);
+    }
+
+    // === Helper Methods ===
+
+    private Recommendation createRecommendation(Long squadId, LocalDate date) {
+        return recommendationRepository.save(
+                Recommendation.builder()
+                        .teamId(1L)
+                        .squadId(squadId)
+                        .type(RecommendationType.SCHEDULED)
+                        .date(date)
+                        .status(RecommendationStatus.SUCCESS)
+                        .build()
+        );
+    }
+
+    private void createRecommendationProblems(Recommendation recommendation, long problemIdBase) {
+        for (int i = 1; i <= PROBLEM_COUNT; i++) {
+            final long problemId = problemIdBase + i;
+            Problem problem = problemRepository.findById(problemId)
+                    .orElseGet(() -> problemRepository.save(
+                            Problem.builder()
+                                    .id(problemId)
+                                    .title("Problem " + problemId)
+                                    .titleKo("문제 " + problemId)
+                                    .level(1)
+                                    .build()
+                    ));
+            recommendationProblemRepository.save(RecommendationProblem.create(problem, recommendation));
+        }
+    }
+}
@@ -89,7 +89,8 @@ class RecommendationCreatorTest {
             // then
             assertThat(result).isPresent();
             assertThat(result.get().problems()).isEqualTo(problems);
-            verify(recommendationSaver).saveSuccess(eq(pending), eq(problems), eq(List.of(member)), eq(squad));
+            verify(recommendationSaver).saveSuccessAndEnqueueEmails(eq(pending), eq(problems), eq(List.of(member)), eq(squad));
+            verify(recommendationSaver, never()).saveSuccess(any(), any(), any(), any());
         }
 
         @Test
@@ -214,6 +215,7 @@ class RecommendationCreatorTest {
 
             verify(solvedAcClient, never()).recommendUnsolvedProblems(any(), anyInt(), anyInt(), anyInt(), any());
             verify(recommendationSaver, never()).saveSuccess(any(), any(), any(), any());
+            verify(recommendationSaver, never()).saveSuccessAndEnqueueEmails(any(), any(), any(), any());
         }
     }
 
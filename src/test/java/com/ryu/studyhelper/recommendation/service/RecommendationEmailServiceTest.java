@@ -1,20 +1,32 @@
 package com.ryu.studyhelper.recommendation.service;
 
+import com.ryu.studyhelper.infrastructure.mail.outbox.MailOutboxService;
+import com.ryu.studyhelper.infrastructure.mail.outbox.MailOutboxType;
+import com.ryu.studyhelper.infrastructure.mail.sender.BulkMailMessage;
 import com.ryu.studyhelper.infrastructure.mail.sender.MailMessage;
+import com.ryu.studyhelper.infrastructure.mail.sender.MailSendResult;
 import com.ryu.studyhelper.infrastructure.mail.sender.MailSender;
 import com.ryu.studyhelper.member.domain.Member;
+import com.ryu.studyhelper.problem.domain.Problem;
 import com.ryu.studyhelper.recommendation.domain.Recommendation;
+import com.ryu.studyhelper.recommendation.domain.RecommendationMailArtifact;
+import com.ryu.studyhelper.recommendation.domain.RecommendationProblem;
 import com.ryu.studyhelper.recommendation.domain.RecommendationType;
 import com.ryu.studyhelper.recommendation.domain.member.EmailSendStatus;
 import com.ryu.studyhelper.recommendation.domain.member.MemberRecommendation;
 import com.ryu.studyhelper.recommendation.mailbuilder.RecommendationMailBuilder;
+import com.ryu.studyhelper.recommendation.mailbuilder.RecommendationMailContent;
 import com.ryu.studyhelper.recommendation.repository.MemberRecommendationRepository;
+import com.ryu.studyhelper.recommendation.repository.RecommendationMailArtifactRepository;
 import com.ryu.studyhelper.recommendation.repository.RecommendationProblemRepository;
 import com.ryu.studyhelper.team.domain.Team;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -24,7 +36,10 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -49,59 +64,68 @@ class RecommendationEmailServiceTest {
     @Mock
     private RecommendationProblemRepository recommendationProblemRepository;
 
+    @Mock
+    private RecommendationMailArtifactRepository recommendationMailArtifactRepository;
+
+    @Mock
+    private MailOutboxService mailOutboxService;
+
     @InjectMocks
     private RecommendationEmailService recommendationEmailService;
 
     private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 15, 9, 0);
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(clock.instant()).thenReturn(NOW.atZone(ZONE_ID).toInstant());
+        lenient().when(clock.getZone()).thenReturn(ZONE_ID);
+    }
 
     private void setupClock(String dateTime) {
         LocalDateTime ldt = LocalDateTime.parse(dateTime);
         Instant instant = ldt.atZone(ZONE_ID).toInstant();
         lenient().when(clock.instant()).thenReturn(instant);
         lenient().when(clock.getZone()).thenReturn(ZONE_ID);
-        lenient().when(recommendationProblemRepository.findByRecommendationIdOrderById(any())).thenReturn(List.of());
+        lenient().when(recommendationProblemRepository.findByRecommendationIdInOrderById(any())).thenReturn(List.of());
     }
 
     @Nested
-    @DisplayName("sendAll - 배치 이메일 발송")
-    class SendAll {
+    @DisplayName("deliver - 아웃박스 워커 발송")
+    class Deliver {
 
         @Test
         @DisplayName("PENDING 상태의 추천들에 이메일을 발송한다")
         void sendsPendingEmails() {
             // given
-            setupClock("2025-01-15T09:00:00");
-
             MemberRecommendation mr = createMemberRecommendation(1L, "user@test.com");
-            when(memberRecommendationRepository.findByRecommendationDateAndEmailSendStatus(
-                    any(LocalDate.class), eq(EmailSendStatus.PENDING)))
-                    .thenReturn(List.of(mr));
-            when(recommendationMailBuilder.build(eq(mr), any()))
+            List<Long> ids = givenTargets(mr);
+            when(recommendationMailBuilder.buildFromContent(eq(mr), any()))
                     .thenReturn(new MailMessage("user@test.com", "제목", "<html>"));
 
             // when
-            recommendationEmailService.sendAll();
+            Map<Long, String> failures = recommendationEmailService.deliver(ids);
 
             // then
+            assertThat(failures).isEmpty();
             verify(mailSender).send(any(MailMessage.class));
-            verify(memberRecommendationRepository).save(mr);
+            verify(memberRecommendationRepository).markEmailsAsSent(List.of(1L), NOW, NOW);
+            verify(memberRecommendationRepository, never()).save(any());
             assertThat(mr.getEmailSendStatus()).isEqualTo(EmailSendStatus.SENT);
         }
 
         @Test
-        @DisplayName("PENDING 추천이 없으면 이메일을 발송하지 않는다")
-        void noPending_sendsNothing() {
+        @DisplayName("발송 대상이 없으면 이메일을 발송하지 않는다")
+        void noTargets_sendsNothing() {
             // given
-            setupClock("2025-01-15T09:00:00");
-
-            when(memberRecommendationRepository.findByRecommendationDateAndEmailSendStatus(
-                    any(LocalDate.class), eq(EmailSendStatus.PENDING)))
+            when(memberRecommendationRepository.findAllWithMemberAndRecommendationByIdIn(List.of(1L)))
                     .thenReturn(List.of());
 
             // when
-            recommendationEmailService.sendAll();
+            Map<Long, String> failures = recommendationEmailService.deliver(List.of(1L));
 
             // then
+            assertThat(failures).isEmpty();
             verify(mailSender, never()).send(any());
         }
 
@@ -109,90 +133,410 @@ class RecommendationEmailServiceTest {
         @DisplayName("이메일 발송 실패 시 FAILED로 마킹하고 나머지는 계속 처리한다")
         void partialFailure_continuesProcessing() {
             // given
-            setupClock("2025-01-15T09:00:00");
-
             MemberRecommendation mr1 = createMemberRecommendation(1L, "fail@test.com");
             MemberRecommendation mr2 = createMemberRecommendation(2L, "success@test.com");
-
-            when(memberRecommendationRepository.findByRecommendationDateAndEmailSendStatus(
-                    any(LocalDate.class), eq(EmailSendStatus.PENDING)))
-                    .thenReturn(List.of(mr1, mr2));
+            List<Long> ids = givenTargets(mr1, mr2);
 
             MailMessage msg1 = new MailMessage("fail@test.com", "제목", "<html>");
             MailMessage msg2 = new MailMessage("success@test.com", "제목", "<html>");
-            when(recommendationMailBuilder.build(eq(mr1), any())).thenReturn(msg1);
-            when(recommendationMailBuilder.build(eq(mr2), any())).thenReturn(msg2);
+            when(recommendationMailBuilder.buildFromContent(eq(mr1), any())).thenReturn(msg1);
+            when(recommendationMailBuilder.buildFromContent(eq(mr2), any())).thenReturn(msg2);
 
             doThrow(new RuntimeException("SMTP 오류")).when(mailSender).send(msg1);
             doNothing().when(mailSender).send(msg2);
 
             // when
-            recommendationEmailService.sendAll();
+            Map<Long, String> failures = recommendationEmailService.deliver(ids);
 
             // then
+            assertThat(failures).containsOnlyKeys(1L);
             assertThat(mr1.getEmailSendStatus()).isEqualTo(EmailSendStatus.FAILED);
             assertThat(mr2.getEmailSendStatus()).isEqualTo(EmailSendStatus.SENT);
-            verify(memberRecommendationRepository, times(2)).save(any());
+            verify(memberRecommendationRepository).markEmailsAsSent(List.of(2L), NOW, NOW);
+            verify(memberRecommendationRepository).markEmailsAsFailed(List.of(1L), NOW);
         }
     }
 
     @Nested
-    @DisplayName("send - 수동 추천 이메일 발송")
-    class Send {
+    @DisplayName("이메일 없는 회원 처리")
+    class NoEmail {
 
         @Test
-        @DisplayName("전달된 MemberRecommendation 목록에 이메일을 발송한다")
-        void sendsToAllMembers() {
+        @DisplayName("이메일이 null이면 FAILED로 기록하고 재시도 대상에서 뺀다")
+        void nullEmail_marksFailed() {
             // given
-            MemberRecommendation mr1 = createMemberRecommendation(1L, "a@test.com");
-            MemberRecommendation mr2 = createMemberRecommendation(2L, "b@test.com");
+            MemberRecommendation mr = createMemberRecommendation(1L, null);
+            List<Long> ids = givenTargets(mr);
+
+            // when
+            Map<Long, String> failures = recommendationEmailService.deliver(ids);
+
+            // then: 재시도해도 보낼 수 없으므로 아웃박스 실패로 돌려주지 않는다
+            assertThat(mr.getEmailSendStatus()).isEqualTo(EmailSendStatus.FAILED);
+            assertThat(failures).isEmpty();
+            verify(mailSender, never()).send(any());
+        }
+
+        @Test
+        @DisplayName("이메일이 빈 문자열이면 FAILED로 기록하고 재시도 대상에서 뺀다")
+        void blankEmail_marksFailed() {
+            // given
+            MemberRecommendation mr = createMemberRecommendation(1L, "  ");
+            List<Long> ids = givenTargets(mr);
+
+            // when
+            Map<Long, String> failures = recommendationEmailService.deliver(ids);
+
+            // then: 재시도해도 보낼 수 없으므로 아웃박스 실패로 돌려주지 않는다
+            assertThat(mr.getEmailSendStatus()).isEqualTo(EmailSendStatus.FAILED);
+            assertThat(failures).isEmpty();
+            verify(mailSender, never()).send(any());
+        }
+    }
 
-            when(recommendationMailBuilder.build(any(), any()))
+    @Nested
+    @DisplayName("메일 본문 조회")
+    class ContentLoading {
+
+        @Test
+        @DisplayName("미리 렌더링된 아티팩트가 있으면 문제 조회·템플릿 렌더링 없이 발송한다")
+        void usesPrerenderedArtifact() {
+            // given
+            Recommendation rec = createRecommendation(10L);
+            MemberRecommendation mr = createMemberRecommendation(1L, "a@test.com", rec);
+            RecommendationMailContent content = new RecommendationMailContent("제목", "<html>본문</html>");
+            List<Long> ids = givenTargets(mr);
+
+            when(recommendationMailArtifactRepository.findByRecommendationIdIn(any()))
+                    .thenReturn(List.of(RecommendationMailArtifact.create(10L, content)));
+            when(recommendationMailBuilder.buildFromContent(eq(mr), any()))
+                    .thenReturn(new MailMessage("a@test.com", "제목", "<html>본문</html>"));
+
+            // when
+            recommendationEmailService.deliver(ids);
+
+            // then
+            verify(recommendationMailBuilder).buildFromContent(mr, content);
+            verify(recommendationMailBuilder, never()).renderContent(any(), any(), any());
+            verify(recommendationProblemRepository, never()).findByRecommendationIdInOrderById(any());
+            assertThat(mr.getEmailSendStatus()).isEqualTo(EmailSendStatus.SENT);
+        }
+
+        @Test
+        @DisplayName("아티팩트가 없는 추천만 문제를 IN 쿼리 1회로 조회해 추천당 한 번 렌더링한다")
+        void missingArtifacts_rendersOncePerRecommendation() {
+            // given
+            Recommendation rec1 = createRecommendation(10L);
+            Recommendation rec2 = createRecommendation(20L);
+            MemberRecommendation mr1 = createMemberRecommendation(1L, "a@test.com", rec1);
+            MemberRecommendation mr2 = createMemberRecommendation(2L, "b@test.com", rec1);
+            MemberRecommendation mr3 = createMemberRecommendation(3L, "c@test.com", rec2);
+            Problem p1 = Problem.builder().id(1000L).title("A").build();
+            Problem p2 = Problem.builder().id(1001L).title("B").build();
+            Problem p3 = Problem.builder().id(2000L).title("C").build();
+            RecommendationMailContent content1 = new RecommendationMailContent("제목", "<html>1</html>");
+            RecommendationMailContent content2 = new RecommendationMailContent("제목", "<html>2</html>");
+
+            List<Long> ids = givenTargets(mr1, mr2, mr3);
+            when(recommendationProblemRepository.findByRecommendationIdInOrderById(List.of(10L, 20L)))
+                    .thenReturn(List.of(
+                            RecommendationProblem.create(p1, rec1),
+                            RecommendationProblem.create(p2, rec1),
+                            RecommendationProblem.create(p3, rec2)));
+            when(recommendationMailBuilder.renderContent(any(), any(), eq(List.of(p1, p2)))).thenReturn(content1);
+            when(recommendationMailBuilder.renderContent(any(), any(), eq(List.of(p3)))).thenReturn(content2);
+            when(recommendationMailBuilder.buildFromContent(any(), any()))
                     .thenReturn(new MailMessage("to", "제목", "<html>"));
 
             // when
-            recommendationEmailService.send(List.of(mr1, mr2), List.of());
+            recommendationEmailService.deliver(ids);
 
             // then
-            verify(mailSender, times(2)).send(any(MailMessage.class));
+            verify(recommendationProblemRepository, times(1)).findByRecommendationIdInOrderById(any());
+            verify(recommendationMailBuilder, times(2)).renderContent(any(), any(), any());
+            verify(recommendationMailBuilder).buildFromContent(mr1, content1);
+            verify(recommendationMailBuilder).buildFromContent(mr2, content1);
+            verify(recommendationMailBuilder).buildFromContent(mr3, content2);
         }
     }
 
     @Nested
-    @DisplayName("이메일 없는 회원 처리")
-    class NoEmail {
+    @DisplayName("메일 아웃박스 연동")
+    class Outbox {
 
         @Test
-        @DisplayName("이메일이 null이면 FAILED 처리한다")
-        void nullEmail_marksFailed() {
+        @DisplayName("enqueuePending은 오늘 PENDING 추천 ID를 아웃박스에 적재하고 발송하지 않는다")
+        void enqueuePending_enqueuesIdsOnly() {
             // given
-            MemberRecommendation mr = createMemberRecommendation(1L, null);
+            setupClock("2025-01-15T09:00:00");
+            when(memberRecommendationRepository.findIdsByRecommendationDateAndEmailSendStatus(
+                    LocalDate.of(2025, 1, 15), EmailSendStatus.PENDING))
+                    .thenReturn(List.of(1L, 2L, 3L));
+            when(mailOutboxService.enqueue(MailOutboxType.RECOMMENDATION, List.of(1L, 2L, 3L))).thenReturn(2);
 
             // when
-            recommendationEmailService.send(List.of(mr), List.of());
+            var result = recommendationEmailService.enqueuePending();
 
             // then
-            assertThat(mr.getEmailSendStatus()).isEqualTo(EmailSendStatus.FAILED);
-            verify(mailSender, never()).send(any());
+            assertThat(result.totalCount()).isEqualTo(3);
+            assertThat(result.successCount()).isEqualTo(2);
+            assertThat(result.skipCount()).isEqualTo(1);
+            verifyNoInteractions(mailSender);
         }
 
         @Test
-        @DisplayName("이메일이 빈 문자열이면 FAILED 처리한다")
-        void blankEmail_marksFailed() {
+        @DisplayName("deliver는 FAILED 건을 CAS로 선점해 발송하고, SENT 건은 건너뛴다")
+        void deliver_claimsFailedAndSkipsSent() {
             // given
-            MemberRecommendation mr = createMemberRecommendation(1L, "  ");
+            MemberRecommendation failed = createMemberRecommendation(1L, "a@test.com");
+            failed.markEmailAsFailed();
+            MemberRecommendation sent = createMemberRecommendation(2L, "b@test.com");
+            sent.markEmailAsSent();
+
+            when(memberRecommendationRepository.findAllWithMemberAndRecommendationByIdIn(List.of(1L, 2L)))
+                    .thenReturn(List.of(failed, sent));
+            when(memberRecommendationRepository.compareAndUpdateEmailSendStatus(
+                    1L, EmailSendStatus.PENDING, EmailSendStatus.FAILED)).thenReturn(1);
+            when(recommendationProblemRepository.findByRecommendationIdInOrderById(any())).thenReturn(List.of());
+            when(recommendationMailBuilder.buildFromContent(eq(failed), any()))
+                    .thenReturn(new MailMessage("a@test.com", "제목", "<html>"));
 
             // when
-            recommendationEmailService.send(List.of(mr), List.of());
+            Map<Long, String> failures = recommendationEmailService.deliver(List.of(1L, 2L));
 
             // then
+            assertThat(failures).isEmpty();
+            assertThat(failed.getEmailSendStatus()).isEqualTo(EmailSendStatus.SENT);
+            verify(mailSender, times(1)).send(any(MailMessage.class));
+        }
+
+        @Test
+        @DisplayName("deliver는 발송 실패한 ID를 실패 사유와 함께 반환한다")
+        void deliver_returnsFailures() {
+            // given
+            MemberRecommendation mr = createMemberRecommendation(1L, "a@test.com");
+            when(memberRecommendationRepository.findAllWithMemberAndRecommendationByIdIn(List.of(1L)))
+                    .thenReturn(List.of(mr));
+            when(recommendationProblemRepository.findByRecommendationIdInOrderById(any())).thenReturn(List.of());
+            when(recommendationMailBuilder.buildFromContent(eq(mr), any()))
+                    .thenReturn(new MailMessage("a@test.com", "제목", "<html>"));
+            doThrow(new RuntimeException("SES 오류")).when(mailSender).send(any());
+
+            // when
+            Map<Long, String> failures = recommendationEmailService.deliver(List.of(1L));
+
+            // then
+            assertThat(failures).containsOnlyKeys(1L);
             assertThat(mr.getEmailSendStatus()).isEqualTo(EmailSendStatus.FAILED);
+        }
+    }
+
+    @Nested
+    @DisplayName("발송 상태 일괄 반영")
+    class StatusWriteBack {
+
+        @Test
+        @DisplayName("청크 크기(50)마다 일괄 UPDATE로 반영한다")
+        void flushesPerChunk() {
+            // given
+            List<MemberRecommendation> mrs = new ArrayList<>();
+            for (long id = 1; id <= 120; id++) {
+                mrs.add(createMemberRecommendation(id, "user" + id + "@test.com"));
+            }
+            List<Long> ids = mrs.stream().map(MemberRecommendation::getId).toList();
+            when(memberRecommendationRepository.findAllWithMemberAndRecommendationByIdIn(ids)).thenReturn(mrs);
+            when(recommendationMailBuilder.buildFromContent(any(), any()))
+                    .thenReturn(new MailMessage("to", "제목", "<html>"));
+
+            // when
+            recommendationEmailService.deliver(ids);
+
+            // then
+            ArgumentCaptor<List<Long>> idsCaptor = ArgumentCaptor.forClass(List.class);
+            verify(memberRecommendationRepository, times(3))
+                    .markEmailsAsSent(idsCaptor.capture(), any(LocalDateTime.class), any(LocalDateTime.class));
+            assertThat(idsCaptor.getAllValues()).extracting(List::size).containsExactly(50, 50, 20);
+            verify(memberRecommendationRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("대량 발송은 50명씩 호출하고 호출마다 바로 상태를 반영한다")
+        void bulk_flushesPerCall() {
+            // given
+            Recommendation recommendation = createRecommendation(10L);
+            List<MemberRecommendation> mrs = new ArrayList<>();
+            for (long id = 1; id <= 60; id++) {
+                mrs.add(createMemberRecommendation(id, "user" + id + "@test.com", recommendation));
+            }
+            List<Long> ids = mrs.stream().map(MemberRecommendation::getId).toList();
+            when(memberRecommendationRepository.findAllWithMemberAndRecommendationByIdIn(ids)).thenReturn(mrs);
+            when(mailSender.supportsBulk()).thenReturn(true);
+            when(recommendationMailBuilder.buildBulkFromContent(any(), any()))
+                    .thenAnswer(invocation -> {
+                        List<MemberRecommendation> group = invocation.getArgument(0);
+                        return new BulkMailMessage(
+                                group.stream().map(mr -> mr.getMember().getEmail()).toList(),
+                                "제목", "<html>", List.of());
+                    });
+            when(mailSender.sendBulk(any())).thenAnswer(invocation -> {
+                BulkMailMessage message = invocation.getArgument(0);
+                return message.recipients().stream().map(MailSendResult::success).toList();
+            });
+
+            // when
+            recommendationEmailService.deliver(ids);
+
+            // then
+            ArgumentCaptor<BulkMailMessage> messageCaptor = ArgumentCaptor.forClass(BulkMailMessage.class);
+            ArgumentCaptor<List<Long>> idsCaptor = ArgumentCaptor.forClass(List.class);
+            InOrder inOrder = inOrder(mailSender, memberRecommendationRepository);
+            inOrder.verify(mailSender).sendBulk(messageCaptor.capture());
+            inOrder.verify(memberRecommendationRepository).markEmailsAsSent(idsCaptor.capture(), any(LocalDateTime.class), any(LocalDateTime.class));
+            inOrder.verify(mailSender).sendBulk(messageCaptor.capture());
+            inOrder.verify(memberRecommendationRepository).markEmailsAsSent(idsCaptor.capture(), any(LocalDateTime.class), any(LocalDateTime.class));
+            assertThat(messageCaptor.getAllValues()).extracting(m -> m.recipients().size()).containsExactly(50, 10);
+            assertThat(idsCaptor.getAllValues()).extracting(List::size).containsExactly(50, 10);
+        }
+
+        @Test
+        @DisplayName("SENT 행은 DB와 엔티티에 같은 발송 시각을 기록한다")
+        void sameSentAtForEntityAndUpdate() {
+            // given
+            MemberRecommendation mr = createMemberRecommendation(1L, "a@test.com");
+            List<Long> ids = givenTargets(mr);
+            when(recommendationMailBuilder.buildFromContent(any(), any()))
+                    .thenReturn(new MailMessage("a@test.com", "제목", "<html>"));
+
+            // when
+            recommendationEmailService.deliver(ids);
+
+            // then: 발송 시각·수정 시각 모두 주입된 Clock 기준
+            verify(memberRecommendationRepository).markEmailsAsSent(List.of(1L), NOW, NOW);
+            assertThat(mr.getEmailSentAt()).isEqualTo(NOW);
+        }
+
+        @Test
+        @DisplayName("일괄 UPDATE가 실패하면 해당 청크만 행 단위 저장으로 대체한다")
+        void bulkUpdateFails_fallsBackToSave() {
+            // given
+            MemberRecommendation mr1 = createMemberRecommendation(1L, "a@test.com");
+            MemberRecommendation mr2 = createMemberRecommendation(2L, "b@test.com");
+            List<Long> ids = givenTargets(mr1, mr2);
+            when(recommendationMailBuilder.buildFromContent(any(), any()))
+                    .thenReturn(new MailMessage("to", "제목", "<html>"));
+            when(memberRecommendationRepository.markEmailsAsSent(any(), any(), any()))
+                    .thenThrow(new RuntimeException("DB 오류"));
+
+            // when
+            recommendationEmailService.deliver(ids);
+
+            // then
+            verify(memberRecommendationRepository).save(mr1);
+            verify(memberRecommendationRepository).save(mr2);
+            assertThat(mr1.getEmailSendStatus()).isEqualTo(EmailSendStatus.SENT);
+            assertThat(mr2.getEmailSendStatus()).isEqualTo(EmailSendStatus.SENT);
+        }
+    }
+
+    @Nested
+    @DisplayName("대량 발송 지원 MailSender")
+    class BulkSend {
+
+        @Test
+        @DisplayName("같은 추천의 팀원들을 한 번에 발송하고 수신자별 결과를 상태로 기록한다")
+        void groupsByRecommendation_andMapsResults() {
+            // given
+            Recommendation recommendation = createRecommendation(10L);
+            MemberRecommendation mr1 = createMemberRecommendation(1L, "a@test.com", recommendation);
+            MemberRecommendation mr2 = createMemberRecommendation(2L, "b@test.com", recommendation);
+            MemberRecommendation mr3 = createMemberRecommendation(3L, "c@test.com", createRecommendation(20L));
+            List<Long> ids = givenTargets(mr1, mr2, mr3);
+
+            when(mailSender.supportsBulk()).thenReturn(true);
+            when(recommendationMailBuilder.buildBulkFromContent(any(), any()))
+                    .thenAnswer(invocation -> {
+                        List<MemberRecommendation> group = invocation.getArgument(0);
+                        return new BulkMailMessage(
+                                group.stream().map(mr -> mr.getMember().getEmail()).toList(),
+                                "제목", "<html>", List.of());
+                    });
+            when(mailSender.sendBulk(any())).thenAnswer(invocation -> {
+                BulkMailMessage message = invocation.getArgument(0);
+                return message.recipients().stream()
+                        .map(to -> to.equals("b@test.com")
+                                ? MailSendResult.failure(to, "MESSAGE_REJECTED")
+                                : MailSendResult.success(to))
+                        .toList();
+            });
+
+            // when
+            Map<Long, String> failures = recommendationEmailService.deliver(ids);
+
+            // then
+            verify(mailSender, times(2)).sendBulk(any());
             verify(mailSender, never()).send(any());
+            assertThat(mr1.getEmailSendStatus()).isEqualTo(EmailSendStatus.SENT);
+            assertThat(mr2.getEmailSendStatus()).isEqualTo(EmailSendStatus.FAILED);
+            assertThat(mr3.getEmailSendStatus()).isEqualTo(EmailSendStatus.SENT);
+            assertThat(failures).containsOnlyKeys(2L);
+        }
+
+        @Test
+        @DisplayName("묶음 호출이 실패하면 해당 묶음 전원을 FAILED 처리한다")
+        void bulkCallFails_marksGroupFailed() {
+            // given
+            Recommendation recommendation = createRecommendation(10L);
+            MemberRecommendation mr1 = createMemberRecommendation(1L, "a@test.com", recommendation);
+            MemberRecommendation mr2 = createMemberRecommendation(2L, null, recommendation);
+            List<Long> ids = givenTargets(mr1, mr2);
+
+            when(mailSender.supportsBulk()).thenReturn(true);
+            when(mailSender.sendBulk(any())).thenThrow(new RuntimeException("SES 장애"));
+
+            // when
+            recommendationEmailService.deliver(ids);
+
+            // then
+            assertThat(mr1.getEmailSendStatus()).isEqualTo(EmailSendStatus.FAILED);
+            assertThat(mr2.getEmailSendStatus()).isEqualTo(EmailSendStatus.FAILED);
+            verify(recommendationMailBuilder).buildBulkFromContent(eq(List.of(mr1)), any());
         }
     }
 
     // === Helper Methods ===
 
+    /**
+     * deliver 대상 조회 스텁 — 전달한 순서대로 ID 목록을 돌려준다
+     */
+    private List<Long> givenTargets(MemberRecommendation... mrs) {
+        List<Long> ids = Arrays.stream(mrs).map(MemberRecommendation::getId).toList();
+        when(memberRecommendationRepository.findAllWithMemberAndRecommendationByIdIn(ids)).thenReturn(List.of(mrs));
+        return ids;
+    }
+
+    private Recommendation createRecommendation(Long id) {
+        Recommendation recommendation = Recommendation.createPending(1L, 1L, RecommendationType.SCHEDULED, LocalDate.now());
+        setFieldValue(recommendation, "id", id);
+        return recommendation;
+    }
+
+    private MemberRecommendation createMemberRecommendation(Long id, String email, Recommendation recommendation) {
+        Member member = Member.builder()
+                .email(email)
+                .provider("google")
+                .providerId("provider-" + id)
+                .isVerified(false)
+                .build();
+        setFieldValue(member, "id", id);
+
+        Team team = Team.create("테스트팀", "설명", false);
+        setFieldValue(team, "id", 1L);
+
+        MemberRecommendation mr = MemberRecommendation.createForSquad(member, recommendation, team, 1L);
+        setFieldValue(mr, "id", id);
+        return mr;
+    }
+
     private MemberRecommendation createMemberRecommendation(Long id, String email) {
         Member member = Member.builder()
                 .email(email)
@@ -1,5 +1,7 @@
 package com.ryu.studyhelper.recommendation.service;
 
+import com.ryu.studyhelper.infrastructure.mail.outbox.MailOutboxService;
+import com.ryu.studyhelper.infrastructure.mail.outbox.MailOutboxType;
 import com.ryu.studyhelper.member.domain.Member;
 import com.ryu.studyhelper.problem.domain.Problem;
 import com.ryu.studyhelper.recommendation.domain.Recommendation;
@@ -7,21 +9,32 @@ import com.ryu.studyhelper.recommendation.domain.RecommendationStatus;
 import com.ryu.studyhelper.recommendation.domain.RecommendationType;
 import com.ryu.studyhelper.recommendation.domain.member.EmailSendStatus;
 import com.ryu.studyhelper.recommendation.domain.member.MemberRecommendation;
+import com.ryu.studyhelper.recommendation.domain.RecommendationMailArtifact;
+import com.ryu.studyhelper.recommendation.mailbuilder.RecommendationMailBuilder;
+import com.ryu.studyhelper.recommendation.mailbuilder.RecommendationMailContent;
 import com.ryu.studyhelper.recommendation.repository.MemberRecommendationRepository;
+import com.ryu.studyhelper.recommendation.repository.RecommendationMailArtifactRepository;
 import com.ryu.studyhelper.recommendation.repository.RecommendationProblemRepository;
 import com.ryu.studyhelper.recommendation.repository.RecommendationRepository;
+import com.ryu.studyhelper.solve.verification.RecommendedProblemIndex;
+import com.ryu.studyhelper.team.activity.TeamActivityVersion;
 import com.ryu.studyhelper.team.domain.Squad;
 import com.ryu.studyhelper.team.domain.Team;
+import com.ryu.studyhelper.team.leaderboard.TeamLeaderboardStore;
+import com.ryu.studyhelper.team.service.MemberMissionStatService;
+import com.ryu.studyhelper.team.service.TeamActivityChangeService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -48,6 +61,30 @@ class RecommendationSaverTest {
     @Mock
     private MemberRecommendationRepository memberRecommendationRepository;
 
+    @Mock
+    private MailOutboxService mailOutboxService;
+
+    @Mock
+    private RecommendationMailBuilder recommendationMailBuilder;
+
+    @Mock
+    private RecommendationMailArtifactRepository recommendationMailArtifactRepository;
+
+    @Mock
+    private MemberMissionStatService memberMissionStatService;
+
+    @Mock
+    private TeamActivityChangeService teamActivityChangeService;
+
+    @Mock
+    private TeamActivityVersion teamActivityVersion;
+
+    @Mock
+    private TeamLeaderboardStore teamLeaderboardStore;
+
+    @Mock
+    private RecommendedProblemIndex recommendedProblemIndex;
+
     @InjectMocks
     private RecommendationSaver recommendationSaver;
 
@@ -121,6 +158,158 @@ class RecommendationSaverTest {
             // then
             assertThat(result.get(0).getEmailSendStatus()).isEqualTo(EmailSendStatus.PENDING);
         }
+
+        @Test
+        @DisplayName("팀원 미션 통계에 멤버별 추천 문제 수를 반영한다")
+        void recordsMemberMissionStat() {
+            // given
+            Recommendation rec = createPendingRecommendation();
+            Squad squad = createSquad();
+            List<Member> members = List.of(createMember(1L, "a@test.com"), createMember(2L, "b@test.com"));
+
+            when(recommendationProblemRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+            when(memberRecommendationRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+            when(recommendationRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+            // when
+            recommendationSaver.saveSuccess(rec,
+                    List.of(createProblem(1000L), createProblem(1001L)), members, squad);
+
+            // then
+            verify(memberMissionStatService).recordRecommended(TEAM_ID, TODAY, List.of(1L, 2L), List.of(1000L, 1001L));
+            verify(teamActivityChangeService).recordRecommended(TEAM_ID, TODAY, List.of(1L, 2L), List.of(1000L, 1001L));
+            verify(teamActivityVersion).bump(TEAM_ID);
+            verify(recommendedProblemIndex).addRecommended(List.of(1L, 2L), List.of(1000L, 1001L));
+        }
+
+        @Test
+        @DisplayName("이미 푼 문제가 포함된 추천 - 재계산된 풀이 수가 Redis 리더보드에 반영되도록 재구성을 예약한다")
+        void alreadySolvedProblem_invalidatesLeaderboard() {
+            // given: 멤버 1은 1000번을 이미 풀었음 — 통계 재계산에서 풀이 수가 이번 미션 날짜로 옮겨 온다
+            Recommendation rec = createPendingRecommendation();
+            Squad squad = createSquad();
+
+            when(recommendationProblemRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+            when(memberRecommendationRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+            when(recommendationRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+            // when
+            recommendationSaver.saveSuccess(rec, List.of(createProblem(1000L)),
+                    List.of(createMember(1L, "a@test.com")), squad);
+
+            // then: 통계 재계산 이후 팀 리더보드 무효화 (커밋 후 마커 삭제)
+            var inOrder = inOrder(memberMissionStatService, teamLeaderboardStore);
+            inOrder.verify(memberMissionStatService).recordRecommended(TEAM_ID, TODAY, List.of(1L), List.of(1000L));
+            inOrder.verify(teamLeaderboardStore).invalidate(TEAM_ID);
+        }
+    }
+
+    @Nested
+    @DisplayName("saveSuccess - 메일 본문 사전 렌더링")
+    class MailArtifact {
+
+        @Test
+        @DisplayName("성공 저장 시 메일 본문을 렌더링·압축해 추천 단위로 저장한다")
+        void savesCompressedArtifact() {
+            // given
+            Recommendation rec = createPendingRecommendation();
+            setFieldValue(rec, "id", 1L);
+            Squad squad = createSquad();
+            List<Problem> problems = List.of(createProblem(1000L));
+            RecommendationMailContent content = new RecommendationMailContent("제목", "<html>" + "본문".repeat(500) + "</html>");
+
+            when(recommendationProblemRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+            when(recommendationRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+            when(recommendationMailBuilder.renderContent(rec.getDate(), squad.getTeam().getId(), problems))
+                    .thenReturn(content);
+
+            // when
+            recommendationSaver.saveSuccess(rec, problems, List.of(), squad);
+
+            // then
+            ArgumentCaptor<RecommendationMailArtifact> captor = ArgumentCaptor.forClass(RecommendationMailArtifact.class);
+            verify(recommendationMailArtifactRepository).save(captor.capture());
+            RecommendationMailArtifact artifact = captor.getValue();
+            assertThat(artifact.getRecommendationId()).isEqualTo(1L);
+            assertThat(artifact.getHtmlGzip().length).isLessThan(artifact.getHtmlSize());
+            assertThat(artifact.toContent()).isEqualTo(content);
+        }
+
+        @Test
+        @DisplayName("팀 활동 변경 로그는 메일 본문 저장 뒤 마지막에 적재한다")
+        void recordsActivityChangesAfterArtifact() {
+            // given
+            Recommendation rec = createPendingRecommendation();
+            Squad squad = createSquad();
+            List<Problem> problems = List.of(createProblem(1000L));
+
+            when(recommendationProblemRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+            when(memberRecommendationRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+            when(recommendationRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+            when(recommendationMailBuilder.renderContent(rec.getDate(), squad.getTeam().getId(), problems))
+                    .thenReturn(new RecommendationMailContent("제목", "<html>본문</html>"));
+
+            // when
+            recommendationSaver.saveSuccess(rec, problems, List.of(createMember(1L, "a@test.com")), squad);
+
+            // then
+            var inOrder = inOrder(memberMissionStatService, recommendationMailArtifactRepository, teamActivityChangeService);
+            inOrder.verify(memberMissionStatService).recordRecommended(TEAM_ID, TODAY, List.of(1L), List.of(1000L));
+            inOrder.verify(recommendationMailArtifactRepository).save(any());
+            inOrder.verify(teamActivityChangeService).recordRecommended(TEAM_ID, TODAY, List.of(1L), List.of(1000L));
+        }
+
+        @Test
+        @DisplayName("렌더링이 실패해도 추천은 SUCCESS로 저장된다")
+        void renderFailure_doesNotBlockSuccess() {
+            // given
+            Recommendation rec = createPendingRecommendation();
+            Squad squad = createSquad();
+
+            when(recommendationProblemRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+            when(recommendationRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+            when(recommendationMailBuilder.renderContent(any(), any(), any()))
+                    .thenThrow(new IllegalStateException("템플릿 오류"));
+
+            // when
+            recommendationSaver.saveSuccess(rec, List.of(createProblem(1000L)), List.of(), squad);
+
+            // then
+            assertThat(rec.getStatus()).isEqualTo(RecommendationStatus.SUCCESS);
+            verify(recommendationMailArtifactRepository, never()).save(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("saveSuccessAndEnqueueEmails - 수동 추천 저장")
+    class SaveSuccessAndEnqueueEmails {
+
+        @Test
+        @DisplayName("저장된 MemberRecommendation ID로 추천 메일을 아웃박스에 적재한다")
+        void enqueuesSavedMemberRecommendations() {
+            // given
+            Recommendation rec = createPendingRecommendation();
+            Squad squad = createSquad();
+            List<Member> members = List.of(createMember(1L, "a@test.com"), createMember(2L, "b@test.com"));
+            AtomicLong sequence = new AtomicLong(100L);
+
+            when(recommendationProblemRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+            when(memberRecommendationRepository.save(any())).thenAnswer(inv -> {
+                MemberRecommendation mr = inv.getArgument(0);
+                setFieldValue(mr, "id", sequence.incrementAndGet());
+                return mr;
+            });
+            when(recommendationRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+            // when
+            recommendationSaver.saveSuccessAndEnqueueEmails(rec, List.of(createProblem(1000L)), members, squad);
+
+            // then: 팀 활동 변경 로그는 아웃박스 적재 뒤 트랜잭션의 마지막 쓰기
+            assertThat(rec.getStatus()).isEqualTo(RecommendationStatus.SUCCESS);
+            var inOrder = inOrder(mailOutboxService, teamActivityChangeService);
+            inOrder.verify(mailOutboxService).enqueue(MailOutboxType.RECOMMENDATION, List.of(101L, 102L));
+            inOrder.verify(teamActivityChangeService).recordRecommended(TEAM_ID, TODAY, List.of(1L, 2L), List.of(1000L));
+        }
     }
 
     @Nested
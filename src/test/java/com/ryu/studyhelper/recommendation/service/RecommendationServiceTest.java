@@ -59,9 +59,6 @@ class RecommendationServiceTest {
     @Mock
     private RecommendationCreator recommendationCreator;
 
-    @Mock
-    private RecommendationEmailService recommendationEmailService;
-
     private RecommendationService recommendationService;
 
     private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
@@ -82,8 +79,7 @@ class RecommendationServiceTest {
                 recommendationRepository,
                 recommendationProblemRepository,
                 memberRecommendationRepository,
-                recommendationCreator,
-                recommendationEmailService
+                recommendationCreator
         );
     }
 
@@ -0,0 +1,98 @@
+package com.ryu.studyhelper.solve.controller;
+
+import com.ryu.studyhelper.config.security.jwt.JwtUtil;
+import com.ryu.studyhelper.member.domain.Member;
+import com.ryu.studyhelper.member.domain.Role;
+import com.ryu.studyhelper.member.repository.MemberRepository;
+import com.ryu.studyhelper.solve.service.SolveVerificationJobService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 인증 결과 SSE 구독 테스트
+ * SseEmitter가 완료되면 ASYNC 디스패치로 보안 필터 체인을 다시 지나는데,
+ * JWT 필터는 재디스패치에서 건너뛰므로 이 디스패치가 인증 실패로 거부되지 않아야 한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("SolveController SSE 구독 테스트")
+class SolveControllerSseTest {
+
+    private static final String JOB_ID = "job-1";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @MockBean
+    private SolveVerificationJobService solveVerificationJobService;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(Member.builder()
+                .email("sse@test.com")
+                .handle("sse")
+                .provider("google")
+                .providerId("sse-provider")
+                .role(Role.ROLE_USER)
+                .isVerified(true)
+                .build());
+    }
+
+    @Test
+    @DisplayName("작업 완료 후 ASYNC 디스패치도 인가를 통과해 verification 이벤트를 전달한다")
+    void completedEmitter_asyncDispatchIsPermitted() throws Exception {
+        // given: 이미 끝난 작업 — 구독 즉시 이벤트를 보내고 연결을 닫는다
+        SseEmitter emitter = new SseEmitter();
+        emitter.send(SseEmitter.event().name("verification").data("SUCCEEDED"));
+        emitter.complete();
+        given(solveVerificationJobService.subscribe(member.getId(), JOB_ID)).willReturn(emitter);
+        String accessToken = jwtUtil.createAccessToken(member.getId(), Role.ROLE_USER.name());
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/solve/verifications/{jobId}/events", JOB_ID)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // when & then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("event:verification")))
+                .andExpect(content().string(containsString("data:SUCCEEDED")));
+    }
+
+    @Test
+    @DisplayName("토큰 없이 구독하면 최초 요청에서 401을 반환한다")
+    void noToken_returnsUnauthorized() throws Exception {
+        mockMvc.perform(get("/api/solve/verifications/{jobId}/events", JOB_ID))
+                .andExpect(status().isUnauthorized());
+    }
+}
@@ -0,0 +1,81 @@
+package com.ryu.studyhelper.solve.repository;
+
+import com.ryu.studyhelper.solve.domain.MemberDailySolve;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 그날 첫 풀이가 동시에 들어오는 경우 — 각 스레드가 별도 트랜잭션으로 커밋해야 경합이 재현되므로
+ * 클래스 단위 @Transactional 없이 실행하고 직접 정리한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("MemberDailySolveRepository 동시성 테스트")
+class MemberDailySolveConcurrencyTest {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final LocalDate DAY = LocalDate.of(2025, 1, 15);
+    private static final int THREAD_COUNT = 8;
+
+    @Autowired
+    private MemberDailySolveRepository memberDailySolveRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        memberDailySolveRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("같은 (멤버, 날짜)에 동시에 upsert해도 행은 하나이고 풀이 수가 누락되지 않는다")
+    void concurrentFirstSolves_countAll() throws Exception {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch ready = new CountDownLatch(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        try {
+            for (int i = 0; i < THREAD_COUNT; i++) {
+                futures.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    transactionTemplate.executeWithoutResult(
+                            status -> memberDailySolveRepository.upsertSolvedCount(MEMBER_ID, DAY));
+                    return null;
+                }));
+            }
+            assertThat(ready.await(5, TimeUnit.SECONDS)).isTrue();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS); // 유니크 제약 위반 등 예외가 나면 여기서 실패
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        List<MemberDailySolve> rows = memberDailySolveRepository.findByMemberIdAndSolveDateBetween(MEMBER_ID, DAY, DAY);
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).getSolvedCount()).isEqualTo(THREAD_COUNT);
+    }
+}
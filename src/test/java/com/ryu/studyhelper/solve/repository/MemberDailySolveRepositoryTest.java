@@ -0,0 +1,72 @@
+package com.ryu.studyhelper.solve.repository;
+
+import com.ryu.studyhelper.solve.domain.MemberDailySolve;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("MemberDailySolveRepository 테스트")
+class MemberDailySolveRepositoryTest {
+
+    @Autowired
+    private MemberDailySolveRepository memberDailySolveRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private static final Long MEMBER_ID = 1L;
+    private static final Long OTHER_MEMBER_ID = 2L;
+    private static final LocalDate DAY1 = LocalDate.of(2025, 1, 15);
+    private static final LocalDate DAY2 = LocalDate.of(2025, 1, 16);
+
+    @Test
+    @DisplayName("해당 날짜 행이 없으면 1로 만들고, 있으면 풀이 수를 1 증가시킨다")
+    void upsertSolvedCount() {
+        // when
+        memberDailySolveRepository.upsertSolvedCount(MEMBER_ID, DAY1);
+        memberDailySolveRepository.upsertSolvedCount(MEMBER_ID, DAY1);
+        memberDailySolveRepository.upsertSolvedCount(MEMBER_ID, DAY2);
+        entityManager.clear();
+
+        // then
+        assertThat(memberDailySolveRepository.findByMemberIdAndSolveDateBetween(MEMBER_ID, DAY1, DAY2))
+                .extracting(MemberDailySolve::getSolveDate, MemberDailySolve::getSolvedCount)
+                .containsExactlyInAnyOrder(tuple(DAY1, 2), tuple(DAY2, 1));
+    }
+
+    @Test
+    @DisplayName("기간 내 해당 멤버의 풀이가 있는 날짜만 조회한다")
+    void findByMemberIdAndSolveDateBetween() {
+        // given
+        memberDailySolveRepository.saveAll(List.of(
+                MemberDailySolve.first(MEMBER_ID, DAY1.minusDays(1)),
+                MemberDailySolve.first(MEMBER_ID, DAY1),
+                MemberDailySolve.first(MEMBER_ID, DAY2),
+                MemberDailySolve.first(OTHER_MEMBER_ID, DAY1)
+        ));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<MemberDailySolve> result =
+                memberDailySolveRepository.findByMemberIdAndSolveDateBetween(MEMBER_ID, DAY1, DAY2);
+
+        // then
+        assertThat(result)
+                .extracting(MemberDailySolve::getMemberId, MemberDailySolve::getSolveDate)
+                .containsExactlyInAnyOrder(tuple(MEMBER_ID, DAY1), tuple(MEMBER_ID, DAY2));
+    }
+}
@@ -0,0 +1,179 @@
+package com.ryu.studyhelper.solve.repository;
+
+import com.ryu.studyhelper.member.domain.Member;
+import com.ryu.studyhelper.member.domain.Role;
+import com.ryu.studyhelper.member.repository.MemberRepository;
+import com.ryu.studyhelper.problem.domain.Problem;
+import com.ryu.studyhelper.problem.repository.ProblemRepository;
+import com.ryu.studyhelper.solve.domain.MemberSolvedProblem;
+import jakarta.persistence.EntityManager;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * member_solved_problem 쿼리 실행 계획 테스트
+ * 리포지토리 메서드가 실제로 만드는 SQL을 StatementInspector로 수집해 EXPLAIN 하고,
+ * member_solved_problem을 전체 스캔하지 않는지(인덱스를 타는지) 확인한다.
+ * 스키마는 엔티티 매핑(uk_member_problem, idx_member_solved_problem_solved_at) 기준으로 생성되므로
+ * V9 마이그레이션과 매핑이 함께 유지되어야 한다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.ryu.studyhelper.solve.repository.MemberSolvedProblemQueryPlanTest$SqlCapture")
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("MemberSolvedProblem 쿼리 실행 계획 테스트")
+class MemberSolvedProblemQueryPlanTest {
+
+    private static final String TABLE_SCAN = "public.member_solved_problem.tablescan";
+    private static final int MEMBER_COUNT = 100;
+    private static final int PROBLEM_COUNT = 50;
+    private static final int SOLVED_PER_MEMBER = 20;
+
+    @Autowired
+    private MemberSolvedProblemRepository memberSolvedProblemRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ProblemRepository problemRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private List<Long> memberIds;
+    private List<Long> problemIds;
+
+    /**
+     * Hibernate가 실행하는 SQL 수집기
+     */
+    public static class SqlCapture implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            members.add(memberRepository.save(Member.builder()
+                    .email("plan" + i + "@test.com")
+                    .handle("plan" + i)
+                    .provider("google")
+                    .providerId("plan-provider-" + i)
+                    .role(Role.ROLE_USER)
+                    .isVerified(true)
+                    .build()));
+        }
+
+        List<Problem> problems = new ArrayList<>();
+        for (long id = 300_001L; id <= 300_000L + PROBLEM_COUNT; id++) {
+            problems.add(problemRepository.save(Problem.builder()
+                    .id(id).title("Problem " + id).titleKo("문제 " + id).level(10).build()));
+        }
+
+        List<MemberSolvedProblem> solved = new ArrayList<>();
+        for (int m = 0; m < MEMBER_COUNT; m++) {
+            for (int p = 0; p < SOLVED_PER_MEMBER; p++) {
+                solved.add(MemberSolvedProblem.create(members.get(m), problems.get((m + p) % PROBLEM_COUNT)));
+            }
+        }
+        memberSolvedProblemRepository.saveAll(solved);
+        entityManager.flush();
+        entityManager.clear();
+
+        memberIds = members.stream().map(Member::getId).limit(5).toList();
+        problemIds = problems.stream().map(Problem::getId).limit(5).toList();
+    }
+
+    @Test
+    @DisplayName("풀이 여부 확인은 uk_member_problem을 사용한다")
+    void existsByMemberIdAndProblemId() {
+        List<String> plans = explain(() ->
+                memberSolvedProblemRepository.existsByMemberIdAndProblemId(memberIds.get(0), problemIds.get(0)));
+
+        assertThat(plans).allSatisfy(plan -> assertThat(plan).contains("uk_member_problem"));
+    }
+
+    @Test
+    @DisplayName("멤버 풀이 수·풀이 목록 조회는 인덱스를 사용한다")
+    void findByMemberId() {
+        explain(() -> memberSolvedProblemRepository.countByMemberId(memberIds.get(0)));
+        explain(() -> memberSolvedProblemRepository.findByMemberId(memberIds.get(0)));
+        explain(() -> memberSolvedProblemRepository.findByMemberIdAndProblemIdIn(memberIds.get(0), problemIds));
+    }
+
+    @Test
+    @DisplayName("일별 풀이 조회(solved_at 범위)는 인덱스를 사용한다")
+    void findBySolvedAtRange() {
+        LocalDateTime now = LocalDateTime.now();
+
+        explain(() -> memberSolvedProblemRepository
+                .findByMemberIdAndSolvedAtGreaterThanEqualAndSolvedAtLessThanOrderBySolvedAtAsc(
+                        memberIds.get(0), now.minusDays(7), now.plusDays(1)));
+        explain(() -> memberSolvedProblemRepository.findWithProblemByMemberIdAndSolvedAtRange(
+                memberIds.get(0), now.minusDays(1), now.plusDays(1)));
+    }
+
+    @Test
+    @DisplayName("여러 멤버 × 여러 문제 IN 조회는 인덱스를 사용한다")
+    void findByMemberIdsAndProblemIds() {
+        explain(() -> memberSolvedProblemRepository.findSolvedProblemIds(memberIds, problemIds));
+        explain(() -> memberSolvedProblemRepository.findByMemberIdsAndProblemIds(memberIds, problemIds));
+        explain(() -> memberSolvedProblemRepository.countSolvedByMemberIdsAndProblemIds(memberIds, problemIds));
+    }
+
+    @Test
+    @DisplayName("전체 랭킹 집계는 멤버별 풀이를 인덱스로 조인한다")
+    void globalRanking() {
+        explain(() -> memberSolvedProblemRepository.findGlobalRanking(10));
+        explain(() -> memberSolvedProblemRepository.findGlobalRankingPage(10, 20));
+        explain(() -> memberSolvedProblemRepository.findAllRankingEntries());
+        explain(() -> memberSolvedProblemRepository.countRankedMembersSolvedMoreThan(10L));
+    }
+
+    /**
+     * 쿼리를 실행해 member_solved_problem을 읽는 SQL을 수집하고, 각 SQL의 실행 계획이 전체 스캔이 아닌지 검증
+     *
+     * @return 수집한 SQL의 실행 계획 (소문자)
+     */
+    private List<String> explain(Runnable query) {
+        SqlCapture.STATEMENTS.clear();
+        query.run();
+
+        List<String> statements = SqlCapture.STATEMENTS.stream()
+                .filter(sql -> sql.toLowerCase().contains("member_solved_problem"))
+                .toList();
+        assertThat(statements).as("member_solved_problem 조회 SQL").isNotEmpty();
+
+        List<String> plans = statements.stream()
+                .map(sql -> jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class,
+                        new Object[(int) sql.chars().filter(c -> c == '?').count()]).toLowerCase())
+                .toList();
+        assertThat(plans).allSatisfy(plan -> assertThat(plan).as(plan).doesNotContain(TABLE_SCAN));
+        return plans;
+    }
+}
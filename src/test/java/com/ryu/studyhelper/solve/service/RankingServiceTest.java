@@ -1,7 +1,14 @@
 package com.ryu.studyhelper.solve.service;
 
+import com.ryu.studyhelper.common.enums.CustomResponseStatus;
+import com.ryu.studyhelper.common.exception.CustomException;
+import com.ryu.studyhelper.member.domain.Member;
+import com.ryu.studyhelper.member.repository.MemberRepository;
 import com.ryu.studyhelper.solve.dto.projection.GlobalRankingProjection;
+import com.ryu.studyhelper.solve.dto.response.GlobalRankingPageResponse;
 import com.ryu.studyhelper.solve.dto.response.GlobalRankingResponse;
+import com.ryu.studyhelper.solve.dto.response.MyRankingResponse;
+import com.ryu.studyhelper.solve.ranking.GlobalRankingStore;
 import com.ryu.studyhelper.solve.repository.MemberSolvedProblemRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -12,9 +19,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("RankingService 단위 테스트")
@@ -26,6 +38,12 @@ class RankingServiceTest {
     @Mock
     private MemberSolvedProblemRepository memberSolvedProblemRepository;
 
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private GlobalRankingStore globalRankingStore;
+
     @Nested
     @DisplayName("getGlobalRanking 메서드")
     class GetGlobalRankingTest {
@@ -132,18 +150,171 @@ class RankingServiceTest {
             assertThat(response.rankings().get(2).rank()).isEqualTo(2); // 공동 2위
         }
 
-        private GlobalRankingProjection createProjection(String handle, Long totalSolved) {
-            return new GlobalRankingProjection() {
-                @Override
-                public String getHandle() {
-                    return handle;
-                }
-
-                @Override
-                public Long getTotalSolved() {
-                    return totalSolved;
-                }
-            };
+        @Test
+        @DisplayName("성공 - Redis 랭킹 사용 시 DB 집계를 실행하지 않음")
+        void success_fromRedis() {
+            // given
+            given(globalRankingStore.findPage(0, 10)).willReturn(Optional.of(new GlobalRankingStore.Page(
+                    List.of(entry("user1", 100L), entry("user2", 80L), entry("user3", 80L)), 0, 3)));
+
+            // when
+            GlobalRankingResponse response = rankingService.getGlobalRanking();
+
+            // then
+            assertThat(response.rankings()).extracting(GlobalRankingResponse.RankEntry::rank)
+                    .containsExactly(1, 2, 2);
+            assertThat(response.rankings()).extracting(GlobalRankingResponse.RankEntry::handle)
+                    .containsExactly("user1", "user2", "user3");
+            verifyNoInteractions(memberSolvedProblemRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("getGlobalRankingPage 메서드")
+    class GetGlobalRankingPageTest {
+
+        @Test
+        @DisplayName("성공 - 이전 페이지와 동점인 첫 항목은 공동 순위")
+        void success_tieAcrossPages() {
+            // given - 10~12번째: 80, 80, 70 (앞 9명 중 8명이 80문제 초과)
+            given(globalRankingStore.findPage(9, 3)).willReturn(Optional.of(new GlobalRankingStore.Page(
+                    List.of(entry("user10", 80L), entry("user11", 80L), entry("user12", 70L)), 8, 50)));
+
+            // when
+            GlobalRankingPageResponse response = rankingService.getGlobalRankingPage(3, 3);
+
+            // then
+            assertThat(response.rankings()).extracting(GlobalRankingResponse.RankEntry::rank)
+                    .containsExactly(9, 9, 12);
+            assertThat(response.page()).isEqualTo(3);
+            assertThat(response.size()).isEqualTo(3);
+            assertThat(response.totalCount()).isEqualTo(50);
+        }
+
+        @Test
+        @DisplayName("성공 - Redis 장애 시 DB 집계로 대체")
+        void success_fallbackToDb() {
+            // given
+            given(memberSolvedProblemRepository.findGlobalRankingPage(2, 2)).willReturn(List.of(
+                    createProjection("user3", 60L),
+                    createProjection("user4", 50L)));
+            given(memberSolvedProblemRepository.countRankedMembersSolvedMoreThan(60L)).willReturn(2L);
+            given(memberSolvedProblemRepository.countRankedMembers()).willReturn(4L);
+
+            // when
+            GlobalRankingPageResponse response = rankingService.getGlobalRankingPage(1, 2);
+
+            // then
+            assertThat(response.rankings()).extracting(GlobalRankingResponse.RankEntry::rank)
+                    .containsExactly(3, 4);
+            assertThat(response.totalCount()).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("실패 - 페이지 크기 범위 초과")
+        void fail_invalidSize() {
+            // when & then
+            assertThatThrownBy(() -> rankingService.getGlobalRankingPage(0, 101))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("status", CustomResponseStatus.INVALID_RANKING_PAGE);
+            verifyNoInteractions(globalRankingStore, memberSolvedProblemRepository);
         }
     }
+
+    @Nested
+    @DisplayName("getMyRanking 메서드")
+    class GetMyRankingTest {
+
+        @Test
+        @DisplayName("성공 - Redis 랭킹에서 내 순위 조회")
+        void success_fromRedis() {
+            // given
+            given(memberRepository.findById(1L)).willReturn(Optional.of(member("user1")));
+            given(globalRankingStore.findPosition(1L))
+                    .willReturn(Optional.of(new GlobalRankingStore.Position(42L, 7L, 100L)));
+
+            // when
+            MyRankingResponse response = rankingService.getMyRanking(1L);
+
+            // then
+            assertThat(response.handle()).isEqualTo("user1");
+            assertThat(response.rank()).isEqualTo(7);
+            assertThat(response.solvedCount()).isEqualTo(42L);
+            assertThat(response.totalCount()).isEqualTo(100L);
+            verifyNoInteractions(memberSolvedProblemRepository);
+        }
+
+        @Test
+        @DisplayName("성공 - Redis에 없으면 DB 집계로 순위 계산")
+        void success_fallbackToDb() {
+            // given
+            given(memberRepository.findById(1L)).willReturn(Optional.of(member("user1")));
+            given(memberSolvedProblemRepository.countByMemberId(1L)).willReturn(42L);
+            given(memberSolvedProblemRepository.countRankedMembersSolvedMoreThan(42L)).willReturn(6L);
+            given(memberSolvedProblemRepository.countRankedMembers()).willReturn(100L);
+
+            // when
+            MyRankingResponse response = rankingService.getMyRanking(1L);
+
+            // then
+            assertThat(response.rank()).isEqualTo(7);
+            assertThat(response.solvedCount()).isEqualTo(42L);
+        }
+
+        @Test
+        @DisplayName("성공 - 핸들 미등록 회원은 순위 없음")
+        void success_noHandle() {
+            // given
+            given(memberRepository.findById(1L)).willReturn(Optional.of(member(null)));
+            given(memberSolvedProblemRepository.countRankedMembers()).willReturn(100L);
+
+            // when
+            MyRankingResponse response = rankingService.getMyRanking(1L);
+
+            // then
+            assertThat(response.rank()).isNull();
+            assertThat(response.handle()).isNull();
+            verify(globalRankingStore, never()).findPosition(1L);
+        }
+
+        @Test
+        @DisplayName("실패 - 회원을 찾을 수 없음")
+        void fail_memberNotFound() {
+            // given
+            given(memberRepository.findById(1L)).willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> rankingService.getMyRanking(1L))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("status", CustomResponseStatus.MEMBER_NOT_FOUND);
+        }
+
+        private Member member(String handle) {
+            return Member.builder()
+                    .id(1L)
+                    .provider("google")
+                    .providerId("google_1")
+                    .email("test@example.com")
+                    .handle(handle)
+                    .build();
+        }
+    }
+
+    private GlobalRankingStore.Entry entry(String handle, long solvedCount) {
+        return new GlobalRankingStore.Entry(handle, solvedCount);
+    }
+
+    private GlobalRankingProjection createProjection(String handle, Long totalSolved) {
+        return new GlobalRankingProjection() {
+            @Override
+            public String getHandle() {
+                return handle;
+            }
+
+            @Override
+            public Long getTotalSolved() {
+                return totalSolved;
+            }
+        };
+    }
 }
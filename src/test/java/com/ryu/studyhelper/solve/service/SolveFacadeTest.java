@@ -4,6 +4,10 @@ import com.ryu.studyhelper.common.enums.CustomResponseStatus;
 import com.ryu.studyhelper.common.exception.CustomException;
 import com.ryu.studyhelper.infrastructure.solvedac.SolvedAcClient;
 import com.ryu.studyhelper.solve.dto.response.DailySolvedResponse;
+import com.ryu.studyhelper.solve.ranking.GlobalRankingStore;
+import com.ryu.studyhelper.solve.verification.SolveVerificationCoalescer;
+import com.ryu.studyhelper.team.activity.TeamActivityVersion;
+import com.ryu.studyhelper.team.leaderboard.TeamLeaderboardStore;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,7 +18,10 @@ import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verify;
@@ -32,20 +39,47 @@ class SolveFacadeTest {
     @Mock
     private SolvedAcClient solvedAcClient;
 
+    @Mock
+    private TeamLeaderboardStore teamLeaderboardStore;
+
+    @Mock
+    private TeamActivityVersion teamActivityVersion;
+
+    @Mock
+    private GlobalRankingStore globalRankingStore;
+
+    @Mock
+    private SolveVerificationCoalescer solveVerificationCoalescer;
+
+    /**
+     * 합치기 계층은 별도로 테스트하고 여기서는 인증 본문을 그대로 실행
+     */
+    private void givenVerificationRuns() {
+        willAnswer(invocation -> {
+            invocation.<Runnable>getArgument(2).run();
+            return null;
+        }).given(solveVerificationCoalescer).execute(eq(1L), eq(1000L), any());
+    }
+
     @Test
     @DisplayName("성공 - 문제 해결 인증")
     void verifyProblemSolved_success() {
+        givenVerificationRuns();
         given(solveService.validateAndGetHandle(1L, 1000L)).willReturn("testuser");
         given(solvedAcClient.hasUserSolvedProblem("testuser", 1000L)).willReturn(true);
 
         solveFacade.verifyProblemSolved(1L, 1000L);
 
         verify(solveService).recordSolved(1L, 1000L);
+        verify(teamLeaderboardStore).recordSolved(1L, 1000L);
+        verify(teamActivityVersion).bumpForMember(1L);
+        verify(globalRankingStore).recordSolved(1L);
     }
 
     @Test
     @DisplayName("실패 - solved.ac에서 아직 풀이 안 됨")
     void verifyProblemSolved_fail_notSolvedYet() {
+        givenVerificationRuns();
         given(solveService.validateAndGetHandle(1L, 1000L)).willReturn("testuser");
         given(solvedAcClient.hasUserSolvedProblem("testuser", 1000L)).willReturn(false);
 
@@ -54,11 +88,13 @@ class SolveFacadeTest {
                 .hasFieldOrPropertyWithValue("status", CustomResponseStatus.PROBLEM_NOT_SOLVED_YET);
 
         verify(solveService, never()).recordSolved(1L, 1000L);
+        verifyNoInteractions(teamLeaderboardStore, teamActivityVersion, globalRankingStore);
     }
 
     @Test
     @DisplayName("실패 - 사전 검증 예외 전파")
     void verifyProblemSolved_fail_precondition() {
+        givenVerificationRuns();
         given(solveService.validateAndGetHandle(1L, 1000L))
                 .willThrow(new CustomException(CustomResponseStatus.MEMBER_NOT_FOUND));
 
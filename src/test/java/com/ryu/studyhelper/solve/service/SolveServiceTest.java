@@ -6,21 +6,28 @@ import com.ryu.studyhelper.member.domain.Member;
 import com.ryu.studyhelper.member.repository.MemberRepository;
 import com.ryu.studyhelper.problem.domain.Problem;
 import com.ryu.studyhelper.problem.repository.ProblemRepository;
-import com.ryu.studyhelper.recommendation.repository.MemberRecommendationRepository;
+import com.ryu.studyhelper.solve.domain.MemberDailySolve;
 import com.ryu.studyhelper.solve.domain.MemberSolvedProblem;
 import com.ryu.studyhelper.solve.dto.response.DailySolvedResponse;
+import com.ryu.studyhelper.solve.dto.response.SolveHeatmapResponse;
+import com.ryu.studyhelper.solve.repository.MemberDailySolveRepository;
 import com.ryu.studyhelper.solve.repository.MemberSolvedProblemRepository;
+import com.ryu.studyhelper.solve.verification.RecommendedProblemIndex;
+import com.ryu.studyhelper.team.service.MemberMissionStatService;
+import com.ryu.studyhelper.team.service.TeamActivityChangeService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataIntegrityViolationException;
 
 import java.time.Clock;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
@@ -31,8 +38,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("SolveService 단위 테스트")
@@ -48,10 +58,19 @@ class SolveServiceTest {
     private ProblemRepository problemRepository;
 
     @Mock
-    private MemberRecommendationRepository memberRecommendationRepository;
+    private MemberSolvedProblemRepository memberSolvedProblemRepository;
 
     @Mock
-    private MemberSolvedProblemRepository memberSolvedProblemRepository;
+    private MemberMissionStatService memberMissionStatService;
+
+    @Mock
+    private TeamActivityChangeService teamActivityChangeService;
+
+    @Mock
+    private MemberDailySolveRepository memberDailySolveRepository;
+
+    @Mock
+    private RecommendedProblemIndex recommendedProblemIndex;
 
     @Mock
     private Clock clock;
@@ -87,7 +106,7 @@ class SolveServiceTest {
         void success() {
             given(memberRepository.findById(1L)).willReturn(Optional.of(member));
             given(problemRepository.findById(1000L)).willReturn(Optional.of(problem));
-            given(memberRecommendationRepository.existsByMemberIdAndRecommendedProblemId(1L, 1000L)).willReturn(true);
+            given(recommendedProblemIndex.isRecommended(1L, 1000L)).willReturn(true);
             given(memberSolvedProblemRepository.existsByMemberIdAndProblemId(1L, 1000L)).willReturn(false);
 
             String handle = solveService.validateAndGetHandle(1L, 1000L);
@@ -121,7 +140,7 @@ class SolveServiceTest {
         void fail_alreadySolved() {
             given(memberRepository.findById(1L)).willReturn(Optional.of(member));
             given(problemRepository.findById(1000L)).willReturn(Optional.of(problem));
-            given(memberRecommendationRepository.existsByMemberIdAndRecommendedProblemId(1L, 1000L)).willReturn(true);
+            given(recommendedProblemIndex.isRecommended(1L, 1000L)).willReturn(true);
             given(memberSolvedProblemRepository.existsByMemberIdAndProblemId(1L, 1000L)).willReturn(true);
 
             assertThatThrownBy(() -> solveService.validateAndGetHandle(1L, 1000L))
@@ -170,7 +189,7 @@ class SolveServiceTest {
         void fail_problemNotInRecommendation() {
             given(memberRepository.findById(1L)).willReturn(Optional.of(member));
             given(problemRepository.findById(1000L)).willReturn(Optional.of(problem));
-            given(memberRecommendationRepository.existsByMemberIdAndRecommendedProblemId(1L, 1000L)).willReturn(false);
+            given(recommendedProblemIndex.isRecommended(1L, 1000L)).willReturn(false);
 
             assertThatThrownBy(() -> solveService.validateAndGetHandle(1L, 1000L))
                     .isInstanceOf(CustomException.class)
@@ -183,7 +202,7 @@ class SolveServiceTest {
     class RecordSolvedTest {
 
         @Test
-        @DisplayName("성공 - 풀이 저장")
+        @DisplayName("성공 - 풀이 저장 후 미션 통계 갱신, 팀 활동 변경 로그는 마지막에 적재")
         void success() {
             given(memberRepository.findById(1L)).willReturn(Optional.of(member));
             given(problemRepository.findById(1000L)).willReturn(Optional.of(problem));
@@ -193,6 +212,38 @@ class SolveServiceTest {
             solveService.recordSolved(1L, 1000L);
 
             verify(memberSolvedProblemRepository).saveAndFlush(any(MemberSolvedProblem.class));
+            InOrder inOrder = inOrder(memberMissionStatService, memberDailySolveRepository, teamActivityChangeService);
+            inOrder.verify(memberMissionStatService).recordSolved(1L, 1000L);
+            inOrder.verify(memberDailySolveRepository).upsertSolvedCount(any(), any());
+            inOrder.verify(teamActivityChangeService).recordSolved(1L, 1000L);
+        }
+
+        @Test
+        @DisplayName("성공 - 06:00 이전 풀이는 전날 히트맵 집계에 반영")
+        void success_beforeSixAm_upsertsPreviousDay() {
+            given(memberRepository.findById(1L)).willReturn(Optional.of(member));
+            given(problemRepository.findById(1000L)).willReturn(Optional.of(problem));
+            MemberSolvedProblem solved = mock(MemberSolvedProblem.class);
+            given(solved.getSolvedAt()).willReturn(LocalDateTime.of(2024, 11, 28, 5, 30));
+            given(memberSolvedProblemRepository.saveAndFlush(any(MemberSolvedProblem.class))).willReturn(solved);
+
+            solveService.recordSolved(1L, 1000L);
+
+            verify(memberDailySolveRepository).upsertSolvedCount(1L, LocalDate.of(2024, 11, 27));
+        }
+
+        @Test
+        @DisplayName("성공 - 06:00 이후 풀이는 당일 히트맵 집계에 반영")
+        void success_afterSixAm_upsertsSameDay() {
+            given(memberRepository.findById(1L)).willReturn(Optional.of(member));
+            given(problemRepository.findById(1000L)).willReturn(Optional.of(problem));
+            MemberSolvedProblem solved = mock(MemberSolvedProblem.class);
+            given(solved.getSolvedAt()).willReturn(LocalDateTime.of(2024, 11, 28, 14, 0));
+            given(memberSolvedProblemRepository.saveAndFlush(any(MemberSolvedProblem.class))).willReturn(solved);
+
+            solveService.recordSolved(1L, 1000L);
+
+            verify(memberDailySolveRepository).upsertSolvedCount(1L, LocalDate.of(2024, 11, 28));
         }
 
         @Test
@@ -227,6 +278,47 @@ class SolveServiceTest {
             assertThatThrownBy(() -> solveService.recordSolved(1L, 1000L))
                     .isInstanceOf(CustomException.class)
                     .hasFieldOrPropertyWithValue("status", CustomResponseStatus.ALREADY_SOLVED);
+            verify(memberMissionStatService, never()).recordSolved(any(), any());
+            verify(teamActivityChangeService, never()).recordSolved(any(), any());
+            verifyNoInteractions(memberDailySolveRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("recordDetectedSolves 메서드")
+    class RecordDetectedSolvesTest {
+
+        @Test
+        @DisplayName("성공 - 이미 기록된 문제를 제외하고 일괄 저장")
+        void success_skipsAlreadySolved() {
+            Problem other = Problem.builder().id(1001L).title("A-B").titleKo("A-B").level(1).build();
+            given(memberRepository.findById(1L)).willReturn(Optional.of(member));
+            given(memberSolvedProblemRepository.findByMemberIdAndProblemIdIn(1L, List.of(1000L, 1001L)))
+                    .willReturn(List.of(MemberSolvedProblem.create(member, problem)));
+            given(problemRepository.findAllById(List.of(1000L, 1001L))).willReturn(List.of(problem, other));
+
+            List<Long> recorded = solveService.recordDetectedSolves(1L, List.of(1000L, 1001L));
+
+            assertThat(recorded).containsExactly(1001L);
+            verify(memberSolvedProblemRepository).saveAllAndFlush(any());
+            verify(memberMissionStatService).recordSolved(1L, 1001L);
+            verify(teamActivityChangeService).recordSolved(1L, 1001L);
+            verify(memberMissionStatService, never()).recordSolved(1L, 1000L);
+        }
+
+        @Test
+        @DisplayName("성공 - 모두 기록되어 있으면 저장하지 않음")
+        void success_allAlreadySolved() {
+            given(memberRepository.findById(1L)).willReturn(Optional.of(member));
+            given(memberSolvedProblemRepository.findByMemberIdAndProblemIdIn(1L, List.of(1000L)))
+                    .willReturn(List.of(MemberSolvedProblem.create(member, problem)));
+            given(problemRepository.findAllById(List.of(1000L))).willReturn(List.of(problem));
+
+            List<Long> recorded = solveService.recordDetectedSolves(1L, List.of(1000L));
+
+            assertThat(recorded).isEmpty();
+            verify(memberSolvedProblemRepository, never()).saveAllAndFlush(any());
+            verifyNoInteractions(memberMissionStatService, teamActivityChangeService, memberDailySolveRepository);
         }
     }
 
@@ -248,8 +340,11 @@ class SolveServiceTest {
             solveServiceWithClock = new SolveService(
                     memberRepository,
                     problemRepository,
-                    memberRecommendationRepository,
                     memberSolvedProblemRepository,
+                    memberMissionStatService,
+                    teamActivityChangeService,
+                    memberDailySolveRepository,
+                    recommendedProblemIndex,
                     fixedClock
             );
         }
@@ -326,6 +421,47 @@ class SolveServiceTest {
                 assertThat(daily.problems()).isEmpty();
             });
         }
+
+        @Test
+        @DisplayName("성공 - 히트맵은 집계 행만으로 일별 풀이 수를 채움")
+        void success_getSolveHeatmap() {
+            LocalDate today = LocalDate.of(2024, 11, 28);
+            given(memberDailySolveRepository.findByMemberIdAndSolveDateBetween(1L, today.minusDays(6), today))
+                    .willReturn(List.of(
+                            MemberDailySolve.builder().memberId(1L).solveDate(today.minusDays(6)).solvedCount(3).build(),
+                            MemberDailySolve.builder().memberId(1L).solveDate(today).solvedCount(2).build()));
+
+            SolveHeatmapResponse response = solveServiceWithClock.getSolveHeatmap(1L, 7);
+
+            assertThat(response.startDate()).isEqualTo("2024-11-22");
+            assertThat(response.endDate()).isEqualTo("2024-11-28");
+            assertThat(response.counts()).containsExactly(3, 0, 0, 0, 0, 0, 2);
+            assertThat(response.totalCount()).isEqualTo(5);
+            verifyNoInteractions(memberSolvedProblemRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("getDailySolvedProblems 메서드")
+    class GetDailySolvedProblemsTest {
+
+        @Test
+        @DisplayName("성공 - 특정 날짜 풀이 문제는 오전 6시 ~ 다음날 오전 6시 범위로 조회")
+        void success_getDailySolvedProblems() {
+            LocalDate date = LocalDate.of(2024, 11, 27);
+            MemberSolvedProblem solved = mock(MemberSolvedProblem.class);
+            given(solved.getProblem()).willReturn(problem);
+            given(memberSolvedProblemRepository.findWithProblemByMemberIdAndSolvedAtRange(
+                    1L, LocalDateTime.of(2024, 11, 27, 6, 0), LocalDateTime.of(2024, 11, 28, 6, 0)))
+                    .willReturn(List.of(solved));
+
+            DailySolvedResponse.DailySolved response = solveService.getDailySolvedProblems(1L, date);
+
+            assertThat(response.date()).isEqualTo("2024-11-27");
+            assertThat(response.count()).isEqualTo(1);
+            assertThat(response.problems()).extracting(DailySolvedResponse.SolvedProblem::problemId)
+                    .containsExactly(1000L);
+        }
     }
 
     @Nested
@@ -339,8 +475,11 @@ class SolveServiceTest {
             service = new SolveService(
                     memberRepository,
                     problemRepository,
-                    memberRecommendationRepository,
                     memberSolvedProblemRepository,
+                    memberMissionStatService,
+                    teamActivityChangeService,
+                    memberDailySolveRepository,
+                    recommendedProblemIndex,
                     Clock.system(ZoneId.of("Asia/Seoul"))
             );
         }
@@ -382,5 +521,13 @@ class SolveServiceTest {
 
             assertThat(response.dailySolved()).hasSize(730);
         }
+
+        @Test
+        @DisplayName("실패 - 히트맵 days가 730 초과")
+        void fail_getSolveHeatmap_daysOutOfRange() {
+            assertThatThrownBy(() -> service.getSolveHeatmap(1L, 731))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("status", CustomResponseStatus.INVALID_DAYS_RANGE);
+        }
     }
 }
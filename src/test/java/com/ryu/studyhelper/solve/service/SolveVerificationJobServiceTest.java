@@ -0,0 +1,164 @@
+package com.ryu.studyhelper.solve.service;
+
+import com.ryu.studyhelper.common.enums.CustomResponseStatus;
+import com.ryu.studyhelper.common.exception.CustomException;
+import com.ryu.studyhelper.solve.dto.response.VerificationJobResponse;
+import com.ryu.studyhelper.solve.verification.VerificationJob;
+import com.ryu.studyhelper.solve.verification.VerificationJobNotifier;
+import com.ryu.studyhelper.solve.verification.VerificationJobStatus;
+import com.ryu.studyhelper.solve.verification.VerificationJobStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SolveVerificationJobService 단위 테스트")
+class SolveVerificationJobServiceTest {
+
+    @Mock
+    private SolveFacade solveFacade;
+
+    @Mock
+    private VerificationJobStore verificationJobStore;
+
+    @Mock
+    private VerificationJobNotifier verificationJobNotifier;
+
+    @Mock
+    private ExecutorService executor;
+
+    private SolveVerificationJobService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new SolveVerificationJobService(solveFacade, verificationJobStore, verificationJobNotifier, executor);
+    }
+
+    @Nested
+    @DisplayName("submit 메서드")
+    class SubmitTest {
+
+        @Test
+        @DisplayName("성공 - 접수 즉시 PENDING을 반환하고 백그라운드에서 인증 후 결과를 알린다")
+        void success() {
+            // given
+            givenExecutorRunsImmediately();
+
+            // when
+            VerificationJobResponse response = service.submit(1L, 1000L);
+
+            // then
+            assertThat(response.status()).isEqualTo(VerificationJobStatus.PENDING);
+            assertThat(response.problemId()).isEqualTo(1000L);
+            verify(solveFacade).verifyProblemSolved(1L, 1000L);
+
+            ArgumentCaptor<VerificationJob> saved = ArgumentCaptor.forClass(VerificationJob.class);
+            verify(verificationJobStore, times(3)).save(saved.capture());
+            assertThat(saved.getAllValues()).extracting(VerificationJob::status).containsExactly(
+                    VerificationJobStatus.PENDING, VerificationJobStatus.RUNNING, VerificationJobStatus.SUCCEEDED);
+            verify(verificationJobNotifier).publish(saved.getAllValues().get(2));
+        }
+
+        @Test
+        @DisplayName("인증 실패 - 실패 사유를 작업에 기록한다")
+        void verificationFailed() {
+            // given
+            givenExecutorRunsImmediately();
+            willThrow(new CustomException(CustomResponseStatus.PROBLEM_NOT_SOLVED_YET))
+                    .given(solveFacade).verifyProblemSolved(1L, 1000L);
+
+            // when
+            service.submit(1L, 1000L);
+
+            // then
+            ArgumentCaptor<VerificationJob> published = ArgumentCaptor.forClass(VerificationJob.class);
+            verify(verificationJobNotifier).publish(published.capture());
+            assertThat(published.getValue().status()).isEqualTo(VerificationJobStatus.FAILED);
+            assertThat(published.getValue().error()).isEqualTo(CustomResponseStatus.PROBLEM_NOT_SOLVED_YET);
+        }
+
+        @Test
+        @DisplayName("실패 - 작업 큐가 가득 차면 접수를 거부한다")
+        void fail_queueFull() {
+            // given
+            willThrow(new RejectedExecutionException()).given(executor).execute(any());
+
+            // when & then
+            assertThatThrownBy(() -> service.submit(1L, 1000L))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("status", CustomResponseStatus.VERIFICATION_QUEUE_FULL);
+            verifyNoInteractions(solveFacade);
+        }
+    }
+
+    @Nested
+    @DisplayName("getJob 메서드")
+    class GetJobTest {
+
+        @Test
+        @DisplayName("성공 - 본인 작업 상태 조회")
+        void success() {
+            // given
+            given(verificationJobStore.find("job-1"))
+                    .willReturn(Optional.of(VerificationJob.pending("job-1", 1L, 1000L).succeeded()));
+
+            // when
+            VerificationJobResponse response = service.getJob(1L, "job-1");
+
+            // then
+            assertThat(response.status()).isEqualTo(VerificationJobStatus.SUCCEEDED);
+            assertThat(response.errorCode()).isNull();
+        }
+
+        @Test
+        @DisplayName("실패 - 다른 회원의 작업은 찾을 수 없음으로 처리")
+        void fail_otherMember() {
+            // given
+            given(verificationJobStore.find("job-1"))
+                    .willReturn(Optional.of(VerificationJob.pending("job-1", 2L, 1000L)));
+
+            // when & then
+            assertThatThrownBy(() -> service.getJob(1L, "job-1"))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("status", CustomResponseStatus.VERIFICATION_JOB_NOT_FOUND);
+        }
+
+        @Test
+        @DisplayName("실패 - 만료되었거나 없는 작업")
+        void fail_notFound() {
+            // given
+            given(verificationJobStore.find("job-1")).willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> service.getJob(1L, "job-1"))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("status", CustomResponseStatus.VERIFICATION_JOB_NOT_FOUND);
+        }
+    }
+
+    private void givenExecutorRunsImmediately() {
+        willAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).given(executor).execute(any());
+    }
+}
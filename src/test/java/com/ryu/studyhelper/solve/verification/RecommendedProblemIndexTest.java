@@ -0,0 +1,124 @@
+package com.ryu.studyhelper.solve.verification;
+
+import com.ryu.studyhelper.recommendation.repository.MemberRecommendationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RecommendedProblemIndex 단위 테스트")
+class RecommendedProblemIndexTest {
+
+    private static final String KEY = "solve:recommended:1";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @Mock
+    private MemberRecommendationRepository memberRecommendationRepository;
+
+    @InjectMocks
+    private RecommendedProblemIndex recommendedProblemIndex;
+
+    @BeforeEach
+    void setUp() {
+        given(redisTemplate.opsForSet()).willReturn(setOperations);
+    }
+
+    @Test
+    @DisplayName("색인에 있으면 DB를 조회하지 않는다")
+    void indexed_skipsDb() {
+        // given
+        given(setOperations.isMember(KEY, "1000")).willReturn(true);
+
+        // when
+        boolean result = recommendedProblemIndex.isRecommended(1L, 1000L);
+
+        // then
+        assertThat(result).isTrue();
+        verifyNoInteractions(memberRecommendationRepository);
+    }
+
+    @Test
+    @DisplayName("색인이 없으면 회원의 추천 문제 전체를 적재해 판단한다")
+    void missingIndex_loadsAll() {
+        // given
+        given(setOperations.isMember(KEY, "1000")).willReturn(false);
+        given(redisTemplate.hasKey(KEY)).willReturn(false);
+        given(memberRecommendationRepository.findRecommendedProblemIdsByMemberId(1L)).willReturn(List.of(1000L, 1001L));
+
+        // when
+        boolean result = recommendedProblemIndex.isRecommended(1L, 1000L);
+
+        // then
+        assertThat(result).isTrue();
+        verify(setOperations).add(KEY, "1000", "1001");
+        verify(memberRecommendationRepository, never()).existsByMemberIdAndRecommendedProblemId(any(), any());
+    }
+
+    @Test
+    @DisplayName("색인에 없는 문제는 DB로 확인하고 추천된 문제면 색인에 보정한다")
+    void notIndexed_checksDbAndRepairs() {
+        // given
+        given(setOperations.isMember(KEY, "1000")).willReturn(false);
+        given(redisTemplate.hasKey(KEY)).willReturn(true);
+        given(memberRecommendationRepository.existsByMemberIdAndRecommendedProblemId(1L, 1000L)).willReturn(true);
+
+        // when
+        boolean result = recommendedProblemIndex.isRecommended(1L, 1000L);
+
+        // then
+        assertThat(result).isTrue();
+        verify(setOperations).add(KEY, "1000");
+    }
+
+    @Test
+    @DisplayName("추천되지 않은 문제는 색인에 넣지 않는다")
+    void notRecommended_notIndexed() {
+        // given
+        given(setOperations.isMember(KEY, "1000")).willReturn(false);
+        given(redisTemplate.hasKey(KEY)).willReturn(true);
+        given(memberRecommendationRepository.existsByMemberIdAndRecommendedProblemId(1L, 1000L)).willReturn(false);
+
+        // when
+        boolean result = recommendedProblemIndex.isRecommended(1L, 1000L);
+
+        // then
+        assertThat(result).isFalse();
+        verify(setOperations, never()).add(any(), any(String[].class));
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 DB 단건 확인으로 대체한다")
+    void redisFailure_fallsBackToDb() {
+        // given
+        given(setOperations.isMember(KEY, "1000")).willThrow(new RedisConnectionFailureException("down"));
+        given(memberRecommendationRepository.existsByMemberIdAndRecommendedProblemId(1L, 1000L)).willReturn(false);
+
+        // when
+        boolean result = recommendedProblemIndex.isRecommended(1L, 1000L);
+
+        // then
+        assertThat(result).isFalse();
+        verify(memberRecommendationRepository, never()).findRecommendedProblemIdsByMemberId(any());
+    }
+}
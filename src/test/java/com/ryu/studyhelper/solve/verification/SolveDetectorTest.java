@@ -0,0 +1,224 @@
+package com.ryu.studyhelper.solve.verification;
+
+import com.ryu.studyhelper.common.enums.CustomResponseStatus;
+import com.ryu.studyhelper.common.exception.CustomException;
+import com.ryu.studyhelper.infrastructure.ratelimit.RateLimitType;
+import com.ryu.studyhelper.infrastructure.ratelimit.RateLimiterService;
+import com.ryu.studyhelper.infrastructure.solvedac.SolvedAcClient;
+import com.ryu.studyhelper.recommendation.dto.projection.PendingSolveProjection;
+import com.ryu.studyhelper.recommendation.repository.MemberRecommendationRepository;
+import com.ryu.studyhelper.solve.ranking.GlobalRankingStore;
+import com.ryu.studyhelper.solve.service.SolveService;
+import com.ryu.studyhelper.team.activity.TeamActivityVersion;
+import com.ryu.studyhelper.team.leaderboard.TeamLeaderboardStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SolveDetector 단위 테스트")
+class SolveDetectorTest {
+
+    private static final LocalDate MISSION_DATE = LocalDate.of(2024, 11, 28);
+    private static final String LOCK_KEY = "solve:detection:lock";
+
+    @Mock
+    private MemberRecommendationRepository memberRecommendationRepository;
+
+    @Mock
+    private SolvedAcClient solvedAcClient;
+
+    @Mock
+    private RateLimiterService rateLimiterService;
+
+    @Mock
+    private SolveService solveService;
+
+    @Mock
+    private TeamLeaderboardStore teamLeaderboardStore;
+
+    @Mock
+    private TeamActivityVersion teamActivityVersion;
+
+    @Mock
+    private GlobalRankingStore globalRankingStore;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @InjectMocks
+    private SolveDetector solveDetector;
+
+    @BeforeEach
+    void setUp() {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 실행 중이면 건너뛴다")
+    void locked_skips() {
+        // given
+        given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(false);
+
+        // when
+        SolveDetector.Result result = solveDetector.detect(MISSION_DATE);
+
+        // then
+        assertThat(result).isEqualTo(new SolveDetector.Result(0, 0, 0));
+        verifyNoInteractions(memberRecommendationRepository, solvedAcClient);
+    }
+
+    @Test
+    @DisplayName("핸들마다 한 번 조회해 푼 문제를 일괄 기록하고 Redis에 반영한다")
+    void detect_recordsSolved() {
+        // given
+        givenLocked();
+        given(memberRecommendationRepository.findPendingSolvesByRecommendationDate(MISSION_DATE))
+                .willReturn(List.of(pending(1L, "alice", 1000L), pending(1L, "alice", 1001L)));
+        given(rateLimiterService.allowRequest(0L, RateLimitType.SOLVED_AC_DETECTION)).willReturn(true);
+        given(solvedAcClient.findSolvedProblemIds("alice", List.of(1000L, 1001L))).willReturn(Set.of(1001L));
+        given(solveService.recordDetectedSolves(1L, List.of(1001L))).willReturn(List.of(1001L));
+
+        // when
+        SolveDetector.Result result = solveDetector.detect(MISSION_DATE);
+
+        // then
+        assertThat(result).isEqualTo(new SolveDetector.Result(1, 1, 1));
+        verify(teamLeaderboardStore).recordSolved(1L, 1001L);
+        verify(globalRankingStore).recordSolved(1L);
+        verify(teamActivityVersion).bumpForMember(1L);
+        ArgumentCaptor<String> token = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations).setIfAbsent(eq(LOCK_KEY), token.capture(), any(Duration.class));
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(LOCK_KEY)), eq(token.getValue()));
+        verify(redisTemplate, never()).delete(anyString());
+    }
+
+    @Test
+    @DisplayName("실행이 락 TTL을 넘겨 다른 인스턴스가 락을 잡았으면 그 락을 지우지 않는다")
+    void lockExpiredDuringRun_doesNotDeleteOthersLock() {
+        // given: 실행 도중 락이 만료되고 다른 인스턴스가 새 토큰으로 락을 잡음 → 토큰 비교 삭제가 0 반환
+        givenLocked();
+        given(memberRecommendationRepository.findPendingSolvesByRecommendationDate(MISSION_DATE))
+                .willReturn(List.of());
+        given(redisTemplate.execute(any(RedisScript.class), eq(List.of(LOCK_KEY)), anyString())).willReturn(0L);
+
+        // when
+        SolveDetector.Result result = solveDetector.detect(MISSION_DATE);
+
+        // then
+        assertThat(result).isEqualTo(new SolveDetector.Result(0, 0, 0));
+        verify(redisTemplate, never()).delete(anyString());
+    }
+
+    @Test
+    @DisplayName("solved.ac 예산이 떨어지면 남은 핸들은 다음 실행으로 넘긴다")
+    void budgetExhausted_defers() {
+        // given
+        givenLocked();
+        given(memberRecommendationRepository.findPendingSolvesByRecommendationDate(MISSION_DATE))
+                .willReturn(List.of(pending(1L, "alice", 1000L), pending(2L, "bob", 1000L)));
+        given(rateLimiterService.allowRequest(0L, RateLimitType.SOLVED_AC_DETECTION)).willReturn(false);
+
+        // when
+        SolveDetector.Result result = solveDetector.detect(MISSION_DATE);
+
+        // then
+        assertThat(result).isEqualTo(new SolveDetector.Result(2, 0, 0));
+        verifyNoInteractions(solvedAcClient, solveService);
+    }
+
+    @Test
+    @DisplayName("solved.ac 장애(서킷 OPEN)면 이번 실행을 멈춘다")
+    void solvedAcUnavailable_stops() {
+        // given
+        givenLocked();
+        given(memberRecommendationRepository.findPendingSolvesByRecommendationDate(MISSION_DATE))
+                .willReturn(List.of(pending(1L, "alice", 1000L), pending(2L, "bob", 1000L)));
+        given(rateLimiterService.allowRequest(0L, RateLimitType.SOLVED_AC_DETECTION)).willReturn(true);
+        given(solvedAcClient.findSolvedProblemIds(anyString(), anyList()))
+                .willThrow(new CustomException(CustomResponseStatus.SOLVED_AC_UNAVAILABLE));
+
+        // when
+        SolveDetector.Result result = solveDetector.detect(MISSION_DATE);
+
+        // then
+        assertThat(result.checkedCount()).isZero();
+        verify(solvedAcClient).findSolvedProblemIds(anyString(), anyList());
+        verifyNoInteractions(solveService);
+    }
+
+    @Test
+    @DisplayName("버튼 인증과 경합해 일괄 기록이 실패하면 건별로 다시 기록한다")
+    void conflict_fallsBackToSingleRecord() {
+        // given
+        givenLocked();
+        given(memberRecommendationRepository.findPendingSolvesByRecommendationDate(MISSION_DATE))
+                .willReturn(List.of(pending(1L, "alice", 1000L)));
+        given(rateLimiterService.allowRequest(0L, RateLimitType.SOLVED_AC_DETECTION)).willReturn(true);
+        given(solvedAcClient.findSolvedProblemIds("alice", List.of(1000L))).willReturn(Set.of(1000L));
+        given(solveService.recordDetectedSolves(1L, List.of(1000L)))
+                .willThrow(new DataIntegrityViolationException("duplicate"));
+        willThrow(new CustomException(CustomResponseStatus.ALREADY_SOLVED))
+                .given(solveService).recordSolved(1L, 1000L);
+
+        // when
+        SolveDetector.Result result = solveDetector.detect(MISSION_DATE);
+
+        // then
+        assertThat(result.recordedCount()).isZero();
+        verify(teamLeaderboardStore, never()).recordSolved(anyLong(), eq(1000L));
+        verify(teamActivityVersion, never()).bumpForMember(any());
+    }
+
+    private void givenLocked() {
+        given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(true);
+    }
+
+    private PendingSolveProjection pending(Long memberId, String handle, Long problemId) {
+        return new PendingSolveProjection() {
+            @Override
+            public Long getMemberId() {
+                return memberId;
+            }
+
+            @Override
+            public String getHandle() {
+                return handle;
+            }
+
+            @Override
+            public Long getProblemId() {
+                return problemId;
+            }
+        };
+    }
+}
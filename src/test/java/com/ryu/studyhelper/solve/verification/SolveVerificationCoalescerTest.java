@@ -0,0 +1,211 @@
+package com.ryu.studyhelper.solve.verification;
+
+import com.ryu.studyhelper.common.enums.CustomResponseStatus;
+import com.ryu.studyhelper.common.exception.CustomException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.endsWith;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SolveVerificationCoalescer 단위 테스트")
+class SolveVerificationCoalescerTest {
+
+    private static final String LOCK_KEY = "solve:verify:lock:1:1000";
+    private static final String RESULT_KEY = "solve:verify:result:1:1000";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private MeterRegistry meterRegistry;
+    private SolveVerificationCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        coalescer = new SolveVerificationCoalescer(redisTemplate, meterRegistry);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("같은 인스턴스의 동시 요청은 한 번만 실행하고 결과를 공유한다")
+    void local_concurrentRequests_shareOneExecution() throws Exception {
+        // given
+        given(valueOperations.setIfAbsent(eq(LOCK_KEY), anyString(), any(Duration.class))).willReturn(true);
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Runnable verification = () -> {
+            executions.incrementAndGet();
+            started.countDown();
+            await(release);
+        };
+
+        // when
+        CompletableFuture<Void> leader = CompletableFuture.runAsync(() -> coalescer.execute(1L, 1000L, verification));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Void> follower = CompletableFuture.runAsync(() -> coalescer.execute(1L, 1000L, verification));
+        while (coalescedCount("local") == 0) {
+            Thread.sleep(10);
+        }
+        release.countDown();
+        leader.get(5, TimeUnit.SECONDS);
+        follower.get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(executions).hasValue(1);
+        assertThat(meterRegistry.get("solve.verify.upstream").counter().count()).isEqualTo(1);
+        assertThat(coalescedCount("local")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("락을 잡은 요청은 결과를 공유하고 락을 해제한다")
+    void leader_publishesOutcome() {
+        // given
+        given(valueOperations.setIfAbsent(eq(LOCK_KEY), anyString(), any(Duration.class))).willReturn(true);
+
+        // when
+        assertThatThrownBy(() -> coalescer.execute(1L, 1000L, () -> {
+            throw new CustomException(CustomResponseStatus.PROBLEM_NOT_SOLVED_YET);
+        })).isInstanceOf(CustomException.class);
+
+        // then
+        ArgumentCaptor<String> token = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations).setIfAbsent(eq(LOCK_KEY), token.capture(), eq(SolveVerificationCoalescer.LOCK_TTL));
+        verify(valueOperations).set(eq(RESULT_KEY), endsWith("|PROBLEM_NOT_SOLVED_YET"), any(Duration.class));
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(LOCK_KEY)), eq(token.getValue()));
+        verify(redisTemplate, never()).delete(anyString());
+    }
+
+    @Test
+    @DisplayName("락 TTL을 넘겨 실행된 요청은 다른 요청이 새로 잡은 락을 지우지 않는다")
+    void leaderOutlivesLockTtl_doesNotReleaseNewLeadersLock() {
+        // given: 실행 도중 락이 만료되고 다른 요청이 새 토큰으로 락을 잡음 → 토큰 비교 삭제가 0 반환
+        given(valueOperations.setIfAbsent(eq(LOCK_KEY), anyString(), any(Duration.class))).willReturn(true);
+        given(redisTemplate.execute(any(RedisScript.class), eq(List.of(LOCK_KEY)), anyString())).willReturn(0L);
+        AtomicInteger executions = new AtomicInteger();
+
+        // when
+        coalescer.execute(1L, 1000L, executions::incrementAndGet);
+
+        // then: 결과는 자기 토큰으로 공유하고, 락은 토큰 비교 스크립트로만 해제 시도
+        assertThat(executions).hasValue(1);
+        verify(valueOperations).set(eq(RESULT_KEY), endsWith("|OK"), any(Duration.class));
+        verify(redisTemplate, never()).delete(anyString());
+    }
+
+    @Test
+    @DisplayName("락 TTL과 대기 시간은 solved.ac 재시도 포함 최악 소요 시간보다 길다")
+    void lockTtl_coversWorstCaseUpstream() {
+        // 3회 × (연결 3s + 응답 30s) + 재시도 대기 최대 (1s + 2s) × 1.3
+        Duration worstCase = Duration.ofSeconds(3 * (3 + 30)).plusMillis((long) (3_000 * 1.3));
+
+        assertThat(SolveVerificationCoalescer.LOCK_TTL).isGreaterThan(worstCase);
+        assertThat(SolveVerificationCoalescer.REMOTE_WAIT_TIMEOUT).isGreaterThan(worstCase);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 진행 중이면 그 성공 결과를 재사용한다")
+    void remote_reusesSuccess() {
+        // given
+        given(valueOperations.setIfAbsent(eq(LOCK_KEY), anyString(), any(Duration.class))).willReturn(false);
+        given(valueOperations.get(LOCK_KEY)).willReturn("token");
+        given(valueOperations.get(RESULT_KEY)).willReturn("token|OK");
+        AtomicInteger executions = new AtomicInteger();
+
+        // when
+        coalescer.execute(1L, 1000L, executions::incrementAndGet);
+
+        // then
+        assertThat(executions).hasValue(0);
+        assertThat(coalescedCount("remote")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 실패 결과는 같은 예외로 돌려준다")
+    void remote_replaysFailure() {
+        // given
+        given(valueOperations.setIfAbsent(eq(LOCK_KEY), anyString(), any(Duration.class))).willReturn(false);
+        given(valueOperations.get(LOCK_KEY)).willReturn("token");
+        given(valueOperations.get(RESULT_KEY)).willReturn("token|PROBLEM_NOT_SOLVED_YET");
+
+        // when & then
+        assertThatThrownBy(() -> coalescer.execute(1L, 1000L, () -> {}))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("status", CustomResponseStatus.PROBLEM_NOT_SOLVED_YET);
+    }
+
+    @Test
+    @DisplayName("이전 인증의 결과(토큰 불일치)는 재사용하지 않고 락이 풀리면 직접 실행한다")
+    void remote_staleOutcome_runsItself() {
+        // given
+        given(valueOperations.setIfAbsent(eq(LOCK_KEY), anyString(), any(Duration.class))).willReturn(false);
+        given(valueOperations.get(LOCK_KEY)).willReturn("token", (String) null);
+        given(valueOperations.get(RESULT_KEY)).willReturn("old-token|PROBLEM_NOT_SOLVED_YET");
+        AtomicInteger executions = new AtomicInteger();
+
+        // when
+        coalescer.execute(1L, 1000L, executions::incrementAndGet);
+
+        // then
+        assertThat(executions).hasValue(1);
+        assertThat(meterRegistry.find("solve.verify.coalesced").counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 락 없이 직접 실행한다")
+    void redisFailure_runsDirectly() {
+        // given
+        given(valueOperations.setIfAbsent(eq(LOCK_KEY), anyString(), any(Duration.class)))
+                .willThrow(new RedisConnectionFailureException("down"));
+        AtomicInteger executions = new AtomicInteger();
+
+        // when
+        coalescer.execute(1L, 1000L, executions::incrementAndGet);
+
+        // then
+        assertThat(executions).hasValue(1);
+    }
+
+    private double coalescedCount(String scope) {
+        var counter = meterRegistry.find("solve.verify.coalesced").tag("scope", scope).counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
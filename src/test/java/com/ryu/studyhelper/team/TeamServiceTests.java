@@ -14,6 +14,8 @@ import com.ryu.studyhelper.team.repository.SquadIncludeTagRepository;
 import com.ryu.studyhelper.team.repository.SquadRepository;
 import com.ryu.studyhelper.team.repository.TeamMemberRepository;
 import com.ryu.studyhelper.team.repository.TeamRepository;
+import com.ryu.studyhelper.team.activity.TeamActivityVersion;
+import com.ryu.studyhelper.team.leaderboard.TeamLeaderboardStore;
 import com.ryu.studyhelper.team.service.TeamService;
 import com.ryu.studyhelper.team.dto.request.CreateTeamRequest;
 import com.ryu.studyhelper.team.dto.request.UpdateTeamInfoRequest;
@@ -57,6 +59,12 @@ class TeamServiceTests {
     @Mock
     private NotificationService notificationService;
 
+    @Mock
+    private TeamLeaderboardStore teamLeaderboardStore;
+
+    @Mock
+    private TeamActivityVersion teamActivityVersion;
+
     @InjectMocks
     private TeamService teamService;
 
@@ -341,6 +349,8 @@ class TeamServiceTests {
         teamService.leaveTeam(teamId, memberId);
 
         verify(teamMemberRepository).delete(normalTeamMember);
+        verify(teamLeaderboardStore).invalidate(teamId);
+        verify(teamActivityVersion).bump(teamId);
     }
 
     @Test
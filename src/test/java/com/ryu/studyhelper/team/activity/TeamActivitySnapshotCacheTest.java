@@ -0,0 +1,137 @@
+package com.ryu.studyhelper.team.activity;
+
+import com.ryu.studyhelper.team.dto.internal.QueryPeriod;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TeamActivitySnapshotCache 단위 테스트")
+class TeamActivitySnapshotCacheTest {
+
+    private static final Long TEAM_ID = 1L;
+    private static final QueryPeriod PERIOD =
+            QueryPeriod.of(30, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 30));
+
+    private MutableClock clock;
+    private TeamActivitySnapshotCache cache;
+    private AtomicInteger loadCount;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-01-30T00:00:00Z"));
+        cache = new TeamActivitySnapshotCache(clock);
+        loadCount = new AtomicInteger();
+    }
+
+    private Supplier<TeamActivitySnapshot> loader() {
+        return () -> {
+            loadCount.incrementAndGet();
+            return new TeamActivitySnapshot(PERIOD, List.of());
+        };
+    }
+
+    @Test
+    @DisplayName("같은 버전·TTL 이내면 스냅샷을 재사용한다")
+    void sameVersion_reusesSnapshot() {
+        // when
+        TeamActivitySnapshot first = cache.get(TEAM_ID, PERIOD, Optional.of(1L), loader());
+        TeamActivitySnapshot second = cache.get(TEAM_ID, PERIOD, Optional.of(1L), loader());
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(loadCount).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("버전이 바뀌면 다시 계산한다")
+    void versionChanged_reloads() {
+        // when
+        cache.get(TEAM_ID, PERIOD, Optional.of(1L), loader());
+        cache.get(TEAM_ID, PERIOD, Optional.of(2L), loader());
+
+        // then
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("TTL이 지나면 다시 계산한다")
+    void expired_reloads() {
+        // given
+        cache.get(TEAM_ID, PERIOD, Optional.of(1L), loader());
+
+        // when
+        clock.advance(Duration.ofSeconds(31));
+        cache.get(TEAM_ID, PERIOD, Optional.of(1L), loader());
+
+        // then
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("버전을 알 수 없으면 캐시 없이 매번 계산한다")
+    void versionUnavailable_bypassesCache() {
+        // when
+        cache.get(TEAM_ID, PERIOD, Optional.empty(), loader());
+        cache.get(TEAM_ID, PERIOD, Optional.empty(), loader());
+
+        // then
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("계산 실패는 캐시하지 않는다")
+    void failedLoad_isNotCached() {
+        // given
+        assertThatThrownBy(() -> cache.get(TEAM_ID, PERIOD, Optional.of(1L), () -> {
+            throw new IllegalStateException("DB 오류");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // when
+        cache.get(TEAM_ID, PERIOD, Optional.of(1L), loader());
+
+        // then
+        assertThat(loadCount).hasValue(1);
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
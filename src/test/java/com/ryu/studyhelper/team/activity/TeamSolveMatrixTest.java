@@ -0,0 +1,82 @@
+package com.ryu.studyhelper.team.activity;
+
+import com.ryu.studyhelper.solve.dto.projection.SolvedProblemIdProjection;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TeamSolveMatrix 단위 테스트")
+class TeamSolveMatrixTest {
+
+    @Test
+    @DisplayName("풀이 기록이 있는 (멤버, 문제)만 풀이로 표시한다")
+    void isSolved_marksOnlyRecordedPairs() {
+        // given
+        TeamSolveMatrix matrix = TeamSolveMatrix.of(List.of(1L, 2L), List.of(1000L, 1001L),
+                List.of(solved(1L, 1000L), solved(2L, 1001L)));
+
+        // then
+        assertThat(matrix.isSolved(1L, 1000L)).isTrue();
+        assertThat(matrix.isSolved(1L, 1001L)).isFalse();
+        assertThat(matrix.isSolved(2L, 1001L)).isTrue();
+        assertThat(matrix.isSolved(3L, 1000L)).isFalse();
+        assertThat(matrix.isSolved(1L, 9999L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("행·열 밖의 풀이 기록은 무시한다")
+    void ignoresRecordsOutsideMatrix() {
+        // given
+        TeamSolveMatrix matrix = TeamSolveMatrix.of(List.of(1L), List.of(1000L),
+                List.of(solved(1L, 2000L), solved(3L, 1000L)));
+
+        // then
+        assertThat(matrix.isSolved(1L, 1000L)).isFalse();
+        assertThat(matrix.countSolved(1L, matrix.problemMask(List.of(1000L, 2000L)))).isZero();
+    }
+
+    @Test
+    @DisplayName("문제 마스크 안에서 멤버가 푼 문제 수를 센다")
+    void countSolved_withinMask() {
+        // given
+        TeamSolveMatrix matrix = TeamSolveMatrix.of(List.of(1L, 2L), List.of(1000L, 1001L, 1002L),
+                List.of(solved(1L, 1000L), solved(1L, 1002L), solved(2L, 1001L)));
+
+        // when
+        BitSet mask = matrix.problemMask(List.of(1000L, 1001L));
+
+        // then
+        assertThat(matrix.countSolved(1L, mask)).isEqualTo(1);
+        assertThat(matrix.countSolved(2L, mask)).isEqualTo(1);
+        assertThat(matrix.countSolved(3L, mask)).isZero();
+    }
+
+    @Test
+    @DisplayName("빈 행렬은 항상 미풀이")
+    void empty_hasNoSolves() {
+        // given
+        TeamSolveMatrix matrix = TeamSolveMatrix.empty();
+
+        // then
+        assertThat(matrix.isSolved(1L, 1000L)).isFalse();
+        assertThat(matrix.countSolved(1L, matrix.problemMask(List.of(1000L)))).isZero();
+    }
+
+    private SolvedProblemIdProjection solved(Long memberId, Long problemId) {
+        return new SolvedProblemIdProjection() {
+            @Override
+            public Long getMemberId() {
+                return memberId;
+            }
+
+            @Override
+            public Long getProblemId() {
+                return problemId;
+            }
+        };
+    }
+}
@@ -0,0 +1,201 @@
+package com.ryu.studyhelper.team.controller.v2;
+
+import com.ryu.studyhelper.member.domain.Member;
+import com.ryu.studyhelper.member.domain.Role;
+import com.ryu.studyhelper.member.repository.MemberRepository;
+import com.ryu.studyhelper.team.activity.TeamActivityVersion;
+import com.ryu.studyhelper.team.domain.Squad;
+import com.ryu.studyhelper.team.domain.Team;
+import com.ryu.studyhelper.team.domain.TeamMember;
+import com.ryu.studyhelper.team.repository.SquadRepository;
+import com.ryu.studyhelper.team.repository.TeamMemberRepository;
+import com.ryu.studyhelper.team.repository.TeamRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 팀 리더보드·활동 현황 조건부 조회(ETag / If-None-Match) 테스트
+ * 304 응답은 접근 권한 확인(팀 PK 조회) 후 팀 활동 버전(Redis)만으로 결정되어 활동 데이터를 조회하지 않아야 한다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("TeamControllerV2 조건부 조회 테스트")
+class TeamControllerV2ConditionalGetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private SquadRepository squadRepository;
+
+    @Autowired
+    private TeamMemberRepository teamMemberRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private TeamActivityVersion teamActivityVersion;
+
+    private Statistics statistics;
+    private Team team;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        team = teamRepository.save(Team.create("조건부조회팀", "설명", false));
+        Squad squad = squadRepository.save(Squad.createDefault(team));
+        Member member = memberRepository.save(Member.builder()
+                .email("etag@test.com")
+                .handle("etag")
+                .provider("google")
+                .providerId("etag-provider")
+                .role(Role.ROLE_USER)
+                .isVerified(true)
+                .build());
+        teamMemberRepository.save(TeamMember.createLeader(team, member, squad.getId()));
+        entityManager.flush();
+        entityManager.clear();
+
+        given(teamActivityVersion.current(team.getId())).willReturn(Optional.of(7L));
+    }
+
+    private String activityUrl() {
+        return "/api/v2/teams/" + team.getId() + "/activity";
+    }
+
+    private String leaderboardUrl() {
+        return "/api/v2/teams/" + team.getId() + "/leaderboard";
+    }
+
+    private String fetchETag() throws Exception {
+        String eTag = mockMvc.perform(get(activityUrl()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        entityManager.clear();
+        return eTag;
+    }
+
+    @Test
+    @DisplayName("ETag가 일치하면 접근 확인 외 SQL 없이 304를 반환한다 (활동 현황)")
+    void activity_matchingETag_returns304WithoutActivityQueries() throws Exception {
+        // given
+        String eTag = fetchETag();
+        statistics.clear();
+
+        // when & then
+        mockMvc.perform(get(activityUrl()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1); // 공개 팀 — 팀 PK 조회만
+    }
+
+    @Test
+    @DisplayName("ETag가 일치하면 접근 확인 외 SQL 없이 304를 반환한다 (리더보드)")
+    void leaderboard_matchingETag_returns304WithoutActivityQueries() throws Exception {
+        // given: 리더보드와 활동 현황은 같은 팀 활동 버전 기반 ETag를 사용
+        String eTag = fetchETag();
+        statistics.clear();
+
+        // when & then
+        mockMvc.perform(get(leaderboardUrl()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1); // 공개 팀 — 팀 PK 조회만
+    }
+
+    @Test
+    @DisplayName("팀 활동 버전이 바뀌면 기존 ETag로 요청해도 200과 새 ETag를 반환한다")
+    void versionChanged_returns200WithNewETag() throws Exception {
+        // given
+        String eTag = fetchETag();
+        given(teamActivityVersion.current(team.getId())).willReturn(Optional.of(8L));
+        statistics.clear();
+
+        // when
+        String newETag = mockMvc.perform(get(activityUrl()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // then
+        assertThat(newETag).isNotEqualTo(eTag);
+        assertThat(statistics.getPrepareStatementCount()).isPositive();
+    }
+
+    @Test
+    @DisplayName("조회 기간이 다르면 ETag도 다르다")
+    void differentDays_differentETag() throws Exception {
+        // given
+        String eTag = fetchETag();
+
+        // when & then
+        mockMvc.perform(get(activityUrl()).param("days", "7").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("비공개 팀은 비회원이 If-None-Match를 보내도 304 대신 403을 반환한다")
+    void privateTeam_nonMember_conditionalRequest_forbidden() throws Exception {
+        // given: 어떤 ETag와도 일치하는 If-None-Match: *
+        Team privateTeam = teamRepository.save(Team.create("비공개팀", "설명", true));
+        entityManager.flush();
+        given(teamActivityVersion.current(privateTeam.getId())).willReturn(Optional.of(1L));
+
+        // when & then
+        mockMvc.perform(get("/api/v2/teams/" + privateTeam.getId() + "/leaderboard")
+                        .header(HttpHeaders.IF_NONE_MATCH, "*"))
+                .andExpect(status().isForbidden())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+        mockMvc.perform(get("/api/v2/teams/" + privateTeam.getId() + "/activity")
+                        .header(HttpHeaders.IF_NONE_MATCH, "*"))
+                .andExpect(status().isForbidden())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+    }
+
+    @Test
+    @DisplayName("팀 활동 버전을 알 수 없으면 ETag 없이 응답한다")
+    void versionUnavailable_noETag() throws Exception {
+        // given
+        given(teamActivityVersion.current(team.getId())).willReturn(Optional.empty());
+
+        // when & then
+        mockMvc.perform(get(activityUrl()))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+    }
+}
@@ -0,0 +1,187 @@
+package com.ryu.studyhelper.team.repository;
+
+import com.ryu.studyhelper.member.domain.Member;
+import com.ryu.studyhelper.member.domain.Role;
+import com.ryu.studyhelper.member.repository.MemberRepository;
+import com.ryu.studyhelper.problem.domain.Problem;
+import com.ryu.studyhelper.problem.repository.ProblemRepository;
+import com.ryu.studyhelper.recommendation.domain.Recommendation;
+import com.ryu.studyhelper.recommendation.domain.RecommendationProblem;
+import com.ryu.studyhelper.recommendation.domain.RecommendationStatus;
+import com.ryu.studyhelper.recommendation.domain.RecommendationType;
+import com.ryu.studyhelper.recommendation.domain.member.MemberRecommendation;
+import com.ryu.studyhelper.recommendation.repository.MemberRecommendationRepository;
+import com.ryu.studyhelper.recommendation.repository.RecommendationProblemRepository;
+import com.ryu.studyhelper.recommendation.repository.RecommendationRepository;
+import com.ryu.studyhelper.team.domain.MemberMissionStat;
+import com.ryu.studyhelper.team.domain.Team;
+import com.ryu.studyhelper.team.dto.projection.MemberSolvedCountProjection;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("MemberMissionStatRepository 테스트")
+class MemberMissionStatRepositoryTest {
+
+    @Autowired
+    private MemberMissionStatRepository memberMissionStatRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ProblemRepository problemRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private RecommendationRepository recommendationRepository;
+
+    @Autowired
+    private RecommendationProblemRepository recommendationProblemRepository;
+
+    @Autowired
+    private MemberRecommendationRepository memberRecommendationRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private static final LocalDate DAY1 = LocalDate.of(2025, 1, 15);
+    private static final LocalDate DAY2 = LocalDate.of(2025, 1, 16);
+
+    private Team team;
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        team = teamRepository.save(Team.create("통계팀", "설명", false));
+        member = memberRepository.save(Member.builder()
+                .email("stat@test.com")
+                .handle("stat")
+                .provider("google")
+                .providerId("stat-provider")
+                .role(Role.ROLE_USER)
+                .isVerified(true)
+                .build());
+    }
+
+    @Test
+    @DisplayName("인증한 문제가 추천된 (팀, 미션 날짜) 행의 풀이 수만 증가한다")
+    void incrementSolvedCount_onlyRecommendedDates() {
+        // given: DAY1에 1001 추천, DAY2에 2001 추천
+        recommend(DAY1, 1001L);
+        recommend(DAY2, 2001L);
+        memberMissionStatRepository.saveAll(List.of(
+                stat(DAY1, 1),
+                stat(DAY2, 1)
+        ));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        int updated = memberMissionStatRepository.incrementSolvedCount(member.getId(), 1001L);
+        entityManager.clear();
+
+        // then
+        assertThat(updated).isEqualTo(1);
+        assertThat(memberMissionStatRepository.findAll())
+                .extracting(MemberMissionStat::getMissionDate, MemberMissionStat::getSolvedCount)
+                .containsExactlyInAnyOrder(tuple(DAY1, 1), tuple(DAY2, 0));
+    }
+
+    @Test
+    @DisplayName("여러 날 추천된 문제를 인증하면 마지막으로 추천된 날짜 행만 +1 한다")
+    void incrementSolvedCount_multipleDays_creditsLatestOnly() {
+        // given: 1001이 DAY1, DAY2, DAY3에 모두 추천됨
+        LocalDate day3 = DAY2.plusDays(1);
+        recommend(DAY1, 1001L);
+        recommend(DAY2, 1001L);
+        recommend(day3, 1001L);
+        memberMissionStatRepository.saveAll(List.of(stat(DAY1, 1), stat(DAY2, 1), stat(day3, 1)));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        int updated = memberMissionStatRepository.incrementSolvedCount(member.getId(), 1001L);
+        entityManager.clear();
+
+        // then
+        assertThat(updated).isEqualTo(1);
+        assertThat(memberMissionStatRepository.findAll())
+                .extracting(MemberMissionStat::getMissionDate, MemberMissionStat::getSolvedCount)
+                .containsExactlyInAnyOrder(tuple(DAY1, 0), tuple(DAY2, 0), tuple(day3, 1));
+        assertThat(memberMissionStatRepository.findCreditedByMemberIdAndProblemId(member.getId(), 1001L))
+                .extracting(MemberMissionStat::getMissionDate)
+                .containsExactly(day3);
+        assertThat(memberMissionStatRepository.sumSolvedByTeamIdAndDateBetween(team.getId(), DAY1, day3))
+                .extracting(MemberSolvedCountProjection::getTotalSolved)
+                .containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("기간 내 미션 날짜의 풀이 수를 멤버별로 합산한다")
+    void sumSolvedByTeamIdAndDateBetween_aggregatesWithinRange() {
+        // given
+        MemberMissionStat day1 = stat(DAY1, 3);
+        day1.recount(3, 2);
+        MemberMissionStat day2 = stat(DAY2, 3);
+        day2.recount(3, 1);
+        MemberMissionStat outOfRange = stat(DAY2.plusDays(1), 3);
+        outOfRange.recount(3, 3);
+        memberMissionStatRepository.saveAll(List.of(day1, day2, outOfRange));
+        entityManager.flush();
+
+        // when
+        List<MemberSolvedCountProjection> result =
+                memberMissionStatRepository.sumSolvedByTeamIdAndDateBetween(team.getId(), DAY1, DAY2);
+
+        // then
+        assertThat(result)
+                .extracting(MemberSolvedCountProjection::getMemberId, MemberSolvedCountProjection::getTotalSolved)
+                .containsExactly(tuple(member.getId(), 3L));
+    }
+
+    // === Helper Methods ===
+
+    private MemberMissionStat stat(LocalDate date, int recommended) {
+        MemberMissionStat stat = MemberMissionStat.create(team.getId(), member.getId(), date);
+        stat.recount(recommended, 0);
+        return stat;
+    }
+
+    private void recommend(LocalDate date, Long problemId) {
+        Recommendation recommendation = recommendationRepository.save(
+                Recommendation.builder()
+                        .teamId(team.getId())
+                        .squadId(1L)
+                        .type(RecommendationType.SCHEDULED)
+                        .date(date)
+                        .status(RecommendationStatus.SUCCESS)
+                        .build()
+        );
+        Problem problem = problemRepository.save(Problem.builder()
+                .id(problemId)
+                .title("Problem " + problemId)
+                .titleKo("문제 " + problemId)
+                .level(1)
+                .build());
+        recommendationProblemRepository.save(RecommendationProblem.create(problem, recommendation));
+        memberRecommendationRepository.save(
+                MemberRecommendation.createForSquad(member, recommendation, team, 1L));
+    }
+}
@@ -0,0 +1,100 @@
+package com.ryu.studyhelper.team.repository;
+
+import com.ryu.studyhelper.problem.domain.Problem;
+import com.ryu.studyhelper.problem.repository.ProblemRepository;
+import com.ryu.studyhelper.team.domain.TeamActivityChange;
+import com.ryu.studyhelper.team.domain.TeamActivityChangeType;
+import com.ryu.studyhelper.team.dto.projection.TeamActivityChangeProjection;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("TeamActivityChangeRepository 테스트")
+class TeamActivityChangeRepositoryTest {
+
+    @Autowired
+    private TeamActivityChangeRepository teamActivityChangeRepository;
+
+    @Autowired
+    private ProblemRepository problemRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private static final Long TEAM_ID = 1L;
+    private static final Long OTHER_TEAM_ID = 2L;
+    private static final Long MEMBER_ID = 10L;
+    private static final LocalDate DAY1 = LocalDate.of(2025, 1, 15);
+    private static final LocalDate DAY2 = LocalDate.of(2025, 1, 16);
+
+    @BeforeEach
+    void setUp() {
+        problemRepository.saveAll(List.of(
+                Problem.builder().id(1001L).title("A").titleKo("에이").level(3).build(),
+                Problem.builder().id(1002L).title("B").titleKo("비").level(5).build()
+        ));
+    }
+
+    @Test
+    @DisplayName("커서 이후 팀의 조회 기간 내 변경만 id 순으로 문제 요약과 함께 조회한다")
+    void findChangesAfter_filtersByCursorTeamAndPeriod() {
+        // given
+        TeamActivityChange before = teamActivityChangeRepository.save(
+                TeamActivityChange.recommended(TEAM_ID, MEMBER_ID, DAY1, 1001L));
+        teamActivityChangeRepository.save(TeamActivityChange.recommended(TEAM_ID, MEMBER_ID, DAY2, 1002L));
+        teamActivityChangeRepository.save(TeamActivityChange.solved(TEAM_ID, MEMBER_ID, DAY2, 1002L));
+        teamActivityChangeRepository.save(TeamActivityChange.solved(OTHER_TEAM_ID, MEMBER_ID, DAY2, 1002L));
+        teamActivityChangeRepository.save(TeamActivityChange.recommended(TEAM_ID, MEMBER_ID, DAY2.plusDays(1), 1001L));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<TeamActivityChangeProjection> result = teamActivityChangeRepository.findChangesAfter(
+                TEAM_ID, before.getId(), DAY1, DAY2, PageRequest.of(0, 10));
+
+        // then
+        assertThat(result)
+                .extracting(TeamActivityChangeProjection::getChangeType,
+                        TeamActivityChangeProjection::getMissionDate,
+                        TeamActivityChangeProjection::getProblemId,
+                        TeamActivityChangeProjection::getTitleKo)
+                .containsExactly(
+                        tuple(TeamActivityChangeType.RECOMMENDED, DAY2, 1002L, "비"),
+                        tuple(TeamActivityChangeType.SOLVED, DAY2, 1002L, "비")
+                );
+        assertThat(result).allSatisfy(change -> assertThat(change.getCreatedAt()).isNotNull());
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 변경만 삭제한다")
+    void deleteByCreatedAtBefore_removesOnlyExpired() {
+        // given
+        teamActivityChangeRepository.save(TeamActivityChange.recommended(TEAM_ID, MEMBER_ID, DAY1, 1001L));
+        entityManager.flush();
+
+        // when
+        int deletedNone = teamActivityChangeRepository.deleteByCreatedAtBefore(LocalDateTime.now().minusDays(1));
+        int deletedAll = teamActivityChangeRepository.deleteByCreatedAtBefore(LocalDateTime.now().plusMinutes(1));
+
+        // then
+        assertThat(deletedNone).isZero();
+        assertThat(deletedAll).isEqualTo(1);
+        assertThat(teamActivityChangeRepository.findOldestId()).isNull();
+    }
+}
@@ -0,0 +1,224 @@
+package com.ryu.studyhelper.team.service;
+
+import com.ryu.studyhelper.member.domain.Member;
+import com.ryu.studyhelper.member.domain.Role;
+import com.ryu.studyhelper.member.repository.MemberRepository;
+import com.ryu.studyhelper.problem.domain.Problem;
+import com.ryu.studyhelper.problem.repository.ProblemRepository;
+import com.ryu.studyhelper.recommendation.domain.Recommendation;
+import com.ryu.studyhelper.recommendation.domain.RecommendationProblem;
+import com.ryu.studyhelper.recommendation.domain.RecommendationStatus;
+import com.ryu.studyhelper.recommendation.domain.RecommendationType;
+import com.ryu.studyhelper.recommendation.domain.member.MemberRecommendation;
+import com.ryu.studyhelper.recommendation.repository.MemberRecommendationRepository;
+import com.ryu.studyhelper.recommendation.repository.RecommendationProblemRepository;
+import com.ryu.studyhelper.recommendation.repository.RecommendationRepository;
+import com.ryu.studyhelper.solve.domain.MemberSolvedProblem;
+import com.ryu.studyhelper.solve.repository.MemberSolvedProblemRepository;
+import com.ryu.studyhelper.team.domain.MemberMissionStat;
+import com.ryu.studyhelper.team.domain.Team;
+import com.ryu.studyhelper.team.dto.projection.MemberSolvedCountProjection;
+import com.ryu.studyhelper.team.repository.MemberMissionStatRepository;
+import com.ryu.studyhelper.team.repository.TeamRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("MemberMissionStatService 테스트")
+class MemberMissionStatServiceTest {
+
+    @Autowired
+    private MemberMissionStatService memberMissionStatService;
+
+    @Autowired
+    private MemberMissionStatRepository memberMissionStatRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ProblemRepository problemRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private RecommendationRepository recommendationRepository;
+
+    @Autowired
+    private RecommendationProblemRepository recommendationProblemRepository;
+
+    @Autowired
+    private MemberRecommendationRepository memberRecommendationRepository;
+
+    @Autowired
+    private MemberSolvedProblemRepository memberSolvedProblemRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private static final LocalDate DAY = LocalDate.of(2025, 1, 15);
+
+    private Team team;
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        team = teamRepository.save(Team.create("통계팀", "설명", false));
+        member = memberRepository.save(Member.builder()
+                .email("stat-service@test.com")
+                .handle("statService")
+                .provider("google")
+                .providerId("stat-service-provider")
+                .role(Role.ROLE_USER)
+                .isVerified(true)
+                .build());
+    }
+
+    @Test
+    @DisplayName("같은 날 두 번째 추천에 겹치는 문제가 있어도 (멤버, 문제) 쌍 기준으로 한 번만 센다")
+    void sameDayOverlappingRecommendations_countDistinctPairs() {
+        // given: 1001은 이미 풀었음
+        Problem p1 = problem(1001L);
+        Problem p2 = problem(1002L);
+        Problem p3 = problem(1003L);
+        memberSolvedProblemRepository.save(MemberSolvedProblem.create(member, p1));
+
+        // when: 첫 추천 [1001, 1002] → 같은 날 두 번째 추천 [1001, 1002, 1003]
+        recommend(1L, p1, p2);
+        memberMissionStatService.recordRecommended(team.getId(), DAY, List.of(member.getId()), List.of(1001L, 1002L));
+        recommend(2L, p1, p2, p3);
+        memberMissionStatService.recordRecommended(
+                team.getId(), DAY, List.of(member.getId()), List.of(1001L, 1002L, 1003L));
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        List<MemberMissionStat> stats = memberMissionStatRepository.findAll();
+        assertThat(stats).hasSize(1);
+        MemberMissionStat stat = stats.get(0);
+        assertThat(stat.getRecommendedCount()).isEqualTo(3);
+        assertThat(stat.getSolvedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("겹친 문제를 인증하면 풀이 수는 한 번만 오르고 재추천 후에도 그대로 유지된다")
+    void solveOverlappingProblem_thenRecommendAgain_staysConsistent() {
+        // given: 같은 날 두 추천 모두에 1002 포함
+        Problem p1 = problem(1001L);
+        Problem p2 = problem(1002L);
+        recommend(1L, p1, p2);
+        memberMissionStatService.recordRecommended(team.getId(), DAY, List.of(member.getId()), List.of(1001L, 1002L));
+        recommend(2L, p2);
+        memberMissionStatService.recordRecommended(team.getId(), DAY, List.of(member.getId()), List.of(1002L));
+        entityManager.flush();
+
+        // when: 1002 인증 후 같은 날 한 번 더 추천
+        memberSolvedProblemRepository.save(MemberSolvedProblem.create(member, p2));
+        memberMissionStatService.recordSolved(member.getId(), 1002L);
+        entityManager.clear();
+        recommend(3L, problemRepository.findById(1002L).orElseThrow());
+        memberMissionStatService.recordRecommended(team.getId(), DAY, List.of(member.getId()), List.of(1002L));
+        entityManager.flush();
+        entityManager.clear();
+
+        // then: 추천 2문제(1001, 1002) 중 1문제 풀이
+        MemberMissionStat stat = memberMissionStatRepository.findAll().get(0);
+        assertThat(stat.getRecommendedCount()).isEqualTo(2);
+        assertThat(stat.getSolvedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이미 푼 문제가 다른 날 다시 추천되면 풀이는 마지막 추천 날짜로 옮겨 한 번만 센다")
+    void solvedProblemRecommendedAgain_movesCreditToLatestDay() {
+        // given: 1001은 이미 풀었고 DAY에 추천됨
+        Problem p1 = problem(1001L);
+        Problem p2 = problem(1002L);
+        memberSolvedProblemRepository.save(MemberSolvedProblem.create(member, p1));
+        recommend(1L, DAY, p1);
+        memberMissionStatService.recordRecommended(team.getId(), DAY, List.of(member.getId()), List.of(1001L));
+
+        // when: 다음 날 1001, 1002 추천
+        LocalDate nextDay = DAY.plusDays(1);
+        recommend(1L, nextDay, p1, p2);
+        memberMissionStatService.recordRecommended(
+                team.getId(), nextDay, List.of(member.getId()), List.of(1001L, 1002L));
+        entityManager.flush();
+        entityManager.clear();
+
+        // then: 추천 수는 날짜별로, 풀이는 마지막 추천 날짜에만
+        assertThat(memberMissionStatRepository.findAll())
+                .extracting(MemberMissionStat::getMissionDate,
+                        MemberMissionStat::getRecommendedCount, MemberMissionStat::getSolvedCount)
+                .containsExactlyInAnyOrder(tuple(DAY, 1, 0), tuple(nextDay, 2, 1));
+    }
+
+    @Test
+    @DisplayName("여러 날 추천된 문제를 나중에 풀면 기간 합산 풀이 수는 1이다")
+    void problemRecommendedOnSeveralDays_solvedLater_countsOnce() {
+        // given: 1001이 세 날 연속 추천되고 풀리지 않음
+        Problem p1 = problem(1001L);
+        for (int i = 0; i < 3; i++) {
+            recommend(1L, DAY.plusDays(i), p1);
+            memberMissionStatService.recordRecommended(
+                    team.getId(), DAY.plusDays(i), List.of(member.getId()), List.of(1001L));
+        }
+        entityManager.flush();
+
+        // when
+        memberSolvedProblemRepository.save(MemberSolvedProblem.create(member, p1));
+        memberMissionStatService.recordSolved(member.getId(), 1001L);
+        entityManager.clear();
+
+        // then
+        assertThat(memberMissionStatRepository.sumSolvedByTeamIdAndDateBetween(team.getId(), DAY, DAY.plusDays(2)))
+                .extracting(MemberSolvedCountProjection::getTotalSolved)
+                .containsExactly(1L);
+    }
+
+    // === Helper Methods ===
+
+    private Problem problem(Long id) {
+        return problemRepository.save(Problem.builder()
+                .id(id)
+                .title("Problem " + id)
+                .titleKo("문제 " + id)
+                .level(1)
+                .build());
+    }
+
+    private void recommend(Long squadId, Problem... problems) {
+        recommend(squadId, DAY, problems);
+    }
+
+    private void recommend(Long squadId, LocalDate date, Problem... problems) {
+        Recommendation recommendation = recommendationRepository.save(
+                Recommendation.builder()
+                        .teamId(team.getId())
+                        .squadId(squadId)
+                        .type(RecommendationType.MANUAL)
+                        .date(date)
+                        .status(RecommendationStatus.SUCCESS)
+                        .build()
+        );
+        for (Problem problem : problems) {
+            recommendationProblemRepository.save(RecommendationProblem.create(problem, recommendation));
+        }
+        memberRecommendationRepository.save(
+                MemberRecommendation.createForSquad(member, recommendation, team, squadId));
+    }
+}
@@ -0,0 +1,247 @@
+package com.ryu.studyhelper.team.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ryu.studyhelper.common.MissionCyclePolicy;
+import com.ryu.studyhelper.member.domain.Member;
+import com.ryu.studyhelper.member.domain.Role;
+import com.ryu.studyhelper.member.repository.MemberRepository;
+import com.ryu.studyhelper.problem.domain.Problem;
+import com.ryu.studyhelper.problem.repository.ProblemRepository;
+import com.ryu.studyhelper.recommendation.domain.Recommendation;
+import com.ryu.studyhelper.recommendation.domain.RecommendationProblem;
+import com.ryu.studyhelper.recommendation.domain.RecommendationStatus;
+import com.ryu.studyhelper.recommendation.domain.RecommendationType;
+import com.ryu.studyhelper.recommendation.domain.member.MemberRecommendation;
+import com.ryu.studyhelper.recommendation.repository.MemberRecommendationRepository;
+import com.ryu.studyhelper.recommendation.repository.RecommendationProblemRepository;
+import com.ryu.studyhelper.recommendation.repository.RecommendationRepository;
+import com.ryu.studyhelper.solve.domain.MemberSolvedProblem;
+import com.ryu.studyhelper.solve.repository.MemberSolvedProblemRepository;
+import com.ryu.studyhelper.team.activity.TeamActivityVersion;
+import com.ryu.studyhelper.team.domain.Squad;
+import com.ryu.studyhelper.team.domain.Team;
+import com.ryu.studyhelper.team.domain.TeamMember;
+import com.ryu.studyhelper.team.domain.TeamActivityChange;
+import com.ryu.studyhelper.team.domain.TeamRole;
+import com.ryu.studyhelper.team.dto.response.TeamActivityDeltaResponse;
+import com.ryu.studyhelper.team.repository.SquadRepository;
+import com.ryu.studyhelper.team.repository.TeamActivityChangeRepository;
+import com.ryu.studyhelper.team.repository.TeamMemberRepository;
+import com.ryu.studyhelper.team.repository.TeamRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 팀 활동 현황 조회 성능 측정용 (수동 실행)
+ * legacy: MemberRecommendation → 문제까지 DISTINCT fetch join 후 엔티티 조립
+ * projection: (member, date, recommendationId) + (recommendationId, problem) projection 조립
+ * payload: 전체 활동 현황 응답과 델타 응답(team_activity_change 기반)의 JSON 크기 비교
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Transactional
+@Disabled
+@DisplayName("TeamActivityService 성능 측정")
+class TeamActivityBenchmarkTest {
+
+    private static final int MEMBER_COUNT = 50;
+    private static final int DAYS = 30;
+    private static final int PROBLEMS_PER_DAY = 3;
+
+    private static final String LEGACY_QUERY = "SELECT DISTINCT mr FROM MemberRecommendation mr " +
+            "JOIN TeamMember tm ON tm.member = mr.member AND tm.team.id = :teamId " +
+            "JOIN FETCH mr.recommendation r " +
+            "LEFT JOIN FETCH r.problems rp " +
+            "LEFT JOIN FETCH rp.problem " +
+            "JOIN FETCH mr.member " +
+            "WHERE mr.teamId = :teamId " +
+            "AND r.date BETWEEN :startDate AND :endDate";
+
+    @Autowired
+    private TeamActivityService teamActivityService;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private SquadRepository squadRepository;
+
+    @Autowired
+    private TeamMemberRepository teamMemberRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ProblemRepository problemRepository;
+
+    @Autowired
+    private RecommendationRepository recommendationRepository;
+
+    @Autowired
+    private RecommendationProblemRepository recommendationProblemRepository;
+
+    @Autowired
+    private MemberRecommendationRepository memberRecommendationRepository;
+
+    @Autowired
+    private MemberSolvedProblemRepository memberSolvedProblemRepository;
+
+    @Autowired
+    private TeamActivityChangeRepository teamActivityChangeRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    /** 버전 조회를 비워 스냅샷 캐시를 우회 — 매 반복마다 조회·조립 비용을 측정 */
+    @MockBean
+    private TeamActivityVersion teamActivityVersion;
+
+    @Test
+    @DisplayName("50명 팀 30일 활동 현황 조회 — legacy fetch join vs projection")
+    void benchmarkTeamActivity() {
+        Team team = seedTeam();
+        LocalDate endDate = MissionCyclePolicy.toMissionDate(LocalDateTime.now());
+        LocalDate startDate = endDate.minusDays(DAYS - 1);
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+
+        Runnable legacy = () -> {
+            entityManager.createQuery(LEGACY_QUERY, MemberRecommendation.class)
+                    .setParameter("teamId", team.getId())
+                    .setParameter("startDate", startDate)
+                    .setParameter("endDate", endDate)
+                    .getResultList();
+            entityManager.clear();
+        };
+        Runnable projection = () -> {
+            teamActivityService.getTeamActivityV2(team.getId(), null, DAYS);
+            entityManager.clear();
+        };
+
+        for (String name : new String[]{"legacy", "projection"}) {
+            Runnable task = name.equals("legacy") ? legacy : projection;
+            for (int i = 0; i < 20; i++) task.run(); // 워밍업
+
+            statistics.clear();
+            int iterations = 100;
+            long start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) task.run();
+            long elapsed = System.nanoTime() - start;
+
+            System.out.printf("[%s] avg %.2f ms, statements/op %d, entities loaded/op %d%n",
+                    name,
+                    elapsed / 1_000_000.0 / iterations,
+                    statistics.getPrepareStatementCount() / iterations,
+                    statistics.getEntityLoadCount() / iterations);
+        }
+    }
+
+    @Test
+    @DisplayName("50명 팀 활동 현황 — 전체 응답 vs 델타 응답 payload 크기")
+    void comparePayloadSize() throws Exception {
+        Team team = seedTeam();
+        LocalDate today = MissionCyclePolicy.toMissionDate(LocalDateTime.now());
+        List<Long> memberIds = teamMemberRepository.findByTeamIdWithMember(team.getId()).stream()
+                .map(tm -> tm.getMember().getId())
+                .toList();
+
+        // 폴링 사이 변경: 오늘 문제 3개 추가 추천 + 10명 풀이
+        List<TeamActivityChange> changes = new ArrayList<>();
+        for (long problemId = 200_001L; problemId <= 200_000L + PROBLEMS_PER_DAY; problemId++) {
+            problemRepository.save(Problem.builder()
+                    .id(problemId).title("Problem " + problemId).titleKo("문제 " + problemId).level(10).build());
+            for (Long memberId : memberIds) {
+                changes.add(TeamActivityChange.recommended(team.getId(), memberId, today, problemId));
+            }
+        }
+        for (int m = 0; m < 10; m++) {
+            changes.add(TeamActivityChange.solved(team.getId(), memberIds.get(m), today, 200_001L));
+        }
+        List<TeamActivityChange> saved = teamActivityChangeRepository.saveAll(changes);
+        entityManager.flush();
+        entityManager.clear();
+        long cursor = saved.get(0).getId() - 1;
+
+        int fullBytes = objectMapper.writeValueAsBytes(
+                teamActivityService.getTeamActivityV2(team.getId(), null, DAYS)).length;
+        TeamActivityDeltaResponse delta = teamActivityService.getTeamActivityDelta(team.getId(), null, DAYS, cursor);
+        int deltaBytes = objectMapper.writeValueAsBytes(delta).length;
+        int idleBytes = objectMapper.writeValueAsBytes(
+                teamActivityService.getTeamActivityDelta(team.getId(), null, DAYS, saved.get(saved.size() - 1).getId()))
+                .length;
+
+        System.out.printf("[payload] full %,d bytes, delta(%d changes) %,d bytes (%.1f%%), idle delta %,d bytes%n",
+                fullBytes, changes.size(), deltaBytes, deltaBytes * 100.0 / fullBytes, idleBytes);
+    }
+
+    private Team seedTeam() {
+        Team team = teamRepository.save(Team.create("벤치마크팀", "설명", false));
+        Squad squad = squadRepository.save(Squad.createDefault(team));
+
+        List<Member> members = new ArrayList<>();
+        for (int i = 1; i <= MEMBER_COUNT; i++) {
+            Member member = memberRepository.save(Member.builder()
+                    .email("bench" + i + "@test.com")
+                    .handle("bench" + i)
+                    .provider("google")
+                    .providerId("bench-provider-" + i)
+                    .role(Role.ROLE_USER)
+                    .isVerified(true)
+                    .build());
+            teamMemberRepository.save(TeamMember.create(team, member, TeamRole.MEMBER, squad.getId()));
+            members.add(member);
+        }
+
+        LocalDate today = MissionCyclePolicy.toMissionDate(LocalDateTime.now());
+        long problemId = 100_000L;
+        for (int day = 0; day < DAYS; day++) {
+            Recommendation recommendation = recommendationRepository.save(Recommendation.builder()
+                    .teamId(team.getId())
+                    .squadId(squad.getId())
+                    .type(RecommendationType.SCHEDULED)
+                    .date(today.minusDays(day))
+                    .status(RecommendationStatus.SUCCESS)
+                    .build());
+            for (int p = 0; p < PROBLEMS_PER_DAY; p++) {
+                Problem problem = problemRepository.save(Problem.builder()
+                        .id(++problemId)
+                        .title("Problem " + problemId)
+                        .titleKo("문제 " + problemId)
+                        .level(10)
+                        .build());
+                recommendationProblemRepository.save(RecommendationProblem.create(problem, recommendation));
+                // 절반 정도의 멤버가 풀었다고 가정
+                for (int m = 0; m < MEMBER_COUNT; m += 2) {
+                    memberSolvedProblemRepository.save(MemberSolvedProblem.create(members.get(m), problem));
+                }
+            }
+            for (Member member : members) {
+                memberRecommendationRepository.save(
+                        MemberRecommendation.createForSquad(member, recommendation, team, squad.getId()));
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return team;
+    }
+}
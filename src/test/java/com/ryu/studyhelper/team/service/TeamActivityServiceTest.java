@@ -4,15 +4,26 @@ import com.ryu.studyhelper.common.enums.CustomResponseStatus;
 import com.ryu.studyhelper.common.exception.CustomException;
 import com.ryu.studyhelper.member.domain.Member;
 import com.ryu.studyhelper.member.domain.Role;
-import com.ryu.studyhelper.recommendation.domain.member.MemberRecommendation;
+import com.ryu.studyhelper.recommendation.dto.projection.MemberRecommendationDateProjection;
+import com.ryu.studyhelper.recommendation.dto.projection.RecommendationProblemSummaryProjection;
 import com.ryu.studyhelper.recommendation.repository.MemberRecommendationRepository;
+import com.ryu.studyhelper.recommendation.repository.RecommendationProblemRepository;
+import com.ryu.studyhelper.solve.dto.projection.SolvedProblemIdProjection;
 import com.ryu.studyhelper.solve.service.SolveService;
+import com.ryu.studyhelper.team.activity.TeamActivitySnapshotCache;
+import com.ryu.studyhelper.team.activity.TeamActivityVersion;
 import com.ryu.studyhelper.team.domain.Squad;
 import com.ryu.studyhelper.team.domain.Team;
+import com.ryu.studyhelper.team.domain.TeamActivityChangeType;
 import com.ryu.studyhelper.team.domain.TeamMember;
 import com.ryu.studyhelper.team.domain.TeamRole;
+import com.ryu.studyhelper.team.dto.projection.TeamActivityChangeProjection;
+import com.ryu.studyhelper.team.dto.response.TeamActivityDeltaResponse;
+import com.ryu.studyhelper.team.dto.response.TeamActivityResponseV2;
 import com.ryu.studyhelper.team.dto.response.TeamLeaderboardResponse;
+import com.ryu.studyhelper.team.leaderboard.TeamLeaderboardStore;
 import com.ryu.studyhelper.team.repository.SquadRepository;
+import com.ryu.studyhelper.team.repository.TeamActivityChangeRepository;
 import com.ryu.studyhelper.team.repository.TeamMemberRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -21,16 +32,29 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("TeamActivityService 단위 테스트")
@@ -51,6 +75,28 @@ class TeamActivityServiceTest {
     @Mock
     private MemberRecommendationRepository memberRecommendationRepository;
 
+    @Mock
+    private RecommendationProblemRepository recommendationProblemRepository;
+
+    @Mock
+    private TeamLeaderboardStore teamLeaderboardStore;
+
+    @Mock
+    private TeamActivityVersion teamActivityVersion;
+
+    @Mock
+    private TeamActivityChangeRepository teamActivityChangeRepository;
+
+    @Spy
+    private TeamActivitySnapshotCache teamActivitySnapshotCache = new TeamActivitySnapshotCache(
+            Clock.fixed(Instant.parse("2025-01-15T00:00:00Z"), ZoneId.of("Asia/Seoul")));
+
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 16, 12, 0);
+
+    @Spy
+    private Clock clock = Clock.fixed(NOW.atZone(ZONE_ID).toInstant(), ZONE_ID);
+
     @InjectMocks
     private TeamActivityService teamActivityService;
 
@@ -129,7 +175,6 @@ class TeamActivityServiceTest {
         void noMembers_returnsEmptyLeaderboard() {
             // given
             given(teamMemberRepository.findByTeamIdWithMember(TEAM_ID)).willReturn(List.of());
-            given(squadRepository.findByTeamIdOrderByIdAsc(TEAM_ID)).willReturn(List.of());
 
             // when
             TeamLeaderboardResponse response = teamActivityService.getTeamLeaderboard(TEAM_ID, MEMBER_ID, 30);
@@ -146,8 +191,6 @@ class TeamActivityServiceTest {
             given(teamMemberRepository.findByTeamIdWithMember(TEAM_ID))
                     .willReturn(List.of(teamMember1, teamMember2));
             given(squadRepository.findByTeamIdOrderByIdAsc(TEAM_ID)).willReturn(List.of());
-            given(memberRecommendationRepository.findByTeamIdAndDateBetween(eq(TEAM_ID), any(), any()))
-                    .willReturn(List.of());
 
             // when
             TeamLeaderboardResponse response = teamActivityService.getTeamLeaderboard(TEAM_ID, MEMBER_ID, 30);
@@ -158,5 +201,374 @@ class TeamActivityServiceTest {
                     assertThat(rank.rank()).isEqualTo(1)
             );
         }
+
+        @Test
+        @DisplayName("Redis를 쓸 수 없으면 스냅샷 풀이 행렬로 미션 날짜별 풀이 수를 합산해 순위를 매긴다")
+        void redisUnavailable_ranksBySnapshotSolveMatrix() {
+            // given: member1은 1001을 이틀 연속 추천받아 풀었고, member2는 1003만 풀었다
+            LocalDate day1 = LocalDate.of(2025, 1, 15);
+            LocalDate day2 = LocalDate.of(2025, 1, 16);
+            given(teamMemberRepository.findByTeamIdWithMember(TEAM_ID))
+                    .willReturn(List.of(teamMember1, teamMember2));
+            given(squadRepository.findByTeamIdOrderByIdAsc(TEAM_ID)).willReturn(List.of());
+            given(memberRecommendationRepository.findDatesByTeamIdAndDateBetween(eq(TEAM_ID), any(), any()))
+                    .willReturn(List.of(missionRow(1L, day1, 10L), missionRow(1L, day2, 20L), missionRow(2L, day1, 11L)));
+            given(recommendationProblemRepository.findSummariesByRecommendationIdIn(Set.of(10L, 11L, 20L)))
+                    .willReturn(List.of(
+                            problemRow(10L, 1001L), problemRow(10L, 1002L),
+                            problemRow(11L, 1003L), problemRow(11L, 1004L),
+                            problemRow(20L, 1001L)
+                    ));
+            given(solveService.getSolvedProblemIds(List.of(1L, 2L), Set.of(1001L, 1002L, 1003L, 1004L)))
+                    .willReturn(List.of(solvedRow(1L, 1001L), solvedRow(2L, 1003L)));
+            given(teamLeaderboardStore.findSolvedCounts(eq(TEAM_ID), any(), any()))
+                    .willReturn(Optional.empty());
+
+            // when
+            TeamLeaderboardResponse response = teamActivityService.getTeamLeaderboard(TEAM_ID, MEMBER_ID, 30);
+
+            // then
+            assertThat(response.memberRanks())
+                    .extracting(TeamLeaderboardResponse.MemberRank::handle,
+                            TeamLeaderboardResponse.MemberRank::rank,
+                            TeamLeaderboardResponse.MemberRank::totalSolved)
+                    .containsExactly(
+                            tuple("handle1", 1, 2L),
+                            tuple("handle2", 2, 1L)
+                    );
+        }
+
+        @Test
+        @DisplayName("Redis 리더보드 점수가 있으면 동점자 공동 순위로 계산한다")
+        void usesRedisLeaderboard_withTieAwareRanks() {
+            // given
+            given(teamMemberRepository.findByTeamIdWithMember(TEAM_ID))
+                    .willReturn(List.of(teamMember1, teamMember2));
+            given(squadRepository.findByTeamIdOrderByIdAsc(TEAM_ID)).willReturn(List.of());
+            given(teamLeaderboardStore.findSolvedCounts(eq(TEAM_ID), any(), any()))
+                    .willReturn(Optional.of(Map.of(1L, 3L, 2L, 3L)));
+
+            // when
+            TeamLeaderboardResponse response = teamActivityService.getTeamLeaderboard(TEAM_ID, MEMBER_ID, 30);
+
+            // then
+            assertThat(response.memberRanks())
+                    .extracting(TeamLeaderboardResponse.MemberRank::memberId,
+                            TeamLeaderboardResponse.MemberRank::rank,
+                            TeamLeaderboardResponse.MemberRank::totalSolved)
+                    .containsExactly(tuple(1L, 1, 3L), tuple(2L, 1, 3L));
+        }
+    }
+
+    @Nested
+    @DisplayName("팀원별 활동 현황 조회")
+    class ActivityQuery {
+
+        private final LocalDate day1 = LocalDate.of(2025, 1, 15);
+        private final LocalDate day2 = LocalDate.of(2025, 1, 16);
+
+        @Test
+        @DisplayName("추천 날짜·문제 projection을 날짜 내림차순으로 조립하고 같은 날 중복 문제는 한 번만 포함한다")
+        void assemblesDailyRecommendationsFromProjections() {
+            // given: member1은 day1에 추천 10, 11 (같은 문제 1001 중복), day2에 추천 20
+            given(teamMemberRepository.findByTeamIdWithMember(TEAM_ID))
+                    .willReturn(List.of(teamMember1, teamMember2));
+            given(squadRepository.findByTeamIdOrderByIdAsc(TEAM_ID)).willReturn(List.of());
+            given(memberRecommendationRepository.findDatesByTeamIdAndDateBetween(eq(TEAM_ID), any(), any()))
+                    .willReturn(List.of(missionRow(1L, day1, 10L), missionRow(1L, day1, 11L), missionRow(1L, day2, 20L)));
+            given(recommendationProblemRepository.findSummariesByRecommendationIdIn(Set.of(10L, 11L, 20L)))
+                    .willReturn(List.of(
+                            problemRow(10L, 1002L), problemRow(10L, 1001L),
+                            problemRow(11L, 1001L),
+                            problemRow(20L, 2001L)
+                    ));
+            given(solveService.getSolvedProblemIds(List.of(1L), Set.of(1001L, 1002L, 2001L)))
+                    .willReturn(List.of(solvedRow(1L, 1001L)));
+
+            // when
+            TeamActivityResponseV2 response = teamActivityService.getTeamActivityV2(TEAM_ID, MEMBER_ID, 30);
+
+            // then
+            TeamActivityResponseV2.MemberActivity first = response.memberActivities().get(0);
+            assertThat(first.dailyRecommendations())
+                    .extracting(TeamActivityResponseV2.DailyRecommendation::date)
+                    .containsExactly(day2, day1);
+            assertThat(first.dailyRecommendations().get(1).problems())
+                    .extracting(TeamActivityResponseV2.ProblemActivity::problemId,
+                            TeamActivityResponseV2.ProblemActivity::solved)
+                    .containsExactly(tuple(1001L, true), tuple(1002L, false));
+            assertThat(response.memberActivities().get(1).dailyRecommendations()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("기간 내 추천이 없으면 문제·풀이 조회 없이 빈 활동을 반환한다")
+        void noRecommendations_skipsProblemQueries() {
+            // given
+            given(teamMemberRepository.findByTeamIdWithMember(TEAM_ID))
+                    .willReturn(List.of(teamMember1, teamMember2));
+            given(squadRepository.findByTeamIdOrderByIdAsc(TEAM_ID)).willReturn(List.of());
+            given(memberRecommendationRepository.findDatesByTeamIdAndDateBetween(eq(TEAM_ID), any(), any()))
+                    .willReturn(List.of());
+
+            // when
+            TeamActivityResponseV2 response = teamActivityService.getTeamActivityV2(TEAM_ID, MEMBER_ID, 30);
+
+            // then
+            assertThat(response.memberActivities()).hasSize(2)
+                    .allSatisfy(activity -> assertThat(activity.dailyRecommendations()).isEmpty());
+            verifyNoInteractions(recommendationProblemRepository, solveService);
+        }
+    }
+
+    @Nested
+    @DisplayName("팀 활동 스냅샷 공유")
+    class SharedSnapshot {
+
+        @Test
+        @DisplayName("팀 활동 버전이 같으면 리더보드와 활동 현황이 한 번 계산한 스냅샷을 공유한다")
+        void sameVersion_computesSnapshotOnce() {
+            // given
+            given(teamActivityVersion.current(TEAM_ID)).willReturn(Optional.of(3L));
+            given(teamMemberRepository.findByTeamIdWithMember(TEAM_ID))
+                    .willReturn(List.of(teamMember1, teamMember2));
+            given(squadRepository.findByTeamIdOrderByIdAsc(TEAM_ID)).willReturn(List.of());
+            given(teamLeaderboardStore.findSolvedCounts(eq(TEAM_ID), any(), any()))
+                    .willReturn(Optional.of(Map.of(2L, 1L)));
+
+            // when
+            TeamLeaderboardResponse leaderboard = teamActivityService.getTeamLeaderboard(TEAM_ID, MEMBER_ID, 30);
+            TeamActivityResponseV2 activity = teamActivityService.getTeamActivityV2(TEAM_ID, MEMBER_ID, 30);
+
+            // then
+            assertThat(leaderboard.memberRanks())
+                    .extracting(TeamLeaderboardResponse.MemberRank::handle)
+                    .containsExactly("handle2", "handle1");
+            assertThat(activity.memberActivities())
+                    .extracting(TeamActivityResponseV2.MemberActivity::handle)
+                    .containsExactly("handle1", "handle2");
+            verify(teamMemberRepository, times(1)).findByTeamIdWithMember(TEAM_ID);
+            verify(memberRecommendationRepository, times(1))
+                    .findDatesByTeamIdAndDateBetween(eq(TEAM_ID), any(), any());
+        }
+
+        @Test
+        @DisplayName("팀 활동 버전이 바뀌면 스냅샷을 다시 계산한다")
+        void versionChanged_recomputesSnapshot() {
+            // given
+            given(teamActivityVersion.current(TEAM_ID)).willReturn(Optional.of(3L), Optional.of(4L));
+            given(teamMemberRepository.findByTeamIdWithMember(TEAM_ID))
+                    .willReturn(List.of(teamMember1, teamMember2));
+            given(squadRepository.findByTeamIdOrderByIdAsc(TEAM_ID)).willReturn(List.of());
+
+            // when
+            teamActivityService.getTeamActivityV2(TEAM_ID, MEMBER_ID, 30);
+            teamActivityService.getTeamActivityV2(TEAM_ID, MEMBER_ID, 30);
+
+            // then
+            verify(teamMemberRepository, times(2)).findByTeamIdWithMember(TEAM_ID);
+        }
+    }
+
+    @Nested
+    @DisplayName("팀 활동 델타 조회")
+    class DeltaQuery {
+
+        private final LocalDate day = LocalDate.of(2025, 1, 15);
+        private final LocalDateTime settled = NOW.minusMinutes(5);
+
+        @Test
+        @DisplayName("커서가 없으면 전체 재조회 플래그와 현재 커서만 반환한다")
+        void noCursor_requiresResync() {
+            // given
+            given(teamActivityChangeRepository.findLatestIdCreatedBefore(NOW.minus(TeamActivityService.DELTA_SETTLE_TIME)))
+                    .willReturn(42L);
+
+            // when
+            TeamActivityDeltaResponse response = teamActivityService.getTeamActivityDelta(TEAM_ID, MEMBER_ID, 30, null);
+
+            // then
+            assertThat(response.resyncRequired()).isTrue();
+            assertThat(response.cursor()).isEqualTo(42L);
+            assertThat(response.recommended()).isEmpty();
+            assertThat(response.solved()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("보관 기간이 지나 삭제된 구간의 커서면 전체 재조회를 요구한다")
+        void expiredCursor_requiresResync() {
+            // given
+            given(teamActivityChangeRepository.findOldestId()).willReturn(100L);
+            given(teamActivityChangeRepository.findLatestIdCreatedBefore(any())).willReturn(150L);
+
+            // when
+            TeamActivityDeltaResponse response = teamActivityService.getTeamActivityDelta(TEAM_ID, MEMBER_ID, 30, 10L);
+
+            // then
+            assertThat(response.resyncRequired()).isTrue();
+            assertThat(response.cursor()).isEqualTo(150L);
+        }
+
+        @Test
+        @DisplayName("커서 이후 추천·풀이 변경만 반환하고 추천 문제에는 현재 풀이 여부를 포함한다")
+        void returnsOnlyChangesAfterCursor() {
+            // given: 11(추천, 이미 풀었음), 12(추천), 13(12번 문제 풀이)
+            given(teamActivityChangeRepository.findOldestId()).willReturn(1L);
+            given(teamActivityChangeRepository.findChangesAfter(eq(TEAM_ID), eq(10L), any(), any(), any()))
+                    .willReturn(List.of(
+                            changeRow(11L, settled, TeamActivityChangeType.RECOMMENDED, 1001L),
+                            changeRow(12L, settled, TeamActivityChangeType.RECOMMENDED, 1002L),
+                            changeRow(13L, settled, TeamActivityChangeType.SOLVED, 1002L)
+                    ));
+            given(solveService.getSolvedProblemIds(List.of(1L), Set.of(1001L, 1002L)))
+                    .willReturn(List.of(solvedRow(1L, 1001L)));
+
+            // when
+            TeamActivityDeltaResponse response = teamActivityService.getTeamActivityDelta(TEAM_ID, MEMBER_ID, 30, 10L);
+
+            // then
+            assertThat(response.resyncRequired()).isFalse();
+            assertThat(response.cursor()).isEqualTo(13L);
+            assertThat(response.recommended())
+                    .extracting(TeamActivityDeltaResponse.RecommendedProblem::problemId,
+                            TeamActivityDeltaResponse.RecommendedProblem::solved)
+                    .containsExactly(tuple(1001L, true), tuple(1002L, false));
+            assertThat(response.solved())
+                    .extracting(TeamActivityDeltaResponse.SolvedProblem::memberId,
+                            TeamActivityDeltaResponse.SolvedProblem::date,
+                            TeamActivityDeltaResponse.SolvedProblem::problemId)
+                    .containsExactly(tuple(1L, day, 1002L));
+        }
+
+        @Test
+        @DisplayName("방금 적재된 변경은 응답에 포함하되 커서는 그 앞에서 멈춘다")
+        void recentChange_includedButCursorHeld() {
+            // given
+            given(teamActivityChangeRepository.findOldestId()).willReturn(1L);
+            given(teamActivityChangeRepository.findChangesAfter(eq(TEAM_ID), eq(10L), any(), any(), any()))
+                    .willReturn(List.of(
+                            changeRow(11L, settled, TeamActivityChangeType.SOLVED, 1001L),
+                            changeRow(12L, NOW.minusSeconds(30), TeamActivityChangeType.SOLVED, 1002L)
+                    ));
+
+            // when
+            TeamActivityDeltaResponse response = teamActivityService.getTeamActivityDelta(TEAM_ID, MEMBER_ID, 30, 10L);
+
+            // then
+            assertThat(response.cursor()).isEqualTo(11L);
+            assertThat(response.solved()).hasSize(2);
+            verifyNoInteractions(solveService);
+        }
+
+        private TeamActivityChangeProjection changeRow(Long id, LocalDateTime createdAt,
+                                                       TeamActivityChangeType type, Long problemId) {
+            return new TeamActivityChangeProjection() {
+                @Override
+                public Long getId() {
+                    return id;
+                }
+
+                @Override
+                public LocalDateTime getCreatedAt() {
+                    return createdAt;
+                }
+
+                @Override
+                public Long getMemberId() {
+                    return 1L;
+                }
+
+                @Override
+                public TeamActivityChangeType getChangeType() {
+                    return type;
+                }
+
+                @Override
+                public LocalDate getMissionDate() {
+                    return day;
+                }
+
+                @Override
+                public Long getProblemId() {
+                    return problemId;
+                }
+
+                @Override
+                public String getTitle() {
+                    return "Problem " + problemId;
+                }
+
+                @Override
+                public String getTitleKo() {
+                    return "문제 " + problemId;
+                }
+
+                @Override
+                public Integer getLevel() {
+                    return 1;
+                }
+            };
+        }
+    }
+
+    private MemberRecommendationDateProjection missionRow(Long memberId, LocalDate date, Long recommendationId) {
+        return new MemberRecommendationDateProjection() {
+            @Override
+            public Long getMemberId() {
+                return memberId;
+            }
+
+            @Override
+            public LocalDate getDate() {
+                return date;
+            }
+
+            @Override
+            public Long getRecommendationId() {
+                return recommendationId;
+            }
+        };
+    }
+
+    private RecommendationProblemSummaryProjection problemRow(Long recommendationId, Long problemId) {
+        return new RecommendationProblemSummaryProjection() {
+            @Override
+            public Long getRecommendationId() {
+                return recommendationId;
+            }
+
+            @Override
+            public Long getProblemId() {
+                return problemId;
+            }
+
+            @Override
+            public String getTitle() {
+                return "Problem " + problemId;
+            }
+
+            @Override
+            public String getTitleKo() {
+                return "문제 " + problemId;
+            }
+
+            @Override
+            public Integer getLevel() {
+                return 1;
+            }
+        };
+    }
+
+    private SolvedProblemIdProjection solvedRow(Long memberId, Long problemId) {
+        return new SolvedProblemIdProjection() {
+            @Override
+            public Long getMemberId() {
+                return memberId;
+            }
+
+            @Override
+            public Long getProblemId() {
+                return problemId;
+            }
+        };
     }
 }
@@ -2,14 +2,16 @@ package com.ryu.studyhelper.team.service;
 
 import com.ryu.studyhelper.common.enums.CustomResponseStatus;
 import com.ryu.studyhelper.common.exception.CustomException;
-import com.ryu.studyhelper.infrastructure.mail.sender.MailSender;
-import com.ryu.studyhelper.team.mail.InvitationMailBuilder;
+import com.ryu.studyhelper.infrastructure.mail.outbox.MailOutboxService;
+import com.ryu.studyhelper.infrastructure.mail.outbox.MailOutboxType;
 import com.ryu.studyhelper.member.domain.Member;
 import com.ryu.studyhelper.member.repository.MemberRepository;
 import com.ryu.studyhelper.notification.service.NotificationService;
 import com.ryu.studyhelper.team.domain.*;
 import com.ryu.studyhelper.team.dto.request.TeamJoinInviteRequest;
 import com.ryu.studyhelper.team.dto.response.TeamJoinResponse;
+import com.ryu.studyhelper.team.activity.TeamActivityVersion;
+import com.ryu.studyhelper.team.leaderboard.TeamLeaderboardStore;
 import com.ryu.studyhelper.team.repository.TeamJoinRepository;
 import com.ryu.studyhelper.team.repository.TeamMemberRepository;
 import com.ryu.studyhelper.team.repository.TeamRepository;
@@ -46,13 +48,15 @@ class TeamJoinServiceTest {
     @Mock
     private MemberRepository memberRepository;
     @Mock
-    private MailSender mailSender;
-    @Mock
-    private InvitationMailBuilder invitationMailBuilder;
+    private MailOutboxService mailOutboxService;
     @Mock
     private NotificationService notificationService;
     @Mock
     private SquadService squadService;
+    @Mock
+    private TeamLeaderboardStore teamLeaderboardStore;
+    @Mock
+    private TeamActivityVersion teamActivityVersion;
 
     @InjectMocks
     private TeamJoinService teamJoinService;
@@ -100,7 +104,7 @@ class TeamJoinServiceTest {
             // then
             assertThat(response.teamId()).isEqualTo(1L);
             assertThat(response.status()).isEqualTo(TeamJoinStatus.PENDING);
-            verify(mailSender).send(any());
+            verify(mailOutboxService).enqueue(MailOutboxType.TEAM_INVITATION, 1L);
         }
 
         @Test
@@ -187,6 +191,8 @@ class TeamJoinServiceTest {
 
             assertThat(response.status()).isEqualTo(TeamJoinStatus.ACCEPTED);
             verify(teamMemberRepository).save(any(TeamMember.class));
+            verify(teamLeaderboardStore).invalidate(1L);
+            verify(teamActivityVersion).bump(1L);
         }
 
         @Test